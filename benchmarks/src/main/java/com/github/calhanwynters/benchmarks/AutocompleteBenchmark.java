@@ -0,0 +1,93 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.search.index.AutocompleteIndex;
+import com.github.calhanwynters.search.index.Suggestion;
+import com.github.calhanwynters.search.index.TextTokenizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-10 suggestions from an {@link AutocompleteIndex} over a synthetic 200k-product catalog (12 description words
+ * per product from a 40k-word Zipf vocabulary), against scanning every description for words with the prefix.
+ * Sample time, so the output has p50/p99 per call. Typed prefixes are 3 to 6 characters of vocabulary words;
+ * "typo" replaces one character after the first. The scan only matches exact prefixes. The index's term count,
+ * node count and footprint are printed at setup.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class AutocompleteBenchmark {
+
+    private static final int VOCABULARY_SIZE = 40_000;
+    private static final int SUGGESTIONS = 10;
+    private static final int PREFIX_COUNT = 1_024;
+
+    @Param({"200000"})
+    int productCount;
+
+    @Param({"exact", "typo"})
+    String typed;
+
+    private List<Product> catalog;
+    private AutocompleteIndex index;
+    private final String[] prefixes = new String[PREFIX_COUNT];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        catalog = new SyntheticCatalog(VOCABULARY_SIZE, 25).products(productCount, 1, 12);
+        index = AutocompleteIndex.of(catalog);
+        System.out.printf("%d products: %d terms, %d nodes, %d bytes%n",
+                productCount, index.termCount(), index.nodeCount(), index.memoryBytes());
+
+        SyntheticCatalog words = new SyntheticCatalog(VOCABULARY_SIZE, 2025);
+        Random random = new Random(2025);
+        for (int i = 0; i < PREFIX_COUNT; i++) {
+            String word = words.word();
+            char[] prefix = word.substring(0, Math.min(word.length(), 3 + random.nextInt(4))).toCharArray();
+            if (typed.equals("typo")) {
+                int position = 1 + random.nextInt(prefix.length - 1);
+                prefix[position] = prefix[position] == 'z' ? 'a' : (char) (prefix[position] + 1);
+            }
+            prefixes[i] = new String(prefix);
+        }
+    }
+
+    private String nextPrefix() {
+        String prefix = prefixes[next];
+        next = (next + 1) & (PREFIX_COUNT - 1);
+        return prefix;
+    }
+
+    @Benchmark
+    public List<Suggestion> suggest() {
+        return index.suggest(nextPrefix(), SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<String> scanDescriptions() {
+        String prefix = nextPrefix();
+        Map<String, Integer> counts = new HashMap<>();
+        for (Product product : catalog) {
+            TextTokenizer.forEachToken(product.description().value(), token -> {
+                if (token.startsWith(prefix)) {
+                    counts.merge(token, 1, Integer::sum);
+                }
+            });
+        }
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(SUGGESTIONS)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.services.CatalogDiscountEngine;
+import com.github.calhanwynters.model.shared.services.CatalogDiscountEngine.DiscountResult;
+import com.github.calhanwynters.model.shared.valueobjects.GemstoneTypeVO;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import com.github.calhanwynters.model.shared.valueobjects.PercentageVO;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Catalog-wide discounts over a synthetic catalog of products with ten ring variants each (1M variants by default).
+ * - engine: {@link CatalogDiscountEngine} on the common pool, or on a one-thread pool for the sequential cost.
+ * - perVariantReplace: the path before the engine, one applyDiscount and replaceVariant per selected variant.
+ * Each operation reprices the whole catalog; divide variantCount by the time per operation for variants/second.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CatalogDiscountBenchmark {
+
+    private static final int VARIANTS_PER_PRODUCT = 10;
+
+    @Param({"1000000"})
+    int variantCount;
+
+    /*** Which variants the sale selects: every active one, one material, or one gemstone type.*/
+    @Param({"ACTIVE", "PLATINUM", "SAPPHIRE"})
+    String selection;
+
+    private List<Product> catalog;
+    private Predicate<Variant> selector;
+    private final PercentageVO discount = new PercentageVO(new BigDecimal("0.20"));
+
+    @Setup
+    public void setUp() {
+        catalog = SyntheticCatalog.rings(variantCount / VARIANTS_PER_PRODUCT, VARIANTS_PER_PRODUCT, 6);
+        selector = switch (selection) {
+            case "ACTIVE" -> CatalogDiscountEngine.withStatus(VariantStatusEnums.ACTIVE);
+            case "PLATINUM" -> CatalogDiscountEngine.withMaterial(MaterialName.PLATINUM);
+            case "SAPPHIRE" -> CatalogDiscountEngine.withGemstoneType(GemstoneTypeVO.of("Sapphire"));
+            default -> throw new IllegalArgumentException("Unknown selection: " + selection);
+        };
+    }
+
+    @Benchmark
+    public DiscountResult engine(Engine engine) {
+        return engine.engine.applyDiscount(catalog, selector, discount);
+    }
+
+    @Benchmark
+    public List<Product> perVariantReplace() {
+        List<Product> repriced = new ArrayList<>(catalog.size());
+        for (Product product : catalog) {
+            Product updated = product;
+            for (Variant variant : product.variants()) {
+                if (selector.test(variant)) {
+                    updated = updated.replaceVariant(variant.applyDiscount(discount));
+                }
+            }
+            repriced.add(updated);
+        }
+        return repriced;
+    }
+
+    /*** The engine under test, kept apart so the pool parameter only multiplies the engine runs.*/
+    @State(Scope.Benchmark)
+    public static class Engine {
+
+        @Param({"common", "single"})
+        String pool;
+
+        private CatalogDiscountEngine engine;
+        private ForkJoinPool singleThreadPool;
+
+        @Setup
+        public void setUp() {
+            if (pool.equals("single")) {
+                singleThreadPool = new ForkJoinPool(1);
+                engine = new CatalogDiscountEngine(singleThreadPool);
+            } else {
+                engine = new CatalogDiscountEngine();
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            if (singleThreadPool != null) {
+                singleThreadPool.shutdown();
+            }
+        }
+    }
+}
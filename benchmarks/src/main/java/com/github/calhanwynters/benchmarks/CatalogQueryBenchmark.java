@@ -0,0 +1,113 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import com.github.calhanwynters.search.index.CatalogIndex;
+import com.github.calhanwynters.search.index.Query;
+import com.github.calhanwynters.search.index.SearchField;
+import com.github.calhanwynters.search.index.TextTokenizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+/**
+ * Boolean queries over a {@link CatalogIndex} of a synthetic 1M-variant catalog, single-threaded,
+ * against a linear scan of the products and variants applying the same filter.
+ * Both return the number of matching variants; the match count and index size are printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CatalogQueryBenchmark {
+
+    private static final int VARIANTS_PER_PRODUCT = 10;
+
+    @Param({"1000000"})
+    int variantCount;
+
+    /**
+     * material: one material term. text: two description words. facets: style AND (diamond OR sapphire)
+     * AND NOT draft. excludeGold: NOT one material.
+     */
+    @Param({"material", "text", "facets", "excludeGold"})
+    String query;
+
+    private List<Product> catalog;
+    private CatalogIndex index;
+    private Query indexQuery;
+    private BiPredicate<Product, Variant> scanFilter;
+
+    @Setup
+    public void setUp() {
+        catalog = SyntheticCatalog.rings(variantCount / VARIANTS_PER_PRODUCT, VARIANTS_PER_PRODUCT, 21);
+        index = CatalogIndex.of(catalog);
+        switch (query) {
+            case "material" -> {
+                indexQuery = Query.term(SearchField.MATERIAL, "platinum");
+                scanFilter = (product, variant) -> hasMaterial(variant, MaterialName.PLATINUM);
+            }
+            case "text" -> {
+                indexQuery = Query.text("white gold");
+                scanFilter = (product, variant) -> descriptionWords(product).containsAll(Set.of("white", "gold"));
+            }
+            case "facets" -> {
+                indexQuery = Query.and(
+                        Query.term(SearchField.STYLE, "halo"),
+                        Query.or(Query.term(SearchField.GEMSTONE, "diamond"), Query.term(SearchField.GEMSTONE, "sapphire")),
+                        Query.not(Query.term(SearchField.STATUS, "draft")));
+                scanFilter = (product, variant) -> variant.hasStyle("halo")
+                        && variant.gemstones().stream().anyMatch(gemstone ->
+                                gemstone.type().name().equalsIgnoreCase("diamond") || gemstone.type().name().equalsIgnoreCase("sapphire"))
+                        && variant.status() != VariantStatusEnums.DRAFT;
+            }
+            case "excludeGold" -> {
+                indexQuery = Query.not(Query.term(SearchField.MATERIAL, "gold"));
+                scanFilter = (product, variant) -> !hasMaterial(variant, MaterialName.GOLD);
+            }
+            default -> throw new IllegalArgumentException("Unknown query: " + query);
+        }
+        int indexed = index.evaluate(indexQuery).cardinality();
+        int scanned = linearScan();
+        if (indexed != scanned) {
+            throw new IllegalStateException("Index and scan disagree on " + query + ": " + indexed + " vs " + scanned);
+        }
+        System.out.printf("%s matches %d of %d variants; index %d bytes%n", query, indexed, index.variantCount(), index.memoryBytes());
+    }
+
+    @Benchmark
+    public int index() {
+        return index.evaluate(indexQuery).cardinality();
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int matches = 0;
+        for (Product product : catalog) {
+            for (Variant variant : product.variants()) {
+                if (scanFilter.test(product, variant)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean hasMaterial(Variant variant, MaterialName material) {
+        return variant.materials().stream().anyMatch(composition -> composition.material().material() == material);
+    }
+
+    private static Set<String> descriptionWords(Product product) {
+        Set<String> words = new HashSet<>();
+        TextTokenizer.forEachToken(product.description().value(), words::add);
+        return words;
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.shared.valueobjects.SkuFormatter;
+import com.github.calhanwynters.model.shared.valueobjects.VariantId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id generation scaling from 1 to 32 threads: {@link VariantId#generate()} (per-thread time-ordered generator)
+ * against the previous {@code UUID.randomUUID()}, which shares one SecureRandom. Scores are total throughput
+ * across all threads, so flat scores mean the threads add nothing. Also compares {@link SkuFormatter}
+ * writing into a reused buffer with the previous substring-and-uppercase SKU.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+    // --- VariantId.generate() ---
+
+    @Benchmark
+    @Threads(1)
+    public VariantId timeOrdered01() {
+        return VariantId.generate();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public VariantId timeOrdered02() {
+        return VariantId.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public VariantId timeOrdered04() {
+        return VariantId.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public VariantId timeOrdered08() {
+        return VariantId.generate();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public VariantId timeOrdered16() {
+        return VariantId.generate();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public VariantId timeOrdered32() {
+        return VariantId.generate();
+    }
+
+    // --- Previous generate(): UUID.randomUUID() ---
+
+    @Benchmark
+    @Threads(1)
+    public VariantId randomUuid01() {
+        return randomVariantId();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public VariantId randomUuid02() {
+        return randomVariantId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public VariantId randomUuid04() {
+        return randomVariantId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public VariantId randomUuid08() {
+        return randomVariantId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public VariantId randomUuid16() {
+        return randomVariantId();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public VariantId randomUuid32() {
+        return randomVariantId();
+    }
+
+    private static VariantId randomVariantId() {
+        return new VariantId(UUID.randomUUID().toString());
+    }
+
+    // --- SKUs ---
+
+    @State(Scope.Thread)
+    public static class Skus {
+        final SkuFormatter formatter = new SkuFormatter("RING-");
+        final char[] buffer = new char[formatter.length()];
+        final VariantId[] ids = new VariantId[1_024];
+        int next;
+
+        @Setup
+        public void setUp() {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = VariantId.generate();
+            }
+        }
+
+        VariantId nextId() {
+            VariantId id = ids[next];
+            next = (next + 1) & (ids.length - 1);
+            return id;
+        }
+    }
+
+    @Benchmark
+    public int skuIntoBuffer(Skus skus) {
+        return skus.formatter.formatTo(skus.nextId(), skus.buffer, 0);
+    }
+
+    @Benchmark
+    public String skuFormat(Skus skus) {
+        return skus.formatter.format(skus.nextId());
+    }
+
+    @Benchmark
+    public String skuBySubstring(Skus skus) {
+        return "RING-" + skus.nextId().value().substring(0, 8).toUpperCase(Locale.ROOT);
+    }
+}
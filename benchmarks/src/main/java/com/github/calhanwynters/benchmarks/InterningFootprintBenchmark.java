@@ -0,0 +1,78 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.valueobjects.ValueInterner;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retained by a synthetic 1M-variant catalog with {@link ValueInterner} off and on.
+ * Each fork builds the catalog once through the value object factories; the secondary {@code retainedBytes}
+ * result is the heap in use after a full GC with the catalog still reachable, minus the heap in use before
+ * the build. One build per fork keeps earlier catalogs out of the figure; JMH adds the counter up across forks,
+ * so with {@code -f N} read the per-fork lines. Run with {@code -prof gc} to also see allocation per build.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class InterningFootprintBenchmark {
+
+    private static final int VARIANTS_PER_PRODUCT = 10;
+
+    @Param({"1000000"})
+    int variantCount;
+
+    @Param({"false", "true"})
+    boolean interning;
+
+    // Kept reachable until the measurement ends
+    private List<Product> catalog;
+    private long heapBefore;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ValueInterner.setEnabled(interning);
+        heapBefore = usedHeapAfterGc();
+    }
+
+    @Benchmark
+    public int buildCatalog(Footprint footprint) {
+        catalog = SyntheticCatalog.rings(variantCount / VARIANTS_PER_PRODUCT, VARIANTS_PER_PRODUCT, 11);
+        footprint.retainedBytes = usedHeapAfterGc() - heapBefore;
+        return catalog.size();
+    }
+
+    /*** Reported next to the build time, once per iteration.*/
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+    }
+
+    // Explicit GCs are full collections with the default collector; repeat until the figure settles
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            long current = memory.getHeapMemoryUsage().getUsed();
+            if (current >= used) {
+                return current;
+            }
+            used = current;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.codec.BinaryWriter;
+import com.github.calhanwynters.model.shared.codec.ProductCodec;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode throughput of {@link ProductCodec} against Jackson data binding (through {@link ProductJson}).
+ * Every operation handles one product, cycling through a synthetic catalog so no single record stays hot.
+ * Both decoders build Moneta {@link Money} prices. The encoded sizes of both formats are printed at setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProductCodecBenchmark {
+
+    private static final int PRODUCT_COUNT = 1_024;
+
+    @Param({"1", "10"})
+    int variantsPerProduct;
+
+    private final ProductCodec codec = new ProductCodec(currency -> Money.of(0, currency));
+    private final BinaryWriter writer = new BinaryWriter();
+    private ObjectWriter jsonWriter;
+    private ObjectReader jsonReader;
+
+    private Product[] products;
+    private byte[][] encoded;
+    private byte[][] json;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        jsonWriter = mapper.writerFor(ProductJson.class);
+        jsonReader = mapper.readerFor(ProductJson.class);
+
+        List<Product> catalog = SyntheticCatalog.rings(PRODUCT_COUNT, variantsPerProduct, 17);
+        products = catalog.toArray(new Product[0]);
+        encoded = new byte[PRODUCT_COUNT][];
+        json = new byte[PRODUCT_COUNT][];
+        long codecBytes = 0;
+        long jsonBytes = 0;
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            encoded[i] = codec.encode(products[i]);
+            json[i] = jsonWriter.writeValueAsBytes(ProductJson.of(products[i]));
+            if (!codec.decode(encoded[i]).equals(products[i])
+                    || !jsonReader.<ProductJson>readValue(json[i]).toProduct().equals(products[i])) {
+                throw new IllegalStateException("Round trip changed product " + products[i].id().value());
+            }
+            codecBytes += encoded[i].length;
+            jsonBytes += json[i].length;
+        }
+        System.out.printf("Bytes per product with %d variant(s): codec %d, Jackson %d%n",
+                variantsPerProduct, codecBytes / PRODUCT_COUNT, jsonBytes / PRODUCT_COUNT);
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = (index + 1) & (PRODUCT_COUNT - 1);
+        return index;
+    }
+
+    @Benchmark
+    public int encodeCodec() {
+        writer.reset();
+        codec.encode(products[nextIndex()], writer);
+        return writer.size();
+    }
+
+    @Benchmark
+    public byte[] encodeJackson() throws IOException {
+        return jsonWriter.writeValueAsBytes(ProductJson.of(products[nextIndex()]));
+    }
+
+    @Benchmark
+    public Product decodeCodec() {
+        return codec.decode(encoded[nextIndex()]);
+    }
+
+    @Benchmark
+    public Product decodeJackson() throws IOException {
+        return jsonReader.<ProductJson>readValue(json[nextIndex()]).toProduct();
+    }
+}
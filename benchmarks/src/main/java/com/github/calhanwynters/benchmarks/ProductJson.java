@@ -0,0 +1,129 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingSizeVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Jackson data-binding mirror of a ring {@link Product}, the JSON baseline for {@link ProductCodecBenchmark}.
+ * The domain records are not Jackson-friendly (interface-typed variants, MonetaryAmount prices), so JSON
+ * caching goes through plain records like these; mapping to and from them is part of the JSON cost.
+ */
+record ProductJson(String id, String description, List<String> images, List<RingJson> variants) {
+
+    record RingJson(
+            String id,
+            String sku,
+            BigDecimal diameterMm,
+            RingSize ringSize,
+            Set<String> styles,
+            MoneyJson basePrice,
+            MoneyJson currentPrice,
+            BigDecimal weight,
+            WeightVO.WeightUnit weightUnit,
+            List<MaterialJson> materials,
+            List<GemstoneJson> gemstones,
+            String careInstructions,
+            VariantStatusEnums status
+    ) {
+    }
+
+    record MoneyJson(String currency, BigDecimal amount) {
+    }
+
+    record MaterialJson(MaterialName material, String label, String role) {
+    }
+
+    record GemstoneJson(Long typeId, String type, String typeDescription, String grade, BigDecimal carat,
+                        boolean certified, boolean labGrown) {
+    }
+
+    // --- Domain -> JSON ---
+
+    static ProductJson of(Product product) {
+        return new ProductJson(
+                product.id().value(),
+                product.description().value(),
+                product.gallery().images().stream().map(ImageUrlVO::url).toList(),
+                product.variants().stream().map(variant -> ring((RingVariant) variant)).toList());
+    }
+
+    private static RingJson ring(RingVariant ring) {
+        return new RingJson(
+                ring.id().value(),
+                ring.sku(),
+                ring.size().diameterMm(),
+                ring.ringSize(),
+                ring.style().styles(),
+                money(ring.basePrice()),
+                money(ring.currentPrice()),
+                ring.weight().amount(),
+                ring.weight().unit(),
+                ring.materials().stream()
+                        .map(m -> new MaterialJson(m.material().material(), m.material().label(), m.role()))
+                        .toList(),
+                ring.gemstones().stream()
+                        .map(g -> new GemstoneJson(g.type().id(), g.type().name(), g.type().description(),
+                                g.grade(), g.carat(), g.hasCertificate(), g.isLabGrown()))
+                        .toList(),
+                ring.careInstructions().instructions(),
+                ring.status());
+    }
+
+    private static MoneyJson money(MonetaryAmount amount) {
+        return new MoneyJson(amount.getCurrency().getCurrencyCode(), amount.getNumber().numberValueExact(BigDecimal.class));
+    }
+
+    // --- JSON -> Domain ---
+
+    Product toProduct() {
+        Product.Builder product = Product.builder()
+                .id(new ProductId(id))
+                .description(new DescriptionVO(description));
+        for (String image : images) {
+            product.addImage(new ImageUrlVO(image));
+        }
+        for (RingJson ring : variants) {
+            product.addVariant(toVariant(ring));
+        }
+        return product.build();
+    }
+
+    private static Variant toVariant(RingJson ring) {
+        Set<MaterialCompositionVO> materials = new HashSet<>();
+        for (MaterialJson material : ring.materials()) {
+            materials.add(MaterialCompositionVO.of(MaterialVO.of(material.material(), material.label()), material.role()));
+        }
+        Set<GemstoneVO> gemstones = new HashSet<>();
+        for (GemstoneJson gemstone : ring.gemstones()) {
+            gemstones.add(GemstoneVO.of(GemstoneTypeVO.of(gemstone.typeId(), gemstone.type(), gemstone.typeDescription()),
+                    gemstone.grade(), gemstone.carat(), gemstone.certified(), gemstone.labGrown()));
+        }
+        return new RingVariant(
+                new VariantId(ring.id()),
+                ring.sku(),
+                new RingSizeVO(ring.diameterMm()),
+                ring.ringSize(),
+                RingStyleVO.of(ring.styles()),
+                Money.of(ring.basePrice().amount(), ring.basePrice().currency()),
+                Money.of(ring.currentPrice().amount(), ring.currentPrice().currency()),
+                new WeightVO(ring.weight(), ring.weightUnit()),
+                materials,
+                gemstones,
+                CareInstructionVO.of(ring.careInstructions()),
+                ring.status());
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Converting every ring size to another region: the conversion matrix behind {@link RingSize#convertTo}
+ * and {@link RingSize#toRegion(String)} against the previous per-call stream over the target region's sizes.
+ * Each operation converts all sizes once, so the time per operation covers {@code RingSize.values().length} conversions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RingSizeConversionBenchmark {
+
+    // The previous cache of sizes per lower-case region code
+    private static final Map<String, List<RingSize>> SIZES_BY_REGION = Arrays.stream(RingSize.values())
+            .collect(Collectors.groupingBy(size -> size.getRegion().toLowerCase()));
+
+    @Param({"EUR", "NA", "UK/AUS"})
+    String targetRegion;
+
+    private RingSize[] sizes;
+    private RingSize.Region region;
+
+    @Setup
+    public void setUp() {
+        sizes = RingSize.values();
+        region = RingSize.Region.fromCode(targetRegion).orElseThrow();
+    }
+
+    @Benchmark
+    public void convertTo(Blackhole blackhole) {
+        for (RingSize size : sizes) {
+            blackhole.consume(size.convertTo(region));
+        }
+    }
+
+    @Benchmark
+    public void toRegion(Blackhole blackhole) {
+        for (RingSize size : sizes) {
+            blackhole.consume(size.toRegion(targetRegion));
+        }
+    }
+
+    @Benchmark
+    public void streamPerCall(Blackhole blackhole) {
+        for (RingSize size : sizes) {
+            blackhole.consume(toRegionByStream(size, targetRegion));
+        }
+    }
+
+    // The previous RingSize.toRegion: the closest size by absolute diameter difference, recomputed on every call
+    private static Optional<RingSize> toRegionByStream(RingSize size, String targetRegion) {
+        if (targetRegion == null) return Optional.empty();
+        List<RingSize> targetSizes = SIZES_BY_REGION.get(targetRegion.toLowerCase());
+        if (targetSizes == null || targetSizes.isEmpty()) {
+            return Optional.empty();
+        }
+        return targetSizes.stream().min(Comparator.comparing(candidate ->
+                candidate.getIsoDiameterMm().subtract(size.getIsoDiameterMm()).abs()
+        ));
+    }
+}
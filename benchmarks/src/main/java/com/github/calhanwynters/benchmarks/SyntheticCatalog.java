@@ -0,0 +1,133 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingSizeVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic ring catalogs for the benchmarks.
+ * - Every variant builds its value objects through the public factories, the way an import does,
+ *   so opt-in interning (see {@link ValueInterner}) applies to them.
+ * - Descriptions draw words from a Zipf-distributed vocabulary, so a few words are common and most are rare.
+ * - The same seed always produces the same attribute values; ids are generated and differ per run.
+ */
+public final class SyntheticCatalog {
+
+    public static final int DEFAULT_VOCABULARY_SIZE = 5_000;
+
+    private static final MaterialName[] MATERIALS = {
+            MaterialName.GOLD, MaterialName.WHITE_GOLD, MaterialName.ROSE_GOLD, MaterialName.PLATINUM, MaterialName.SILVER
+    };
+    private static final String[] GEMSTONES = {"Diamond", "Sapphire", "Ruby", "Emerald", "Blue Topaz", "Amethyst"};
+    private static final RingStyleVO.Style[] STYLES = RingStyleVO.Style.values();
+    private static final RingSize[] RING_SIZES = Arrays.stream(RingSize.values())
+            .filter(size -> size.getRegionType() == RingSize.Region.NA)
+            .toArray(RingSize[]::new);
+    private static final String[] CARE = {"Avoid harsh chemicals.", "Polish with a soft dry cloth.", "Store separately to avoid scratches."};
+    private static final String[] SYLLABLES = {
+            "ka", "lo", "mi", "ne", "ru", "sa", "ti", "vo", "ze", "ba", "do", "fi", "gu", "ha", "je", "pa", "qu", "wi", "xo", "yu"
+    };
+
+    private final Random random;
+    private final String[] vocabulary;
+    private final double[] cumulativeWeights;
+
+    public SyntheticCatalog(int vocabularySize, long seed) {
+        if (vocabularySize <= 0) {
+            throw new IllegalArgumentException("vocabularySize must be positive");
+        }
+        this.random = new Random(seed);
+        this.vocabulary = vocabulary(vocabularySize);
+        this.cumulativeWeights = new double[vocabularySize];
+        double total = 0;
+        for (int rank = 0; rank < vocabularySize; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulativeWeights[rank] = total;
+        }
+    }
+
+    /*** A ring catalog with the default vocabulary.*/
+    public static List<Product> rings(int productCount, int variantsPerProduct, long seed) {
+        return new SyntheticCatalog(DEFAULT_VOCABULARY_SIZE, seed).products(productCount, variantsPerProduct, 8);
+    }
+
+    /**
+     * Builds products of ring variants.
+     * @param productCount The number of products.
+     * @param variantsPerProduct The ring variants per product, each with a distinct size.
+     * @param descriptionWords The words per description.
+     */
+    public List<Product> products(int productCount, int variantsPerProduct, int descriptionWords) {
+        List<Product> products = new ArrayList<>(productCount);
+        for (int p = 0; p < productCount; p++) {
+            Product.Builder product = Product.builder()
+                    .description(new DescriptionVO(description(descriptionWords)))
+                    .addImage(new ImageUrlVO("https://example.com/products/" + p + ".jpg"));
+            for (int v = 0; v < variantsPerProduct; v++) {
+                product.addVariant(ring(v));
+            }
+            products.add(product.build());
+        }
+        return products;
+    }
+
+    /*** A ring variant; the index spreads the diameters so variants of one product never share attributes.*/
+    public RingVariant ring(int index) {
+        RingVariant.Builder ring = RingVariant.builder()
+                .size(new RingSizeVO(BigDecimal.valueOf(1400 + index % 800, 2)))
+                .ringSize(RING_SIZES[random.nextInt(RING_SIZES.length)])
+                .style(RingStyleVO.of(STYLES[random.nextInt(STYLES.length)].name()))
+                .basePrice(Money.of(BigDecimal.valueOf(10_000 + random.nextInt(490_000), 2), "USD"))
+                .weight(WeightVO.ofGrams(BigDecimal.valueOf(150 + random.nextInt(850), 2)))
+                .addMaterial(MaterialCompositionVO.of(MaterialVO.of(MATERIALS[random.nextInt(MATERIALS.length)]), "band"))
+                .careInstructions(CareInstructionVO.of(CARE[random.nextInt(CARE.length)]))
+                .status(random.nextInt(10) == 0 ? VariantStatusEnums.DRAFT : VariantStatusEnums.ACTIVE);
+        if (random.nextInt(3) != 0) {
+            ring.addGemstone(GemstoneVO.of(GemstoneTypeVO.of(GEMSTONES[random.nextInt(GEMSTONES.length)])));
+        }
+        return ring.build();
+    }
+
+    /*** A word drawn from the vocabulary with Zipf weights.*/
+    public String word() {
+        int rank = Arrays.binarySearch(cumulativeWeights, random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1]);
+        return vocabulary[rank >= 0 ? rank : Math.min(-rank - 1, vocabulary.length - 1)];
+    }
+
+    public String description(int words) {
+        StringBuilder description = new StringBuilder("Ring");
+        for (int i = 0; i < words; i++) {
+            description.append(' ').append(word());
+        }
+        String material = MaterialVO.of(MATERIALS[random.nextInt(MATERIALS.length)]).displayName();
+        return description.append(" in ").append(material.toLowerCase(Locale.ROOT)).toString();
+    }
+
+    // Distinct pronounceable words: the rank in base SYLLABLES.length, at least two syllables long
+    private static String[] vocabulary(int size) {
+        String[] words = new String[size];
+        for (int rank = 0; rank < size; rank++) {
+            StringBuilder word = new StringBuilder();
+            int remaining = rank + SYLLABLES.length;
+            while (remaining > 0) {
+                word.append(SYLLABLES[remaining % SYLLABLES.length]);
+                remaining /= SYLLABLES.length;
+            }
+            words[rank] = word.toString();
+        }
+        return words;
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.valueobjects.DescriptionVO;
+import com.github.calhanwynters.model.shared.valueobjects.ImageUrlVO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copy-on-write variant updates: the hash trie behind {@link Product#addVariant(Variant)} against the
+ * previous path, which copied the variant set into a HashSet and again through Set.copyOf on every step.
+ * - build*: grows a product from empty to variantCount variants one addVariant at a time.
+ * - replace*: replaces one variant of a product that already holds variantCount variants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VariantSetBenchmark {
+
+    @Param({"16", "128", "512"})
+    int variantCount;
+
+    private List<RingVariant> variants;
+    private Product empty;
+    private Product full;
+    private Set<Variant> fullCopyOnWrite;
+    private RingVariant replacement;
+
+    @Setup
+    public void setUp() {
+        SyntheticCatalog catalog = new SyntheticCatalog(SyntheticCatalog.DEFAULT_VOCABULARY_SIZE, 2);
+        variants = new ArrayList<>(variantCount);
+        for (int i = 0; i < variantCount; i++) {
+            variants.add(catalog.ring(i));
+        }
+        empty = Product.builder()
+                .description(new DescriptionVO("Variant set benchmark product"))
+                .addImage(new ImageUrlVO("https://example.com/products/benchmark.jpg"))
+                .build();
+        full = empty;
+        for (RingVariant variant : variants) {
+            full = full.addVariant(variant);
+        }
+        fullCopyOnWrite = Set.copyOf(variants);
+        replacement = variants.get(variantCount / 2).changeCurrentPrice(variants.get(0).currentPrice());
+    }
+
+    @Benchmark
+    public Product buildWithHashTrie() {
+        Product product = empty;
+        for (RingVariant variant : variants) {
+            product = product.addVariant(variant);
+        }
+        return product;
+    }
+
+    @Benchmark
+    public Set<Variant> buildWithHashSetCopies() {
+        Set<Variant> current = Set.of();
+        for (RingVariant variant : variants) {
+            current = addCopyOnWrite(current, variant);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Product replaceWithHashTrie() {
+        return full.replaceVariant(replacement);
+    }
+
+    @Benchmark
+    public Set<Variant> replaceWithHashSetCopies() {
+        Set<Variant> updated = new HashSet<>(fullCopyOnWrite);
+        updated.removeIf(variant -> variant.id().equals(replacement.id()));
+        updated.add(replacement);
+        return Set.copyOf(updated);
+    }
+
+    // The previous Product.addVariant: copy into a HashSet, add, then Set.copyOf in the constructor
+    private static Set<Variant> addCopyOnWrite(Set<Variant> variants, Variant variant) {
+        Set<Variant> updated = new HashSet<>(variants);
+        if (!updated.add(variant)) {
+            throw new IllegalArgumentException("Variant with this ID already exists.");
+        }
+        return Set.copyOf(updated);
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.calhanwynters.benchmarks;
+
+import com.github.calhanwynters.model.shared.valueobjects.WeightUnitVO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WeightUnitVO#convertAll} with and without its Vector API kernel: both benchmarks run the same call, one
+ * in a JVM started with {@code --add-modules jdk.incubator.vector}. The kernel is only in dproduct when it is
+ * built with {@code -Pvector-api}; setup prints whether the vector fork found it.
+ * - integral: grams to carats on fixed-point longs, a multiply by 5.
+ * - double: grams to ounces on doubles, a multiply by the rounded ratio.
+ * - fixedPoint: grams to ounces on fixed-point longs, a divide; scalar in both forks, as a control.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class WeightConversionBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    @Param({"integral", "double", "fixedPoint"})
+    String path;
+
+    private long[] fixedPoint;
+    private long[] fixedPointOut;
+    private double[] doubles;
+    private double[] doublesOut;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(15);
+        fixedPoint = new long[size];
+        fixedPointOut = new long[size];
+        doubles = new double[size];
+        doublesOut = new double[size];
+        for (int i = 0; i < size; i++) {
+            // Up to 10 kg with 8 decimals
+            fixedPoint[i] = random.nextLong(10_000L * 100_000_000L);
+            doubles[i] = fixedPoint[i] / 1e8;
+        }
+        System.out.println("Vector API kernel: " + (vectorKernelPresent() ? "used" : "not used"));
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public Object vectorKernel() {
+        return convert();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public Object scalarLoops() {
+        return convert();
+    }
+
+    private Object convert() {
+        switch (path) {
+            case "integral" -> {
+                WeightUnitVO.GRAM.convertAll(fixedPoint, WeightUnitVO.CARAT, fixedPointOut);
+                return fixedPointOut;
+            }
+            case "double" -> {
+                WeightUnitVO.GRAM.convertAll(doubles, WeightUnitVO.OUNCE, doublesOut);
+                return doublesOut;
+            }
+            case "fixedPoint" -> {
+                WeightUnitVO.GRAM.convertAll(fixedPoint, WeightUnitVO.OUNCE, fixedPointOut);
+                return fixedPointOut;
+            }
+            default -> throw new IllegalArgumentException("Unknown path: " + path);
+        }
+    }
+
+    // Mirrors WeightUnitVO's own check: the incubator module is in the boot layer and the kernel was compiled in
+    private static boolean vectorKernelPresent() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            Class.forName(WeightUnitVO.class.getPackageName() + ".WeightVectorKernel", false,
+                    WeightUnitVO.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
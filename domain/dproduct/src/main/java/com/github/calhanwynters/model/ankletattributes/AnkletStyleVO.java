@@ -1,5 +1,9 @@
 package com.github.calhanwynters.model.ankletattributes;
 
+import com.github.calhanwynters.model.shared.valueobjects.StyleBits;
+import com.github.calhanwynters.model.shared.valueobjects.ValueInterner;
+
+import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -7,37 +11,40 @@ import java.util.stream.Collectors;
 /**
  * Domain value object representing the style attributes of an anklet.
  * - Immutable record, domain-only (no infra annotations/deps).
- * - Stores style names as a set (e.g., "Beaded", "Chain").
+ * - Stores style names as an immutable set (e.g., "Beaded", "Chain"), backed by a bitmask over {@link Style}.
  * - Ensures valid styles are used and provides display functionality.
  */
 public record AnkletStyleVO(
-        Set<String> styles // Set of validated, normalized style names (non-null, immutable)
+        Set<String> styles // Validated, normalized style names (non-null, immutable); see StyleBits
 ) {
-    // A centralized source of truth for all valid styles in the domain
-    private static final Set<String> VALID_STYLES;
-
-    static {
-        VALID_STYLES = Set.of("BEADED", "CHAIN", "CHARM", "LINK", "CUFF", "GEMSTONE", "LAYERED", "PEARL", "ROPE", "SLIDER");
+    /*** The valid styles of an anklet; the centralized source of truth for this type.*/
+    public enum Style {
+        BEADED,
+        CHAIN,
+        CHARM,
+        LINK,
+        CUFF,
+        GEMSTONE,
+        LAYERED,
+        PEARL,
+        ROPE,
+        SLIDER
     }
 
-    // Compact constructor with validation and normalization
+    // Shared enum <-> bitmask codec (raw names are stripped and upper-cased)
+    private static final StyleBits<Style> STYLE_BITS = StyleBits.of(Style.class, false);
+
+    // Canonical instances for the factories when interning is enabled (see ValueInterner)
+    private static final ValueInterner<AnkletStyleVO> INTERNER = ValueInterner.create();
+
+    /**
+     * Creates the value object from raw style names, normalizing and validating each one.
+     * @param styles The style names (e.g., "Beaded"); null and blank entries are ignored.
+     */
     public AnkletStyleVO {
         Objects.requireNonNull(styles, "styles set must not be null");
-
-        // Normalize and validate all styles in the input set
-
-        // Replace the input set with the normalized, immutable set
-        styles = styles.stream()
-                .filter(Objects::nonNull)
-                .map(String::strip)
-                .map(String::toUpperCase)
-                .filter(s -> !s.isEmpty())
-                .peek(style -> {
-                    if (!VALID_STYLES.contains(style)) {
-                        throw new IllegalArgumentException("Invalid style encountered: " + style);
-                    }
-                })
-                .collect(Collectors.toUnmodifiableSet());
+        // An immutable set of canonical names over the style bitmask; a set of another instance is reused as is
+        styles = STYLE_BITS.copyOf(styles);
     }
 
     // --- Factories ---
@@ -48,7 +55,7 @@ public record AnkletStyleVO(
      * @return A new AnkletStyleVO instance.
      */
     public static AnkletStyleVO of(String style) {
-        return new AnkletStyleVO(Set.of(style));
+        return INTERNER.intern(new AnkletStyleVO(Set.of(style)));
     }
 
     /**
@@ -57,7 +64,7 @@ public record AnkletStyleVO(
      * @return A new AnkletStyleVO instance.
      */
     public static AnkletStyleVO of(Set<String> styles) {
-        return new AnkletStyleVO(styles);
+        return INTERNER.intern(new AnkletStyleVO(styles));
     }
 
     // --- Domain Behaviors ---
@@ -68,8 +75,32 @@ public record AnkletStyleVO(
      * @return true if the style is present (case-insensitive).
      */
     public boolean hasStyle(String style) {
-        if (style == null || style.isBlank()) return false;
-        return this.styles.contains(style.strip().toUpperCase());
+        return (STYLE_BITS.bits(this.styles) & STYLE_BITS.bitOf(style)) != 0;
+    }
+
+    /**
+     * Checks if this style object contains a specific style.
+     * @param style The style to check for.
+     * @return true if the style is present.
+     */
+    public boolean contains(Style style) {
+        return style != null && (STYLE_BITS.bits(this.styles) & STYLE_BITS.bit(style)) != 0;
+    }
+
+    /**
+     * Returns the normalized style names as an immutable set.
+     * @return The style names (e.g., "CHANNEL_SET"), in declaration order.
+     */
+    public Set<String> styles() {
+        return this.styles;
+    }
+
+    /**
+     * Returns the styles as enum constants.
+     * @return A new EnumSet of the styles.
+     */
+    public EnumSet<Style> styleSet() {
+        return STYLE_BITS.toEnumSet(STYLE_BITS.bits(this.styles));
     }
 
     /**
@@ -77,8 +108,13 @@ public record AnkletStyleVO(
      * @return A formatted string of styles.
      */
     public String displayName() {
-        return this.styles.stream()
+        return styles().stream()
                 .map(style -> style.charAt(0) + style.substring(1).toLowerCase()) // Convert "BEADED" to "Beaded"
                 .collect(Collectors.joining(", "));
     }
+
+    @Override
+    public String toString() {
+        return "AnkletStyleVO[styles=" + styles() + "]";
+    }
 }
@@ -0,0 +1,118 @@
+package com.github.calhanwynters.model.ringattributes;
+
+import com.github.calhanwynters.model.ringattributes.RingSize.Region;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/*** Nearest-size search from a measured internal diameter to {@link RingSize}, per region.
+ * Each region's diameters are kept as a sorted {@code int[]} of hundredths of a millimeter
+ * (every chart value has at most two decimals, so the keys are exact), and lookups are a
+ * binary search with no allocation. On equal distance the smaller size wins, matching
+ * {@link RingSize#convertTo(Region)}.*/
+public final class RingSizeIndex {
+
+    private static final int REGION_COUNT = Region.values().length;
+
+    // Indexed by Region ordinal
+    private static final int[][] DIAMETERS = new int[REGION_COUNT][];
+    private static final RingSize[][] SIZES = new RingSize[REGION_COUNT][];
+
+    static {
+        for (Region region : Region.values()) {
+            RingSize[] sizes = Arrays.stream(RingSize.values())
+                    .filter(size -> size.getRegionType() == region)
+                    .sorted(Comparator.comparing(RingSize::getIsoDiameterMm)) // stable: declaration order on ties
+                    .toArray(RingSize[]::new);
+            int[] diameters = new int[sizes.length];
+            for (int i = 0; i < sizes.length; i++) {
+                diameters[i] = toHundredths(sizes[i].getIsoDiameterMm());
+            }
+            SIZES[region.ordinal()] = sizes;
+            DIAMETERS[region.ordinal()] = diameters;
+        }
+    }
+
+    private RingSizeIndex() {
+    }
+
+    /**
+     * Finds the size in the region whose diameter is closest to the measurement.
+     * @param region The region to search.
+     * @param diameterMm The measured internal diameter in millimeters, rounded to hundredths.
+     * @return The nearest RingSize.
+     * @throws IllegalArgumentException if the diameter is not a positive finite number.
+     */
+    public static RingSize nearest(Region region, double diameterMm) {
+        return nearestHundredths(region, checkedHundredths(diameterMm));
+    }
+
+    /**
+     * Finds the size in the region whose diameter is closest to the measurement.
+     * @param region The region to search.
+     * @param diameterHundredthsMm The measured internal diameter in hundredths of a millimeter (e.g. 1730 for 17.30 mm).
+     * @return The nearest RingSize.
+     */
+    public static RingSize nearestHundredths(Region region, int diameterHundredthsMm) {
+        Objects.requireNonNull(region, "region must not be null");
+        int r = region.ordinal();
+        return SIZES[r][nearestIndex(DIAMETERS[r], diameterHundredthsMm)];
+    }
+
+    /**
+     * Finds the nearest size in every region at once, without allocating.
+     * @param diameterMm The measured internal diameter in millimeters, rounded to hundredths.
+     * @param result Receives the nearest size per region, at index {@link Region#ordinal()}; length must be at least the number of regions.
+     * @return The given result array.
+     */
+    public static RingSize[] nearestInAllRegions(double diameterMm, RingSize[] result) {
+        Objects.requireNonNull(result, "result must not be null");
+        if (result.length < REGION_COUNT) {
+            throw new IllegalArgumentException("result must have room for " + REGION_COUNT + " regions");
+        }
+        int hundredths = checkedHundredths(diameterMm);
+        for (int r = 0; r < REGION_COUNT; r++) {
+            result[r] = SIZES[r][nearestIndex(DIAMETERS[r], hundredths)];
+        }
+        return result;
+    }
+
+    static int toHundredths(BigDecimal diameterMm) {
+        return diameterMm.setScale(2, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+    }
+
+    private static int checkedHundredths(double diameterMm) {
+        if (!(diameterMm > 0) || Double.isInfinite(diameterMm)) {
+            throw new IllegalArgumentException("diameterMm must be a positive finite number");
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(diameterMm * 100));
+    }
+
+    // Index of the closest key; the lower neighbor wins on equal distance
+    private static int nearestIndex(int[] diameters, int key) {
+        int insertion = Arrays.binarySearch(diameters, key);
+        if (insertion >= 0) {
+            // Step back to the first of equal diameters
+            while (insertion > 0 && diameters[insertion - 1] == key) {
+                insertion--;
+            }
+            return insertion;
+        }
+        int above = -insertion - 1;
+        if (above == 0) {
+            return 0;
+        }
+        if (above == diameters.length) {
+            return diameters.length - 1;
+        }
+        int below = above - 1;
+        // Make sure 'below' is the first of its equal-diameter run
+        while (below > 0 && diameters[below - 1] == diameters[below]) {
+            below--;
+        }
+        return key - diameters[below] <= diameters[above] - key ? below : above;
+    }
+}
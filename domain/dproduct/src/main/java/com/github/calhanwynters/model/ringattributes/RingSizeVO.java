@@ -68,6 +68,16 @@ public record RingSizeVO(
         return diameterMm;
     }
 
+    /**
+     * Finds the standard chart size in the given region closest to this diameter.
+     * @param region The sizing region to map to.
+     * @return The nearest RingSize in that region.
+     */
+    public RingSize toRingSize(RingSize.Region region) {
+        // diameterMm is normalized to scale 2, so its unscaled value is the diameter in hundredths of a mm
+        return RingSizeIndex.nearestHundredths(region, diameterMm.unscaledValue().intValueExact());
+    }
+
     /**
      * Attempts to find the approximate official US alphabetical representation (e.g., "7", "7 1/2").
      * Uses a tolerance check to handle inexact formulas.
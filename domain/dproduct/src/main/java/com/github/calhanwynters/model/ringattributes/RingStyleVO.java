@@ -1,5 +1,9 @@
 package com.github.calhanwynters.model.ringattributes;
 
+import com.github.calhanwynters.model.shared.valueobjects.StyleBits;
+import com.github.calhanwynters.model.shared.valueobjects.ValueInterner;
+
+import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -7,47 +11,51 @@ import java.util.stream.Collectors;
 /**
  * Domain value object representing the style or setting attributes of a ring.
  * - Immutable record, domain-only (no infra annotations/deps).
- * - Stores style names as a set (e.g., "Solitaire", "Halo", "Vintage").
+ * - Stores style names as an immutable set (e.g., "Solitaire", "Halo", "Vintage"), backed by a bitmask over {@link Style}.
  * - Ensures valid styles are used and provides display functionality.
  */
 public record RingStyleVO(
-        Set<String> styles // Set of validated, normalized style names (non-null, immutable)
+        Set<String> styles // Validated, normalized style names (non-null, immutable); see StyleBits
 ) {
-    // A centralized source of truth for all valid styles in the domain
-    private static final Set<String> VALID_STYLES;
-
-    static {
-        VALID_STYLES = Set.of("SOLITAIRE", "HALO", "PAVE", "CHANNEL_SET", "PRONG_SET", "BEZEL_SET", "VINTAGE", "MODERN", "CLASSIC", "BAND", "STACKABLE");
+    /*** The valid styles of a ring; the centralized source of truth for this type.*/
+    public enum Style {
+        SOLITAIRE,
+        HALO,
+        PAVE,
+        CHANNEL_SET,
+        PRONG_SET,
+        BEZEL_SET,
+        VINTAGE,
+        MODERN,
+        CLASSIC,
+        BAND,
+        STACKABLE
     }
 
-    // Compact constructor with validation and normalization
+    // Shared enum <-> bitmask codec (spaces in raw names become underscores)
+    private static final StyleBits<Style> STYLE_BITS = StyleBits.of(Style.class, true);
+
+    // Canonical instances for the factories when interning is enabled (see ValueInterner)
+    private static final ValueInterner<RingStyleVO> INTERNER = ValueInterner.create();
+
+    /**
+     * Creates the value object from raw style names, normalizing and validating each one.
+     * @param styles The style names (e.g., "Solitaire"); null and blank entries are ignored.
+     */
     public RingStyleVO {
         Objects.requireNonNull(styles, "styles set must not be null");
-
-        // Normalize and validate all styles in the input set
-        styles = styles.stream()
-                .filter(Objects::nonNull)
-                .map(String::strip)
-                .map(String::toUpperCase)
-                // Replace spaces with underscores BEFORE validation/storage
-                .map(s -> s.replace(" ", "_"))
-                .filter(s -> !s.isEmpty())
-                .peek(style -> {
-                    if (!VALID_STYLES.contains(style)) {
-                        throw new IllegalArgumentException("Invalid style encountered: " + style);
-                    }
-                })
-                .collect(Collectors.toUnmodifiableSet());
+        // An immutable set of canonical names over the style bitmask; a set of another instance is reused as is
+        styles = STYLE_BITS.copyOf(styles);
     }
 
     // --- Factories ---
 
     public static RingStyleVO of(String style) {
-        return new RingStyleVO(Set.of(style));
+        return INTERNER.intern(new RingStyleVO(Set.of(style)));
     }
 
     public static RingStyleVO of(Set<String> styles) {
-        return new RingStyleVO(styles);
+        return INTERNER.intern(new RingStyleVO(styles));
     }
 
     // --- Domain Behaviors ---
@@ -58,10 +66,32 @@ public record RingStyleVO(
      * @return true if the style is present (case-insensitive).
      */
     public boolean hasStyle(String style) {
-        if (style == null || style.isBlank()) return false;
-        // Normalize the style we are checking against the internal storage format (CAPS + UNDERSCORES)
-        String normalizedCheck = style.strip().toUpperCase().replace(" ", "_");
-        return this.styles.contains(normalizedCheck);
+        return (STYLE_BITS.bits(this.styles) & STYLE_BITS.bitOf(style)) != 0;
+    }
+
+    /**
+     * Checks if this style object contains a specific style.
+     * @param style The style to check for.
+     * @return true if the style is present.
+     */
+    public boolean contains(Style style) {
+        return style != null && (STYLE_BITS.bits(this.styles) & STYLE_BITS.bit(style)) != 0;
+    }
+
+    /**
+     * Returns the normalized style names as an immutable set.
+     * @return The style names (e.g., "CHANNEL_SET"), in declaration order.
+     */
+    public Set<String> styles() {
+        return this.styles;
+    }
+
+    /**
+     * Returns the styles as enum constants.
+     * @return A new EnumSet of the styles.
+     */
+    public EnumSet<Style> styleSet() {
+        return STYLE_BITS.toEnumSet(STYLE_BITS.bits(this.styles));
     }
 
     /**
@@ -69,7 +99,7 @@ public record RingStyleVO(
      * @return A formatted string of styles.
      */
     public String displayName() {
-        return this.styles.stream()
+        return styles().stream()
                 .map(style -> {
                     // Convert "CHANNEL_SET" to "Channel Set" for display
                     String displayName = style.replace("_", " ");
@@ -78,4 +108,9 @@ public record RingStyleVO(
                 })
                 .collect(Collectors.joining(", "));
     }
+
+    @Override
+    public String toString() {
+        return "RingStyleVO[styles=" + styles() + "]";
+    }
 }
@@ -0,0 +1,312 @@
+package com.github.calhanwynters.model.shared.aggregates;
+
+import java.util.*;
+
+/*** Persistent hash array mapped trie (HAMT).
+ * Every update returns a new map in O(log32 n) and shares all untouched nodes with
+ * the original, so copy-on-write aggregates no longer copy whole collections.
+ * Null keys and values are not supported.*/
+final class HashTrieMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final HashTrieMap<?, ?> EMPTY = new HashTrieMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private HashTrieMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> HashTrieMap<K, V> empty() {
+        return (HashTrieMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(Object key) {
+        return (V) root.get(0, hash(key), key);
+    }
+
+    boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /*** Returns a map with the given mapping added or replaced; returns this map when nothing changes.*/
+    HashTrieMap<K, V> put(K key, V value) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        boolean[] added = new boolean[1];
+        Node newRoot = root.put(0, hash(key), key, value, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new HashTrieMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /*** Returns a map without the given key; returns this map when the key is absent.*/
+    HashTrieMap<K, V> remove(Object key) {
+        Node newRoot = root.remove(0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new HashTrieMap<>(newRoot, size - 1);
+    }
+
+    /*** Iterates over the values in trie order.*/
+    Iterator<V> valueIterator() {
+        return new ValueIterator<>(root);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /*** Trie node. Entries live in {@code array} as (key, value) slot pairs;
+     * a null key marks a slot whose value is a child node.*/
+    private abstract static class Node {
+        final Object[] array;
+
+        Node(Object[] array) {
+            this.array = array;
+        }
+
+        abstract Object get(int shift, int hash, Object key);
+
+        abstract Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        // Returns null when the node becomes empty
+        abstract Node remove(int shift, int hash, Object key);
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+
+        BitmapNode(int bitmap, Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1)) * 2;
+        }
+
+        @Override
+        Object get(int shift, int hash, Object key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = index(bit);
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                return ((Node) v).get(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? v : null;
+        }
+
+        @Override
+        Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bitFor(hash, shift);
+            int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] grown = new Object[array.length + 2];
+                System.arraycopy(array, 0, grown, 0, i);
+                grown[i] = key;
+                grown[i + 1] = value;
+                System.arraycopy(array, i, grown, i + 2, array.length - i);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, grown);
+            }
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node child = ((Node) v).put(shift + BITS, hash, key, value, added);
+                return child == v ? this : withSlot(i, null, child);
+            }
+            if (key.equals(k)) {
+                return v == value ? this : withSlot(i, k, value);
+            }
+            added[0] = true;
+            return withSlot(i, null, split(shift + BITS, k, v, hash, key, value));
+        }
+
+        @Override
+        Node remove(int shift, int hash, Object key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = index(bit);
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node child = ((Node) v).remove(shift + BITS, hash, key);
+                if (child == v) {
+                    return this;
+                }
+                return child != null ? withSlot(i, null, child) : withoutSlot(bit, i);
+            }
+            return key.equals(k) ? withoutSlot(bit, i) : this;
+        }
+
+        private BitmapNode withSlot(int i, Object key, Object value) {
+            Object[] copy = array.clone();
+            copy[i] = key;
+            copy[i + 1] = value;
+            return new BitmapNode(bitmap, copy);
+        }
+
+        private BitmapNode withoutSlot(int bit, int i) {
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] shrunk = new Object[array.length - 2];
+            System.arraycopy(array, 0, shrunk, 0, i);
+            System.arraycopy(array, i + 2, shrunk, i, array.length - i - 2);
+            return new BitmapNode(bitmap ^ bit, shrunk);
+        }
+
+        private static Node split(int shift, Object k1, Object v1, int h2, Object k2, Object v2) {
+            int h1 = hash(k1);
+            if (h1 == h2) {
+                return new CollisionNode(h1, new Object[]{k1, v1, k2, v2});
+            }
+            boolean[] ignored = new boolean[1];
+            return EMPTY.put(shift, h1, k1, v1, ignored).put(shift, h2, k2, v2, ignored);
+        }
+    }
+
+    /*** Holds keys whose full 32-bit hashes collide.*/
+    private static final class CollisionNode extends Node {
+        final int hash;
+
+        CollisionNode(int hash, Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int find(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object get(int shift, int hash, Object key) {
+            int i = find(key);
+            return i < 0 ? null : array[i + 1];
+        }
+
+        @Override
+        Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                // Push this node one level down and branch on the differing hash bits
+                Node nested = new BitmapNode(bitFor(this.hash, shift), new Object[]{null, this});
+                return nested.put(shift, hash, key, value, added);
+            }
+            int i = find(key);
+            if (i >= 0) {
+                if (array[i + 1] == value) {
+                    return this;
+                }
+                Object[] copy = array.clone();
+                copy[i + 1] = value;
+                return new CollisionNode(hash, copy);
+            }
+            Object[] grown = Arrays.copyOf(array, array.length + 2);
+            grown[array.length] = key;
+            grown[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, grown);
+        }
+
+        @Override
+        Node remove(int shift, int hash, Object key) {
+            int i = find(key);
+            if (i < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] shrunk = new Object[array.length - 2];
+            System.arraycopy(array, 0, shrunk, 0, i);
+            System.arraycopy(array, i + 2, shrunk, i, array.length - i - 2);
+            return new CollisionNode(hash, shrunk);
+        }
+    }
+
+    private static final class ValueIterator<V> implements Iterator<V> {
+        private final Deque<Object[]> arrays = new ArrayDeque<>();
+        private final Deque<Integer> positions = new ArrayDeque<>();
+        private V next;
+
+        ValueIterator(Node root) {
+            push(root);
+            advance();
+        }
+
+        private void push(Node node) {
+            arrays.push(node.array);
+            positions.push(0);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (!arrays.isEmpty()) {
+                Object[] array = arrays.peek();
+                int i = positions.pop();
+                if (i >= array.length) {
+                    arrays.pop();
+                    continue;
+                }
+                positions.push(i + 2);
+                if (array[i] == null) {
+                    push((Node) array[i + 1]);
+                } else {
+                    next = (V) array[i + 1];
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            V current = next;
+            advance();
+            return current;
+        }
+    }
+}
@@ -3,25 +3,42 @@ package com.github.calhanwynters.model.shared.aggregates;
 import com.github.calhanwynters.model.shared.entities.Variant; // Import the shared interface
 import com.github.calhanwynters.model.shared.valueobjects.*;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 /*** Aggregate Root representing a Product in the domain.
  * An immutable record that controls access to its internal components
- * and enforces business invariants.*/
+ * and enforces business invariants.
+ * Each behavior method that changes the product returns it with the next {@link #version()}, so the states of one
+ * product are totally ordered (e.g. for consumers of its change events that may see them out of order).*/
 
 public record Product(
         ProductId id,
         DescriptionVO description,
         GalleryVO gallery,
-        Set<Variant> variants // Now uses the generic 'Variant' interface
+        Set<Variant> variants, // Now uses the generic 'Variant' interface
+        long version // Revision of this state: 0 when created, incremented by each change
 ) {
+    // Variant count from which mutateVariants fans out over the common fork-join pool
+    static final int PARALLEL_MUTATION_THRESHOLD = 1024;
+
     public Product {
         Objects.requireNonNull(id, "id must not be null");
         Objects.requireNonNull(description, "description must not be null");
         Objects.requireNonNull(gallery, "gallery must not be null");
         Objects.requireNonNull(variants, "variants must not be null");
+        if (version < 0) {
+            throw new IllegalArgumentException("version must not be negative");
+        }
+
+        // Ensure the internal collection is deeply immutable and carries the lookup indexes
+        variants = VariantSet.copyOf(variants);
+    }
 
-        // Ensure the internal collection is deeply immutable
-        variants = Set.copyOf(variants);
+    /*** A product at its first version.*/
+    public Product(ProductId id, DescriptionVO description, GalleryVO gallery, Set<Variant> variants) {
+        this(id, description, gallery, variants, 0L);
     }
 
     // Updated Factory method: Now accepts initial variants as the generic interface
@@ -45,7 +62,7 @@ public record Product(
 
     public Product changeDescription(DescriptionVO newDescription) {
         // Corrected to return a new instance with the updated description (using the correct class name)
-        return new Product(this.id, newDescription, this.gallery, this.variants);
+        return new Product(this.id, newDescription, this.gallery, this.variants, this.version + 1);
     }
 
     public Product addImage(ImageUrlVO newImageUrl) {
@@ -53,21 +70,96 @@ public record Product(
         updatedImages.add(newImageUrl);
         GalleryVO updatedGallery = new GalleryVO(updatedImages);
         // Corrected to use the updated gallery
-        return new Product(this.id, this.description, updatedGallery, this.variants);
+        return new Product(this.id, this.description, updatedGallery, this.variants, this.version + 1);
     }
 
     /**
      * Adds a new variant to the Product.
      * @param newVariant The variant to add (can be any type that implements the interface).
      * @return A new Product instance with the added variant.
+     * @throws IllegalArgumentException if a variant with the same ID or the same physical attributes already exists.
      */
     public Product addVariant(Variant newVariant) { // Accepts the interface
         Objects.requireNonNull(newVariant, "newVariant must not be null");
-        Set<Variant> updatedVariants = new HashSet<>(this.variants);
-        if (!updatedVariants.add(newVariant)) {
+        VariantSet currentVariants = variantSet();
+        if (currentVariants.containsId(newVariant.id())) {
             throw new IllegalArgumentException("Variant with this ID already exists.");
         }
-        return new Product(this.id, this.description, this.gallery, updatedVariants);
+        if (currentVariants.findByAttributes(newVariant).isPresent()) {
+            throw new IllegalArgumentException("Variant with the same attributes already exists.");
+        }
+        return new Product(this.id, this.description, this.gallery, currentVariants.with(newVariant), this.version + 1);
+    }
+
+    /**
+     * Replaces an existing variant with an updated version carrying the same ID.
+     * @param updatedVariant The new state of the variant.
+     * @return A new Product instance with the variant replaced.
+     */
+    public Product replaceVariant(Variant updatedVariant) {
+        Objects.requireNonNull(updatedVariant, "updatedVariant must not be null");
+        VariantSet currentVariants = variantSet();
+        if (!currentVariants.containsId(updatedVariant.id())) {
+            throw new IllegalArgumentException("Variant with this ID does not exist.");
+        }
+        Optional<Variant> sameAttributes = currentVariants.findByAttributes(updatedVariant);
+        if (sameAttributes.isPresent() && !sameAttributes.get().id().equals(updatedVariant.id())) {
+            throw new IllegalArgumentException("Variant with the same attributes already exists.");
+        }
+        return new Product(this.id, this.description, this.gallery, currentVariants.with(updatedVariant), this.version + 1);
+    }
+
+    /**
+     * Removes the variant with the given ID.
+     * @param variantId The ID of the variant to remove.
+     * @return A new Product instance without the variant, or this Product if no such variant exists.
+     */
+    public Product removeVariant(VariantId variantId) {
+        Objects.requireNonNull(variantId, "variantId must not be null");
+        VariantSet updatedVariants = variantSet().without(variantId);
+        if (updatedVariants == this.variants) {
+            return this;
+        }
+        return new Product(this.id, this.description, this.gallery, updatedVariants, this.version + 1);
+    }
+
+    /**
+     * Applies a mutation to every variant and returns a single new Product with the results.
+     * @see #mutateVariants(Predicate, UnaryOperator)
+     */
+    public Product mutateVariants(UnaryOperator<Variant> mutation) {
+        return mutateVariants(variant -> true, mutation);
+    }
+
+    /**
+     * Applies a mutation to the variants matching the filter and returns a single new Product with the results,
+     * e.g. {@code product.mutateVariants(v -> v.applyDiscount(discount))} for a repricing campaign.
+     * Large products (see {@link #PARALLEL_MUTATION_THRESHOLD}) are processed in parallel, so the filter and
+     * mutation must be side-effect free. The mutation must keep the variant ID.
+     * @param filter Selects the variants to mutate.
+     * @param mutation Produces the new state of a selected variant; returning the same instance leaves it unchanged.
+     * @return A new Product instance, or this Product if no variant changed.
+     * @throws IllegalArgumentException if a mutated variant is null, has a different ID, or has the same
+     *         attributes as another variant of this Product.
+     */
+    public Product mutateVariants(Predicate<? super Variant> filter, UnaryOperator<Variant> mutation) {
+        Objects.requireNonNull(filter, "filter must not be null");
+        Objects.requireNonNull(mutation, "mutation must not be null");
+        VariantSet currentVariants = variantSet();
+        Variant[] originals = currentVariants.toArray(new Variant[0]);
+        Variant[] updated = new Variant[originals.length];
+
+        IntStream indexes = IntStream.range(0, originals.length);
+        if (originals.length >= PARALLEL_MUTATION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> updated[i] = filter.test(originals[i]) ? mutation.apply(originals[i]) : originals[i]);
+
+        VariantSet updatedVariants = currentVariants.withAll(originals, updated);
+        if (updatedVariants == currentVariants) {
+            return this;
+        }
+        return new Product(this.id, this.description, this.gallery, updatedVariants, this.version + 1);
     }
 
     /**
@@ -76,8 +168,103 @@ public record Product(
      * @return An Optional containing the variant, if found within this aggregate.
      */
     public Optional<Variant> findVariantById(VariantId variantId) { // Uses the generic VariantId
-        return this.variants.stream()
-                .filter(v -> v.id().equals(variantId))
-                .findFirst();
+        return variantSet().findById(variantId);
+    }
+
+    /**
+     * Finds a variant whose physical attributes match the given variant (see {@link Variant#hasSameAttributes}).
+     * Uses the attribute-fingerprint index, so the check is O(1) regardless of the number of variants.
+     * @param candidate The variant to compare against.
+     * @return An Optional containing the matching variant, if one exists within this aggregate.
+     */
+    public Optional<Variant> findVariantWithSameAttributes(Variant candidate) {
+        Objects.requireNonNull(candidate, "candidate must not be null");
+        return variantSet().findByAttributes(candidate);
+    }
+
+    /**
+     * Finds a variant by its SKU.
+     * @param sku The SKU to search for.
+     * @return An Optional containing the variant, if found within this aggregate.
+     */
+    public Optional<Variant> findVariantBySku(String sku) {
+        return variantSet().findBySku(sku);
+    }
+
+    // --- Builder ---
+
+    /**
+     * Creates a mutable builder for bulk construction (e.g. supplier imports).
+     * An ID is generated when none is set.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Mutable accumulator for {@link Product} state.
+     * Variants are collected without per-step copies; the variant set is built and
+     * all invariants are checked once when {@link #build()} is called. Not thread-safe.
+     */
+    public static final class Builder {
+        private ProductId id;
+        private DescriptionVO description;
+        private final Set<ImageUrlVO> images = new LinkedHashSet<>();
+        private final List<Variant> variants = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder id(ProductId id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder description(DescriptionVO description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder gallery(GalleryVO gallery) {
+            this.images.clear();
+            this.images.addAll(gallery.images());
+            return this;
+        }
+
+        public Builder addImage(ImageUrlVO image) {
+            this.images.add(Objects.requireNonNull(image, "image must not be null"));
+            return this;
+        }
+
+        public Builder addVariant(Variant variant) {
+            this.variants.add(Objects.requireNonNull(variant, "variant must not be null"));
+            return this;
+        }
+
+        public Builder addVariants(Collection<? extends Variant> variants) {
+            variants.forEach(this::addVariant);
+            return this;
+        }
+
+        /**
+         * Creates the product, validating the gallery, variants and all record invariants once.
+         * @return A new Product.
+         * @throws IllegalArgumentException if two variants share the same ID or the same physical attributes.
+         */
+        public Product build() {
+            VariantSet variantSet = VariantSet.copyOf(variants);
+            variantSet.checkNoDuplicateAttributes();
+            return new Product(
+                    id != null ? id : ProductId.generate(),
+                    description,
+                    new GalleryVO(images),
+                    variantSet
+            );
+        }
+    }
+
+    // The compact constructor always normalizes variants into a VariantSet
+    private VariantSet variantSet() {
+        return (VariantSet) this.variants;
     }
 }
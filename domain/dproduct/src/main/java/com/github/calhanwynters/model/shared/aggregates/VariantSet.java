@@ -0,0 +1,258 @@
+package com.github.calhanwynters.model.shared.aggregates;
+
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.entities.VariantFingerprint;
+import com.github.calhanwynters.model.shared.valueobjects.VariantId;
+
+import java.util.*;
+import java.util.function.Function;
+
+/*** Immutable variant collection owned by the Product aggregate.
+ * Variants are stored in a persistent hash trie keyed by VariantId, so lookups are O(1)
+ * and add/replace/remove return a new set in O(log n) that shares structure with this one.
+ * The SKU and attribute-fingerprint indexes are built lazily and maintained incrementally once they exist.
+ * Both keys may be shared (e.g. variants from an import), so each index entry counts its holders and is only
+ * dropped when the last one leaves.*/
+final class VariantSet extends AbstractSet<Variant> {
+
+    private static final VariantSet EMPTY = new VariantSet(HashTrieMap.empty(), HashTrieMap.empty(), HashTrieMap.empty());
+
+    private final HashTrieMap<VariantId, Variant> byId;
+
+    // Built on first use; benign race, every thread computes an equivalent immutable trie
+    private volatile HashTrieMap<String, Holders> bySku;
+    private volatile HashTrieMap<VariantFingerprint, Holders> byFingerprint;
+
+    private VariantSet(HashTrieMap<VariantId, Variant> byId,
+                       HashTrieMap<String, Holders> bySku,
+                       HashTrieMap<VariantFingerprint, Holders> byFingerprint) {
+        this.byId = byId;
+        this.bySku = bySku;
+        this.byFingerprint = byFingerprint;
+    }
+
+    /**
+     * Returns an immutable VariantSet holding the given variants.
+     * An existing VariantSet is returned as is, keeping its indexes.
+     * @throws IllegalArgumentException if two variants share the same ID.
+     */
+    static VariantSet copyOf(Collection<? extends Variant> variants) {
+        if (variants instanceof VariantSet variantSet) {
+            return variantSet;
+        }
+        if (variants.isEmpty()) {
+            return EMPTY;
+        }
+        HashTrieMap<VariantId, Variant> trie = HashTrieMap.empty();
+        for (Variant variant : variants) {
+            Objects.requireNonNull(variant, "variant must not be null");
+            if (trie.containsKey(variant.id())) {
+                throw new IllegalArgumentException("Variant with this ID already exists.");
+            }
+            trie = trie.put(variant.id(), variant);
+        }
+        return new VariantSet(trie, null, null);
+    }
+
+    /*** Returns a new VariantSet with the variant added, or replacing the variant with the same ID.*/
+    VariantSet with(Variant variant) {
+        Variant previous = byId.get(variant.id());
+        HashTrieMap<VariantId, Variant> updatedById = byId.put(variant.id(), variant);
+        if (updatedById == byId) {
+            return this;
+        }
+        HashTrieMap<String, Holders> skuIndex = this.bySku;
+        if (skuIndex != null) {
+            skuIndex = replaceEntry(skuIndex, Variant::sku, previous, variant, updatedById);
+        }
+        HashTrieMap<VariantFingerprint, Holders> fingerprintIndex = this.byFingerprint;
+        if (fingerprintIndex != null) {
+            fingerprintIndex = replaceEntry(fingerprintIndex, Variant::attributeFingerprint, previous, variant, updatedById);
+        }
+        return new VariantSet(updatedById, skuIndex, fingerprintIndex);
+    }
+
+    /*** Returns a new VariantSet without the variant with the given ID.*/
+    VariantSet without(VariantId variantId) {
+        Variant previous = byId.get(variantId);
+        if (previous == null) {
+            return this;
+        }
+        HashTrieMap<VariantId, Variant> updatedById = byId.remove(variantId);
+        HashTrieMap<String, Holders> skuIndex = this.bySku;
+        if (skuIndex != null) {
+            skuIndex = replaceEntry(skuIndex, Variant::sku, previous, null, updatedById);
+        }
+        HashTrieMap<VariantFingerprint, Holders> fingerprintIndex = this.byFingerprint;
+        if (fingerprintIndex != null) {
+            fingerprintIndex = replaceEntry(fingerprintIndex, Variant::attributeFingerprint, previous, null, updatedById);
+        }
+        return new VariantSet(updatedById, skuIndex, fingerprintIndex);
+    }
+
+    /**
+     * Returns a new VariantSet where each {@code originals[i]} is replaced by {@code updated[i]}.
+     * Unchanged entries (same instance) are skipped, so the work is proportional to the number of
+     * changed variants, and the existing indexes are updated incrementally.
+     * @throws IllegalArgumentException if an update is null, changes the variant ID, or gives a
+     *         variant the same attributes as another variant of the set.
+     */
+    VariantSet withAll(Variant[] originals, Variant[] updated) {
+        VariantSet result = this;
+        boolean attributesChanged = false;
+        for (int i = 0; i < originals.length; i++) {
+            Variant original = originals[i];
+            Variant variant = updated[i];
+            if (variant == original) {
+                continue;
+            }
+            if (variant == null) {
+                throw new IllegalArgumentException("Variant mutation must not return null.");
+            }
+            if (!original.id().equals(variant.id())) {
+                throw new IllegalArgumentException("Variant mutation must not change the variant ID.");
+            }
+            attributesChanged |= !original.hasSameAttributes(variant);
+            result = result.with(variant);
+        }
+        if (attributesChanged) {
+            result.checkNoDuplicateAttributes(this);
+        }
+        return result;
+    }
+
+    /**
+     * Rejects two variants with the same attributes, in one pass over the attribute fingerprints.
+     * @throws IllegalArgumentException if two variants of the set have the same attributes.
+     */
+    void checkNoDuplicateAttributes() {
+        checkNoDuplicateAttributes(null);
+    }
+
+    // Given the set before a mutation, only duplicates involving a variant whose attributes changed are rejected;
+    // older ones are tolerated
+    private void checkNoDuplicateAttributes(VariantSet before) {
+        Map<VariantFingerprint, Variant> seen = new HashMap<>(size() * 2);
+        for (Variant variant : this) {
+            Variant other = seen.putIfAbsent(variant.attributeFingerprint(), variant);
+            if (other != null && (before == null || attributesChanged(before, variant) || attributesChanged(before, other))) {
+                throw new IllegalArgumentException("Variant with the same attributes already exists.");
+            }
+        }
+    }
+
+    private static boolean attributesChanged(VariantSet before, Variant variant) {
+        Variant previous = before.byId.get(variant.id());
+        return previous != variant && !previous.hasSameAttributes(variant);
+    }
+
+    Optional<Variant> findById(VariantId variantId) {
+        return variantId == null ? Optional.empty() : Optional.ofNullable(byId.get(variantId));
+    }
+
+    Optional<Variant> findBySku(String sku) {
+        return sku == null ? Optional.empty() : first(skuIndex().get(sku));
+    }
+
+    /*** Finds a variant with the same physical attributes as the given one, in O(1). */
+    Optional<Variant> findByAttributes(Variant variant) {
+        return first(fingerprintIndex().get(variant.attributeFingerprint()));
+    }
+
+    boolean containsId(VariantId variantId) {
+        return variantId != null && byId.containsKey(variantId);
+    }
+
+    private HashTrieMap<String, Holders> skuIndex() {
+        HashTrieMap<String, Holders> index = this.bySku;
+        if (index == null) {
+            index = buildIndex(Variant::sku);
+            this.bySku = index;
+        }
+        return index;
+    }
+
+    private HashTrieMap<VariantFingerprint, Holders> fingerprintIndex() {
+        HashTrieMap<VariantFingerprint, Holders> index = this.byFingerprint;
+        if (index == null) {
+            index = buildIndex(Variant::attributeFingerprint);
+            this.byFingerprint = index;
+        }
+        return index;
+    }
+
+    private <K> HashTrieMap<K, Holders> buildIndex(Function<Variant, K> key) {
+        HashTrieMap<K, Holders> index = HashTrieMap.empty();
+        for (Iterator<Variant> it = byId.valueIterator(); it.hasNext(); ) {
+            index = addHolder(index, key, it.next());
+        }
+        return index;
+    }
+
+    // Unindexes the previous variant (if any) and indexes the new one; updatedById is the set after the change
+    private static <K> HashTrieMap<K, Holders> replaceEntry(HashTrieMap<K, Holders> index, Function<Variant, K> key,
+                                                           Variant previous, Variant variant,
+                                                           HashTrieMap<VariantId, Variant> updatedById) {
+        if (previous != null) {
+            K previousKey = key.apply(previous);
+            Holders holders = index.get(previousKey);
+            if (holders != null) {
+                if (holders.count() == 1) {
+                    index = index.remove(previousKey);
+                } else {
+                    // Only a shared key whose representative leaves needs a scan for another holder
+                    Variant first = holders.first() == previous
+                            ? findHolder(updatedById, key, previousKey, previous.id())
+                            : holders.first();
+                    index = index.put(previousKey, new Holders(first, holders.count() - 1));
+                }
+            }
+        }
+        return variant == null ? index : addHolder(index, key, variant);
+    }
+
+    private static <K> HashTrieMap<K, Holders> addHolder(HashTrieMap<K, Holders> index, Function<Variant, K> key, Variant variant) {
+        K newKey = key.apply(variant);
+        Holders holders = index.get(newKey);
+        return index.put(newKey, holders == null ? new Holders(variant, 1) : new Holders(holders.first(), holders.count() + 1));
+    }
+
+    private static <K> Variant findHolder(HashTrieMap<VariantId, Variant> byId, Function<Variant, K> key,
+                                          K wanted, VariantId excluded) {
+        for (Iterator<Variant> it = byId.valueIterator(); it.hasNext(); ) {
+            Variant variant = it.next();
+            if (!variant.id().equals(excluded) && wanted.equals(key.apply(variant))) {
+                return variant;
+            }
+        }
+        throw new IllegalStateException("Index counts a holder that is not in the set.");
+    }
+
+    private static Optional<Variant> first(Holders holders) {
+        return holders == null ? Optional.empty() : Optional.of(holders.first());
+    }
+
+    /*** One index entry: the variant lookups return, and how many variants of the set share the key.*/
+    private record Holders(Variant first, int count) {
+    }
+
+    // --- Set contract (read-only) ---
+
+    @Override
+    public Iterator<Variant> iterator() {
+        return byId.valueIterator();
+    }
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Variant variant) || variant.id() == null) {
+            return false;
+        }
+        return variant.equals(byId.get(variant.id()));
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.calhanwynters.model.shared.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reads the primitive encodings written by {@link BinaryWriter} from a {@link ByteBuffer},
+ * which may be heap-backed or a memory-mapped file region.
+ * Reading advances the buffer's position. Malformed or truncated input raises an IllegalArgumentException.
+ * Not thread-safe; one reader per decoding.
+ */
+public final class BinaryReader {
+
+    // Constants by name, built once per enum type
+    private static final ClassValue<Map<String, Enum<?>>> CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Map<String, Enum<?>> computeValue(Class<?> type) {
+            Map<String, Enum<?>> byName = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                byName.put(((Enum<?>) constant).name(), (Enum<?>) constant);
+            }
+            return Map.copyOf(byName);
+        }
+    };
+
+    private final ByteBuffer buffer;
+
+    public BinaryReader(ByteBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer must not be null");
+    }
+
+    public static BinaryReader of(byte[] bytes) {
+        return new BinaryReader(ByteBuffer.wrap(Objects.requireNonNull(bytes, "bytes must not be null")));
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer.get();
+    }
+
+    public byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    public long readFixedLong() {
+        require(Long.BYTES);
+        long value = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (buffer.get() & 0xFF);
+        }
+        return value;
+    }
+
+    public long readVarLong() {
+        long value = 0L;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            require(1);
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public int readVarInt() {
+        long value = readVarLong();
+        if ((value >>> Integer.SIZE) != 0) {
+            throw new IllegalArgumentException("Varint out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    /*** Reads a non-negative varint, e.g. a length or count.*/
+    public int readLength() {
+        int length = readVarInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        return length;
+    }
+
+    public long readSignedVarLong() {
+        long zigZag = readVarLong();
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    public boolean readBoolean() {
+        int value = readByte();
+        if (value != 0 && value != 1) {
+            throw new IllegalArgumentException("Malformed boolean: " + value);
+        }
+        return value == 1;
+    }
+
+    public String readString() {
+        return decodeUtf8(readLength());
+    }
+
+    public String readNullableString() {
+        int lengthPlusOne = readLength();
+        return lengthPlusOne == 0 ? null : decodeUtf8(lengthPlusOne - 1);
+    }
+
+    public BigDecimal readDecimal() {
+        long header = readVarLong();
+        long zigZagScale = header >>> 1;
+        long scale = (zigZagScale >>> 1) ^ -(zigZagScale & 1);
+        if (scale != (int) scale) {
+            throw new IllegalArgumentException("Decimal scale out of range: " + scale);
+        }
+        if ((header & 1) == 0) {
+            return BigDecimal.valueOf(readSignedVarLong(), (int) scale);
+        }
+        return new BigDecimal(new BigInteger(readBytes(readLength())), (int) scale);
+    }
+
+    public BigDecimal readNullableDecimal() {
+        return readBoolean() ? readDecimal() : null;
+    }
+
+    /*** Reads a constant written by {@link BinaryWriter#writeEnum}, resolved by name.*/
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        Objects.requireNonNull(type, "type must not be null");
+        String name = readString();
+        Enum<?> constant = CONSTANTS.get(type).get(name);
+        if (constant == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " constant: " + name);
+        }
+        return type.cast(constant);
+    }
+
+    /**
+     * Reads an enum ordinal, the enum encoding of records written before enums were written by name.
+     * Only correct while the constants keep the order they had when the record was written.
+     */
+    public <E extends Enum<E>> E readEnumOrdinal(E[] constants) {
+        int ordinal = readVarInt();
+        if (ordinal < 0 || ordinal >= constants.length) {
+            throw new IllegalArgumentException("Unknown " + constants.getClass().getComponentType().getSimpleName()
+                    + " ordinal: " + ordinal);
+        }
+        return constants[ordinal];
+    }
+
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    private String decodeUtf8(int length) {
+        require(length);
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + length);
+            return new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void require(int length) {
+        if (length < 0 || buffer.remaining() < length) {
+            throw new IllegalArgumentException("Unexpected end of input");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.calhanwynters.model.shared.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Growable byte buffer with the primitive encodings of the product binary format.
+ * - Unsigned varints (LEB128, 7 bits per byte) for lengths, counts and tags.
+ * - ZigZag varints for signed values, so small negatives stay short.
+ * - Strings as a varint byte length followed by UTF-8; nullable strings shift the length by one (0 = null).
+ * - Decimals as a header varint (ZigZag scale and a big-number flag) followed by the unscaled value,
+ *   as a ZigZag varint when it fits in a long and as two's-complement bytes otherwise.
+ * - Enum constants by name, so adding, removing or reordering other constants never changes their encoding.
+ * Not thread-safe; one writer per encoding.
+ */
+public final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public BinaryWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeBytes(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    /*** Writes a long as 8 big-endian bytes.*/
+    public BinaryWriter writeFixedLong(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    /*** Writes a value as an unsigned varint; negative values take the full 10 bytes.*/
+    public BinaryWriter writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeVarInt(int value) {
+        return writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    public BinaryWriter writeSignedVarLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryWriter writeBoolean(boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    public BinaryWriter writeString(String value) {
+        Objects.requireNonNull(value, "value must not be null");
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(utf8.length);
+        return writeBytes(utf8);
+    }
+
+    public BinaryWriter writeNullableString(String value) {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(utf8.length + 1);
+        return writeBytes(utf8);
+    }
+
+    public BinaryWriter writeDecimal(BigDecimal value) {
+        Objects.requireNonNull(value, "value must not be null");
+        BigInteger unscaled = value.unscaledValue();
+        long zigZagScale = ((long) value.scale() << 1) ^ (value.scale() >> 31);
+        if (unscaled.bitLength() < Long.SIZE) {
+            writeVarLong(zigZagScale << 1);
+            return writeSignedVarLong(unscaled.longValue());
+        }
+        writeVarLong((zigZagScale << 1) | 1);
+        byte[] bytes = unscaled.toByteArray();
+        writeVarInt(bytes.length);
+        return writeBytes(bytes);
+    }
+
+    public BinaryWriter writeNullableDecimal(BigDecimal value) {
+        if (value == null) {
+            return writeBoolean(false);
+        }
+        writeBoolean(true);
+        return writeDecimal(value);
+    }
+
+    /*** Writes an enum constant as its name; see {@link BinaryReader#readEnum(Class)}.*/
+    public BinaryWriter writeEnum(Enum<?> value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return writeString(value.name());
+    }
+
+    public int size() {
+        return position;
+    }
+
+    /*** Discards the written bytes so the buffer can be reused.*/
+    public void reset() {
+        position = 0;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
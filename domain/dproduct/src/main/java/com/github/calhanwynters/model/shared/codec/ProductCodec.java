@@ -0,0 +1,419 @@
+package com.github.calhanwynters.model.shared.codec;
+
+import com.github.calhanwynters.model.ankletattributes.AnkletSizeVO;
+import com.github.calhanwynters.model.ankletattributes.AnkletStyleVO;
+import com.github.calhanwynters.model.earringattributes.EarringSizeVO;
+import com.github.calhanwynters.model.earringattributes.EarringStyleVO;
+import com.github.calhanwynters.model.hairaccessoryattributes.HairAccessorStyleVO;
+import com.github.calhanwynters.model.hairaccessoryattributes.HairAccessorySizeVO;
+import com.github.calhanwynters.model.necklaceattributes.NecklaceSizeVO;
+import com.github.calhanwynters.model.necklaceattributes.NecklaceStyleVO;
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingSizeVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.*;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Versioned, compact binary codec for {@link Product} and the five variant records.
+ * - Hand-written encoders per type; no reflection and no intermediate tree.
+ * - Enums ({@link MaterialVO.MaterialName}, {@link VariantStatusEnums}, {@link RingSize}, weight units) and
+ *   styles are written by name, so their declaration order is free to change.
+ * - Product and variant ids in canonical UUID form take a tag byte and two fixed longs; other ids a tag and the string.
+ * - Decimals keep their exact value and scale, and prices are written as currency code plus scaled decimal.
+ * - A product's {@link Product#version()} follows its id.
+ * - Every record starts with its format version; changing the layout requires a new version. Version 1 records
+ *   (string ids, enum ordinals) and version 2 records (styles as bitmasks over the style enum) are still decoded,
+ *   which depends on those enums keeping their declaration order. Products from versions 1 to 3 decode at
+ *   product version 0.
+ * Decoding runs the normal constructors and factories, so decoded values pass the same validation
+ * (and interning, when enabled) as freshly built ones. Instances are thread-safe.
+ */
+public final class ProductCodec {
+
+    public static final int FORMAT_VERSION = 4;
+    // Version 1 wrote ids as strings and enums as ordinals
+    private static final int ORDINAL_ENUMS_VERSION = 1;
+    // Version 2 wrote styles as bitmasks over the style enum's ordinals
+    private static final int STYLE_BITS_VERSION = 2;
+    // Version 3 and earlier did not store the product's version
+    private static final int UNVERSIONED_PRODUCTS_VERSION = 3;
+
+    // Id tags
+    private static final int UUID_ID = 0;
+    private static final int STRING_ID = 1;
+
+    // Variant kind tags
+    private static final int RING = 0;
+    private static final int EARRING = 1;
+    private static final int NECKLACE = 2;
+    private static final int ANKLET = 3;
+    private static final int HAIR_ACCESSORY = 4;
+
+    // Gemstone flag bits
+    private static final int HAS_CERTIFICATE = 1;
+    private static final int LAB_GROWN = 1 << 1;
+
+    // Constants in declaration order, for version 1 ordinals
+    private static final MaterialVO.MaterialName[] MATERIAL_NAMES = MaterialVO.MaterialName.values();
+    private static final VariantStatusEnums[] STATUSES = VariantStatusEnums.values();
+    private static final RingSize[] RING_SIZES = RingSize.values();
+    private static final WeightVO.WeightUnit[] WEIGHT_UNITS = WeightVO.WeightUnit.values();
+    // Constants in declaration order, for version 1 and 2 style bitmasks
+    private static final RingStyleVO.Style[] RING_STYLES = RingStyleVO.Style.values();
+    private static final EarringStyleVO.Style[] EARRING_STYLES = EarringStyleVO.Style.values();
+    private static final NecklaceStyleVO.Style[] NECKLACE_STYLES = NecklaceStyleVO.Style.values();
+    private static final AnkletStyleVO.Style[] ANKLET_STYLES = AnkletStyleVO.Style.values();
+    private static final HairAccessorStyleVO.Style[] HAIR_ACCESSORY_STYLES = HairAccessorStyleVO.Style.values();
+
+    private final Function<String, MonetaryAmount> currencyTemplates;
+    // One zero amount per currency; decoded prices are created through its factory
+    private final Map<String, MonetaryAmount> templates = new ConcurrentHashMap<>();
+
+    /*** Creates a codec that decodes prices with the default JSR 354 amount type.*/
+    public ProductCodec() {
+        this(currency -> Monetary.getDefaultAmountFactory().setCurrency(currency).setNumber(0).create());
+    }
+
+    /**
+     * Creates a codec with a custom amount type.
+     * @param currencyTemplates Returns an amount (of any value) in the given currency code, whose factory builds decoded prices.
+     */
+    public ProductCodec(Function<String, MonetaryAmount> currencyTemplates) {
+        this.currencyTemplates = Objects.requireNonNull(currencyTemplates, "currencyTemplates must not be null");
+    }
+
+    // --- Product ---
+
+    public byte[] encode(Product product) {
+        BinaryWriter writer = new BinaryWriter();
+        encode(product, writer);
+        return writer.toByteArray();
+    }
+
+    public void encode(Product product, BinaryWriter writer) {
+        Objects.requireNonNull(product, "product must not be null");
+        writer.writeByte(FORMAT_VERSION);
+        writeId(product.id().msb(), product.id().lsb(), product.id().legacyValue(), writer);
+        writer.writeVarLong(product.version());
+        writer.writeString(product.description().value());
+        writer.writeVarInt(product.gallery().images().size());
+        for (ImageUrlVO image : product.gallery().images()) {
+            writer.writeString(image.url());
+        }
+        writer.writeVarInt(product.variants().size());
+        for (Variant variant : product.variants()) {
+            writeVariant(variant, writer);
+        }
+    }
+
+    public Product decode(byte[] bytes) {
+        return decode(BinaryReader.of(bytes));
+    }
+
+    /*** Decodes a product from the buffer's position, advancing it past the record.*/
+    public Product decode(ByteBuffer buffer) {
+        return decode(new BinaryReader(buffer));
+    }
+
+    public Product decode(BinaryReader reader) {
+        Objects.requireNonNull(reader, "reader must not be null");
+        int version = readVersion(reader);
+        ProductId id = readId(reader, version, ProductId::new);
+        long productVersion = version > UNVERSIONED_PRODUCTS_VERSION ? reader.readVarLong() : 0L;
+        DescriptionVO description = new DescriptionVO(reader.readString());
+        int imageCount = reader.readLength();
+        Set<ImageUrlVO> images = new LinkedHashSet<>();
+        for (int i = 0; i < imageCount; i++) {
+            images.add(new ImageUrlVO(reader.readString()));
+        }
+        int variantCount = reader.readLength();
+        Set<Variant> variants = new LinkedHashSet<>();
+        for (int i = 0; i < variantCount; i++) {
+            variants.add(readVariant(reader, version));
+        }
+        // The canonical constructor rather than the builder: a stored product is restored as it was, including
+        // variants that share attributes (which the builder rejects for new products)
+        return new Product(id, description, new GalleryVO(images), variants, productVersion);
+    }
+
+    /**
+     * Encodes a product id exactly as it follows the version byte of an encoded product.
+     * No id's encoding is a prefix of another's, so comparing these bytes with the start of a record orders
+     * records by id without decoding them: UUID ids first by value, then other ids by their UTF-8 bytes.
+     */
+    public byte[] encodeId(ProductId id) {
+        Objects.requireNonNull(id, "id must not be null");
+        BinaryWriter writer = new BinaryWriter(Long.BYTES * 2 + 1);
+        writeId(id.msb(), id.lsb(), id.legacyValue(), writer);
+        return writer.toByteArray();
+    }
+
+    // --- Variant ---
+
+    public byte[] encodeVariant(Variant variant) {
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeByte(FORMAT_VERSION);
+        writeVariant(variant, writer);
+        return writer.toByteArray();
+    }
+
+    public Variant decodeVariant(byte[] bytes) {
+        BinaryReader reader = BinaryReader.of(bytes);
+        return readVariant(reader, readVersion(reader));
+    }
+
+    private void writeVariant(Variant variant, BinaryWriter writer) {
+        Objects.requireNonNull(variant, "variant must not be null");
+        if (variant instanceof RingVariant ring) {
+            writer.writeByte(RING);
+            writeHeader(ring.id(), ring.sku(), writer);
+            writer.writeDecimal(ring.size().diameterMm());
+            writer.writeEnum(ring.ringSize());
+            writeStyles(ring.style().styles(), writer);
+        } else if (variant instanceof EarringVariant earring) {
+            writer.writeByte(EARRING);
+            writeHeader(earring.id(), earring.sku(), writer);
+            writer.writeDecimal(earring.size().sizeMm());
+            writer.writeNullableString(earring.size().label());
+            writeStyles(earring.style().styles(), writer);
+        } else if (variant instanceof NecklaceVariant necklace) {
+            writer.writeByte(NECKLACE);
+            writeHeader(necklace.id(), necklace.sku(), writer);
+            writer.writeDecimal(necklace.size().lengthInches());
+            writeStyles(necklace.style().styles(), writer);
+        } else if (variant instanceof AnkletVariant anklet) {
+            writer.writeByte(ANKLET);
+            writeHeader(anklet.id(), anklet.sku(), writer);
+            writer.writeDecimal(anklet.size().lengthInches());
+            writeStyles(anklet.style().styles(), writer);
+        } else if (variant instanceof HairAccessoryVariant hairAccessory) {
+            writer.writeByte(HAIR_ACCESSORY);
+            writeHeader(hairAccessory.id(), hairAccessory.sku(), writer);
+            writer.writeDecimal(hairAccessory.size().lengthMm());
+            writer.writeNullableDecimal(hairAccessory.size().widthMm());
+            writer.writeNullableString(hairAccessory.size().descriptionLabel());
+            writeStyles(hairAccessory.style().styles(), writer);
+        } else {
+            throw new IllegalArgumentException("Unsupported variant type: " + variant.getClass().getName());
+        }
+        writeCommon(variant, writer);
+    }
+
+    private Variant readVariant(BinaryReader reader, int version) {
+        int kind = reader.readByte();
+        VariantId id = readId(reader, version, VariantId::new);
+        String sku = reader.readString();
+        return switch (kind) {
+            case RING -> {
+                RingSizeVO size = new RingSizeVO(reader.readDecimal());
+                RingSize ringSize = readEnum(reader, version, RingSize.class, RING_SIZES);
+                RingStyleVO style = RingStyleVO.of(readStyles(reader, version, RING_STYLES));
+                Common c = readCommon(reader, version);
+                yield new RingVariant(id, sku, size, ringSize, style, c.basePrice, c.currentPrice, c.weight,
+                        c.materials, c.gemstones, c.careInstructions, c.status);
+            }
+            case EARRING -> {
+                EarringSizeVO size = new EarringSizeVO(reader.readDecimal(), reader.readNullableString());
+                EarringStyleVO style = EarringStyleVO.of(readStyles(reader, version, EARRING_STYLES));
+                Common c = readCommon(reader, version);
+                yield new EarringVariant(id, sku, size, style, c.basePrice, c.currentPrice, c.weight,
+                        c.materials, c.gemstones, c.careInstructions, c.status);
+            }
+            case NECKLACE -> {
+                NecklaceSizeVO size = new NecklaceSizeVO(reader.readDecimal());
+                NecklaceStyleVO style = NecklaceStyleVO.of(readStyles(reader, version, NECKLACE_STYLES));
+                Common c = readCommon(reader, version);
+                yield new NecklaceVariant(id, sku, size, style, c.basePrice, c.currentPrice, c.weight,
+                        c.materials, c.gemstones, c.careInstructions, c.status);
+            }
+            case ANKLET -> {
+                AnkletSizeVO size = new AnkletSizeVO(reader.readDecimal());
+                AnkletStyleVO style = AnkletStyleVO.of(readStyles(reader, version, ANKLET_STYLES));
+                Common c = readCommon(reader, version);
+                yield new AnkletVariant(id, sku, size, style, c.basePrice, c.currentPrice, c.weight,
+                        c.materials, c.gemstones, c.careInstructions, c.status);
+            }
+            case HAIR_ACCESSORY -> {
+                HairAccessorySizeVO size = new HairAccessorySizeVO(
+                        reader.readDecimal(), reader.readNullableDecimal(), reader.readNullableString());
+                HairAccessorStyleVO style = HairAccessorStyleVO.of(readStyles(reader, version, HAIR_ACCESSORY_STYLES));
+                Common c = readCommon(reader, version);
+                yield new HairAccessoryVariant(id, sku, size, style, c.basePrice, c.currentPrice, c.weight,
+                        c.materials, c.gemstones, c.careInstructions, c.status);
+            }
+            default -> throw new IllegalArgumentException("Unknown variant kind: " + kind);
+        };
+    }
+
+    // --- Shared variant components ---
+
+    private static void writeHeader(VariantId id, String sku, BinaryWriter writer) {
+        writeId(id.msb(), id.lsb(), id.legacyValue(), writer);
+        writer.writeString(sku);
+    }
+
+    private static void writeId(long msb, long lsb, String legacyValue, BinaryWriter writer) {
+        if (legacyValue != null) {
+            writer.writeByte(STRING_ID);
+            writer.writeString(legacyValue);
+        } else {
+            writer.writeByte(UUID_ID);
+            writer.writeFixedLong(msb);
+            writer.writeFixedLong(lsb);
+        }
+    }
+
+    // The canonical constructor of ProductId and VariantId
+    private interface IdFactory<T> {
+        T create(long msb, long lsb, String legacyValue);
+    }
+
+    private static <T> T readId(BinaryReader reader, int version, IdFactory<T> ids) {
+        if (version == ORDINAL_ENUMS_VERSION) {
+            return ids.create(0L, 0L, reader.readString());
+        }
+        int tag = reader.readByte();
+        return switch (tag) {
+            case UUID_ID -> ids.create(reader.readFixedLong(), reader.readFixedLong(), null);
+            case STRING_ID -> ids.create(0L, 0L, reader.readString());
+            default -> throw new IllegalArgumentException("Unknown id tag: " + tag);
+        };
+    }
+
+    private static void writeStyles(Set<String> styles, BinaryWriter writer) {
+        writer.writeVarInt(styles.size());
+        for (String style : styles) {
+            writer.writeString(style);
+        }
+    }
+
+    // Style names for the VO's name-based factory, which rejects unknown ones
+    private static Set<String> readStyles(BinaryReader reader, int version, Enum<?>[] constants) {
+        if (version <= STYLE_BITS_VERSION) {
+            long bits = reader.readVarLong();
+            if (constants.length < Long.SIZE && bits >>> constants.length != 0) {
+                throw new IllegalArgumentException("Unknown style bits: " + Long.toBinaryString(bits));
+            }
+            Set<String> styles = new HashSet<>();
+            for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+                styles.add(constants[Long.numberOfTrailingZeros(remaining)].name());
+            }
+            return styles;
+        }
+        int count = reader.readLength();
+        Set<String> styles = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            styles.add(reader.readString());
+        }
+        return styles;
+    }
+
+    private static <E extends Enum<E>> E readEnum(BinaryReader reader, int version, Class<E> type, E[] constants) {
+        return version == ORDINAL_ENUMS_VERSION ? reader.readEnumOrdinal(constants) : reader.readEnum(type);
+    }
+
+    private static void writeCommon(Variant variant, BinaryWriter writer) {
+        // Both prices share one currency (a variant invariant), so the code is written once
+        writer.writeString(variant.basePrice().getCurrency().getCurrencyCode());
+        writer.writeDecimal(variant.basePrice().getNumber().numberValue(BigDecimal.class));
+        writer.writeDecimal(variant.currentPrice().getNumber().numberValue(BigDecimal.class));
+
+        writer.writeDecimal(variant.weight().amount());
+        writer.writeEnum(variant.weight().unit());
+
+        writer.writeVarInt(variant.materials().size());
+        for (MaterialCompositionVO composition : variant.materials()) {
+            writer.writeEnum(composition.material().material());
+            writer.writeNullableString(composition.material().label());
+            writer.writeString(composition.role());
+        }
+
+        writer.writeVarInt(variant.gemstones().size());
+        for (GemstoneVO gemstone : variant.gemstones()) {
+            GemstoneTypeVO type = gemstone.type();
+            // 0 for no id, otherwise id + 1 (ids are positive)
+            writer.writeVarLong(type.id() == null ? 0L : type.id() + 1);
+            writer.writeString(type.name());
+            writer.writeNullableString(type.description());
+            writer.writeNullableString(gemstone.grade());
+            writer.writeNullableDecimal(gemstone.carat());
+            writer.writeByte((gemstone.hasCertificate() ? HAS_CERTIFICATE : 0) | (gemstone.isLabGrown() ? LAB_GROWN : 0));
+        }
+
+        writer.writeString(variant.careInstructions().instructions());
+        writer.writeEnum(variant.status());
+    }
+
+    private Common readCommon(BinaryReader reader, int version) {
+        MonetaryAmount template = template(reader.readString());
+        MonetaryAmount basePrice = template.getFactory().setNumber(reader.readDecimal()).create();
+        MonetaryAmount currentPrice = template.getFactory().setNumber(reader.readDecimal()).create();
+
+        BigDecimal weightAmount = reader.readDecimal();
+        WeightVO weight = new WeightVO(weightAmount, readEnum(reader, version, WeightVO.WeightUnit.class, WEIGHT_UNITS));
+
+        int materialCount = reader.readLength();
+        Set<MaterialCompositionVO> materials = new HashSet<>(materialCount * 2);
+        for (int i = 0; i < materialCount; i++) {
+            MaterialVO material = MaterialVO.of(
+                    readEnum(reader, version, MaterialVO.MaterialName.class, MATERIAL_NAMES), reader.readNullableString());
+            materials.add(MaterialCompositionVO.of(material, reader.readString()));
+        }
+
+        int gemstoneCount = reader.readLength();
+        Set<GemstoneVO> gemstones = new HashSet<>(gemstoneCount * 2);
+        for (int i = 0; i < gemstoneCount; i++) {
+            long idPlusOne = reader.readVarLong();
+            GemstoneTypeVO type = GemstoneTypeVO.of(idPlusOne == 0 ? null : idPlusOne - 1,
+                    reader.readString(), reader.readNullableString());
+            String grade = reader.readNullableString();
+            BigDecimal carat = reader.readNullableDecimal();
+            int flags = reader.readByte();
+            gemstones.add(new GemstoneVO(type, grade, carat, (flags & HAS_CERTIFICATE) != 0, (flags & LAB_GROWN) != 0));
+        }
+
+        CareInstructionVO careInstructions = CareInstructionVO.of(reader.readString());
+        VariantStatusEnums status = readEnum(reader, version, VariantStatusEnums.class, STATUSES);
+        return new Common(basePrice, currentPrice, weight, materials, gemstones, careInstructions, status);
+    }
+
+    private MonetaryAmount template(String currencyCode) {
+        MonetaryAmount template = templates.get(currencyCode);
+        if (template == null) {
+            template = Objects.requireNonNull(currencyTemplates.apply(currencyCode), "currency template must not be null");
+            templates.putIfAbsent(currencyCode, template);
+        }
+        return template;
+    }
+
+    private static int readVersion(BinaryReader reader) {
+        int version = reader.readByte();
+        if (version < ORDINAL_ENUMS_VERSION || version > FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported format version: " + version);
+        }
+        return version;
+    }
+
+    // Components shared by all variant records, in constructor order
+    private record Common(
+            MonetaryAmount basePrice,
+            MonetaryAmount currentPrice,
+            WeightVO weight,
+            Set<MaterialCompositionVO> materials,
+            Set<GemstoneVO> gemstones,
+            CareInstructionVO careInstructions,
+            VariantStatusEnums status
+    ) {
+    }
+}
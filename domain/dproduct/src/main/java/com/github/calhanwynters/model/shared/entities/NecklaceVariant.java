@@ -7,7 +7,6 @@ import com.github.calhanwynters.model.shared.valueobjects.*;
 
 // Import JavaMoney interfaces
 import javax.money.MonetaryAmount;
-import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -64,7 +63,7 @@ public record NecklaceVariant(
             CareInstructionVO careInstructions
     ) {
         VariantId generatedId = VariantId.generate();
-        String generatedSku = "NKLACE-" + generatedId.value().substring(0, 8).toUpperCase();
+        String generatedSku = skuFor(generatedId);
 
         return new NecklaceVariant(
                 generatedId,
@@ -96,6 +95,25 @@ public record NecklaceVariant(
                 Objects.equals(this.weight, otherNecklace.weight());  // Include weight in comparison
     }
 
+    @Override
+    public boolean hasStyle(String styleName) {
+        return this.style.hasStyle(styleName);
+    }
+
+    @Override
+    public Set<String> styleNames() {
+        return this.style.styles();
+    }
+
+    @Override
+    public VariantFingerprint attributeFingerprint() {
+        return VariantFingerprint.hasher("NECKLACE")
+                .add(size.lengthInches())
+                .addUnordered(style.styles())
+                .addCommon(this)
+                .build(this);
+    }
+
     // --- Behavior Methods ---
 
     public NecklaceVariant changeBasePrice(MonetaryAmount newBasePrice) {
@@ -107,7 +125,7 @@ public record NecklaceVariant(
     }
 
     public NecklaceVariant applyDiscount(PercentageVO discount) {
-        MonetaryAmount discountedPrice = this.basePrice.multiply(BigDecimal.ONE.subtract(discount.value()));
+        MonetaryAmount discountedPrice = ScaledMoneyVO.discount(this.basePrice, discount);
         return this.changeCurrentPrice(discountedPrice);
     }
 
@@ -170,5 +188,132 @@ public record NecklaceVariant(
     public NecklaceVariant markAsDiscontinued() {
         return new NecklaceVariant(this.id, this.sku, this.size, this.style, this.basePrice, this.currentPrice, this.weight, this.materials, this.gemstones, this.careInstructions, VariantStatusEnums.DISCONTINUED);
     }
-}
 
+    private static final SkuFormatter SKU_FORMATTER = new SkuFormatter("NKLACE-");
+
+    /*** Builds the SKU for a newly generated variant ID. */
+    private static String skuFor(VariantId variantId) {
+        return SKU_FORMATTER.format(variantId);
+    }
+
+    // --- Builder ---
+
+    /**
+     * Creates a mutable builder for bulk construction (e.g. supplier imports).
+     * Unset identity fields default like {@link #create}: a generated ID and SKU,
+     * current price equal to base price, no gemstones and DRAFT status.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Mutable accumulator for {@link NecklaceVariant} state.
+     * Invariants are checked once, by the record constructor, when {@link #build()} is called.
+     * Not thread-safe.
+     */
+    public static final class Builder {
+        private VariantId id;
+        private String sku;
+        private NecklaceSizeVO size;
+        private NecklaceStyleVO style;
+        private MonetaryAmount basePrice;
+        private MonetaryAmount currentPrice;
+        private WeightVO weight;
+        private final Set<MaterialCompositionVO> materials = new HashSet<>();
+        private final Set<GemstoneVO> gemstones = new HashSet<>();
+        private CareInstructionVO careInstructions;
+        private VariantStatusEnums status = VariantStatusEnums.DRAFT;
+
+        private Builder() {
+        }
+
+        public Builder id(VariantId id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder sku(String sku) {
+            this.sku = sku;
+            return this;
+        }
+
+        public Builder size(NecklaceSizeVO size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder style(NecklaceStyleVO style) {
+            this.style = style;
+            return this;
+        }
+
+        public Builder basePrice(MonetaryAmount basePrice) {
+            this.basePrice = basePrice;
+            return this;
+        }
+
+        public Builder currentPrice(MonetaryAmount currentPrice) {
+            this.currentPrice = currentPrice;
+            return this;
+        }
+
+        public Builder weight(WeightVO weight) {
+            this.weight = weight;
+            return this;
+        }
+
+        public Builder addMaterial(MaterialCompositionVO material) {
+            this.materials.add(Objects.requireNonNull(material, "material must not be null"));
+            return this;
+        }
+
+        public Builder materials(Set<MaterialCompositionVO> materials) {
+            this.materials.clear();
+            this.materials.addAll(materials);
+            return this;
+        }
+
+        public Builder addGemstone(GemstoneVO gemstone) {
+            this.gemstones.add(Objects.requireNonNull(gemstone, "gemstone must not be null"));
+            return this;
+        }
+
+        public Builder gemstones(Set<GemstoneVO> gemstones) {
+            this.gemstones.clear();
+            this.gemstones.addAll(gemstones);
+            return this;
+        }
+
+        public Builder careInstructions(CareInstructionVO careInstructions) {
+            this.careInstructions = careInstructions;
+            return this;
+        }
+
+        public Builder status(VariantStatusEnums status) {
+            this.status = status;
+            return this;
+        }
+
+        /**
+         * Creates the variant, running all record invariants exactly once.
+         * @return A new NecklaceVariant.
+         */
+        public NecklaceVariant build() {
+            VariantId variantId = id != null ? id : VariantId.generate();
+            return new NecklaceVariant(
+                    variantId,
+                    sku != null ? sku : skuFor(variantId),
+                    size,
+                    style,
+                    basePrice,
+                    currentPrice != null ? currentPrice : basePrice,
+                    weight,
+                    materials,
+                    gemstones,
+                    careInstructions,
+                    status
+            );
+        }
+    }
+}
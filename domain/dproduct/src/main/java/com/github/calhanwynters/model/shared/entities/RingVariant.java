@@ -8,11 +8,12 @@ import com.github.calhanwynters.model.shared.valueobjects.CareInstructionVO;
 import com.github.calhanwynters.model.shared.valueobjects.GemstoneVO;
 import com.github.calhanwynters.model.shared.valueobjects.MaterialCompositionVO;
 import com.github.calhanwynters.model.shared.valueobjects.PercentageVO;
+import com.github.calhanwynters.model.shared.valueobjects.ScaledMoneyVO;
+import com.github.calhanwynters.model.shared.valueobjects.SkuFormatter;
 import com.github.calhanwynters.model.shared.valueobjects.VariantId;
 import com.github.calhanwynters.model.shared.valueobjects.WeightVO;
 
 import javax.money.MonetaryAmount;
-import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -70,7 +71,7 @@ public record RingVariant(
             CareInstructionVO careInstructions
     ) {
         VariantId generatedId = VariantId.generate();
-        String generatedSku = "RING-" + generatedId.value().substring(0, 8).toUpperCase();
+        String generatedSku = skuFor(generatedId);
 
         return new RingVariant(
                 generatedId,
@@ -104,6 +105,26 @@ public record RingVariant(
                 Objects.equals(this.weight, otherRing.weight());
     }
 
+    @Override
+    public boolean hasStyle(String styleName) {
+        return this.style.hasStyle(styleName);
+    }
+
+    @Override
+    public Set<String> styleNames() {
+        return this.style.styles();
+    }
+
+    @Override
+    public VariantFingerprint attributeFingerprint() {
+        return VariantFingerprint.hasher("RING")
+                .add(size.diameterMm())
+                .add(ringSize)
+                .addUnordered(style.styles())
+                .addCommon(this)
+                .build(this);
+    }
+
     // --- Behavior Methods ---
 
     public RingVariant changeBasePrice(MonetaryAmount newBasePrice) {
@@ -141,7 +162,7 @@ public record RingVariant(
     }
 
     public RingVariant applyDiscount(PercentageVO discount) {
-        MonetaryAmount discountedPrice = this.basePrice.multiply(BigDecimal.ONE.subtract(discount.value()));
+        MonetaryAmount discountedPrice = ScaledMoneyVO.discount(this.basePrice, discount);
         return this.changeCurrentPrice(discountedPrice);
     }
 
@@ -308,4 +329,139 @@ public record RingVariant(
                 VariantStatusEnums.DISCONTINUED
         );
     }
+
+    private static final SkuFormatter SKU_FORMATTER = new SkuFormatter("RING-");
+
+    /*** Builds the SKU for a newly generated variant ID. */
+    private static String skuFor(VariantId variantId) {
+        return SKU_FORMATTER.format(variantId);
+    }
+
+    // --- Builder ---
+
+    /**
+     * Creates a mutable builder for bulk construction (e.g. supplier imports).
+     * Unset identity fields default like {@link #create}: a generated ID and SKU,
+     * current price equal to base price, no gemstones and DRAFT status.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Mutable accumulator for {@link RingVariant} state.
+     * Invariants are checked once, by the record constructor, when {@link #build()} is called.
+     * Not thread-safe.
+     */
+    public static final class Builder {
+        private VariantId id;
+        private String sku;
+        private RingSizeVO size;
+        private RingSize ringSize;
+        private RingStyleVO style;
+        private MonetaryAmount basePrice;
+        private MonetaryAmount currentPrice;
+        private WeightVO weight;
+        private final Set<MaterialCompositionVO> materials = new HashSet<>();
+        private final Set<GemstoneVO> gemstones = new HashSet<>();
+        private CareInstructionVO careInstructions;
+        private VariantStatusEnums status = VariantStatusEnums.DRAFT;
+
+        private Builder() {
+        }
+
+        public Builder id(VariantId id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder sku(String sku) {
+            this.sku = sku;
+            return this;
+        }
+
+        public Builder size(RingSizeVO size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder ringSize(RingSize ringSize) {
+            this.ringSize = ringSize;
+            return this;
+        }
+
+        public Builder style(RingStyleVO style) {
+            this.style = style;
+            return this;
+        }
+
+        public Builder basePrice(MonetaryAmount basePrice) {
+            this.basePrice = basePrice;
+            return this;
+        }
+
+        public Builder currentPrice(MonetaryAmount currentPrice) {
+            this.currentPrice = currentPrice;
+            return this;
+        }
+
+        public Builder weight(WeightVO weight) {
+            this.weight = weight;
+            return this;
+        }
+
+        public Builder addMaterial(MaterialCompositionVO material) {
+            this.materials.add(Objects.requireNonNull(material, "material must not be null"));
+            return this;
+        }
+
+        public Builder materials(Set<MaterialCompositionVO> materials) {
+            this.materials.clear();
+            this.materials.addAll(materials);
+            return this;
+        }
+
+        public Builder addGemstone(GemstoneVO gemstone) {
+            this.gemstones.add(Objects.requireNonNull(gemstone, "gemstone must not be null"));
+            return this;
+        }
+
+        public Builder gemstones(Set<GemstoneVO> gemstones) {
+            this.gemstones.clear();
+            this.gemstones.addAll(gemstones);
+            return this;
+        }
+
+        public Builder careInstructions(CareInstructionVO careInstructions) {
+            this.careInstructions = careInstructions;
+            return this;
+        }
+
+        public Builder status(VariantStatusEnums status) {
+            this.status = status;
+            return this;
+        }
+
+        /**
+         * Creates the variant, running all record invariants exactly once.
+         * @return A new RingVariant.
+         */
+        public RingVariant build() {
+            VariantId variantId = id != null ? id : VariantId.generate();
+            return new RingVariant(
+                    variantId,
+                    sku != null ? sku : skuFor(variantId),
+                    size,
+                    ringSize,
+                    style,
+                    basePrice,
+                    currentPrice != null ? currentPrice : basePrice,
+                    weight,
+                    materials,
+                    gemstones,
+                    careInstructions,
+                    status
+            );
+        }
+    }
 }
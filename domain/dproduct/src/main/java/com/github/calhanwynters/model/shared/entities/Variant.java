@@ -19,10 +19,38 @@ public interface Variant {
     WeightVO weight();  // Added weight method
     VariantStatusEnums status();
 
+    /**
+     * Checks whether the variant's style set contains the given style (case-insensitive),
+     * so style-based selection works across variant types.
+     */
+    boolean hasStyle(String styleName);
+
+    /**
+     * Returns the canonical names of the variant's styles (e.g. "CHANNEL_SET"),
+     * so indexes can read styles without knowing the concrete variant type.
+     */
+    Set<String> styleNames();
+
+    /**
+     * Returns a copy whose current price is the base price reduced by the given percentage.
+     * Implementations narrow the return type to their own record type.
+     */
+    Variant applyDiscount(PercentageVO discount);
+
+    /*** Returns a copy whose current price is reset to the base price.*/
+    Variant removeDiscount();
+
     /**
      * Checks if this variant has the same physical attributes as another variant,
      * ignoring identity (ID, SKU) and volatile properties (price, status).
      * This is useful for ensuring uniqueness within a Product aggregate.
      */
     boolean hasSameAttributes(Variant other);
+
+    /**
+     * Returns a hash key over the same physical attributes compared by {@link #hasSameAttributes(Variant)}.
+     * Variants with the same attributes always have equal fingerprints, which makes duplicate
+     * detection a hash lookup instead of pairwise comparisons.
+     */
+    VariantFingerprint attributeFingerprint();
 }
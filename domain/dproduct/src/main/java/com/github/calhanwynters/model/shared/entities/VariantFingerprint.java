@@ -0,0 +1,159 @@
+package com.github.calhanwynters.model.shared.entities;
+
+import com.github.calhanwynters.model.shared.valueobjects.*;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Hash key over the physical attributes of a variant (size, style, materials, gemstones,
+ * care instructions, weight), ignoring identity, price and status.
+ *
+ * <p>{@link #value()} is a stable 64-bit hash: it depends only on attribute values, never on
+ * identity hash codes, so it is the same across JVM runs and can be used as an external dedupe key.
+ * Two fingerprints are equal when their hashes match and the variants have the same attributes,
+ * so hash-based lookups stay exact even if two different variants collide.
+ */
+public final class VariantFingerprint {
+
+    private final long value;
+    private final Variant variant;
+
+    private VariantFingerprint(long value, Variant variant) {
+        this.value = value;
+        this.variant = variant;
+    }
+
+    /*** Starts a fingerprint for the given variant type tag (e.g. "RING"). */
+    static Hasher hasher(String typeTag) {
+        return new Hasher().add(typeTag);
+    }
+
+    /*** The stable 64-bit attribute hash. */
+    public long value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VariantFingerprint that)) return false;
+        return this.value == that.value && this.variant.hasSameAttributes(that.variant);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x", value);
+    }
+
+    /**
+     * Accumulates attribute values into a stable hash.
+     * Ordered values are combined positionally; collections are combined order-independently
+     * to match set equality.
+     */
+    static final class Hasher {
+        private static final long NULL_HASH = 0x6a09e667f3bcc909L;
+
+        private long state = 0x9e3779b97f4a7c15L;
+
+        private Hasher() {
+        }
+
+        Hasher add(String s) {
+            return addHash(hashOf(s));
+        }
+
+        Hasher add(BigDecimal decimal) {
+            return addHash(hashOf(decimal));
+        }
+
+        Hasher add(Enum<?> e) {
+            return addHash(e == null ? NULL_HASH : hashOf(e.name()));
+        }
+
+        /*** Adds the attributes shared by every variant type. */
+        Hasher addCommon(Variant variant) {
+            long materials = 0;
+            for (MaterialCompositionVO composition : variant.materials()) {
+                materials += hashOf(composition);
+            }
+            long gemstones = 0;
+            for (GemstoneVO gemstone : variant.gemstones()) {
+                gemstones += hashOf(gemstone);
+            }
+            return addHash(mix(materials ^ variant.materials().size()))
+                    .addHash(mix(gemstones ^ variant.gemstones().size()))
+                    .add(variant.careInstructions().instructions())
+                    .add(variant.weight().amount())
+                    .add(variant.weight().unit());
+        }
+
+        Hasher addUnordered(Collection<String> values) {
+            long sum = 0;
+            for (String v : values) {
+                sum += hashOf(v);
+            }
+            return addHash(mix(sum ^ values.size()));
+        }
+
+        VariantFingerprint build(Variant variant) {
+            return new VariantFingerprint(mix(state), Objects.requireNonNull(variant, "variant must not be null"));
+        }
+
+        private Hasher addHash(long h) {
+            state = mix(state * 31 + h);
+            return this;
+        }
+
+        private static long hashOf(MaterialCompositionVO composition) {
+            MaterialVO material = composition.material();
+            long h = hashOf(material.material().name());
+            h = mix(h * 31 + hashOf(material.label()));
+            return mix(h * 31 + hashOf(composition.role()));
+        }
+
+        private static long hashOf(GemstoneVO gemstone) {
+            long h = hashOf(gemstone.type());
+            h = mix(h * 31 + hashOf(gemstone.grade()));
+            h = mix(h * 31 + hashOf(gemstone.carat()));
+            return mix(h * 31 + (gemstone.hasCertificate() ? 1 : 2) + (gemstone.isLabGrown() ? 4 : 8));
+        }
+
+        // Mirrors GemstoneTypeVO.equals/hashCode: types with ids are equal by id alone, others by name ignoring case
+        private static long hashOf(GemstoneTypeVO type) {
+            return type.id() != null ? mix(type.id() * 31 + 1) : hashOf(type.name().toLowerCase(Locale.ROOT));
+        }
+
+        // FNV-1a over UTF-16 code units
+        private static long hashOf(String s) {
+            if (s == null) return NULL_HASH;
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < s.length(); i++) {
+                h ^= s.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return h;
+        }
+
+        // Numerically equal decimals hash alike regardless of scale
+        private static long hashOf(BigDecimal decimal) {
+            if (decimal == null) return NULL_HASH;
+            BigDecimal stripped = decimal.stripTrailingZeros();
+            return mix(stripped.unscaledValue().hashCode() * 31L + stripped.scale());
+        }
+
+        // SplitMix64 finalizer
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
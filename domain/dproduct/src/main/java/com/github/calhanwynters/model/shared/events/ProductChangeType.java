@@ -0,0 +1,15 @@
+package com.github.calhanwynters.model.shared.events;
+
+/**
+ * The kind of change recorded by a {@link ProductChangedEvent}, one per behavior method of the Product aggregate.
+ */
+public enum ProductChangeType {
+    CREATED,
+    DESCRIPTION_CHANGED,
+    IMAGE_ADDED,
+    VARIANT_ADDED,
+    VARIANT_REPLACED,
+    VARIANT_REMOVED,
+    /*** Bulk variant changes, e.g. discounts or status changes applied through mutateVariants.*/
+    VARIANTS_MUTATED
+}
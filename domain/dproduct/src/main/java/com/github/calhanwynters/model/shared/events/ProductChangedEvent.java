@@ -0,0 +1,40 @@
+package com.github.calhanwynters.model.shared.events;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.valueobjects.ProductId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Domain event: a Product was created or changed.
+ * - Carries the complete new state, so consumers (e.g. the search index) can apply it without loading the product.
+ * - Published by {@link com.github.calhanwynters.model.shared.services.ProductCatalogService} inside the transaction
+ *   that stores the product, so {@code @ApplicationModuleListener}s in other modules receive it after commit.
+ * - Listeners may receive events out of order; {@link #version()}, the product's revision, orders the changes of
+ *   one product. {@link #occurredAt()} is informational and not compared.
+ */
+public record ProductChangedEvent(
+        Product product,
+        ProductChangeType change,
+        Instant occurredAt
+) {
+    public ProductChangedEvent {
+        Objects.requireNonNull(product, "product must not be null");
+        Objects.requireNonNull(change, "change must not be null");
+        Objects.requireNonNull(occurredAt, "occurredAt must not be null");
+    }
+
+    public static ProductChangedEvent of(Product product, ProductChangeType change) {
+        return new ProductChangedEvent(product, change, Instant.now());
+    }
+
+    public ProductId productId() {
+        return product.id();
+    }
+
+    /*** The revision of the product this change produced.*/
+    public long version() {
+        return product.version();
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.calhanwynters.model.shared.events;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.valueobjects.ProductId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Domain event: a Product was deleted from the catalog. Published like {@link ProductChangedEvent}.
+ * The removal is a change of its own: {@link #version()} is one past the last version of the removed product,
+ * so it orders after every change event of that product.
+ */
+public record ProductRemovedEvent(
+        ProductId productId,
+        long version,
+        Instant occurredAt
+) {
+    public ProductRemovedEvent {
+        Objects.requireNonNull(productId, "productId must not be null");
+        Objects.requireNonNull(occurredAt, "occurredAt must not be null");
+        if (version < 0) {
+            throw new IllegalArgumentException("version must not be negative");
+        }
+    }
+
+    /*** The removal of the product in the given (last stored) state.*/
+    public static ProductRemovedEvent of(Product removed) {
+        Objects.requireNonNull(removed, "removed must not be null");
+        return new ProductRemovedEvent(removed.id(), removed.version() + 1, Instant.now());
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.calhanwynters.model.shared.services;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.GemstoneTypeVO;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import com.github.calhanwynters.model.shared.valueobjects.PercentageVO;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/*** Domain service that applies a discount to every matching variant of a catalog.
+ * Products are split across a fork-join pool; each product is repriced with a single
+ * {@link Product#mutateVariants(Predicate, java.util.function.UnaryOperator)} call,
+ * so every touched product is rebuilt exactly once.*/
+public final class CatalogDiscountEngine {
+
+    // Products handled by one fork-join leaf task before splitting stops
+    private static final int PRODUCTS_PER_TASK = 16;
+
+    private final ForkJoinPool pool;
+
+    public CatalogDiscountEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public CatalogDiscountEngine(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+    }
+
+    /**
+     * Applies the discount to all variants of the catalog accepted by the selector.
+     * @param catalog The products to reprice.
+     * @param selector Selects the variants to discount (see the selector factories below); must be side-effect free.
+     * @param discount The discount applied to each selected variant's base price.
+     * @return The repriced catalog (in input order), the changed variants and throughput figures.
+     */
+    public DiscountResult applyDiscount(List<Product> catalog, Predicate<? super Variant> selector, PercentageVO discount) {
+        Objects.requireNonNull(catalog, "catalog must not be null");
+        Objects.requireNonNull(selector, "selector must not be null");
+        Objects.requireNonNull(discount, "discount must not be null");
+
+        Product[] products = catalog.toArray(new Product[0]);
+        ProductOutcome[] outcomes = new ProductOutcome[products.length];
+        long start = System.nanoTime();
+        pool.invoke(new DiscountTask(products, outcomes, 0, products.length, selector, discount));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        List<Product> updatedProducts = new ArrayList<>(outcomes.length);
+        List<Variant> changedVariants = new ArrayList<>();
+        long scanned = 0;
+        for (int i = 0; i < outcomes.length; i++) {
+            updatedProducts.add(outcomes[i].product());
+            changedVariants.addAll(outcomes[i].changedVariants());
+            scanned += products[i].variants().size();
+        }
+        return new DiscountResult(updatedProducts, changedVariants, scanned, elapsed);
+    }
+
+    // --- Selectors ---
+
+    public static Predicate<Variant> withMaterial(MaterialName material) {
+        Objects.requireNonNull(material, "material must not be null");
+        return variant -> variant.materials().stream()
+                .anyMatch(composition -> composition.material().material() == material);
+    }
+
+    public static Predicate<Variant> withGemstoneType(GemstoneTypeVO gemstoneType) {
+        Objects.requireNonNull(gemstoneType, "gemstoneType must not be null");
+        return variant -> variant.gemstones().stream()
+                .anyMatch(gemstone -> gemstoneType.equals(gemstone.type()));
+    }
+
+    public static Predicate<Variant> withStyle(String style) {
+        Objects.requireNonNull(style, "style must not be null");
+        return variant -> variant.hasStyle(style);
+    }
+
+    public static Predicate<Variant> withStatus(VariantStatusEnums status) {
+        Objects.requireNonNull(status, "status must not be null");
+        return variant -> variant.status() == status;
+    }
+
+    // --- Result ---
+
+    /**
+     * Outcome of a catalog-wide discount run.
+     * @param products The catalog after the discount, in input order; untouched products are the same instances.
+     * @param changed The variants that were repriced, in their new state.
+     * @param scannedVariantCount The number of variants the selector was evaluated against.
+     * @param elapsed Wall-clock time of the run.
+     */
+    public record DiscountResult(
+            List<Product> products,
+            List<Variant> changed,
+            long scannedVariantCount,
+            Duration elapsed
+    ) {
+        public DiscountResult {
+            products = List.copyOf(products);
+            changed = List.copyOf(changed);
+        }
+
+        public Stream<Variant> changedVariants() {
+            return changed.stream();
+        }
+
+        public int changedVariantCount() {
+            return changed.size();
+        }
+
+        /*** Variants scanned per second of wall-clock time.*/
+        public double variantsPerSecond() {
+            long nanos = Math.max(1, elapsed.toNanos());
+            return scannedVariantCount * 1_000_000_000d / nanos;
+        }
+    }
+
+    // --- Fork-join task ---
+
+    private record ProductOutcome(Product product, List<Variant> changedVariants) {
+    }
+
+    private static final class DiscountTask extends RecursiveAction {
+        private final Product[] products;
+        private final ProductOutcome[] outcomes;
+        private final int from;
+        private final int to;
+        private final Predicate<? super Variant> selector;
+        private final PercentageVO discount;
+
+        DiscountTask(Product[] products, ProductOutcome[] outcomes, int from, int to,
+                     Predicate<? super Variant> selector, PercentageVO discount) {
+            this.products = products;
+            this.outcomes = outcomes;
+            this.from = from;
+            this.to = to;
+            this.selector = selector;
+            this.discount = discount;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PRODUCTS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    outcomes[i] = discount(products[i]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new DiscountTask(products, outcomes, from, mid, selector, discount),
+                    new DiscountTask(products, outcomes, mid, to, selector, discount)
+            );
+        }
+
+        private ProductOutcome discount(Product product) {
+            Product updated = product.mutateVariants(selector, variant -> variant.applyDiscount(discount));
+            if (updated == product) {
+                return new ProductOutcome(product, List.of());
+            }
+            List<Variant> changed = new ArrayList<>();
+            for (Variant variant : updated.variants()) {
+                if (product.findVariantById(variant.id()).orElse(null) != variant) {
+                    changed.add(variant);
+                }
+            }
+            return new ProductOutcome(updated, changed);
+        }
+    }
+}
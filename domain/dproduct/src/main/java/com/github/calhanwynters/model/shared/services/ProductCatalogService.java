@@ -0,0 +1,97 @@
+package com.github.calhanwynters.model.shared.services;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.events.ProductChangeType;
+import com.github.calhanwynters.model.shared.events.ProductChangedEvent;
+import com.github.calhanwynters.model.shared.events.ProductRemovedEvent;
+import com.github.calhanwynters.model.shared.valueobjects.ProductId;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Application service that stores Product aggregates and publishes their domain events.
+ * - Each method stores the change and publishes the matching {@link ProductChangedEvent} or {@link ProductRemovedEvent}
+ *   in one transaction, so module listeners (e.g. the search index) only see committed changes.
+ * - Product is an immutable record, so events are raised here rather than registered on the aggregate.
+ * - Events carry the product's version, which each behavior method increments, so listeners can order them.
+ */
+@Service
+public class ProductCatalogService {
+
+    private final ProductRepository repository;
+    private final ApplicationEventPublisher events;
+
+    public ProductCatalogService(ProductRepository repository, ApplicationEventPublisher events) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.events = Objects.requireNonNull(events, "events must not be null");
+    }
+
+    /**
+     * Stores a new product and publishes {@link ProductChangeType#CREATED}.
+     * @throws IllegalArgumentException if a product with the same id already exists.
+     */
+    @Transactional
+    public Product create(Product product) {
+        Objects.requireNonNull(product, "product must not be null");
+        if (repository.findById(product.id()).isPresent()) {
+            throw new IllegalArgumentException("Product with this ID already exists.");
+        }
+        repository.save(product);
+        events.publishEvent(ProductChangedEvent.of(product, ProductChangeType.CREATED));
+        return product;
+    }
+
+    /**
+     * Applies one of the Product behavior methods to a stored product, stores the result and publishes the change.
+     * @param id The product to change.
+     * @param change The kind of change, e.g. {@link ProductChangeType#VARIANT_ADDED} for {@code p -> p.addVariant(v)}.
+     * @param mutation The change; exceptions it throws roll the transaction back and publish nothing.
+     * @return The changed product, or the stored one if the mutation changed nothing (nothing is published then).
+     * @throws IllegalArgumentException if no product has the id, or the mutation changed the product without
+     *         advancing its version (i.e. not through the behavior methods).
+     */
+    @Transactional
+    public Product update(ProductId id, ProductChangeType change, UnaryOperator<Product> mutation) {
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(change, "change must not be null");
+        Objects.requireNonNull(mutation, "mutation must not be null");
+        if (change == ProductChangeType.CREATED) {
+            throw new IllegalArgumentException("Use create for new products.");
+        }
+        Product current = repository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Product with this ID does not exist."));
+        Product updated = Objects.requireNonNull(mutation.apply(current), "mutation must not return null");
+        if (!updated.id().equals(id)) {
+            throw new IllegalArgumentException("mutation must not change the product ID");
+        }
+        if (updated.equals(current)) {
+            return current;
+        }
+        if (updated.version() <= current.version()) {
+            throw new IllegalArgumentException("mutation must advance the product version");
+        }
+        repository.save(updated);
+        events.publishEvent(ProductChangedEvent.of(updated, change));
+        return updated;
+    }
+
+    /**
+     * Deletes a product and publishes {@link ProductRemovedEvent}; unknown ids publish nothing.
+     * @return Whether the product existed.
+     */
+    @Transactional
+    public boolean remove(ProductId id) {
+        Objects.requireNonNull(id, "id must not be null");
+        Optional<Product> removed = repository.findById(id);
+        if (removed.isEmpty() || !repository.deleteById(id)) {
+            return false;
+        }
+        events.publishEvent(ProductRemovedEvent.of(removed.get()));
+        return true;
+    }
+}
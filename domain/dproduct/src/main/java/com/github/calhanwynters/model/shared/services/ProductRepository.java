@@ -0,0 +1,18 @@
+package com.github.calhanwynters.model.shared.services;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.valueobjects.ProductId;
+
+import java.util.Optional;
+
+/*** Storage port for Product aggregates, implemented by the infrastructure layer.*/
+public interface ProductRepository {
+
+    Optional<Product> findById(ProductId id);
+
+    /*** Inserts or replaces the product with the same id.*/
+    void save(Product product);
+
+    /*** @return Whether a product with the id existed.*/
+    boolean deleteById(ProductId id);
+}
@@ -13,6 +13,13 @@ public record CareInstructionVO(String instructions) {
         }
     }
 
+    // Canonical instances for the factory when interning is enabled (see ValueInterner)
+    private static final ValueInterner<CareInstructionVO> INTERNER = ValueInterner.create();
+
+    public static CareInstructionVO of(String instructions) {
+        return INTERNER.intern(new CareInstructionVO(instructions));
+    }
+
     public String display() {
         return instructions;
     }
@@ -57,18 +57,25 @@ public record GemstoneTypeVO(Long id, String name, String description) {
         }
     }
 
+    // Canonical instances for the factories when interning is enabled (see ValueInterner).
+    // equals() is case-insensitive and id-based, so sharing requires all components to match exactly.
+    private static final ValueInterner<GemstoneTypeVO> INTERNER = ValueInterner.create(
+            type -> Objects.hash(type.id, type.name, type.description),
+            (a, b) -> Objects.equals(a.id, b.id) && a.name.equals(b.name) && Objects.equals(a.description, b.description)
+    );
+
     // Factory for new/transient types (no id)
     public static GemstoneTypeVO of(String name) {
-        return new GemstoneTypeVO(null, name, null);
+        return INTERNER.intern(new GemstoneTypeVO(null, name, null));
     }
 
     public static GemstoneTypeVO of(String name, String description) {
-        return new GemstoneTypeVO(null, name, description);
+        return INTERNER.intern(new GemstoneTypeVO(null, name, description));
     }
 
     // Factory with id (for reconstituted / persisted instances)
     public static GemstoneTypeVO of(Long id, String name, String description) {
-        return new GemstoneTypeVO(id, name, description);
+        return INTERNER.intern(new GemstoneTypeVO(id, name, description));
     }
 
     /**
@@ -0,0 +1,15 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import java.util.UUID;
+
+/**
+ * Service provider interface for the UUIDs behind generated {@link ProductId}s and {@link VariantId}s.
+ * The active generator is resolved by {@link IdGenerators#current()}: an override set in code, else the first
+ * implementation registered in {@code META-INF/services/com.github.calhanwynters.model.shared.valueobjects.IdGenerator},
+ * else {@link TimeOrderedIdGenerator}. Implementations must be thread-safe and should not block.
+ */
+public interface IdGenerator {
+
+    /*** Returns a new, unique UUID.*/
+    UUID nextUuid();
+}
@@ -0,0 +1,37 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Resolves the {@link IdGenerator} used by {@link ProductId#generate()} and {@link VariantId#generate()}.
+ * The service lookup runs once, on first use; an override (e.g. a deterministic generator in tests)
+ * takes precedence until it is cleared.
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator override;
+
+    private IdGenerators() {
+    }
+
+    public static IdGenerator current() {
+        IdGenerator generator = override;
+        return generator != null ? generator : Default.GENERATOR;
+    }
+
+    /*** Replaces the active generator for the whole application; null restores the default lookup.*/
+    public static void setOverride(IdGenerator generator) {
+        override = generator;
+    }
+
+    // Lazy holder, so the ServiceLoader scan happens at most once
+    private static final class Default {
+        static final IdGenerator GENERATOR = load();
+
+        private static IdGenerator load() {
+            Iterator<IdGenerator> providers = ServiceLoader.load(IdGenerator.class).iterator();
+            return providers.hasNext() ? providers.next() : TimeOrderedIdGenerator.INSTANCE;
+        }
+    }
+}
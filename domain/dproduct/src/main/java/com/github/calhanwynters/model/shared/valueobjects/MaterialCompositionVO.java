@@ -18,4 +18,11 @@ public record MaterialCompositionVO(
             throw new IllegalArgumentException("role cannot be empty or blank");
         }
     }
+
+    // Canonical instances for the factory when interning is enabled (see ValueInterner)
+    private static final ValueInterner<MaterialCompositionVO> INTERNER = ValueInterner.create();
+
+    public static MaterialCompositionVO of(MaterialVO material, String role) {
+        return INTERNER.intern(new MaterialCompositionVO(material, role));
+    }
 }
@@ -26,13 +26,16 @@ public record MaterialVO(
         label = normalized.isEmpty() ? null : normalized;
     }
 
+    // Canonical instances for the factories when interning is enabled (see ValueInterner)
+    private static final ValueInterner<MaterialVO> INTERNER = ValueInterner.create();
+
     // Public factories
     public static MaterialVO of(MaterialName material) {
-        return new MaterialVO(material, null);
+        return INTERNER.intern(new MaterialVO(material, null));
     }
 
     public static MaterialVO of(MaterialName material, String label) {
-        return new MaterialVO(material, label);
+        return INTERNER.intern(new MaterialVO(material, label));
     }
 
     // Optional accessor
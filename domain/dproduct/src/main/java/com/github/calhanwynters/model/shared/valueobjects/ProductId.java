@@ -5,21 +5,79 @@ import java.util.UUID;
 
 /**
  * Domain value object representing the unique identifier for a Product aggregate.
+ * - UUID ids are stored as their two halves, {@code msb} and {@code lsb}, and compared and hashed as longs;
+ *   {@link #value()} formats the canonical string on demand.
+ * - Any other non-blank string (e.g. a legacy import id) is kept in {@code legacyValue}, with both halves zero.
+ * - Generated ids come from {@link IdGenerators#current()}; by default they are time-ordered
+ *   (UUID version 7) for index locality.
+ * @param msb The high 64 bits of a UUID id; zero for legacy ids.
+ * @param lsb The low 64 bits of a UUID id; zero for legacy ids.
+ * @param legacyValue The id string when it is not a canonical UUID; null for UUID ids.
  */
-public record ProductId(String value) {
+public record ProductId(long msb, long lsb, String legacyValue) {
     public ProductId {
-        Objects.requireNonNull(value, "ProductId value cannot be null");
-        if (value.isBlank()) {
-            throw new IllegalArgumentException("ProductId value cannot be empty or blank");
+        if (legacyValue != null) {
+            if (legacyValue.isBlank()) {
+                throw new IllegalArgumentException("ProductId value cannot be empty or blank");
+            }
+            if (Uuids.isCanonical(legacyValue)) {
+                msb = Uuids.mostSignificantBits(legacyValue);
+                lsb = Uuids.leastSignificantBits(legacyValue);
+                legacyValue = null;
+            } else if (msb != 0L || lsb != 0L) {
+                throw new IllegalArgumentException("ProductId bits must be zero for a non-UUID value");
+            }
         }
     }
 
-    public static com.github.calhanwynters.model.shared.valueobjects.ProductId generate() {
-        return new com.github.calhanwynters.model.shared.valueobjects.ProductId(UUID.randomUUID().toString());
+    /*** Parses the canonical UUID form into its bits; any other non-blank string is kept as a legacy id.*/
+    public ProductId(String value) {
+        this(0L, 0L, Objects.requireNonNull(value, "ProductId value cannot be null"));
+    }
+
+    public static ProductId of(UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid must not be null");
+        return new ProductId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null);
+    }
+
+    public static ProductId generate() {
+        return of(IdGenerators.current().nextUuid());
+    }
+
+    /*** The identifier string: the canonical UUID form for UUID ids, otherwise the legacy value.*/
+    public String value() {
+        return legacyValue != null ? legacyValue : Uuids.format(msb, lsb);
+    }
+
+    /*** Whether this id is a UUID, i.e. was given in canonical (lower-case, hyphenated) form or as a UUID.*/
+    public boolean isUuid() {
+        return legacyValue == null;
+    }
+
+    /**
+     * @return This id as a UUID.
+     * @throws IllegalStateException if the id is not a UUID (see {@link #isUuid()}).
+     */
+    public UUID toUuid() {
+        if (!isUuid()) {
+            throw new IllegalStateException("ProductId is not a UUID: " + legacyValue);
+        }
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof ProductId that
+                && msb == that.msb && lsb == that.lsb && Objects.equals(legacyValue, that.legacyValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return legacyValue != null ? legacyValue.hashCode() : Long.hashCode(msb ^ lsb);
     }
 
     @Override
     public String toString() {
-        return value;
+        return value();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Domain value object representing a money amount as a currency code plus a scaled {@code long}
+ * ({@code amount = unscaledAmount * 10^-scale}), used on hot pricing paths instead of BigDecimal arithmetic.
+ * - Immutable record, domain-only (no infra annotations/deps).
+ * - Converts to and from {@link MonetaryAmount} without changing the numeric value. The scale is whatever the
+ *   amount's number reports (Moneta strips trailing zeros, so 1234.5600 arrives as 1234.56); compare values with
+ *   {@code compareTo}/{@code isEqualTo}, not by scale.
+ * - Operations throw {@link ArithmeticException} when a result does not fit in a {@code long}.
+ */
+public record ScaledMoneyVO(
+        String currencyCode,
+        long unscaledAmount,
+        int scale
+) {
+    // PercentageVO values are normalized to scale 4, i.e. basis points of a hundredth
+    private static final int PERCENTAGE_SCALE = 4;
+    private static final long PERCENTAGE_ONE = 10_000L;
+
+    // Largest result taken by the fast path: 16 digits fit every MathContext Money uses (DECIMAL64 and up),
+    // so the BigDecimal multiply it replaces never rounds either
+    private static final long FAST_PATH_LIMIT = 10_000_000_000_000_000L;
+
+    public ScaledMoneyVO {
+        Objects.requireNonNull(currencyCode, "currencyCode must not be null");
+        if (currencyCode.isBlank()) {
+            throw new IllegalArgumentException("currencyCode must not be blank");
+        }
+    }
+
+    // --- Factories ---
+
+    /**
+     * Converts a MonetaryAmount without rounding.
+     * @throws ArithmeticException if the amount has more significant digits than a long can hold.
+     */
+    public static ScaledMoneyVO of(MonetaryAmount amount) {
+        Objects.requireNonNull(amount, "amount must not be null");
+        BigDecimal number = amount.getNumber().numberValue(BigDecimal.class);
+        return new ScaledMoneyVO(amount.getCurrency().getCurrencyCode(), number.unscaledValue().longValueExact(), number.scale());
+    }
+
+    // --- Conversions ---
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaledAmount, scale);
+    }
+
+    /**
+     * Converts back to a MonetaryAmount of the same implementation type as the template.
+     * @param template Supplies the amount type and currency; its currency must match this amount.
+     */
+    public MonetaryAmount toMonetaryAmount(MonetaryAmount template) {
+        Objects.requireNonNull(template, "template must not be null");
+        if (!currencyCode.equals(template.getCurrency().getCurrencyCode())) {
+            throw new IllegalArgumentException("Currency mismatch: " + currencyCode + " vs " + template.getCurrency().getCurrencyCode());
+        }
+        return template.getFactory().setNumber(toBigDecimal()).create();
+    }
+
+    // --- Domain Behaviors ---
+
+    /**
+     * Reduces this amount by the given percentage. The result is exact and carries scale {@code scale + 4},
+     * the same value and scale as {@code toBigDecimal().multiply(BigDecimal.ONE.subtract(discount.value()))}.
+     * @throws ArithmeticException if the result does not fit in a long.
+     */
+    public ScaledMoneyVO applyDiscount(PercentageVO discount) {
+        Objects.requireNonNull(discount, "discount must not be null");
+        long remainingBasisPoints = PERCENTAGE_ONE - discount.value().unscaledValue().longValueExact();
+        return new ScaledMoneyVO(currencyCode, Math.multiplyExact(unscaledAmount, remainingBasisPoints), scale + PERCENTAGE_SCALE);
+    }
+
+    /**
+     * Discounts a price the way variants do, {@code price.multiply(1 - discount)}, taking the scaled-long path
+     * whenever the result is provably identical and falling back to the MonetaryAmount arithmetic otherwise.
+     * @param price The price to discount.
+     * @param discount The discount to apply.
+     * @return The discounted price, of the same amount type as {@code price}.
+     */
+    public static MonetaryAmount discount(MonetaryAmount price, PercentageVO discount) {
+        Objects.requireNonNull(price, "price must not be null");
+        Objects.requireNonNull(discount, "discount must not be null");
+        BigDecimal number = price.getNumber().numberValue(BigDecimal.class);
+        long remainingBasisPoints = PERCENTAGE_ONE - discount.value().unscaledValue().longValue();
+        int resultScale = number.scale() + PERCENTAGE_SCALE;
+        // A zero discount multiplies by one, which MonetaryAmount implementations may short-circuit without rescaling
+        if (remainingBasisPoints != PERCENTAGE_ONE
+                && number.unscaledValue().bitLength() < Long.SIZE
+                && fitsContext(price.getContext(), resultScale)) {
+            long unscaled = number.unscaledValue().longValue();
+            // |unscaled| < 10^12 and remainingBasisPoints < 10^4 keep the product exact and below FAST_PATH_LIMIT
+            if (Math.abs(unscaled) < FAST_PATH_LIMIT / PERCENTAGE_ONE) {
+                return price.getFactory().setNumber(BigDecimal.valueOf(unscaled * remainingBasisPoints, resultScale)).create();
+            }
+        }
+        return price.multiply(BigDecimal.ONE.subtract(discount.value()));
+    }
+
+    // Amount types with a bounded or fixed scale (e.g. FastMoney) round on multiply, so only the slow path matches them
+    private static boolean fitsContext(MonetaryContext context, int resultScale) {
+        if (context == null || context.isFixedScale()) {
+            return false;
+        }
+        int maxScale = context.getMaxScale();
+        int precision = context.getPrecision();
+        return (maxScale < 0 || resultScale <= maxScale) && (precision == 0 || precision >= 16);
+    }
+}
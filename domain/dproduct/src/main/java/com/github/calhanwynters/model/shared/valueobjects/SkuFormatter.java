@@ -0,0 +1,55 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import java.util.Objects;
+
+/**
+ * Formats SKUs as a fixed prefix followed by the variant's {@link VariantId#shortCode() short code}
+ * (e.g. "RING-9F3A61C2"), writing characters straight into a buffer instead of building substrings.
+ * Immutable and thread-safe; one instance per prefix.
+ */
+public final class SkuFormatter {
+
+    public static final int CODE_LENGTH = 8;
+
+    private final char[] prefix;
+
+    public SkuFormatter(String prefix) {
+        this.prefix = Objects.requireNonNull(prefix, "prefix must not be null").toCharArray();
+    }
+
+    /*** The SKU length for this prefix; ids shorter than {@link #CODE_LENGTH} characters give shorter SKUs.*/
+    public int length() {
+        return prefix.length + CODE_LENGTH;
+    }
+
+    public String format(VariantId variantId) {
+        Objects.requireNonNull(variantId, "variantId must not be null");
+        if (!variantId.isUuid()) {
+            return new String(prefix) + variantId.shortCode();
+        }
+        char[] sku = new char[length()];
+        formatTo(variantId, sku, 0);
+        return new String(sku);
+    }
+
+    /**
+     * Writes the SKU into a caller-owned buffer, e.g. one reused across a bulk export.
+     * @param variantId The variant id.
+     * @param destination The buffer; must have room for {@link #length()} characters from the offset.
+     * @param offset The index of the first character to write.
+     * @return The index after the last written character.
+     */
+    public int formatTo(VariantId variantId, char[] destination, int offset) {
+        Objects.requireNonNull(variantId, "variantId must not be null");
+        Objects.checkFromIndexSize(offset, length(), destination.length);
+        System.arraycopy(prefix, 0, destination, offset, prefix.length);
+        int codeOffset = offset + prefix.length;
+        if (!variantId.isUuid()) {
+            String code = variantId.shortCode();
+            code.getChars(0, code.length(), destination, codeOffset);
+            return codeOffset + code.length();
+        }
+        Uuids.writeUpperHex8(variantId.lsb(), destination, codeOffset);
+        return codeOffset + CODE_LENGTH;
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import java.util.*;
+
+/**
+ * Shared codec between a per-type style enum and the {@code long} bitmask behind the style value objects' sets.
+ * - Bit {@code i} stands for the enum constant with ordinal {@code i} (at most 64 styles per type); the mask is an
+ *   implementation detail of the sets returned by {@link #copyOf}, never a stored or public representation.
+ * - Parsing applies the style VOs' normalization: strip, upper-case and, where the type uses it,
+ *   spaces replaced by underscores; null and blank entries are ignored. Normalized tokens are
+ *   memoized in the shared {@link StyleTokenCache}.
+ * - {@link #copyOf} exposes a mask as an immutable {@code Set<String>} of canonical names without copying.
+ */
+public final class StyleBits<E extends Enum<E>> {
+
+    private final E[] constants;
+    private final String[] names;
+    private final Map<String, E> byName;
+    private final boolean spacesToUnderscores;
+
+    private StyleBits(Class<E> styleType, boolean spacesToUnderscores) {
+        this.constants = styleType.getEnumConstants();
+        if (constants.length > Long.SIZE) {
+            throw new IllegalArgumentException(styleType.getSimpleName() + " has more than 64 styles");
+        }
+        this.names = new String[constants.length];
+        Map<String, E> lookup = new HashMap<>();
+        for (E constant : constants) {
+            names[constant.ordinal()] = constant.name();
+            lookup.put(constant.name(), constant);
+        }
+        this.byName = Map.copyOf(lookup);
+        this.spacesToUnderscores = spacesToUnderscores;
+    }
+
+    /**
+     * Creates the codec for a style enum.
+     * @param styleType The per-type style enum; constant names are the canonical style tokens.
+     * @param spacesToUnderscores Whether raw input like "channel set" maps to "CHANNEL_SET".
+     */
+    public static <E extends Enum<E>> StyleBits<E> of(Class<E> styleType, boolean spacesToUnderscores) {
+        return new StyleBits<>(Objects.requireNonNull(styleType, "styleType must not be null"), spacesToUnderscores);
+    }
+
+    /**
+     * Normalizes and validates raw style names into a bitmask.
+     * @throws IllegalArgumentException with "Invalid style encountered: X" for an unknown style.
+     */
+    public long parse(Set<String> styles) {
+        long bits = 0L;
+        for (String raw : styles) {
+            if (raw == null) {
+                continue;
+            }
+            String normalized = normalize(raw);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            E style = byName.get(normalized);
+            if (style == null) {
+                throw new IllegalArgumentException("Invalid style encountered: " + normalized);
+            }
+            bits |= bit(style);
+        }
+        return bits;
+    }
+
+    /**
+     * Normalizes and validates raw style names into an immutable set of canonical names over their bitmask.
+     * A set already returned by this codec is returned as is.
+     * @throws IllegalArgumentException with "Invalid style encountered: X" for an unknown style.
+     */
+    public Set<String> copyOf(Set<String> styles) {
+        if (styles instanceof View view && view.owner == this) {
+            return styles;
+        }
+        return new View(this, parse(styles));
+    }
+
+    /*** Returns the bitmask of a set returned by {@link #copyOf}, or parses raw style names.*/
+    public long bits(Set<String> styles) {
+        if (styles instanceof View view && view.owner == this) {
+            return view.bits;
+        }
+        return parse(styles);
+    }
+
+    /*** Returns the bit of the raw style name, or 0 if it is blank or not a style of this type.*/
+    public long bitOf(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return 0L;
+        }
+        E style = byName.get(normalize(raw));
+        return style == null ? 0L : bit(style);
+    }
+
+    public long bit(E style) {
+        return 1L << style.ordinal();
+    }
+
+    /*** Returns the styles of the mask in declaration order.*/
+    public EnumSet<E> toEnumSet(long bits) {
+        EnumSet<E> set = EnumSet.noneOf(constants[0].getDeclaringClass());
+        for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+            set.add(constants[Long.numberOfTrailingZeros(remaining)]);
+        }
+        return set;
+    }
+
+    // Repeated raw inputs are answered by the shared token cache without allocating
+    private String normalize(String raw) {
+        return StyleTokenCache.shared().normalize(raw, spacesToUnderscores);
+    }
+
+    // Canonical names in declaration order; equal views of one codec compare by mask
+    private static final class View extends AbstractSet<String> {
+        private final StyleBits<?> owner;
+        private final long bits;
+
+        View(StyleBits<?> owner, long bits) {
+            this.owner = owner;
+            this.bits = bits;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof String name)) {
+                return false;
+            }
+            Enum<?> style = owner.byName.get(name);
+            return style != null && (bits & (1L << style.ordinal())) != 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof View other && other.owner == owner) {
+                return other.bits == bits;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+
+        @Override
+        public int size() {
+            return Long.bitCount(bits);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<>() {
+                private long remaining = bits;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining != 0;
+                }
+
+                @Override
+                public String next() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    int ordinal = Long.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    return owner.names[ordinal];
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, concurrent cache from raw style strings (e.g. " channel set") to their normalized token
+ * (e.g. "CHANNEL_SET"), shared by all style value objects through {@link StyleBits}.
+ * - Repeated inputs skip the strip/upper-case/replace chain and its string allocations.
+ * - Bounded: when a table reaches its capacity it is cleared and refilled with the inputs still in use,
+ *   so unbounded junk input cannot grow the heap.
+ * - Hit and miss counters are kept in {@link LongAdder}s and exposed through {@link #stats()}.
+ */
+public final class StyleTokenCache {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final StyleTokenCache SHARED = new StyleTokenCache(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    // One table per normalization mode, since the same raw input maps to different tokens
+    private final ConcurrentHashMap<String, String> plainTokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> underscoredTokens = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public StyleTokenCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /*** The cache used by the style value objects.*/
+    public static StyleTokenCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the normalized token: stripped, upper-cased and, if requested, with spaces replaced by underscores.
+     * @param raw The raw style string; must not be null.
+     * @param spacesToUnderscores Whether the style type stores multi-word styles with underscores.
+     * @return The normalized token, possibly empty for blank input.
+     */
+    public String normalize(String raw, boolean spacesToUnderscores) {
+        Objects.requireNonNull(raw, "raw must not be null");
+        ConcurrentHashMap<String, String> tokens = spacesToUnderscores ? underscoredTokens : plainTokens;
+        String token = tokens.get(raw);
+        if (token != null) {
+            hits.increment();
+            return token;
+        }
+        misses.increment();
+        String normalized = raw.strip().toUpperCase();
+        if (spacesToUnderscores) {
+            normalized = normalized.replace(" ", "_");
+        }
+        if (tokens.size() >= capacity) {
+            tokens.clear();
+        }
+        tokens.put(raw, normalized);
+        return normalized;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return plainTokens.size() + underscoredTokens.size();
+    }
+
+    public Stats stats() {
+        return new Stats(hits(), misses(), size());
+    }
+
+    /*** Resets the counters and drops all cached tokens.*/
+    public void clear() {
+        plainTokens.clear();
+        underscoredTokens.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Snapshot of the cache counters.
+     * @param hits Lookups answered from the cache.
+     * @param misses Lookups that had to normalize the input.
+     * @param size Number of cached raw strings.
+     */
+    public record Stats(long hits, long misses, int size) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
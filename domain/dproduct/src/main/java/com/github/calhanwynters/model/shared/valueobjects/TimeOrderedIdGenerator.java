@@ -0,0 +1,44 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Default {@link IdGenerator}: version 7 UUIDs from per-thread state, with no shared lock or
+ * {@link java.security.SecureRandom}, so generation scales with the number of threads.
+ * - Random bits come from {@link ThreadLocalRandom}; ids are unique, not secret.
+ * - Within a thread, ids are strictly increasing: calls in the same millisecond increment the 12-bit
+ *   counter field (seeded randomly each millisecond), and counter overflow moves on to the next millisecond.
+ */
+public final class TimeOrderedIdGenerator implements IdGenerator {
+
+    public static final TimeOrderedIdGenerator INSTANCE = new TimeOrderedIdGenerator();
+
+    private static final int COUNTER_MASK = 0x0FFF;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private TimeOrderedIdGenerator() {
+    }
+
+    @Override
+    public UUID nextUuid() {
+        State state = STATE.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+        if (now > state.lastMillis) {
+            state.lastMillis = now;
+            // Leave headroom so a burst within one millisecond rarely overflows the counter
+            state.counter = random.nextInt(COUNTER_MASK / 2);
+        } else if (++state.counter > COUNTER_MASK) {
+            state.lastMillis++;
+            state.counter = 0;
+        }
+        return Uuids.timeOrdered(state.lastMillis, state.counter, random.nextLong());
+    }
+
+    private static final class State {
+        long lastMillis = Long.MIN_VALUE;
+        int counter;
+    }
+}
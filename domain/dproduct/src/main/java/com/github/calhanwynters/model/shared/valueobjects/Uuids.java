@@ -0,0 +1,96 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import java.util.UUID;
+
+/**
+ * UUID helpers shared by {@link ProductId} and {@link VariantId}: parsing and formatting the canonical
+ * 36-character form without {@link UUID}'s intermediate objects, and the version 7 bit layout.
+ */
+final class Uuids {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] UPPER_HEX = "0123456789ABCDEF".toCharArray();
+    private static final int CANONICAL_LENGTH = 36;
+
+    private Uuids() {
+    }
+
+    /*** Whether the string is a UUID in the canonical lower-case form produced by {@link UUID#toString()}.*/
+    static boolean isCanonical(String value) {
+        if (value.length() != CANONICAL_LENGTH
+                || value.charAt(8) != '-' || value.charAt(13) != '-' || value.charAt(18) != '-' || value.charAt(23) != '-') {
+            return false;
+        }
+        return isLowerHex(value, 0, 8) && isLowerHex(value, 9, 13) && isLowerHex(value, 14, 18)
+                && isLowerHex(value, 19, 23) && isLowerHex(value, 24, CANONICAL_LENGTH);
+    }
+
+    /*** The high 64 bits of a canonical UUID string (see {@link #isCanonical}).*/
+    static long mostSignificantBits(String canonical) {
+        return (parseHex(canonical, 0, 8) << 32) | (parseHex(canonical, 9, 13) << 16) | parseHex(canonical, 14, 18);
+    }
+
+    /*** The low 64 bits of a canonical UUID string (see {@link #isCanonical}).*/
+    static long leastSignificantBits(String canonical) {
+        return (parseHex(canonical, 19, 23) << 48) | parseHex(canonical, 24, 36);
+    }
+
+    /*** Formats the bits as the canonical 36-character string, identical to {@link UUID#toString()}.*/
+    static String format(long mostSignificantBits, long leastSignificantBits) {
+        char[] chars = new char[CANONICAL_LENGTH];
+        writeHex(chars, 0, mostSignificantBits >>> 32, 8);
+        chars[8] = '-';
+        writeHex(chars, 9, mostSignificantBits >>> 16, 4);
+        chars[13] = '-';
+        writeHex(chars, 14, mostSignificantBits, 4);
+        chars[18] = '-';
+        writeHex(chars, 19, leastSignificantBits >>> 48, 4);
+        chars[23] = '-';
+        writeHex(chars, 24, leastSignificantBits, 12);
+        return new String(chars);
+    }
+
+    /*** Writes the low 32 bits as 8 upper-case hex characters.*/
+    static void writeUpperHex8(long bits, char[] destination, int offset) {
+        for (int i = offset + 7; i >= offset; i--) {
+            destination[i] = UPPER_HEX[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+    }
+
+    /**
+     * Builds a version 7 UUID: 48 bits of Unix epoch milliseconds, the version, 12 bits taken from randomA,
+     * the variant and 62 bits taken from randomB, so ids sort (and index) roughly by creation time.
+     */
+    static UUID timeOrdered(long epochMillis, long randomA, long randomB) {
+        long mostSignificantBits = (epochMillis << 16) | 0x7000L | (randomA & 0x0FFFL);
+        long leastSignificantBits = (randomB & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static boolean isLowerHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if ((char) (c - '0') > 9 && (char) (c - 'a') > 5) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String value, int from, int to) {
+        long result = 0L;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            result = (result << 4) | (c <= '9' ? c - '0' : c - 'a' + 10);
+        }
+        return result;
+    }
+
+    private static void writeHex(char[] chars, int offset, long bits, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Canonicalizing pool for immutable value objects, so equal values built by the factories share one instance.
+ * - Opt-in: interning is off unless the {@value #ENABLED_PROPERTY} system property is {@code true}
+ *   or {@link #setEnabled(boolean)} is called; when off, {@link #intern(Object)} returns its argument.
+ * - Weak: pooled instances are only weakly reachable from the pool and disappear once unused.
+ * - Thread-safe: the pool is split into lock-striped segments.
+ * - Equivalence is pluggable, for records whose equals() is looser than "same components"
+ *   (e.g. {@link GemstoneTypeVO} compares names case-insensitively).
+ */
+public final class ValueInterner<T> {
+
+    public static final String ENABLED_PROPERTY = "com.github.calhanwynters.interning";
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final int SEGMENTS = 16;
+
+    private final ToIntFunction<? super T> hasher;
+    private final BiPredicate<? super T, ? super T> equivalence;
+    private final Segment<T>[] segments;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ValueInterner(ToIntFunction<? super T> hasher, BiPredicate<? super T, ? super T> equivalence) {
+        this.hasher = hasher;
+        this.equivalence = equivalence;
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    /*** Creates a pool that canonicalizes by {@code equals}/{@code hashCode}.*/
+    public static <T> ValueInterner<T> create() {
+        return new ValueInterner<>(Object::hashCode, Object::equals);
+    }
+
+    /**
+     * Creates a pool with a custom equivalence.
+     * @param hasher Hash consistent with the equivalence.
+     * @param equivalence Decides whether two values may share one instance.
+     */
+    public static <T> ValueInterner<T> create(ToIntFunction<? super T> hasher, BiPredicate<? super T, ? super T> equivalence) {
+        Objects.requireNonNull(hasher, "hasher must not be null");
+        Objects.requireNonNull(equivalence, "equivalence must not be null");
+        return new ValueInterner<>(hasher, equivalence);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /*** Turns interning on or off for all pools; already pooled instances stay valid either way.*/
+    public static void setEnabled(boolean enabled) {
+        ValueInterner.enabled = enabled;
+    }
+
+    /**
+     * Returns the pooled instance equivalent to the value, pooling the value itself if there is none.
+     * @param value The freshly built value; must not be null.
+     * @return The canonical instance, or the value unchanged while interning is disabled.
+     */
+    public T intern(T value) {
+        Objects.requireNonNull(value, "value must not be null");
+        if (!enabled) {
+            return value;
+        }
+        int hash = spread(hasher.applyAsInt(value));
+        return segments[hash & (SEGMENTS - 1)].intern(value, hash, equivalence);
+    }
+
+    /*** Number of pooled instances that have not been collected yet.*/
+    public int size() {
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    // Low bits pick the segment, so fold the high bits in
+    private static int spread(int h) {
+        h ^= (h >>> 16);
+        return h * 0x9e3779b9;
+    }
+
+    private static final class Entry<T> extends WeakReference<T> {
+        final int hash;
+        Entry<T> next;
+
+        Entry(T value, int hash, Entry<T> next, ReferenceQueue<? super T> queue) {
+            super(value, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    /*** Hash table of weak entries, guarded by its own monitor.*/
+    private static final class Segment<T> {
+        private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+        private Entry<T>[] table = newTable(16);
+        private int count;
+
+        synchronized T intern(T value, int hash, BiPredicate<? super T, ? super T> equivalence) {
+            expungeCollected();
+            int index = (hash >>> 4) & (table.length - 1);
+            for (Entry<T> e = table[index]; e != null; e = e.next) {
+                T pooled;
+                if (e.hash == hash && (pooled = e.get()) != null && equivalence.test(pooled, value)) {
+                    return pooled;
+                }
+            }
+            table[index] = new Entry<>(value, hash, table[index], queue);
+            if (++count > table.length * 3 / 4) {
+                resize();
+            }
+            return value;
+        }
+
+        synchronized int size() {
+            expungeCollected();
+            return count;
+        }
+
+        private void expungeCollected() {
+            Object collected;
+            while ((collected = queue.poll()) != null) {
+                @SuppressWarnings("unchecked")
+                Entry<T> entry = (Entry<T>) collected;
+                int index = (entry.hash >>> 4) & (table.length - 1);
+                Entry<T> previous = null;
+                for (Entry<T> e = table[index]; e != null; previous = e, e = e.next) {
+                    if (e == entry) {
+                        if (previous == null) {
+                            table[index] = e.next;
+                        } else {
+                            previous.next = e.next;
+                        }
+                        count--;
+                        break;
+                    }
+                }
+            }
+        }
+
+        private void resize() {
+            Entry<T>[] grown = newTable(table.length * 2);
+            for (Entry<T> head : table) {
+                Entry<T> e = head;
+                while (e != null) {
+                    Entry<T> next = e.next;
+                    int index = (e.hash >>> 4) & (grown.length - 1);
+                    e.next = grown[index];
+                    grown[index] = e;
+                    e = next;
+                }
+            }
+            table = grown;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> Entry<T>[] newTable(int capacity) {
+            return new Entry[capacity];
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Single source of the weight conversion factors behind {@link WeightUnitVO} and {@link WeightVO.WeightUnit}.
+ * - Every unit pair has its exact ratio as a reduced fraction, precomputed into an NxN matrix.
+ * - A conversion is one exact multiply and one rounding division, so chaining through grams
+ *   never rounds twice.
+ * - Numerator times denominator fits in a long for every pair, so bulk conversions can stay in long arithmetic.
+ */
+final class WeightConversionTable {
+
+    // Unit indexes into the matrices
+    static final int GRAM = 0;
+    static final int OUNCE = 1;
+    static final int TROY_OUNCE = 2;
+    static final int CARAT = 3;
+
+    private static final BigDecimal[] GRAMS_PER_UNIT = {
+            BigDecimal.ONE,
+            new BigDecimal("28.349523125"), // Avoirdupois ounce
+            new BigDecimal("31.1034768"),   // Troy ounce, standard for precious metals
+            new BigDecimal("0.2")           // Metric carat
+    };
+
+    private static final int UNIT_COUNT = GRAMS_PER_UNIT.length;
+
+    // Exact ratio (grams per 'from') / (grams per 'to'), indexed [from][to]
+    private static final long[][] NUMERATORS = new long[UNIT_COUNT][UNIT_COUNT];
+    private static final long[][] DENOMINATORS = new long[UNIT_COUNT][UNIT_COUNT];
+    private static final BigDecimal[][] DECIMAL_NUMERATORS = new BigDecimal[UNIT_COUNT][UNIT_COUNT];
+    private static final BigDecimal[][] DECIMAL_DENOMINATORS = new BigDecimal[UNIT_COUNT][UNIT_COUNT];
+
+    static {
+        for (int from = 0; from < UNIT_COUNT; from++) {
+            for (int to = 0; to < UNIT_COUNT; to++) {
+                BigDecimal gramsPerFrom = GRAMS_PER_UNIT[from];
+                BigDecimal gramsPerTo = GRAMS_PER_UNIT[to];
+                BigInteger numerator = gramsPerFrom.unscaledValue().multiply(BigInteger.TEN.pow(gramsPerTo.scale()));
+                BigInteger denominator = gramsPerTo.unscaledValue().multiply(BigInteger.TEN.pow(gramsPerFrom.scale()));
+                BigInteger gcd = numerator.gcd(denominator);
+                numerator = numerator.divide(gcd);
+                denominator = denominator.divide(gcd);
+                if (numerator.multiply(denominator).bitLength() >= Long.SIZE - 1) {
+                    throw new IllegalStateException("Conversion ratio " + from + " -> " + to + " is too wide");
+                }
+                NUMERATORS[from][to] = numerator.longValueExact();
+                DENOMINATORS[from][to] = denominator.longValueExact();
+                DECIMAL_NUMERATORS[from][to] = new BigDecimal(numerator);
+                DECIMAL_DENOMINATORS[from][to] = new BigDecimal(denominator);
+            }
+        }
+    }
+
+    private WeightConversionTable() {
+    }
+
+    static BigDecimal gramsPerUnit(int unit) {
+        return GRAMS_PER_UNIT[unit];
+    }
+
+    /**
+     * Converts a value between units with a single rounding.
+     * @param value A validated, non-negative value in the 'from' unit.
+     * @return value * ratio, rounded to the given scale with trailing zeros stripped.
+     */
+    static BigDecimal convert(BigDecimal value, int from, int to, int scale, RoundingMode roundingMode) {
+        BigDecimal denominator = DECIMAL_DENOMINATORS[from][to];
+        BigDecimal scaled = value.multiply(DECIMAL_NUMERATORS[from][to]);
+        BigDecimal result = denominator.equals(BigDecimal.ONE)
+                ? scaled.setScale(scale, roundingMode)
+                : scaled.divide(denominator, scale, roundingMode);
+        return result.stripTrailingZeros();
+    }
+
+    static long numerator(int from, int to) {
+        return NUMERATORS[from][to];
+    }
+
+    static long denominator(int from, int to) {
+        return DENOMINATORS[from][to];
+    }
+
+    /*** The shared null and sign check, with the "X must not be null/negative" messages both unit types use.*/
+    static BigDecimal requireNonNegative(BigDecimal value, String name) {
+        Objects.requireNonNull(value, name + " must not be null");
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+/**
+ * The validation and multiply-only loops of {@link WeightUnitVO#convertAll}, run on {@link WeightVectorKernel}
+ * when the Vector API is available. Callers rule out overflow before multiplying, since the loops do not check it.
+ */
+interface WeightKernel {
+
+    /*** The largest value, or a negative number if any value is negative.*/
+    long checkedMax(long[] source);
+
+    /*** Whether every value is finite and not negative.*/
+    boolean allFiniteAndNonNegative(double[] source);
+
+    /*** destination[i] = source[i] * numerator.*/
+    void multiply(long[] source, long numerator, long[] destination);
+
+    /*** destination[i] = source[i] * factor.*/
+    void multiply(double[] source, double factor, double[] destination);
+}
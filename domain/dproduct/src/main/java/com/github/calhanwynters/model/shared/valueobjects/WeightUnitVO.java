@@ -11,94 +11,26 @@ import java.util.Objects;
  */
 public enum WeightUnitVO {
     /** Represents the base unit of a Gram. */
-    GRAM {
-        @Override
-        public BigDecimal toGrams(BigDecimal v) {
-            Objects.requireNonNull(v, "Value must not be null");
-            if (v.signum() < 0) {
-                throw new IllegalArgumentException("Value must not be negative");
-            }
-            return v;
-        }
-
-        @Override
-        public BigDecimal fromGrams(BigDecimal g) {
-            Objects.requireNonNull(g, "Grams must not be null");
-            if (g.signum() < 0) {
-                throw new IllegalArgumentException("Grams must not be negative");
-            }
-            return g;
-        }
-    },
+    GRAM(WeightConversionTable.GRAM),
     /** Represents the unit of an Avoirdupois Ounce (general purpose ounce). */
-    OUNCE {
-        @Override
-        public BigDecimal toGrams(BigDecimal v) {
-            Objects.requireNonNull(v, "Value must not be null");
-            if (v.signum() < 0) {
-                throw new IllegalArgumentException("Value must not be negative");
-            }
-            return v.multiply(GRAMS_PER_OUNCE, MC);
-        }
-
-        @Override
-        public BigDecimal fromGrams(BigDecimal g) {
-            Objects.requireNonNull(g, "Grams must not be null");
-            if (g.signum() < 0) {
-                throw new IllegalArgumentException("Grams must not be negative");
-            }
-            return g.divide(GRAMS_PER_OUNCE, SCALE, RoundingMode.HALF_UP).stripTrailingZeros();
-        }
-    },
+    OUNCE(WeightConversionTable.OUNCE),
     /** Represents the unit of a Carat (used for gemstones). */
-    CARAT {
-        @Override
-        public BigDecimal toGrams(BigDecimal v) {
-            Objects.requireNonNull(v, "Value must not be null");
-            if (v.signum() < 0) {
-                throw new IllegalArgumentException("Value must not be negative");
-            }
-            return v.multiply(GRAMS_PER_CARAT, MC);
-        }
-
-        @Override
-        public BigDecimal fromGrams(BigDecimal g) {
-            Objects.requireNonNull(g, "Grams must not be null");
-            if (g.signum() < 0) {
-                throw new IllegalArgumentException("Grams must not be negative");
-            }
-            return g.divide(GRAMS_PER_CARAT, SCALE, RoundingMode.HALF_UP).stripTrailingZeros();
-        }
-    },
+    CARAT(WeightConversionTable.CARAT),
     /** Represents the unit of a Troy Ounce (used for precious metals). */
-    TROY_OUNCE {
-        @Override
-        public BigDecimal toGrams(BigDecimal v) {
-            Objects.requireNonNull(v, "Value must not be null");
-            if (v.signum() < 0) {
-                throw new IllegalArgumentException("Value must not be negative");
-            }
-            return v.multiply(GRAMS_PER_TROY_OUNCE, MC);
-        }
-
-        @Override
-        public BigDecimal fromGrams(BigDecimal g) {
-            Objects.requireNonNull(g, "Grams must not be null");
-            if (g.signum() < 0) {
-                throw new IllegalArgumentException("Grams must not be negative");
-            }
-            return g.divide(GRAMS_PER_TROY_OUNCE, SCALE, RoundingMode.HALF_UP).stripTrailingZeros();
-        }
-    };
-
-    // Constants for conversion factors
-    private static final BigDecimal GRAMS_PER_OUNCE = new BigDecimal("28.349523125");
-    private static final BigDecimal GRAMS_PER_CARAT = new BigDecimal("0.2");
-    private static final BigDecimal GRAMS_PER_TROY_OUNCE = new BigDecimal("31.1034768"); // Standard for precious metals
+    TROY_OUNCE(WeightConversionTable.TROY_OUNCE);
 
     // Scale and MathContext for precision
-    private static final int SCALE = 8; // Preserves sub-milligram precision (0.00000001 g)
+    public static final int SCALE = 8; // Preserves sub-milligram precision (0.00000001 g)
     private static final MathContext MC = new MathContext(16, RoundingMode.HALF_UP);
+    // Null unless WeightVectorKernel was compiled in (-Pvector-api) and the incubator module is in the boot layer
+    private static final WeightKernel VECTOR_KERNEL = loadVectorKernel();
+
+    // Index of this unit in the shared conversion table
+    private final int tableIndex;
+
+    WeightUnitVO(int tableIndex) {
+        this.tableIndex = tableIndex;
+    }
 
     /**
      * Converts a value in this unit to grams.
@@ -107,7 +39,13 @@ public enum WeightUnitVO {
      * @return The value in grams.
      * @throws IllegalArgumentException if the value is null or negative.
      */
-    public abstract BigDecimal toGrams(BigDecimal value);
+    public BigDecimal toGrams(BigDecimal value) {
+        WeightConversionTable.requireNonNegative(value, "Value");
+        if (this == GRAM) {
+            return value;
+        }
+        return value.multiply(WeightConversionTable.gramsPerUnit(tableIndex), MC);
+    }
 
     /**
      * Converts a value in grams to this unit.
@@ -116,10 +54,18 @@ public enum WeightUnitVO {
      * @return The value in the current unit, rounded to the defined SCALE.
      * @throws IllegalArgumentException if the grams value is null or negative.
      */
-    public abstract BigDecimal fromGrams(BigDecimal grams);
+    public BigDecimal fromGrams(BigDecimal grams) {
+        WeightConversionTable.requireNonNegative(grams, "Grams");
+        if (this == GRAM) {
+            return grams;
+        }
+        return WeightConversionTable.convert(grams, WeightConversionTable.GRAM, tableIndex, SCALE, RoundingMode.HALF_UP);
+    }
 
     /**
      * Converts a given value from the current unit to a specified target unit.
+     * Non-gram targets are computed with the exact unit ratio and rounded once to SCALE,
+     * rather than through a rounded intermediate gram value.
      *
      * @param value The value in the current unit (this).
      * @param targetUnit The desired unit for the result.
@@ -127,15 +73,140 @@ public enum WeightUnitVO {
      * @throws IllegalArgumentException if the value is null or negative.
      */
     public BigDecimal convertValueTo(BigDecimal value, WeightUnitVO targetUnit) {
-        Objects.requireNonNull(value, "Value must not be null");
-        if (value.signum() < 0) {
-            throw new IllegalArgumentException("Value must not be negative");
+        WeightConversionTable.requireNonNegative(value, "Value");
+        if (targetUnit == GRAM) {
+            return this.toGrams(value);
         }
+        return WeightConversionTable.convert(value, this.tableIndex, targetUnit.tableIndex, SCALE, RoundingMode.HALF_UP);
+    }
 
-        // Convert to intermediate grams using high precision internally
-        BigDecimal grams = this.toGrams(value);
+    /**
+     * Bulk-converts fixed-point weights from this unit to the target unit.
+     * Values are scaled longs with {@link #SCALE} decimals (e.g. 150000000 is 1.5). Each result is the exact
+     * conversion rounded HALF_UP to {@link #SCALE} decimals, the same number {@link #convertValueTo} returns
+     * for a non-gram target.
+     * Integral ratios (e.g. grams to carats) run on the Vector API when it is available (see {@link WeightVectorKernel});
+     * results are identical either way.
+     *
+     * @param source The fixed-point values in this unit; must not contain negative values.
+     * @param targetUnit The desired unit for the results.
+     * @param destination Receives the converted values; may be the source array itself.
+     * @throws IllegalArgumentException if a value is negative or the arrays differ in length.
+     * @throws ArithmeticException if a converted value does not fit in a long.
+     */
+    public void convertAll(long[] source, WeightUnitVO targetUnit, long[] destination) {
+        checkBulkArguments(source, targetUnit, destination, source == null ? 0 : source.length,
+                destination == null ? 0 : destination.length);
+        long max = VECTOR_KERNEL == null ? -1 : VECTOR_KERNEL.checkedMax(source);
+        if (max < 0) {
+            // Without the kernel, or to report the first negative value
+            max = 0;
+            for (int i = 0; i < source.length; i++) {
+                if (source[i] < 0) {
+                    throw new IllegalArgumentException("Value must not be negative at index " + i);
+                }
+                max = Math.max(max, source[i]);
+            }
+        }
+
+        long numerator = WeightConversionTable.numerator(tableIndex, targetUnit.tableIndex);
+        long denominator = WeightConversionTable.denominator(tableIndex, targetUnit.tableIndex);
+        if (denominator == 1) {
+            if (numerator == 1) {
+                System.arraycopy(source, 0, destination, 0, source.length);
+                return;
+            }
+            // Integral ratio (e.g. grams to carats): a plain multiply
+            if (VECTOR_KERNEL != null && max <= Long.MAX_VALUE / numerator) {
+                VECTOR_KERNEL.multiply(source, numerator, destination);
+                return;
+            }
+            for (int i = 0; i < source.length; i++) {
+                destination[i] = Math.multiplyExact(source[i], numerator);
+            }
+            return;
+        }
+        // value * n / d = q * n + (r * n) / d, with r * n < d * n guaranteed to fit in a long
+        long half = denominator / 2;
+        for (int i = 0; i < source.length; i++) {
+            long value = source[i];
+            long quotient = value / denominator;
+            long remainder = value - quotient * denominator;
+            // Adding half the denominator rounds HALF_UP for non-negative values
+            long fraction = (remainder * numerator + half) / denominator;
+            destination[i] = Math.addExact(Math.multiplyExact(quotient, numerator), fraction);
+        }
+    }
+
+    /**
+     * Converts fixed-point weights from this unit to the target unit into a new array.
+     *
+     * @see #convertAll(long[], WeightUnitVO, long[])
+     */
+    public long[] convertAll(long[] source, WeightUnitVO targetUnit) {
+        Objects.requireNonNull(source, "Source must not be null");
+        long[] destination = new long[source.length];
+        convertAll(source, targetUnit, destination);
+        return destination;
+    }
 
-        // Convert from grams to the target unit, applying final rounding/scaling
-        return targetUnit.fromGrams(grams);
+    /**
+     * Bulk-converts floating-point weights from this unit to the target unit with one multiply per value.
+     * The ratio is the exact rational one rounded to a double, so the absolute error stays below
+     * 10^-8 (the {@link #SCALE} precision) for results under 10^7 in the target unit.
+     *
+     * @param source The values in this unit; must be finite and not negative.
+     * @param targetUnit The desired unit for the results.
+     * @param destination Receives the converted values; may be the source array itself.
+     * @throws IllegalArgumentException if a value is negative or not finite, or the arrays differ in length.
+     */
+    public void convertAll(double[] source, WeightUnitVO targetUnit, double[] destination) {
+        checkBulkArguments(source, targetUnit, destination, source == null ? 0 : source.length,
+                destination == null ? 0 : destination.length);
+        if (VECTOR_KERNEL == null || !VECTOR_KERNEL.allFiniteAndNonNegative(source)) {
+            for (int i = 0; i < source.length; i++) {
+                if (!(source[i] >= 0) || source[i] == Double.POSITIVE_INFINITY) {
+                    throw new IllegalArgumentException("Value must be finite and not negative at index " + i);
+                }
+            }
+        }
+
+        double factor = (double) WeightConversionTable.numerator(tableIndex, targetUnit.tableIndex)
+                / WeightConversionTable.denominator(tableIndex, targetUnit.tableIndex);
+        if (VECTOR_KERNEL != null) {
+            VECTOR_KERNEL.multiply(source, factor, destination);
+            return;
+        }
+        for (int i = 0; i < source.length; i++) {
+            destination[i] = source[i] * factor;
+        }
+    }
+
+    // The Vector API kernel convertAll uses in this JVM, or null
+    static WeightKernel vectorKernel() {
+        return VECTOR_KERNEL;
+    }
+
+    private static WeightKernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (WeightKernel) Class.forName(WeightUnitVO.class.getPackageName() + ".WeightVectorKernel")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Built without the vector-api profile
+            return null;
+        }
+    }
+
+    private static void checkBulkArguments(Object source, WeightUnitVO targetUnit, Object destination,
+                                           int sourceLength, int destinationLength) {
+        Objects.requireNonNull(source, "Source must not be null");
+        Objects.requireNonNull(targetUnit, "Target unit must not be null");
+        Objects.requireNonNull(destination, "Destination must not be null");
+        if (sourceLength != destinationLength) {
+            throw new IllegalArgumentException("Source and destination must have the same length");
+        }
     }
 }
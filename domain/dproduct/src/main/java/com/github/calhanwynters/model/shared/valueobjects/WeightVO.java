@@ -7,14 +7,23 @@ import java.util.Objects;
 /**
  * Domain value object representing a product weight.
  * This record ensures immutability, validation, and standard weight operations.
+ * Comparisons and sums work on the rounded gram value as a scaled long (see {@link #gramUnits()}), derived once
+ * in the constructor from the exact conversion ratio with long arithmetic instead of BigDecimal multiply, scale
+ * and strip.
  */
 public record WeightVO(
         BigDecimal amount,
-        WeightUnit unit
+        WeightUnit unit,
+        long gramUnits // Derived from amount and unit by the constructor; the argument is not used
 ) implements Comparable<WeightVO> {
 
     // Centralized constant for maximum allowed weight in grams (e.g., 100 kg)
     private static final BigDecimal MAX_GRAMS = new BigDecimal("100000.0");
+    // MAX_GRAMS in units of 10^-SCALE grams
+    private static final long MAX_GRAM_UNITS = MAX_GRAMS.movePointRight(WeightUnit.SCALE).longValueExact();
+    // stripTrailingZeros leaves scales from SCALE down to -5 (e.g. 1E+5 g), so at most 10^9 is needed
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+            10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L};
     private static final String AMOUNT_CANNOT_BE_NULL = "Amount must not be null";
     private static final String UNIT_CANNOT_BE_NULL = "Unit must not be null";
     private static final String AMOUNT_CANNOT_BE_NEGATIVE = "Amount must not be negative";
@@ -30,10 +39,21 @@ public record WeightVO(
         // Normalize the input amount using the unit's defined scale and rounding
         amount = amount.setScale(WeightUnit.SCALE, WeightUnit.ROUNDING_MODE).stripTrailingZeros();
 
-        // Validate total weight against maximum allowed
-        if (unit.toGrams(amount).compareTo(MAX_GRAMS) > 0) {
+        // Validate total weight against maximum allowed (on the exact, unrounded gram value)
+        BigDecimal grams = unit == WeightUnit.GRAM ? amount : unit.toGrams(amount);
+        if (grams.compareTo(MAX_GRAMS) > 0) {
             throw new IllegalArgumentException(EXCEEDED_MAX_WEIGHT);
         }
+        gramUnits = toGramUnits(amount, unit);
+    }
+
+    public WeightVO(BigDecimal amount, WeightUnit unit) {
+        this(amount, unit, 0L);
+    }
+
+    // Gram-denominated result of add/subtract
+    private static WeightVO ofGramUnits(long gramUnits) {
+        return new WeightVO(BigDecimal.valueOf(gramUnits, WeightUnit.SCALE), WeightUnit.GRAM);
     }
 
     // Factory methods
@@ -55,9 +75,26 @@ public record WeightVO(
 
     // Convert to grams
     public BigDecimal inGrams() {
-        return unit.toGrams(amount)
-                .setScale(WeightUnit.SCALE, WeightUnit.ROUNDING_MODE)
-                .stripTrailingZeros();
+        return BigDecimal.valueOf(gramUnits, WeightUnit.SCALE).stripTrailingZeros();
+    }
+
+    /**
+     * The weight in grams rounded to {@link WeightUnit#SCALE} decimals, as an unscaled long (units of 10^-4 g).
+     * Equal to {@code inGrams().movePointRight(WeightUnit.SCALE)}, computed without BigDecimal arithmetic:
+     * the normalized amount has at most SCALE decimals and is bounded by the maximum weight, so amount times
+     * the exact grams-per-unit ratio fits in a long and is rounded half-up once.
+     */
+    private static long toGramUnits(BigDecimal amount, WeightUnit unit) {
+        long amountUnits = Math.multiplyExact(amount.unscaledValue().longValueExact(),
+                POWERS_OF_TEN[WeightUnit.SCALE - amount.scale()]);
+        if (unit == WeightUnit.GRAM) {
+            return amountUnits;
+        }
+        long numerator = WeightConversionTable.numerator(unit.tableIndex, WeightConversionTable.GRAM);
+        long denominator = WeightConversionTable.denominator(unit.tableIndex, WeightConversionTable.GRAM);
+        long product = Math.multiplyExact(amountUnits, numerator);
+        long quotient = product / denominator;
+        return product % denominator * 2 >= denominator ? quotient + 1 : quotient;
     }
 
     /**
@@ -68,54 +105,62 @@ public record WeightVO(
      */
     public WeightVO toUnit(WeightUnit targetUnit) {
         if (this.unit.equals(targetUnit)) return this;
-        BigDecimal resultInTargetUnit = targetUnit.fromGrams(this.inGrams());
+        // Direct ratio from the amount, so the rounded gram value does not add a second rounding
+        BigDecimal resultInTargetUnit = this.unit.convertTo(this.amount, targetUnit);
         return new WeightVO(resultInTargetUnit, targetUnit);
     }
 
     // Domain operations
     public WeightVO add(WeightVO other) {
         Objects.requireNonNull(other, "Other WeightVO must not be null");
-        BigDecimal totalGrams = this.inGrams().add(other.inGrams());
+        long totalGramUnits = this.gramUnits + other.gramUnits;
 
-        if (totalGrams.compareTo(MAX_GRAMS) > 0) {
+        if (totalGramUnits > MAX_GRAM_UNITS) {
             throw new IllegalArgumentException(EXCEEDED_MAX_WEIGHT);
         }
 
-        return WeightVO.ofGrams(totalGrams);
+        return ofGramUnits(totalGramUnits);
     }
 
     public WeightVO subtract(WeightVO other) {
         Objects.requireNonNull(other, "Other WeightVO must not be null");
-        BigDecimal resultGrams = this.inGrams().subtract(other.inGrams());
+        long resultGramUnits = this.gramUnits - other.gramUnits;
 
-        if (resultGrams.signum() < 0) {
+        if (resultGramUnits < 0) {
             throw new IllegalArgumentException("Resulting weight must not be negative");
         }
 
-        return WeightVO.ofGrams(resultGrams);
+        return ofGramUnits(resultGramUnits);
     }
 
     @Override
     public int compareTo(WeightVO other) {
-        return this.inGrams().compareTo(other.inGrams());
+        return Long.compare(this.gramUnits, other.gramUnits);
+    }
+
+    // gramUnits is derived, so it is left out like a cached field would be
+    @Override
+    public String toString() {
+        return "WeightVO[amount=" + amount + ", unit=" + unit + "]";
     }
 
     /**
      * Enum for supported weight units using BigDecimal for precision.
      */
     public enum WeightUnit {
-        GRAM(BigDecimal.ONE),
-        OUNCE(new BigDecimal("28.349523125")),
-        TROY_OUNCE(new BigDecimal("31.1034768")),
-        CARAT(new BigDecimal("0.2"));
+        GRAM(WeightConversionTable.GRAM),
+        OUNCE(WeightConversionTable.OUNCE),
+        TROY_OUNCE(WeightConversionTable.TROY_OUNCE),
+        CARAT(WeightConversionTable.CARAT);
 
         public static final int SCALE = 4;
         public static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
 
-        private final BigDecimal gramsPerUnit;
+        // Index of this unit in the shared conversion table
+        private final int tableIndex;
 
-        WeightUnit(BigDecimal gramsPerUnit) {
-            this.gramsPerUnit = gramsPerUnit;
+        WeightUnit(int tableIndex) {
+            this.tableIndex = tableIndex;
         }
 
         /**
@@ -125,11 +170,8 @@ public record WeightVO(
          * @return The value in grams.
          */
         public BigDecimal toGrams(BigDecimal value) {
-            Objects.requireNonNull(value, "Value must not be null");
-            if (value.signum() < 0) {
-                throw new IllegalArgumentException("Value must not be negative");
-            }
-            return value.multiply(gramsPerUnit);
+            WeightConversionTable.requireNonNegative(value, "Value");
+            return value.multiply(WeightConversionTable.gramsPerUnit(tableIndex));
         }
 
         /**
@@ -139,12 +181,21 @@ public record WeightVO(
          * @return The value in the current unit, rounded to the defined SCALE.
          */
         public BigDecimal fromGrams(BigDecimal grams) {
-            Objects.requireNonNull(grams, "Grams must not be null");
-            if (grams.signum() < 0) {
-                throw new IllegalArgumentException("Grams must not be negative");
-            }
-            return grams.divide(gramsPerUnit, SCALE, ROUNDING_MODE).stripTrailingZeros();
+            WeightConversionTable.requireNonNegative(grams, "Grams");
+            return WeightConversionTable.convert(grams, WeightConversionTable.GRAM, tableIndex, SCALE, ROUNDING_MODE);
+        }
+
+        /**
+         * Converts a value in this unit directly to the target unit, rounded once to the defined SCALE.
+         *
+         * @param value The value in the current unit.
+         * @param targetUnit The desired unit for the result.
+         * @return The value in the target unit.
+         */
+        public BigDecimal convertTo(BigDecimal value, WeightUnit targetUnit) {
+            WeightConversionTable.requireNonNegative(value, "Value");
+            Objects.requireNonNull(targetUnit, "Target unit must not be null");
+            return WeightConversionTable.convert(value, tableIndex, targetUnit.tableIndex, SCALE, ROUNDING_MODE);
         }
     }
 }
-
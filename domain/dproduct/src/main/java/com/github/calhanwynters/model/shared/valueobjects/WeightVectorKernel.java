@@ -0,0 +1,81 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@code jdk.incubator.vector} loops behind {@link WeightUnitVO#convertAll}.
+ * Only compiled with the {@code vector-api} Maven profile and only loaded when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}; otherwise WeightUnitVO keeps to its scalar loops.
+ * The fixed-point divide stays scalar: lanewise long division has no SIMD instruction and runs slower than the
+ * scalar loop.
+ */
+final class WeightVectorKernel implements WeightKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public long checkedMax(long[] source) {
+        LongVector max = LongVector.zero(LONGS);
+        // Any negative value leaves the sign bit set in this OR of all values
+        LongVector signs = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = LONGS.loopBound(source.length); i < bound; i += LONGS.length()) {
+            LongVector value = LongVector.fromArray(LONGS, source, i);
+            max = max.max(value);
+            signs = signs.or(value);
+        }
+        long scalarMax = max.reduceLanes(VectorOperators.MAX);
+        long scalarSigns = signs.reduceLanes(VectorOperators.OR);
+        for (; i < source.length; i++) {
+            scalarMax = Math.max(scalarMax, source[i]);
+            scalarSigns |= source[i];
+        }
+        return scalarSigns < 0 ? -1 : scalarMax;
+    }
+
+    @Override
+    public boolean allFiniteAndNonNegative(double[] source) {
+        // MIN and MAX propagate NaN like Math.min/max, so a NaN fails the min check
+        DoubleVector min = DoubleVector.broadcast(DOUBLES, 0.0);
+        DoubleVector max = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(source.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector value = DoubleVector.fromArray(DOUBLES, source, i);
+            min = min.min(value);
+            max = max.max(value);
+        }
+        double scalarMin = min.reduceLanes(VectorOperators.MIN);
+        double scalarMax = max.reduceLanes(VectorOperators.MAX);
+        for (; i < source.length; i++) {
+            scalarMin = Math.min(scalarMin, source[i]);
+            scalarMax = Math.max(scalarMax, source[i]);
+        }
+        return scalarMin >= 0 && scalarMax != Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public void multiply(long[] source, long numerator, long[] destination) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(source.length); i < bound; i += LONGS.length()) {
+            LongVector.fromArray(LONGS, source, i).mul(numerator).intoArray(destination, i);
+        }
+        for (; i < source.length; i++) {
+            destination[i] = source[i] * numerator;
+        }
+    }
+
+    @Override
+    public void multiply(double[] source, double factor, double[] destination) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(source.length); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, source, i).mul(factor).intoArray(destination, i);
+        }
+        for (; i < source.length; i++) {
+            destination[i] = source[i] * factor;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.calhanwynters.model.ringattributes;
+
+import com.github.calhanwynters.model.ringattributes.RingSize.Region;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingSizeIndexTest {
+
+    // Reference: linear scan in declaration order, first minimum wins
+    private static RingSize linearNearest(Region region, BigDecimal diameterMm) {
+        return Arrays.stream(RingSize.values())
+                .filter(size -> size.getRegionType() == region)
+                .min(Comparator.comparing(size -> size.getIsoDiameterMm().subtract(diameterMm).abs()))
+                .orElseThrow();
+    }
+
+    @Test
+    void nearestAgreesWithConvertToForEveryChartSize() {
+        for (RingSize size : RingSize.values()) {
+            for (Region region : Region.values()) {
+                assertSame(size.convertTo(region), RingSizeIndex.nearest(region, size.getIsoDiameterMm().doubleValue()),
+                        size + " -> " + region);
+            }
+        }
+    }
+
+    @Test
+    void nearestAgreesWithLinearScanAcrossMeasurementRange() {
+        // 8.00 mm to 26.00 mm in 0.01 mm steps, including values outside every chart
+        for (int hundredths = 800; hundredths <= 2600; hundredths++) {
+            BigDecimal diameter = BigDecimal.valueOf(hundredths, 2);
+            for (Region region : Region.values()) {
+                RingSize expected = linearNearest(region, diameter);
+                assertSame(expected, RingSizeIndex.nearestHundredths(region, hundredths), diameter + " in " + region);
+                assertSame(expected, RingSizeIndex.nearest(region, diameter.doubleValue()), diameter + " in " + region);
+            }
+        }
+    }
+
+    @Test
+    void equidistantMeasurementPicksTheSmallerSize() {
+        // UK/AUS O is 17.6 mm and O 1/2 is 17.8 mm
+        assertSame(RingSize.UK_AUS_SIZE_O, RingSizeIndex.nearest(Region.UK_AUS, 17.7));
+    }
+
+    @Test
+    void nearestInAllRegionsFillsOneSizePerRegion() {
+        RingSize[] result = new RingSize[Region.values().length];
+
+        assertSame(result, RingSizeIndex.nearestInAllRegions(17.3, result));
+        for (Region region : Region.values()) {
+            assertSame(linearNearest(region, new BigDecimal("17.3")), result[region.ordinal()]);
+            assertEquals(region, result[region.ordinal()].getRegionType());
+        }
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> RingSizeIndex.nearest(Region.NA, 0));
+        assertThrows(IllegalArgumentException.class, () -> RingSizeIndex.nearest(Region.NA, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> RingSizeIndex.nearest(Region.NA, Double.POSITIVE_INFINITY));
+        assertThrows(NullPointerException.class, () -> RingSizeIndex.nearest(null, 17.3));
+        assertThrows(IllegalArgumentException.class, () -> RingSizeIndex.nearestInAllRegions(17.3, new RingSize[2]));
+    }
+}
@@ -3,6 +3,8 @@ package com.github.calhanwynters.model.ringattributes;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -119,4 +121,57 @@ public class RingSizeTest {
         String expectedToStringEUR = "52 (Diameter: 16.55 mm, Region: EUR)";
         assertEquals(expectedToStringEUR, RingSize.EUR_SIZE_52.toString());
     }
+
+    @Test
+    public void testConversionMatrix_MatchesStreamScan() {
+        // Reference: the original per-call stream over the target region's sizes
+        for (RingSize size : RingSize.values()) {
+            for (RingSize.Region region : RingSize.Region.values()) {
+                RingSize expected = Arrays.stream(RingSize.values())
+                        .filter(rs -> rs.getRegion().equalsIgnoreCase(region.getCode()))
+                        .min(Comparator.comparing(rs -> rs.getIsoDiameterMm().subtract(size.getIsoDiameterMm()).abs()))
+                        .orElseThrow();
+                assertSame(expected, size.convertTo(region), size + " -> " + region);
+                assertEquals(Optional.of(expected), size.toRegion(region.getCode().toLowerCase()));
+            }
+        }
+    }
+
+    @Test
+    public void testConvertTo_SameRegionIsIdentity() {
+        for (RingSize size : RingSize.values()) {
+            assertSame(size, size.convertTo(size.getRegionType()));
+        }
+    }
+
+    @Test
+    public void testRegion_FromCode() {
+        assertEquals(Optional.of(RingSize.Region.UK_AUS), RingSize.Region.fromCode("uk/aus"));
+        assertEquals(Optional.of(RingSize.Region.NA), RingSize.Region.fromCode("NA"));
+        assertEquals(Optional.empty(), RingSize.Region.fromCode("US"));
+        assertEquals(Optional.empty(), RingSize.Region.fromCode(null));
+        assertEquals(RingSize.Region.UK_AUS, RingSize.UK_AUS_SIZE_P.getRegionType());
+        assertThrows(NullPointerException.class, () -> RingSize.NA_SIZE_7.convertTo(null));
+    }
+
+    @Test
+    public void testFindByDisplayString_AllSizesRoundTrip() {
+        for (RingSize size : RingSize.values()) {
+            assertSame(size, RingSize.findByDisplayString(size.getRegion(), size.getDisplayString()));
+            assertSame(size, RingSize.findByDisplayString(size.getRegion().toLowerCase(), size.getDisplayString().toLowerCase()));
+            assertSame(size, RingSize.findInRegion(size.getRegionType(), size.getDisplayString().toUpperCase()));
+            assertEquals(Optional.of(size), RingSize.fromDisplayString(size.getRegion(), size.getDisplayString()));
+        }
+    }
+
+    @Test
+    public void testFindByDisplayString_ReturnsNullWhenMissing() {
+        assertNull(RingSize.findByDisplayString("US", "10"));
+        assertNull(RingSize.findByDisplayString("NA", "Z"));
+        assertNull(RingSize.findByDisplayString("NA", null));
+        assertNull(RingSize.findByDisplayString(null, "7"));
+        assertNull(RingSize.findInRegion(RingSize.Region.GERMAN, "o 1/2"));
+        assertNull(RingSize.findInRegion(null, "7"));
+        assertSame(RingSize.UK_AUS_SIZE_O_HALF, RingSize.findInRegion(RingSize.Region.UK_AUS, "o 1/2"));
+    }
 }
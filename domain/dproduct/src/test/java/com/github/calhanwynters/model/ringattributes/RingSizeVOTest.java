@@ -141,4 +141,13 @@ class RingSizeVOTest {
         RingSizeVO sizeIso1731 = RingSizeVO.ofIsoDiameter(new BigDecimal("17.31"));
         assertEquals(sizeUs7, sizeIso1731, "US 7.0 should equal ISO 17.31mm after conversion/normalization");
     }
+
+    @Test
+    void testToRingSizeMapsToNearestChartSize() {
+        RingSizeVO measured = RingSizeVO.ofIsoDiameter(new BigDecimal("17.33"));
+
+        assertEquals(RingSize.NA_SIZE_7, measured.toRingSize(RingSize.Region.NA));
+        assertEquals(RingSize.GERMAN_SIZE_17_5, measured.toRingSize(RingSize.Region.GERMAN));
+        assertEquals(RingSize.ASIAN_SIZE_14, measured.toRingSize(RingSize.Region.ASIAN));
+    }
 }
@@ -4,8 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.lang.reflect.RecordComponent;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -138,4 +141,32 @@ class RingStyleVOTest {
         RingStyleVO vo = new RingStyleVO(Collections.emptySet());
         assertEquals("", vo.displayName());
     }
+
+    @Test
+    void testStyleNamesAreTheCanonicalComponent() {
+        RecordComponent[] components = RingStyleVO.class.getRecordComponents();
+        assertEquals(1, components.length);
+        assertEquals("styles", components[0].getName());
+        assertEquals(Set.class, components[0].getType());
+
+        RingStyleVO fromNames = new RingStyleVO(Set.of("channel set", "Halo"));
+        RingStyleVO fromStyles = new RingStyleVO(fromNames.styles());
+        assertEquals(fromNames, fromStyles);
+        assertEquals(fromNames.hashCode(), fromStyles.hashCode());
+        assertSame(fromNames.styles(), fromStyles.styles());
+        assertEquals(EnumSet.of(RingStyleVO.Style.HALO, RingStyleVO.Style.CHANNEL_SET), fromStyles.styleSet());
+        assertTrue(fromStyles.contains(RingStyleVO.Style.CHANNEL_SET));
+        assertFalse(fromStyles.contains(RingStyleVO.Style.PAVE));
+    }
+
+    @Test
+    void testStylesBehaveAsAPlainSetOfNames() {
+        Set<String> styles = RingStyleVO.of(Set.of("halo", "vintage")).styles();
+
+        assertEquals(Set.of("HALO", "VINTAGE"), styles);
+        assertEquals(styles, new HashSet<>(List.of("VINTAGE", "HALO")));
+        assertEquals(Set.of("HALO", "VINTAGE").hashCode(), styles.hashCode());
+        assertNotEquals(RingStyleVO.of("halo").styles(), styles);
+        assertThrows(UnsupportedOperationException.class, () -> styles.add("PAVE"));
+    }
 }
@@ -0,0 +1,110 @@
+package com.github.calhanwynters.model.shared.aggregates;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashTrieMapTest {
+
+    // Key with a deliberately tiny hash space to exercise collision nodes
+    private record CollidingKey(int id) {
+        @Override
+        public int hashCode() {
+            return id % 7;
+        }
+    }
+
+    @Test
+    void emptyMapHasNoEntries() {
+        HashTrieMap<String, String> map = HashTrieMap.empty();
+        assertEquals(0, map.size());
+        assertTrue(map.isEmpty());
+        assertNull(map.get("missing"));
+        assertFalse(map.valueIterator().hasNext());
+    }
+
+    @Test
+    void putReturnsNewMapAndLeavesOriginalUntouched() {
+        HashTrieMap<String, Integer> original = HashTrieMap.<String, Integer>empty().put("a", 1);
+        HashTrieMap<String, Integer> updated = original.put("b", 2);
+
+        assertEquals(1, original.size());
+        assertNull(original.get("b"));
+        assertEquals(2, updated.size());
+        assertEquals(2, updated.get("b"));
+    }
+
+    @Test
+    void putSameValueAndRemoveMissingKeyReturnSameInstance() {
+        Integer value = 1;
+        HashTrieMap<String, Integer> map = HashTrieMap.<String, Integer>empty().put("a", value);
+
+        assertSame(map, map.put("a", value));
+        assertSame(map, map.remove("missing"));
+    }
+
+    @Test
+    void randomOperationsMatchHashMap() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        HashTrieMap<Integer, Integer> actual = HashTrieMap.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                actual = actual.remove(key);
+            } else {
+                expected.put(key, i);
+                actual = actual.put(key, i);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        for (int key = 0; key < 2_000; key++) {
+            assertEquals(expected.get(key), actual.get(key));
+        }
+        assertEquals(new HashSet<>(expected.values()), valuesOf(actual));
+    }
+
+    @Test
+    void collidingKeysAreStoredAndRemovedCorrectly() {
+        HashTrieMap<CollidingKey, Integer> map = HashTrieMap.empty();
+        for (int i = 0; i < 100; i++) {
+            map = map.put(new CollidingKey(i), i);
+        }
+        assertEquals(100, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, map.get(new CollidingKey(i)));
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            map = map.remove(new CollidingKey(i));
+        }
+        assertEquals(50, map.size());
+        assertNull(map.get(new CollidingKey(0)));
+        assertEquals(51, map.get(new CollidingKey(51)));
+        assertEquals(50, valuesOf(map).size());
+    }
+
+    @Test
+    void removingAllKeysYieldsEmptyMap() {
+        HashTrieMap<Integer, Integer> map = HashTrieMap.empty();
+        for (int i = 0; i < 500; i++) {
+            map = map.put(i, i);
+        }
+        for (int i = 0; i < 500; i++) {
+            map = map.remove(i);
+        }
+        assertTrue(map.isEmpty());
+        assertFalse(map.valueIterator().hasNext());
+    }
+
+    private static <V> Set<V> valuesOf(HashTrieMap<?, V> map) {
+        Set<V> values = new HashSet<>();
+        map.valueIterator().forEachRemaining(values::add);
+        return values;
+    }
+}
@@ -0,0 +1,445 @@
+package com.github.calhanwynters.model.shared.aggregates;
+
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingSizeVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductTest {
+
+    private DescriptionVO description;
+    private GalleryVO gallery;
+    private Set<MaterialCompositionVO> materials;
+    private CareInstructionVO care;
+    private WeightVO weight;
+
+    @BeforeEach
+    void setUp() {
+        description = new DescriptionVO("Classic solitaire engagement ring.");
+        gallery = new GalleryVO(Set.of(new ImageUrlVO("https://example.com/ring.jpg")));
+        materials = Set.of(new MaterialCompositionVO(MaterialVO.of(MaterialName.GOLD), "band"));
+        care = new CareInstructionVO("Avoid harsh chemicals.");
+        weight = WeightVO.ofGrams(new BigDecimal("3.5"));
+    }
+
+    private RingVariant ringVariant(String diameterMm) {
+        return RingVariant.create(
+                new RingSizeVO(new BigDecimal(diameterMm)), RingSize.NA_SIZE_7, RingStyleVO.of("SOLITAIRE"),
+                Money.of(500, "USD"), weight, materials, care
+        );
+    }
+
+    @Test
+    void findVariantByIdReturnsVariantFromInitialSet() {
+        RingVariant first = ringVariant("17.3");
+        RingVariant second = ringVariant("17.7");
+        Product product = Product.create(description, gallery, Set.of(first, second));
+
+        assertEquals(Optional.of(second), product.findVariantById(second.id()));
+        assertEquals(Optional.empty(), product.findVariantById(VariantId.generate()));
+        assertEquals(Optional.empty(), product.findVariantById(null));
+    }
+
+    @Test
+    void findVariantBySkuReturnsMatchingVariant() {
+        RingVariant variant = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(variant));
+
+        assertEquals(Optional.of(variant), product.findVariantBySku(variant.sku()));
+        assertEquals(Optional.empty(), product.findVariantBySku("RING-UNKNOWN"));
+    }
+
+    @Test
+    void addVariantKeepsLookupsWorkingAfterIndexWasBuilt() {
+        RingVariant first = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(first));
+        // Force the indexes to be built before deriving a new product
+        assertTrue(product.findVariantById(first.id()).isPresent());
+        assertTrue(product.findVariantBySku(first.sku()).isPresent());
+
+        RingVariant second = ringVariant("17.7");
+        Product updated = product.addVariant(second);
+
+        assertEquals(2, updated.variants().size());
+        assertEquals(Optional.of(second), updated.findVariantById(second.id()));
+        assertEquals(Optional.of(second), updated.findVariantBySku(second.sku()));
+        assertEquals(Optional.empty(), product.findVariantById(second.id()), "Original product must be unchanged");
+    }
+
+    @Test
+    void addVariantRejectsDuplicateId() {
+        RingVariant variant = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(variant));
+
+        RingVariant sameId = variant.activate();
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> product.addVariant(sameId));
+        assertTrue(thrown.getMessage().contains("already exists"));
+    }
+
+    @Test
+    void addVariantRejectsDuplicateAttributes() {
+        RingVariant variant = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(variant, ringVariant("17.7")));
+
+        RingVariant duplicate = ringVariant("17.3");
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> product.addVariant(duplicate));
+        assertTrue(thrown.getMessage().contains("same attributes"));
+    }
+
+    @Test
+    void findVariantWithSameAttributesUsesFingerprintIndex() {
+        RingVariant variant = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(variant))
+                .addVariant(ringVariant("17.7"));
+
+        assertEquals(Optional.of(variant), product.findVariantWithSameAttributes(ringVariant("17.3")));
+        assertEquals(Optional.empty(), product.findVariantWithSameAttributes(ringVariant("18.1")));
+        assertEquals(Optional.empty(), product.removeVariant(variant.id()).findVariantWithSameAttributes(variant));
+    }
+
+    @Test
+    void replaceVariantRejectsAttributesOfAnotherVariant() {
+        RingVariant first = ringVariant("17.3");
+        RingVariant second = ringVariant("17.7");
+        Product product = Product.create(description, gallery, Set.of(first, second));
+
+        RingVariant clashing = RingVariant.builder()
+                .id(second.id()).sku(second.sku())
+                .size(first.size()).ringSize(first.ringSize()).style(first.style())
+                .basePrice(second.basePrice()).weight(first.weight())
+                .materials(first.materials()).careInstructions(first.careInstructions())
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> product.replaceVariant(clashing));
+    }
+
+    @Test
+    void constructorRejectsVariantsSharingAnId() {
+        RingVariant variant = ringVariant("17.3");
+        Set<Variant> sameIdTwice = Set.of(variant, variant.activate());
+
+        assertThrows(IllegalArgumentException.class, () -> Product.create(description, gallery, sameIdTwice));
+    }
+
+    @Test
+    void replaceVariantSwapsStateAndUpdatesSkuIndex() {
+        RingVariant variant = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(variant, ringVariant("17.7")));
+        assertTrue(product.findVariantBySku(variant.sku()).isPresent());
+
+        RingVariant activated = variant.activate();
+        Product updated = product.replaceVariant(activated);
+
+        assertEquals(2, updated.variants().size());
+        assertEquals(Optional.of(activated), updated.findVariantById(variant.id()));
+        assertEquals(Optional.of(activated), updated.findVariantBySku(variant.sku()));
+        assertTrue(updated.variants().contains(activated));
+        assertFalse(updated.variants().contains(variant));
+        assertEquals(Optional.of(variant), product.findVariantById(variant.id()), "Original product must be unchanged");
+    }
+
+    @Test
+    void replaceVariantRejectsUnknownId() {
+        Product product = Product.create(description, gallery, Set.of(ringVariant("17.3")));
+
+        assertThrows(IllegalArgumentException.class, () -> product.replaceVariant(ringVariant("17.7")));
+    }
+
+    @Test
+    void removeVariantDropsVariantFromAllLookups() {
+        RingVariant variant = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(variant, ringVariant("17.7")));
+        assertTrue(product.findVariantBySku(variant.sku()).isPresent());
+
+        Product updated = product.removeVariant(variant.id());
+
+        assertEquals(1, updated.variants().size());
+        assertEquals(Optional.empty(), updated.findVariantById(variant.id()));
+        assertEquals(Optional.empty(), updated.findVariantBySku(variant.sku()));
+        assertSame(updated, updated.removeVariant(variant.id()));
+    }
+
+    @Test
+    void removingOneHolderOfASharedSkuKeepsTheOtherFindable() {
+        RingVariant first = ringVariant("17.3");
+        RingVariant second = RingVariant.builder()
+                .sku(first.sku())
+                .size(new RingSizeVO(new BigDecimal("17.7"))).ringSize(RingSize.NA_SIZE_7).style(RingStyleVO.of("SOLITAIRE"))
+                .basePrice(Money.of(500, "USD")).weight(weight).materials(materials).careInstructions(care)
+                .build();
+        Product product = Product.create(description, gallery, Set.of(first, second));
+        Variant indexed = product.findVariantBySku(first.sku()).orElseThrow();
+        Variant other = indexed == first ? second : first;
+
+        Product removed = product.removeVariant(indexed.id());
+        assertEquals(Optional.of(other), removed.findVariantBySku(first.sku()));
+        assertEquals(Optional.empty(), removed.removeVariant(other.id()).findVariantBySku(first.sku()));
+
+        RingVariant renamed = RingVariant.builder()
+                .id(indexed.id()).sku("RING-RENAMED")
+                .size(((RingVariant) indexed).size()).ringSize(RingSize.NA_SIZE_7).style(RingStyleVO.of("SOLITAIRE"))
+                .basePrice(Money.of(500, "USD")).weight(weight).materials(materials).careInstructions(care)
+                .build();
+        Product replaced = product.replaceVariant(renamed);
+        assertEquals(Optional.of(other), replaced.findVariantBySku(first.sku()));
+        assertEquals(Optional.of(renamed), replaced.findVariantBySku("RING-RENAMED"));
+    }
+
+    @Test
+    void removingOneOfTwoDuplicateVariantsStillRejectsNewDuplicates() {
+        RingVariant first = ringVariant("17.3");
+        RingVariant second = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(first, second));
+        Variant indexed = product.findVariantWithSameAttributes(ringVariant("17.3")).orElseThrow();
+        Variant other = indexed == first ? second : first;
+
+        Product removed = product.removeVariant(indexed.id());
+
+        assertEquals(Optional.of(other), removed.findVariantWithSameAttributes(ringVariant("17.3")));
+        assertThrows(IllegalArgumentException.class, () -> removed.addVariant(ringVariant("17.3")));
+        // The same answers as a freshly indexed set
+        Product rebuilt = Product.create(description, gallery, Set.copyOf(removed.variants()));
+        assertEquals(rebuilt.findVariantWithSameAttributes(ringVariant("17.3")), removed.findVariantWithSameAttributes(ringVariant("17.3")));
+    }
+
+    @Test
+    void addingManyVariantsOneByOneKeepsAllOfThem() {
+        Product product = Product.create(description, gallery);
+        Set<VariantId> ids = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            RingVariant variant = ringVariant(BigDecimal.valueOf(1000 + i, 2).toPlainString());
+            ids.add(variant.id());
+            product = product.addVariant(variant);
+        }
+
+        assertEquals(500, product.variants().size());
+        for (VariantId variantId : ids) {
+            assertTrue(product.findVariantById(variantId).isPresent());
+        }
+    }
+
+    @Test
+    void mutateVariantsAppliesDiscountToAllVariants() {
+        RingVariant first = ringVariant("17.3");
+        RingVariant second = ringVariant("17.7");
+        Product product = Product.create(description, gallery, Set.of(first, second));
+        PercentageVO discount = new PercentageVO(new BigDecimal("0.10"));
+
+        Product discounted = product.mutateVariants(variant -> variant.applyDiscount(discount));
+
+        assertEquals(2, discounted.variants().size());
+        for (Variant variant : discounted.variants()) {
+            assertEquals(variant.basePrice().multiply(0.9), variant.currentPrice());
+        }
+        assertEquals(first.currentPrice(), product.findVariantById(first.id()).orElseThrow().currentPrice(),
+                "Original product must be unchanged");
+    }
+
+    @Test
+    void mutateVariantsOnlyTouchesFilteredVariants() {
+        RingVariant first = ringVariant("17.3");
+        RingVariant second = ringVariant("17.7");
+        Product product = Product.create(description, gallery, Set.of(first, second));
+
+        Product updated = product.mutateVariants(variant -> variant.id().equals(second.id()), Variant::removeDiscount);
+        Product activated = product.mutateVariants(variant -> variant.id().equals(first.id()),
+                variant -> ((RingVariant) variant).activate());
+
+        assertSame(first, updated.findVariantById(first.id()).orElseThrow());
+        assertNotEquals(first.status(), activated.findVariantById(first.id()).orElseThrow().status());
+        assertSame(second, activated.findVariantById(second.id()).orElseThrow());
+        assertEquals(Optional.of(activated.findVariantById(first.id()).orElseThrow()), activated.findVariantBySku(first.sku()));
+    }
+
+    @Test
+    void mutateVariantsReturnsSameProductWhenNothingChanges() {
+        Product product = Product.create(description, gallery, Set.of(ringVariant("17.3")));
+
+        assertSame(product, product.mutateVariants(variant -> variant));
+        assertSame(product, product.mutateVariants(variant -> false, Variant::removeDiscount));
+    }
+
+    @Test
+    void mutateVariantsProcessesLargeProductsInParallel() {
+        Product.Builder builder = Product.builder().description(description).gallery(gallery);
+        int count = Product.PARALLEL_MUTATION_THRESHOLD * 2;
+        for (int i = 0; i < count; i++) {
+            builder.addVariant(ringVariant(BigDecimal.valueOf(1000 + i, 2).toPlainString()));
+        }
+        Product product = builder.build();
+        PercentageVO discount = new PercentageVO(new BigDecimal("0.25"));
+
+        Product discounted = product.mutateVariants(variant -> variant.applyDiscount(discount));
+
+        assertEquals(count, discounted.variants().size());
+        for (Variant variant : discounted.variants()) {
+            assertEquals(variant.basePrice().multiply(0.75), variant.currentPrice());
+            assertTrue(product.findVariantById(variant.id()).isPresent());
+        }
+    }
+
+    @Test
+    void mutateVariantsRejectsChangedIds() {
+        Product product = Product.create(description, gallery, Set.of(ringVariant("17.3")));
+
+        assertThrows(IllegalArgumentException.class, () -> product.mutateVariants(variant -> ringVariant("17.7")));
+        assertThrows(IllegalArgumentException.class, () -> product.mutateVariants(variant -> null));
+    }
+
+    @Test
+    void mutateVariantsRejectsDuplicateAttributes() {
+        RingVariant first = ringVariant("17.3");
+        RingVariant second = ringVariant("17.7");
+        Product product = Product.create(description, gallery, Set.of(first, second));
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> product.mutateVariants(
+                variant -> variant.id().equals(second.id()),
+                variant -> RingVariant.builder()
+                        .id(second.id()).sku(second.sku())
+                        .size(first.size()).ringSize(first.ringSize()).style(first.style())
+                        .basePrice(second.basePrice()).weight(first.weight())
+                        .materials(first.materials()).careInstructions(first.careInstructions())
+                        .build()));
+        assertTrue(thrown.getMessage().contains("same attributes"));
+    }
+
+    @Test
+    void copyOnWriteMethodsPreserveVariants() {
+        RingVariant variant = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(variant));
+
+        Product changed = product
+                .changeDescription(new DescriptionVO("Updated solitaire ring description."))
+                .addImage(new ImageUrlVO("https://example.com/ring-side.jpg"));
+
+        assertSame(product.variants(), changed.variants());
+        assertEquals(Optional.of(variant), changed.findVariantById(variant.id()));
+    }
+
+    @Test
+    void variantsAreImmutable() {
+        Product product = Product.create(description, gallery, Set.of(ringVariant("17.3")));
+        Variant other = ringVariant("17.7");
+
+        assertThrows(UnsupportedOperationException.class, () -> product.variants().add(other));
+    }
+
+    @Test
+    void productsWithSameStateAreEqual() {
+        RingVariant variant = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(variant));
+        Product copy = new Product(product.id(), description, gallery, Set.of(variant));
+
+        assertEquals(product, copy);
+        assertEquals(product.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    void eachChangeAdvancesTheVersion() {
+        RingVariant variant = ringVariant("17.3");
+        Product product = Product.create(description, gallery, Set.of(variant));
+        assertEquals(0, product.version());
+
+        Product changed = product
+                .changeDescription(new DescriptionVO("Updated solitaire ring description."))
+                .addImage(new ImageUrlVO("https://example.com/ring-side.jpg"))
+                .addVariant(ringVariant("17.7"))
+                .replaceVariant(variant.activate())
+                .mutateVariants(v -> v.id().equals(variant.id()) ? ((RingVariant) v).deactivate() : v)
+                .removeVariant(variant.id());
+        assertEquals(6, changed.version());
+
+        // Calls that change nothing keep the version
+        assertSame(changed, changed.removeVariant(variant.id()));
+        assertSame(changed, changed.mutateVariants(v -> v));
+        assertNotEquals(product, new Product(product.id(), description, gallery, Set.of(variant), 1));
+        assertThrows(IllegalArgumentException.class, () -> new Product(product.id(), description, gallery, Set.of(variant), -1));
+    }
+
+    @Test
+    void builderCreatesProductWithAllVariants() {
+        Product.Builder builder = Product.builder()
+                .description(description)
+                .addImage(new ImageUrlVO("https://example.com/ring.jpg"));
+        Set<VariantId> ids = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            RingVariant variant = ringVariant(BigDecimal.valueOf(1000 + i, 2).toPlainString());
+            ids.add(variant.id());
+            builder.addVariant(variant);
+        }
+
+        Product product = builder.build();
+
+        assertNotNull(product.id());
+        assertEquals(500, product.variants().size());
+        assertEquals(1, product.gallery().images().size());
+        for (VariantId variantId : ids) {
+            assertTrue(product.findVariantById(variantId).isPresent());
+        }
+    }
+
+    @Test
+    void builderKeepsProvidedIdAndGallery() {
+        ProductId productId = ProductId.generate();
+        Product product = Product.builder()
+                .id(productId)
+                .description(description)
+                .gallery(gallery)
+                .build();
+
+        assertEquals(productId, product.id());
+        assertEquals(gallery, product.gallery());
+        assertTrue(product.variants().isEmpty());
+    }
+
+    @Test
+    void builderRejectsDuplicateVariantIdsOnBuild() {
+        RingVariant variant = ringVariant("17.3");
+        Product.Builder builder = Product.builder()
+                .description(description)
+                .gallery(gallery)
+                .addVariant(variant)
+                .addVariant(variant.activate());
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void builderRejectsVariantsWithDuplicateAttributesOnBuild() {
+        RingVariant first = ringVariant("17.3");
+        RingVariant sameAttributes = RingVariant.builder()
+                .sku(first.sku() + "-B")
+                .size(first.size()).ringSize(first.ringSize()).style(first.style())
+                .basePrice(first.basePrice()).weight(first.weight())
+                .materials(first.materials()).careInstructions(first.careInstructions())
+                .build();
+        Product.Builder builder = Product.builder()
+                .description(description)
+                .gallery(gallery)
+                .addVariant(first)
+                .addVariant(sameAttributes);
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, builder::build);
+        assertTrue(thrown.getMessage().contains("same attributes"));
+    }
+
+    @Test
+    void builderRequiresGalleryImages() {
+        Product.Builder builder = Product.builder().description(description);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+}
@@ -0,0 +1,311 @@
+package com.github.calhanwynters.model.shared.codec;
+
+import com.github.calhanwynters.model.ankletattributes.AnkletSizeVO;
+import com.github.calhanwynters.model.ankletattributes.AnkletStyleVO;
+import com.github.calhanwynters.model.earringattributes.EarringSizeVO;
+import com.github.calhanwynters.model.earringattributes.EarringStyleVO;
+import com.github.calhanwynters.model.hairaccessoryattributes.HairAccessorStyleVO;
+import com.github.calhanwynters.model.hairaccessoryattributes.HairAccessorySizeVO;
+import com.github.calhanwynters.model.necklaceattributes.NecklaceSizeVO;
+import com.github.calhanwynters.model.necklaceattributes.NecklaceStyleVO;
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingSizeVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.*;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCodecTest {
+
+    private final ProductCodec codec = new ProductCodec(currency -> Money.of(0, currency));
+
+    private static final Set<MaterialCompositionVO> GOLD_BAND =
+            Set.of(MaterialCompositionVO.of(MaterialVO.of(MaterialName.GOLD), "band"));
+    private static final CareInstructionVO CARE = CareInstructionVO.of("Avoid harsh chemicals.");
+
+    private static RingVariant ringWithGemstones() {
+        GemstoneVO diamond = new GemstoneVO(GemstoneTypeVO.of(7L, "Diamond", "Brilliant cut"), "VS1",
+                new BigDecimal("0.75"), true, false);
+        GemstoneVO sapphire = new GemstoneVO(GemstoneTypeVO.of("Sapphire"), null, null, false, true);
+        return new RingVariant(VariantId.generate(), "RING-001", new RingSizeVO(new BigDecimal("17.35")),
+                RingSize.NA_SIZE_7, RingStyleVO.of(Set.of("halo", "vintage")),
+                Money.of(new BigDecimal("1299.00"), "USD"), Money.of(new BigDecimal("1039.2000"), "USD"),
+                WeightVO.ofCarats(new BigDecimal("12.5")),
+                Set.of(MaterialCompositionVO.of(MaterialVO.of(MaterialName.OTHER, "Meteorite"), "inlay"),
+                        MaterialCompositionVO.of(MaterialVO.of(MaterialName.PLATINUM), "band")),
+                Set.of(diamond, sapphire), CARE, VariantStatusEnums.ACTIVE);
+    }
+
+    private static Product sampleProduct() {
+        return Product.builder()
+                .description(new DescriptionVO("Mixed jewelry set with every variant kind"))
+                .addImage(new ImageUrlVO("https://example.com/a.jpg"))
+                .addImage(new ImageUrlVO("https://example.com/b.jpg"))
+                .addVariant(ringWithGemstones())
+                .addVariant(EarringVariant.create(EarringSizeVO.ofMillimeters(new BigDecimal("12"), "Hoop Diameter"),
+                        EarringStyleVO.of("HOOP"), Money.of(89, "EUR"), WeightVO.ofGrams(new BigDecimal("2.1")), GOLD_BAND, CARE))
+                .addVariant(NecklaceVariant.create(NecklaceSizeVO.ofInches(new BigDecimal("18")),
+                        NecklaceStyleVO.of("PENDANT"), Money.of(250, "USD"), WeightVO.ofOunces(new BigDecimal("0.25")), GOLD_BAND, CARE))
+                .addVariant(AnkletVariant.create(AnkletSizeVO.ofInches(new BigDecimal("9.5")),
+                        AnkletStyleVO.of("CHAIN"), Money.of(45, "JPY"), WeightVO.ofGrams(new BigDecimal("4")), GOLD_BAND, CARE))
+                .addVariant(HairAccessoryVariant.create(new HairAccessorySizeVO(new BigDecimal("60"), new BigDecimal("8.5"), "Medium"),
+                        HairAccessorStyleVO.of("BARRETTE"), Money.of(30, "USD"), WeightVO.ofTroyOunces(new BigDecimal("0.1")), GOLD_BAND, CARE))
+                .build();
+    }
+
+    @Test
+    void productRoundTripsWithEveryVariantKind() {
+        Product product = sampleProduct();
+
+        Product decoded = codec.decode(codec.encode(product));
+
+        assertEquals(product, decoded);
+        for (Variant original : product.variants()) {
+            Variant copy = decoded.findVariantById(original.id()).orElseThrow();
+            assertEquals(original, copy);
+            assertEquals(original.getClass(), copy.getClass());
+            // Prices keep their scale, not just their value
+            assertEquals(original.currentPrice().getNumber().numberValue(BigDecimal.class),
+                    copy.currentPrice().getNumber().numberValue(BigDecimal.class));
+            assertEquals(original.weight().amount(), copy.weight().amount());
+        }
+    }
+
+    @Test
+    void variantRoundTripsIncludingNullableFields() {
+        RingVariant ring = ringWithGemstones();
+
+        Variant decoded = codec.decodeVariant(codec.encodeVariant(ring));
+
+        assertEquals(ring, decoded);
+        assertEquals(ring.gemstones(), decoded.gemstones());
+        for (GemstoneVO gemstone : ring.gemstones()) {
+            GemstoneVO copy = decoded.gemstones().stream()
+                    .filter(g -> g.type().name().equals(gemstone.type().name())).findFirst().orElseThrow();
+            assertEquals(gemstone.type().id(), copy.type().id());
+            assertEquals(gemstone.type().description(), copy.type().description());
+            assertEquals(gemstone.grade(), copy.grade());
+            assertEquals(gemstone.carat(), copy.carat());
+            assertEquals(gemstone.hasCertificate(), copy.hasCertificate());
+            assertEquals(gemstone.isLabGrown(), copy.isLabGrown());
+        }
+    }
+
+    @Test
+    void decodesFromTheBufferPositionAndAdvancesPastTheRecord() {
+        Product first = sampleProduct();
+        Product second = sampleProduct();
+        BinaryWriter writer = new BinaryWriter(16);
+        codec.encode(first, writer);
+        codec.encode(second, writer);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(writer.size()).put(writer.toByteArray()).flip();
+
+        assertEquals(first, codec.decode(buffer));
+        assertEquals(second, codec.decode(buffer));
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    void encodingIsCompact() {
+        Product product = sampleProduct();
+
+        byte[] bytes = codec.encode(product);
+
+        // Mostly ids, SKUs and text; each variant's numeric and enum fields take only a few bytes
+        int textBytes = product.id().value().length() + product.description().value().length()
+                + product.gallery().images().stream().mapToInt(i -> i.url().length()).sum()
+                + product.variants().stream().mapToInt(v -> v.id().value().length() + v.sku().length()
+                        + v.careInstructions().instructions().length()).sum();
+        assertTrue(bytes.length < textBytes + 300, bytes.length + " bytes for " + textBytes + " bytes of text");
+    }
+
+    @Test
+    void rejectsUnknownVersionAndTruncatedInput() {
+        byte[] bytes = codec.encode(sampleProduct());
+
+        byte[] wrongVersion = bytes.clone();
+        wrongVersion[0] = (byte) (ProductCodec.FORMAT_VERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(wrongVersion));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(Arrays.copyOf(bytes, bytes.length / 2)));
+    }
+
+    // Written by format version 1 (string ids, enum ordinals): a ring with a UUID id in a product with a legacy id
+    private static final String VERSION_1_RECORD = "ARBsZWdhY3ktcHJvZHVjdC0xFUhhbG8gcmluZyBpbiBwbGF0aW51bQEcaHR0cHM6Ly9l"
+            + "eGFtcGxlLmNvbS9oYWxvLmpwZwEAJDAxOTBhNWI0LTdjM2UtN2QyMS05ZjNhLTYxYzJkZWFkYmVlZg1SSU5HLURFQURCRUVGCI4bMwID"
+            + "VVNEAKYUBLCiAQRGAAEDAARiYW5kAQAHRGlhbW9uZAAAAAAWQXZvaWQgaGFyc2ggY2hlbWljYWxzLgA=";
+
+    @Test
+    void decodesVersion1RecordsAndReencodesThemInTheCurrentFormat() {
+        Product product = codec.decode(Base64.getDecoder().decode(VERSION_1_RECORD));
+
+        assertEquals(new ProductId("legacy-product-1"), product.id());
+        RingVariant ring = (RingVariant) product.findVariantById(new VariantId("0190a5b4-7c3e-7d21-9f3a-61c2deadbeef")).orElseThrow();
+        assertEquals(RingSize.NA_SIZE_7, ring.ringSize());
+        assertEquals(WeightVO.ofGrams(new BigDecimal("3.5")), ring.weight());
+        assertEquals(Set.of(MaterialCompositionVO.of(MaterialVO.of(MaterialName.PLATINUM), "band")), ring.materials());
+        assertEquals(VariantStatusEnums.ACTIVE, ring.status());
+        assertEquals(Money.of(new BigDecimal("1039.20"), "USD"), ring.currentPrice());
+
+        byte[] current = codec.encode(product);
+        assertEquals(ProductCodec.FORMAT_VERSION, current[0]);
+        assertEquals(product, codec.decode(current));
+    }
+
+    // A v2 record, which stored ring styles as the ordinal bitmask 0b1000010 (HALO, VINTAGE)
+    private static final String VERSION_2_RECORD = "AgEQbGVnYWN5LXByb2R1Y3QtMhVIYWxvIHJpbmcgaW4gcGxhdGludW0BHGh0dHBzOi8vZXhh"
+            + "bXBsZS5jb20vaGFsby5qcGcBAAABkKW0fD59IZ86YcLerb7vDVJJTkctREVBREJFRUYIjhsJTkFfU0laRV83QgNVU0QAphQEsKIBBEYE"
+            + "R1JBTQEIUExBVElOVU0ABGJhbmQAFkF2b2lkIGhhcnNoIGNoZW1pY2Fscy4GQUNUSVZF";
+
+    @Test
+    void decodesVersion2StyleBitmasksThroughStyleNames() {
+        Product product = codec.decode(Base64.getDecoder().decode(VERSION_2_RECORD));
+
+        assertEquals(new ProductId("legacy-product-2"), product.id());
+        RingVariant ring = (RingVariant) product.findVariantById(new VariantId("0190a5b4-7c3e-7d21-9f3a-61c2deadbeef")).orElseThrow();
+        assertEquals(RingStyleVO.of(Set.of("halo", "vintage")), ring.style());
+        assertEquals(0, product.version());
+        assertEquals(product, codec.decode(codec.encode(product)));
+    }
+
+    @Test
+    void productVersionRoundTrips() {
+        Product product = sampleProduct().changeDescription(new DescriptionVO("Mixed jewelry set, renamed"))
+                .addImage(new ImageUrlVO("https://example.com/c.jpg"));
+
+        Product decoded = codec.decode(codec.encode(product));
+        assertEquals(2, decoded.version());
+        assertEquals(product, decoded);
+    }
+
+    @Test
+    void styleEncodingDoesNotDependOnDeclarationOrder() {
+        RingVariant ring = ringWithGemstones();
+        byte[] encoded = codec.encodeVariant(ring);
+        String text = new String(encoded, StandardCharsets.ISO_8859_1);
+        assertTrue(text.contains("HALO") && text.contains("VINTAGE"), "styles are written by name");
+
+        // Swapping the two names on the wire (same length) must decode to the same styles: a bitmask or
+        // ordinal encoding would either not contain the names or depend on where they sit
+        byte[] halo = "\u0004HALO".getBytes(StandardCharsets.ISO_8859_1);
+        byte[] vintage = "\u0007VINTAGE".getBytes(StandardCharsets.ISO_8859_1);
+        int at = text.indexOf("\u0004HALO\u0007VINTAGE");
+        if (at < 0) {
+            at = text.indexOf("\u0007VINTAGE\u0004HALO");
+            byte[] swap = halo;
+            halo = vintage;
+            vintage = swap;
+        }
+        assertTrue(at >= 0, "both styles are written as length-prefixed names");
+        byte[] swapped = encoded.clone();
+        System.arraycopy(vintage, 0, swapped, at, vintage.length);
+        System.arraycopy(halo, 0, swapped, at + vintage.length, halo.length);
+
+        assertFalse(Arrays.equals(encoded, swapped));
+        assertEquals(ring, codec.decodeVariant(swapped));
+    }
+
+    @Test
+    void unknownStyleNamesAreRejected() {
+        byte[] encoded = codec.encodeVariant(ringWithGemstones());
+        String text = new String(encoded, StandardCharsets.ISO_8859_1);
+        int at = text.indexOf("HALO");
+        byte[] renamed = encoded.clone();
+        System.arraycopy("HULA".getBytes(StandardCharsets.ISO_8859_1), 0, renamed, at, 4);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> codec.decodeVariant(renamed));
+        assertTrue(e.getMessage().contains("HULA"));
+    }
+
+    @Test
+    void storedProductsWithSharedAttributesStillDecode() {
+        RingVariant ring = ringWithGemstones();
+        RingVariant twin = RingVariant.builder()
+                .sku("RING-002").size(ring.size()).ringSize(ring.ringSize()).style(ring.style())
+                .basePrice(ring.basePrice()).weight(ring.weight()).materials(ring.materials())
+                .careInstructions(ring.careInstructions()).build();
+        Product product = Product.create(new DescriptionVO("Ring imported twice"),
+                new GalleryVO(Set.of(new ImageUrlVO("https://example.com/a.jpg"))), Set.of(ring, twin));
+
+        assertEquals(product, codec.decode(codec.encode(product)));
+    }
+
+    @Test
+    void enumsAreWrittenByNameNotOrdinal() {
+        String encoded = new String(codec.encodeVariant(ringWithGemstones()), StandardCharsets.ISO_8859_1);
+
+        for (String name : List.of("NA_SIZE_7", "CARAT", "PLATINUM", "OTHER", "ACTIVE")) {
+            assertTrue(encoded.contains(name), name);
+        }
+    }
+
+    @Test
+    void unknownEnumNamesAreRejected() {
+        BinaryReader reader = BinaryReader.of(new BinaryWriter().writeString("ARCHIVED").toByteArray());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> reader.readEnum(VariantStatusEnums.class));
+        assertTrue(e.getMessage().contains("ARCHIVED"));
+    }
+
+    @Test
+    void uuidIdsAreWrittenAsTwoLongsAndOtherIdsAsStrings() {
+        ProductId uuidId = ProductId.generate();
+        Product product = sampleProduct();
+        Product withUuidId = Product.builder().id(uuidId).description(product.description()).gallery(product.gallery())
+                .addVariants(product.variants()).build();
+        Product withLegacyId = Product.builder().id(new ProductId("legacy-7")).description(product.description())
+                .gallery(product.gallery()).addVariants(product.variants()).build();
+
+        BinaryReader reader = BinaryReader.of(codec.encode(withUuidId));
+        assertEquals(ProductCodec.FORMAT_VERSION, reader.readByte());
+        assertEquals(0, reader.readByte());
+        assertEquals(uuidId.toUuid(), new UUID(reader.readFixedLong(), reader.readFixedLong()));
+
+        assertEquals(withLegacyId, codec.decode(codec.encode(withLegacyId)));
+        assertEquals(codec.encode(withUuidId).length + "legacy-7".length() + 1 - 16, codec.encode(withLegacyId).length);
+    }
+
+    @Test
+    void primitivesRoundTrip() {
+        BinaryWriter writer = new BinaryWriter(1);
+        long[] longs = {0, 1, -1, 127, 128, Long.MAX_VALUE, Long.MIN_VALUE};
+        BigDecimal[] decimals = {BigDecimal.ZERO, new BigDecimal("-12.340"), new BigDecimal("1E+5"),
+                new BigDecimal("123456789012345678901234567890.123")};
+        for (long value : longs) {
+            writer.writeVarLong(value).writeSignedVarLong(value).writeFixedLong(value);
+        }
+        for (BigDecimal value : decimals) {
+            writer.writeDecimal(value);
+        }
+        writer.writeNullableString(null).writeNullableString("").writeString("Émeraude").writeNullableDecimal(null);
+
+        BinaryReader reader = BinaryReader.of(writer.toByteArray());
+        for (long value : longs) {
+            assertEquals(value, reader.readVarLong());
+            assertEquals(value, reader.readSignedVarLong());
+            assertEquals(value, reader.readFixedLong());
+        }
+        for (BigDecimal value : decimals) {
+            assertEquals(value, reader.readDecimal());
+        }
+        assertNull(reader.readNullableString());
+        assertEquals("", reader.readNullableString());
+        assertEquals("Émeraude", reader.readString());
+        assertNull(reader.readNullableDecimal());
+        assertEquals(0, reader.remaining());
+    }
+}
@@ -248,7 +248,98 @@ public class RingVariantTest {
         System.out.println("---------------------------------------------");
     }
 
-}
+    @Test
+    public void builderAppliesCreateDefaults() {
+        RingVariant variant = RingVariant.builder()
+                .size(defaultSize)
+                .ringSize(ringSize)
+                .style(defaultStyle)
+                .basePrice(Money.of(500, USD))
+                .weight(defaultWeight)
+                .materials(defaultMaterials)
+                .careInstructions(defaultCare)
+                .build();
+
+        assertNotNull(variant.id());
+        assertTrue(variant.sku().startsWith("RING-"));
+        assertEquals(variant.basePrice(), variant.currentPrice());
+        assertEquals(VariantStatusEnums.DRAFT, variant.status());
+        assertTrue(variant.gemstones().isEmpty());
+        assertTrue(standardVariant.hasSameAttributes(variant));
+    }
 
+    @Test
+    public void builderDerivesSkuFromShortNonUuidIds() {
+        RingVariant variant = RingVariant.builder()
+                .id(new VariantId("abc"))
+                .size(defaultSize)
+                .ringSize(ringSize)
+                .style(defaultStyle)
+                .basePrice(Money.of(500, USD))
+                .weight(defaultWeight)
+                .materials(defaultMaterials)
+                .careInstructions(defaultCare)
+                .build();
+
+        assertEquals("RING-ABC", variant.sku());
+    }
 
+    @Test
+    public void builderAccumulatesMaterialsAndGemstones() {
+        MaterialCompositionVO prongs = new MaterialCompositionVO(MaterialVO.of(MaterialName.PLATINUM), "prongs");
+        GemstoneVO diamond = GemstoneVO.of(diamondTypeVO, "VVS1");
+        VariantId id = VariantId.generate();
+
+        RingVariant variant = RingVariant.builder()
+                .id(id)
+                .sku("SKU-BULK-1")
+                .size(defaultSize)
+                .ringSize(ringSize)
+                .style(defaultStyle)
+                .basePrice(Money.of(500, USD))
+                .currentPrice(Money.of(450, USD))
+                .weight(defaultWeight)
+                .addMaterial(defaultMaterials.iterator().next())
+                .addMaterial(prongs)
+                .addGemstone(diamond)
+                .careInstructions(defaultCare)
+                .status(VariantStatusEnums.ACTIVE)
+                .build();
+
+        assertEquals(id, variant.id());
+        assertEquals("SKU-BULK-1", variant.sku());
+        assertEquals(Money.of(450, USD), variant.currentPrice());
+        assertEquals(2, variant.materials().size());
+        assertEquals(Set.of(diamond), variant.gemstones());
+        assertTrue(variant.isActive());
+    }
+
+    @Test
+    public void builderValidatesOnBuild() {
+        RingVariant.Builder builder = RingVariant.builder()
+                .size(defaultSize)
+                .ringSize(ringSize)
+                .style(defaultStyle)
+                .basePrice(Money.of(500, USD))
+                .weight(defaultWeight)
+                .careInstructions(defaultCare);
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, builder::build);
+        assertTrue(thrown.getMessage().contains("must have at least one material composition"));
+    }
 
+    @Test
+    public void styleNamesExposeCanonicalStyleNames() {
+        assertEquals(Set.of("SOLITAIRE"), standardVariant.styleNames());
+        RingVariant halo = RingVariant.builder()
+                .size(defaultSize)
+                .ringSize(ringSize)
+                .style(RingStyleVO.of(Set.of("halo", "channel set")))
+                .basePrice(Money.of(500, USD))
+                .weight(defaultWeight)
+                .materials(defaultMaterials)
+                .careInstructions(defaultCare)
+                .build();
+        assertEquals(Set.of("HALO", "CHANNEL_SET"), halo.styleNames());
+    }
+}
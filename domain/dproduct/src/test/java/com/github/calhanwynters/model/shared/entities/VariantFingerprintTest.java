@@ -0,0 +1,111 @@
+package com.github.calhanwynters.model.shared.entities;
+
+import com.github.calhanwynters.model.earringattributes.EarringSizeVO;
+import com.github.calhanwynters.model.earringattributes.EarringStyleVO;
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingSizeVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariantFingerprintTest {
+
+    private Set<MaterialCompositionVO> materials;
+    private CareInstructionVO care;
+    private WeightVO weight;
+
+    @BeforeEach
+    void setUp() {
+        materials = Set.of(
+                new MaterialCompositionVO(MaterialVO.of(MaterialName.GOLD), "band"),
+                new MaterialCompositionVO(MaterialVO.of(MaterialName.PLATINUM), "prongs")
+        );
+        care = new CareInstructionVO("Avoid harsh chemicals.");
+        weight = WeightVO.ofGrams(new BigDecimal("3.5"));
+    }
+
+    private RingVariant ring(String diameterMm, Set<String> styles, int price) {
+        return RingVariant.create(
+                new RingSizeVO(new BigDecimal(diameterMm)), RingSize.NA_SIZE_7, RingStyleVO.of(styles),
+                Money.of(price, "USD"), weight, materials, care
+        );
+    }
+
+    @Test
+    void sameAttributesProduceEqualFingerprints() {
+        RingVariant a = ring("17.3", Set.of("HALO", "VINTAGE"), 500);
+        RingVariant b = ring("17.30", Set.of("vintage", "Halo"), 900).activate();
+
+        assertTrue(a.hasSameAttributes(b));
+        assertEquals(a.attributeFingerprint(), b.attributeFingerprint());
+        assertEquals(a.attributeFingerprint().value(), b.attributeFingerprint().value());
+        assertEquals(a.attributeFingerprint().hashCode(), b.attributeFingerprint().hashCode());
+    }
+
+    @Test
+    void differentAttributesProduceDifferentFingerprints() {
+        RingVariant base = ring("17.3", Set.of("HALO"), 500);
+
+        assertNotEquals(base.attributeFingerprint(), ring("17.7", Set.of("HALO"), 500).attributeFingerprint());
+        assertNotEquals(base.attributeFingerprint(), ring("17.3", Set.of("PAVE"), 500).attributeFingerprint());
+        assertNotEquals(base.attributeFingerprint(), base.addGemstone(GemstoneVO.of(GemstoneTypeVO.of("Diamond"))).attributeFingerprint());
+        assertNotEquals(base.attributeFingerprint().value(), ring("17.7", Set.of("HALO"), 500).attributeFingerprint().value());
+    }
+
+    @Test
+    void gemstoneTypeNameCaseDoesNotAffectFingerprint() {
+        RingVariant base = ring("17.3", Set.of("HALO"), 500);
+        RingVariant upper = base.addGemstone(GemstoneVO.of(GemstoneTypeVO.of("Diamond"), "VVS1"));
+        RingVariant lower = base.addGemstone(GemstoneVO.of(GemstoneTypeVO.of("diamond"), "VVS1"));
+
+        assertTrue(upper.hasSameAttributes(lower));
+        assertEquals(upper.attributeFingerprint(), lower.attributeFingerprint());
+    }
+
+    @Test
+    void persistedGemstoneTypesMatchByIdLikeInEquality() {
+        RingVariant base = ring("17.3", Set.of("HALO"), 500);
+        RingVariant renamed = base.addGemstone(GemstoneVO.of(GemstoneTypeVO.of(7L, "Diamond", null), "VVS1"));
+        RingVariant original = base.addGemstone(GemstoneVO.of(GemstoneTypeVO.of(7L, "Brilliant", null), "VVS1"));
+        RingVariant otherId = base.addGemstone(GemstoneVO.of(GemstoneTypeVO.of(8L, "Diamond", null), "VVS1"));
+
+        assertTrue(renamed.hasSameAttributes(original));
+        assertEquals(renamed.attributeFingerprint(), original.attributeFingerprint());
+        assertFalse(renamed.hasSameAttributes(otherId));
+        assertNotEquals(renamed.attributeFingerprint(), otherId.attributeFingerprint());
+    }
+
+    @Test
+    void differentVariantTypesNeverMatch() {
+        RingVariant ringVariant = ring("17.3", Set.of("HALO"), 500);
+        EarringVariant earringVariant = EarringVariant.create(
+                new EarringSizeVO(new BigDecimal("17.3"), null), EarringStyleVO.of("HOOP"),
+                Money.of(500, "USD"), weight, materials, care
+        );
+
+        assertNotEquals(ringVariant.attributeFingerprint(), earringVariant.attributeFingerprint());
+    }
+
+    @Test
+    void earringLabelIsIgnoredLikeInEquality() {
+        EarringVariant labelled = EarringVariant.create(
+                new EarringSizeVO(new BigDecimal("12"), "Diameter"), EarringStyleVO.of("HOOP"),
+                Money.of(500, "USD"), weight, materials, care
+        );
+        EarringVariant unlabelled = EarringVariant.create(
+                new EarringSizeVO(new BigDecimal("12.00"), null), EarringStyleVO.of("HOOP"),
+                Money.of(500, "USD"), weight, materials, care
+        );
+
+        assertTrue(labelled.hasSameAttributes(unlabelled));
+        assertEquals(labelled.attributeFingerprint(), unlabelled.attributeFingerprint());
+    }
+}
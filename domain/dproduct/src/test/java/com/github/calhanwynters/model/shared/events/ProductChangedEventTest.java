@@ -0,0 +1,56 @@
+package com.github.calhanwynters.model.shared.events;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.valueobjects.DescriptionVO;
+import com.github.calhanwynters.model.shared.valueobjects.GalleryVO;
+import com.github.calhanwynters.model.shared.valueobjects.ImageUrlVO;
+import com.github.calhanwynters.model.shared.valueobjects.ProductId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductChangedEventTest {
+
+    private final Product product = Product.create(new DescriptionVO("Classic solitaire engagement ring."),
+            new GalleryVO(Set.of(new ImageUrlVO("https://example.com/ring.jpg"))));
+
+    @Test
+    void carriesProductStateAndTime() {
+        Instant before = Instant.now();
+        ProductChangedEvent event = ProductChangedEvent.of(product, ProductChangeType.CREATED);
+
+        assertSame(product, event.product());
+        assertEquals(product.id(), event.productId());
+        assertEquals(ProductChangeType.CREATED, event.change());
+        assertFalse(event.occurredAt().isBefore(before));
+    }
+
+    @Test
+    void nullComponentsAreRejected() {
+        Instant now = Instant.now();
+        assertThrows(NullPointerException.class, () -> new ProductChangedEvent(null, ProductChangeType.CREATED, now));
+        assertThrows(NullPointerException.class, () -> new ProductChangedEvent(product, null, now));
+        assertThrows(NullPointerException.class, () -> new ProductChangedEvent(product, ProductChangeType.CREATED, null));
+    }
+
+    @Test
+    void carriesTheProductVersion() {
+        Product renamed = product.changeDescription(new DescriptionVO("Timeless solitaire engagement ring."));
+
+        assertEquals(0, ProductChangedEvent.of(product, ProductChangeType.CREATED).version());
+        assertEquals(1, ProductChangedEvent.of(renamed, ProductChangeType.DESCRIPTION_CHANGED).version());
+    }
+
+    @Test
+    void removedEventCarriesProductIdAndNextVersion() {
+        ProductId id = product.id();
+        ProductRemovedEvent event = ProductRemovedEvent.of(product.addImage(new ImageUrlVO("https://example.com/side.jpg")));
+        assertEquals(id, event.productId());
+        assertEquals(2, event.version());
+        assertThrows(NullPointerException.class, () -> ProductRemovedEvent.of(null));
+        assertThrows(IllegalArgumentException.class, () -> new ProductRemovedEvent(id, -1, Instant.now()));
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.calhanwynters.model.shared.services;
+
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingSizeVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.services.CatalogDiscountEngine.DiscountResult;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogDiscountEngineTest {
+
+    private static final int PRODUCTS = 200;
+    private static final int VARIANTS_PER_PRODUCT = 50;
+
+    private final PercentageVO discount = new PercentageVO(new BigDecimal("0.20"));
+    private List<Product> catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ArrayList<>(PRODUCTS);
+        for (int p = 0; p < PRODUCTS; p++) {
+            Product.Builder builder = Product.builder()
+                    .description(new DescriptionVO("Synthetic catalog product " + p))
+                    .addImage(new ImageUrlVO("https://example.com/product-" + p + ".jpg"));
+            for (int v = 0; v < VARIANTS_PER_PRODUCT; v++) {
+                builder.addVariant(variant(v));
+            }
+            catalog.add(builder.build());
+        }
+    }
+
+    // Even variants are gold halo rings, odd ones silver vintage rings; every third one is active
+    private static RingVariant variant(int index) {
+        MaterialName material = index % 2 == 0 ? MaterialName.GOLD : MaterialName.SILVER;
+        RingVariant variant = RingVariant.create(
+                new RingSizeVO(BigDecimal.valueOf(1000 + index, 2)),
+                RingSize.NA_SIZE_7,
+                RingStyleVO.of(index % 2 == 0 ? "HALO" : "VINTAGE"),
+                Money.of(100 + index, "USD"),
+                WeightVO.ofGrams(new BigDecimal("3.5")),
+                Set.of(new MaterialCompositionVO(MaterialVO.of(material), "band")),
+                new CareInstructionVO("Avoid harsh chemicals.")
+        );
+        return index % 3 == 0 ? variant.activate() : variant;
+    }
+
+    @Test
+    void discountsEveryMatchingVariantAcrossTheCatalog() {
+        DiscountResult result = new CatalogDiscountEngine()
+                .applyDiscount(catalog, CatalogDiscountEngine.withMaterial(MaterialName.GOLD), discount);
+
+        assertEquals(PRODUCTS, result.products().size());
+        assertEquals(PRODUCTS * VARIANTS_PER_PRODUCT, result.scannedVariantCount());
+        assertEquals(PRODUCTS * VARIANTS_PER_PRODUCT / 2, result.changedVariantCount());
+        for (Product product : result.products()) {
+            for (Variant variant : product.variants()) {
+                boolean gold = CatalogDiscountEngine.withMaterial(MaterialName.GOLD).test(variant);
+                assertEquals(gold ? variant.basePrice().multiply(0.8) : variant.basePrice(), variant.currentPrice());
+            }
+        }
+        assertTrue(result.changedVariants().allMatch(CatalogDiscountEngine.withMaterial(MaterialName.GOLD)));
+        assertTrue(result.variantsPerSecond() > 0);
+    }
+
+    @Test
+    void keepsCatalogOrderAndProductIdentity() {
+        DiscountResult result = new CatalogDiscountEngine(new ForkJoinPool(4))
+                .applyDiscount(catalog, CatalogDiscountEngine.withStyle("vintage"), discount);
+
+        for (int i = 0; i < PRODUCTS; i++) {
+            assertEquals(catalog.get(i).id(), result.products().get(i).id());
+        }
+        assertEquals(PRODUCTS * VARIANTS_PER_PRODUCT / 2, result.changedVariantCount());
+    }
+
+    @Test
+    void combinedSelectorsNarrowTheDiscount() {
+        DiscountResult result = new CatalogDiscountEngine().applyDiscount(
+                catalog,
+                CatalogDiscountEngine.withStatus(VariantStatusEnums.ACTIVE)
+                        .and(CatalogDiscountEngine.withMaterial(MaterialName.SILVER)),
+                discount);
+
+        // Odd indexes divisible by three: 3, 9, 15, ..., 45
+        assertEquals(PRODUCTS * 8, result.changedVariantCount());
+        assertTrue(result.changedVariants().allMatch(variant -> variant.status() == VariantStatusEnums.ACTIVE));
+    }
+
+    @Test
+    void untouchedProductsAreReturnedAsIs() {
+        DiscountResult result = new CatalogDiscountEngine().applyDiscount(
+                catalog, CatalogDiscountEngine.withGemstoneType(GemstoneTypeVO.of("Diamond")), discount);
+
+        assertEquals(0, result.changedVariantCount());
+        for (int i = 0; i < PRODUCTS; i++) {
+            assertSame(catalog.get(i), result.products().get(i));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.calhanwynters.model.shared.services;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.events.ProductChangeType;
+import com.github.calhanwynters.model.shared.events.ProductChangedEvent;
+import com.github.calhanwynters.model.shared.events.ProductRemovedEvent;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCatalogServiceTest {
+
+    private final Map<ProductId, Product> stored = new HashMap<>();
+    private final List<Object> published = new ArrayList<>();
+    private final ProductCatalogService service = new ProductCatalogService(new ProductRepository() {
+        @Override
+        public Optional<Product> findById(ProductId id) {
+            return Optional.ofNullable(stored.get(id));
+        }
+
+        @Override
+        public void save(Product product) {
+            stored.put(product.id(), product);
+        }
+
+        @Override
+        public boolean deleteById(ProductId id) {
+            return stored.remove(id) != null;
+        }
+    }, published::add);
+
+    private final Product product = Product.create(new DescriptionVO("Classic solitaire engagement ring."),
+            new GalleryVO(Set.of(new ImageUrlVO("https://example.com/ring.jpg"))));
+
+    @Test
+    void createStoresAndPublishesCreated() {
+        service.create(product);
+
+        assertSame(product, stored.get(product.id()));
+        ProductChangedEvent event = assertInstanceOf(ProductChangedEvent.class, published.get(0));
+        assertEquals(ProductChangeType.CREATED, event.change());
+        assertSame(product, event.product());
+        assertThrows(IllegalArgumentException.class, () -> service.create(product));
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    void updatePublishesTheNewState() {
+        service.create(product);
+        DescriptionVO renamed = new DescriptionVO("Timeless solitaire band.");
+
+        Product updated = service.update(product.id(), ProductChangeType.DESCRIPTION_CHANGED,
+                p -> p.changeDescription(renamed));
+
+        assertEquals(renamed, stored.get(product.id()).description());
+        ProductChangedEvent event = assertInstanceOf(ProductChangedEvent.class, published.get(1));
+        assertEquals(ProductChangeType.DESCRIPTION_CHANGED, event.change());
+        assertSame(updated, event.product());
+        assertEquals(product.version() + 1, event.version());
+    }
+
+    @Test
+    void updatesThatChangeNothingPublishNothing() {
+        service.create(product);
+
+        assertSame(product, service.update(product.id(), ProductChangeType.VARIANT_REMOVED,
+                p -> p.removeVariant(VariantId.generate())));
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    void updatesMustAdvanceTheVersion() {
+        service.create(product);
+        Product bypassed = new Product(product.id(), new DescriptionVO("Timeless solitaire band."), product.gallery(),
+                product.variants(), product.version());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.update(product.id(), ProductChangeType.DESCRIPTION_CHANGED, p -> bypassed));
+        assertSame(product, stored.get(product.id()));
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    void failedUpdatesPublishNothing() {
+        service.create(product);
+        ProductId unknown = ProductId.generate();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.update(unknown, ProductChangeType.DESCRIPTION_CHANGED, p -> p));
+        assertThrows(NullPointerException.class,
+                () -> service.update(product.id(), ProductChangeType.DESCRIPTION_CHANGED, p -> p.changeDescription(null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.update(product.id(), ProductChangeType.CREATED, p -> p));
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    void removePublishesOnlyForStoredProducts() {
+        service.create(product);
+
+        assertTrue(service.remove(product.id()));
+        assertFalse(service.remove(product.id()));
+
+        assertEquals(2, published.size());
+        ProductRemovedEvent removed = assertInstanceOf(ProductRemovedEvent.class, published.get(1));
+        assertEquals(product.id(), removed.productId());
+        assertEquals(product.version() + 1, removed.version());
+        assertTrue(stored.isEmpty());
+    }
+}
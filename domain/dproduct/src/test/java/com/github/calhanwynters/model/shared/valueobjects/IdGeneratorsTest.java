@@ -0,0 +1,38 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorsTest {
+
+    private static final UUID FIXED = UUID.fromString("0190a5b2-7c00-7abc-8def-0123456789ab");
+
+    @AfterEach
+    void clearOverride() {
+        IdGenerators.setOverride(null);
+    }
+
+    @Test
+    void defaultsToTimeOrderedGenerator() {
+        assertSame(TimeOrderedIdGenerator.INSTANCE, IdGenerators.current());
+    }
+
+    @Test
+    void overrideIsUsedByIdFactories() {
+        IdGenerators.setOverride(() -> FIXED);
+        assertEquals(FIXED.toString(), ProductId.generate().value());
+        assertEquals(FIXED.toString(), VariantId.generate().value());
+    }
+
+    @Test
+    void clearingOverrideRestoresDefault() {
+        IdGenerators.setOverride(() -> FIXED);
+        IdGenerators.setOverride(null);
+        assertNotEquals(FIXED, ProductId.generate().toUuid());
+        assertSame(TimeOrderedIdGenerator.INSTANCE, IdGenerators.current());
+    }
+}
@@ -2,6 +2,10 @@ package com.github.calhanwynters.model.shared.valueobjects;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ProductIdTest {
@@ -45,4 +49,73 @@ class ProductIdTest {
         ProductId productId = new ProductId("123e4567-e89b-12d3-a456-426614174000");
         assertEquals("123e4567-e89b-12d3-a456-426614174000", productId.toString());
     }
+
+    @Test
+    void canonicalUuidRoundTripsThroughItsUuidView() {
+        for (int i = 0; i < 1_000; i++) {
+            UUID uuid = UUID.randomUUID();
+            ProductId productId = new ProductId(uuid.toString());
+
+            assertTrue(productId.isUuid());
+            assertEquals(uuid, productId.toUuid());
+            assertEquals(uuid.toString(), productId.value());
+            assertEquals(ProductId.of(uuid), productId);
+            assertEquals(ProductId.of(uuid).hashCode(), productId.hashCode());
+        }
+    }
+
+    @Test
+    void uuidIdsAreStoredAsTwoLongs() {
+        UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        ProductId fromString = new ProductId(uuid.toString());
+
+        assertEquals(uuid.getMostSignificantBits(), fromString.msb());
+        assertEquals(uuid.getLeastSignificantBits(), fromString.lsb());
+        assertNull(fromString.legacyValue());
+        assertEquals(fromString, new ProductId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null));
+        assertEquals(Long.hashCode(uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits()), fromString.hashCode());
+        // A canonical string in the legacy component is normalized to its bits
+        assertEquals(fromString, new ProductId(0L, 0L, uuid.toString()));
+    }
+
+    @Test
+    void legacyIdsMustNotCarryBits() {
+        assertThrows(IllegalArgumentException.class, () -> new ProductId(1L, 0L, "legacy-42"));
+        assertThrows(IllegalArgumentException.class, () -> new ProductId(0L, 0L, " "));
+        assertEquals(new ProductId("legacy-42"), new ProductId(0L, 0L, "legacy-42"));
+    }
+
+    @Test
+    void nonCanonicalValuesAreKeptAsIs() {
+        ProductId upperCase = new ProductId("123E4567-E89B-12D3-A456-426614174000");
+        ProductId legacy = new ProductId("legacy-42");
+
+        assertFalse(upperCase.isUuid());
+        assertEquals("123E4567-E89B-12D3-A456-426614174000", upperCase.value());
+        assertNotEquals(new ProductId("123e4567-e89b-12d3-a456-426614174000"), upperCase);
+        assertEquals("legacy-42", legacy.value());
+        assertEquals(new ProductId("legacy-42"), legacy);
+        assertEquals(new ProductId("legacy-42").hashCode(), legacy.hashCode());
+        assertThrows(IllegalStateException.class, legacy::toUuid);
+    }
+
+    @Test
+    void generatedIdsAreVersion7AndTimeOrdered() throws InterruptedException {
+        List<ProductId> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(ProductId.generate());
+            Thread.sleep(2);
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            UUID uuid = ids.get(i).toUuid();
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            if (i > 0) {
+                assertTrue(ids.get(i - 1).value().compareTo(ids.get(i).value()) < 0, "ids should sort by creation time");
+            }
+        }
+        long millis = ids.get(0).toUuid().getMostSignificantBits() >>> 16;
+        assertTrue(Math.abs(System.currentTimeMillis() - millis) < 60_000);
+    }
 }
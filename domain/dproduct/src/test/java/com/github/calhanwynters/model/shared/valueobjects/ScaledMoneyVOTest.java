@@ -0,0 +1,102 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScaledMoneyVOTest {
+
+    private static final String[] CURRENCIES = {"USD", "EUR", "JPY"};
+
+    @Test
+    void roundTripsMonetaryAmountExactly() {
+        Money price = Money.of(new BigDecimal("1234.5600"), "USD");
+
+        ScaledMoneyVO scaled = ScaledMoneyVO.of(price);
+
+        assertEquals("USD", scaled.currencyCode());
+        assertEquals(0, new BigDecimal("1234.5600").compareTo(scaled.toBigDecimal()));
+        assertTrue(price.isEqualTo(scaled.toMonetaryAmount(Money.of(0, "USD"))));
+    }
+
+    @Test
+    void toMonetaryAmountRejectsCurrencyMismatch() {
+        ScaledMoneyVO scaled = ScaledMoneyVO.of(Money.of(10, "USD"));
+
+        assertThrows(IllegalArgumentException.class, () -> scaled.toMonetaryAmount(Money.of(0, "EUR")));
+    }
+
+    @Test
+    void ofRejectsAmountsBeyondLongRange() {
+        Money huge = Money.of(new BigDecimal("123456789012345678901234.5"), "USD");
+
+        assertThrows(ArithmeticException.class, () -> ScaledMoneyVO.of(huge));
+    }
+
+    @Test
+    void applyDiscountMatchesBigDecimalArithmetic() {
+        ScaledMoneyVO scaled = ScaledMoneyVO.of(Money.of(new BigDecimal("199.99"), "USD"));
+        PercentageVO discount = new PercentageVO(new BigDecimal("0.15"));
+
+        ScaledMoneyVO discounted = scaled.applyDiscount(discount);
+
+        assertEquals(new BigDecimal("199.99").multiply(BigDecimal.ONE.subtract(discount.value())), discounted.toBigDecimal());
+        assertEquals(6, discounted.scale());
+    }
+
+    @Test
+    void applyDiscountThrowsOnOverflow() {
+        ScaledMoneyVO scaled = new ScaledMoneyVO("USD", Long.MAX_VALUE / 2, 2);
+
+        assertThrows(ArithmeticException.class, () -> scaled.applyDiscount(new PercentageVO(new BigDecimal("0.10"))));
+    }
+
+    @Test
+    void discountFallsBackForAmountsOutsideTheFastPath() {
+        Money price = Money.of(new BigDecimal("98765432109876.54"), "USD");
+        PercentageVO discount = new PercentageVO(new BigDecimal("0.33"));
+
+        assertDiscountIdentical(price, discount);
+    }
+
+    @Test
+    void zeroAndFullDiscountsMatchBigDecimalArithmetic() {
+        Money price = Money.of(new BigDecimal("49.90"), "EUR");
+
+        assertDiscountIdentical(price, new PercentageVO(BigDecimal.ZERO));
+        assertDiscountIdentical(price, new PercentageVO(BigDecimal.ONE));
+    }
+
+    // Property: for random prices (any scale, magnitude and sign) and random discounts, the fast path yields
+    // the same number, scale included, as the MonetaryAmount multiply used by variants before
+    @Test
+    void discountIsIdenticalToMonetaryAmountMultiplyForRandomInputs() {
+        Random random = new Random(20240611L);
+        for (int i = 0; i < 20_000; i++) {
+            int scale = random.nextInt(7) - 1;
+            long unscaled = switch (random.nextInt(3)) {
+                case 0 -> random.nextInt(100_000);
+                case 1 -> random.nextLong() % 1_000_000_000_000L;
+                default -> random.nextLong() % 100_000_000_000_000_000L;
+            };
+            Money price = Money.of(BigDecimal.valueOf(unscaled, scale), CURRENCIES[random.nextInt(CURRENCIES.length)]);
+            PercentageVO discount = new PercentageVO(BigDecimal.valueOf(random.nextInt(10_001), 4));
+
+            assertDiscountIdentical(price, discount);
+        }
+    }
+
+    private static void assertDiscountIdentical(Money price, PercentageVO discount) {
+        MonetaryAmount expected = price.multiply(BigDecimal.ONE.subtract(discount.value()));
+        MonetaryAmount actual = ScaledMoneyVO.discount(price, discount);
+
+        assertEquals(expected, actual, () -> price + " discounted by " + discount.value());
+        assertEquals(expected.getNumber().numberValue(BigDecimal.class), actual.getNumber().numberValue(BigDecimal.class),
+                () -> "scale differs for " + price + " discounted by " + discount.value());
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkuFormatterTest {
+
+    private final SkuFormatter formatter = new SkuFormatter("RING-");
+
+    @Test
+    void formatsPrefixAndShortCode() {
+        VariantId id = new VariantId("123e4567-e89b-12d3-a456-426614174000");
+        assertEquals("RING-14174000", formatter.format(id));
+        assertEquals(13, formatter.length());
+    }
+
+    @Test
+    void matchesShortCodeForGeneratedIds() {
+        for (int i = 0; i < 1_000; i++) {
+            VariantId id = VariantId.generate();
+            assertEquals("RING-" + id.shortCode(), formatter.format(id));
+        }
+    }
+
+    @Test
+    void formatsNonUuidIds() {
+        assertEquals("RING-LEGACY-1", formatter.format(new VariantId("legacy-123")));
+    }
+
+    @Test
+    void formatsIdsShorterThanTheCodeLength() {
+        assertEquals("RING-V-1", formatter.format(new VariantId("v-1")));
+
+        char[] buffer = new char[formatter.length()];
+        int end = formatter.formatTo(new VariantId("abc"), buffer, 0);
+        assertEquals(8, end);
+        assertEquals("RING-ABC", new String(buffer, 0, end));
+    }
+
+    @Test
+    void formatsIntoBufferAtOffset() {
+        char[] buffer = new char[2 + formatter.length()];
+        Arrays.fill(buffer, '#');
+        int end = formatter.formatTo(new VariantId("123e4567-e89b-12d3-a456-4266abcdef01"), buffer, 2);
+        assertEquals(buffer.length, end);
+        assertEquals("##RING-ABCDEF01", new String(buffer));
+    }
+
+    @Test
+    void rejectsBufferWithoutRoom() {
+        VariantId id = VariantId.generate();
+        assertThrows(IndexOutOfBoundsException.class, () -> formatter.formatTo(id, new char[12], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> formatter.formatTo(id, new char[13], 1));
+    }
+
+    @Test
+    void nullsAreRejected() {
+        assertThrows(NullPointerException.class, () -> new SkuFormatter(null));
+        assertThrows(NullPointerException.class, () -> formatter.format(null));
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StyleBitsTest {
+
+    private enum Finish { MATTE, POLISHED, HAMMERED_TEXTURE }
+
+    private final StyleBits<Finish> underscored = StyleBits.of(Finish.class, true);
+    private final StyleBits<Finish> plain = StyleBits.of(Finish.class, false);
+
+    @Test
+    void parseNormalizesAndIgnoresBlankEntries() {
+        Set<String> raw = new HashSet<>(Arrays.asList(" matte ", "hammered texture", "", null));
+
+        assertEquals(0b101L, underscored.parse(raw));
+    }
+
+    @Test
+    void parseRejectsUnknownStylesWithNormalizedName() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> plain.parse(Set.of("hammered texture")));
+        assertEquals("Invalid style encountered: HAMMERED TEXTURE", thrown.getMessage());
+    }
+
+    @Test
+    void bitOfReturnsZeroForUnknownOrBlank() {
+        assertEquals(0b010L, plain.bitOf("Polished"));
+        assertEquals(0L, plain.bitOf("satin"));
+        assertEquals(0L, plain.bitOf("  "));
+        assertEquals(0L, plain.bitOf(null));
+    }
+
+    @Test
+    void copyOfBehavesLikeAnImmutableSetOfNames() {
+        Set<String> view = plain.copyOf(Set.of("hammered_texture", " polished"));
+
+        assertEquals(Set.of("POLISHED", "HAMMERED_TEXTURE"), view);
+        assertEquals(Set.of("POLISHED", "HAMMERED_TEXTURE").hashCode(), view.hashCode());
+        assertEquals(List.of("POLISHED", "HAMMERED_TEXTURE"), new ArrayList<>(view));
+        assertTrue(view.contains("POLISHED"));
+        assertFalse(view.contains("polished"));
+        assertFalse(view.contains(42));
+        assertThrows(UnsupportedOperationException.class, () -> view.add("MATTE"));
+        assertEquals(EnumSet.of(Finish.POLISHED, Finish.HAMMERED_TEXTURE), plain.toEnumSet(0b110L));
+        assertEquals(0b110L, plain.bits(view));
+        assertSame(view, plain.copyOf(view));
+        assertEquals(0b110L, plain.bits(Set.of("POLISHED", "HAMMERED_TEXTURE")));
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import com.github.calhanwynters.model.earringattributes.EarringStyleVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StyleTokenCacheTest {
+
+    @Test
+    void normalizesAndCountsHitsAndMisses() {
+        StyleTokenCache cache = new StyleTokenCache(16);
+
+        assertEquals("CHANNEL_SET", cache.normalize(" channel set ", true));
+        assertEquals("CHANNEL_SET", cache.normalize(" channel set ", true));
+        assertEquals("CHANNEL SET", cache.normalize(" channel set ", false));
+
+        StyleTokenCache.Stats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+        assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void repeatedLookupsReturnTheCachedInstance() {
+        StyleTokenCache cache = new StyleTokenCache(16);
+
+        String first = cache.normalize("halo", true);
+
+        assertSame(first, cache.normalize("halo", true));
+    }
+
+    @Test
+    void staysWithinCapacity() {
+        StyleTokenCache cache = new StyleTokenCache(8);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("STYLE " + i, cache.normalize("style " + i, false));
+        }
+
+        assertTrue(cache.size() <= 8);
+        assertEquals(100, cache.misses());
+    }
+
+    @Test
+    void clearResetsCountersAndEntries() {
+        StyleTokenCache cache = new StyleTokenCache(8);
+        cache.normalize("halo", false);
+        cache.normalize("halo", false);
+
+        cache.clear();
+
+        assertEquals(new StyleTokenCache.Stats(0, 0, 0), cache.stats());
+        assertEquals(0.0, cache.stats().hitRate());
+    }
+
+    @Test
+    void styleValueObjectsUseTheSharedCache() {
+        StyleTokenCache shared = StyleTokenCache.shared();
+        new RingStyleVO(Set.of("Channel Set"));
+        long hitsBefore = shared.hits();
+
+        assertTrue(RingStyleVO.of("Channel Set").hasStyle("Channel Set"));
+        assertTrue(EarringStyleVO.of("ear_cuff").hasStyle("ear_cuff"));
+
+        assertTrue(shared.hits() >= hitsBefore + 2);
+        assertThrows(NullPointerException.class, () -> shared.normalize(null, true));
+    }
+}
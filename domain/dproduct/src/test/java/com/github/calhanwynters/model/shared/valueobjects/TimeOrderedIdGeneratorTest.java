@@ -0,0 +1,71 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    private final TimeOrderedIdGenerator generator = TimeOrderedIdGenerator.INSTANCE;
+
+    @Test
+    void generatesVersion7Uuids() {
+        long before = System.currentTimeMillis();
+        UUID uuid = generator.nextUuid();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1, "timestamp: " + millis);
+    }
+
+    @Test
+    void idsAreStrictlyIncreasingWithinAThread() {
+        UUID previous = generator.nextUuid();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = generator.nextUuid();
+            assertTrue(compareUnsigned(previous, next) < 0, previous + " should sort before " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<List<UUID>>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextUuid());
+                    }
+                    return ids;
+                });
+            }
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : executor.invokeAll(tasks)) {
+                all.addAll(future.get());
+            }
+            assertEquals(threads * perThread, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
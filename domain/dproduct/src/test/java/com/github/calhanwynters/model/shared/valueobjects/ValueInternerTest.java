@@ -0,0 +1,115 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueInternerTest {
+
+    private final boolean initiallyEnabled = ValueInterner.isEnabled();
+
+    @AfterEach
+    void restoreToggle() {
+        ValueInterner.setEnabled(initiallyEnabled);
+    }
+
+    @Test
+    void disabledInternerReturnsArgument() {
+        ValueInterner.setEnabled(false);
+        ValueInterner<CareInstructionVO> interner = ValueInterner.create();
+        CareInstructionVO first = new CareInstructionVO("Polish gently.");
+
+        assertSame(first, interner.intern(first));
+        assertNotSame(first, interner.intern(new CareInstructionVO("Polish gently.")));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    void enabledInternerSharesEqualValues() {
+        ValueInterner.setEnabled(true);
+        ValueInterner<CareInstructionVO> interner = ValueInterner.create();
+        CareInstructionVO first = interner.intern(new CareInstructionVO("Polish gently."));
+
+        assertSame(first, interner.intern(new CareInstructionVO("Polish gently.")));
+        assertNotSame(first, interner.intern(new CareInstructionVO("Store dry.")));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    void factoriesReturnSharedInstancesWhenEnabled() {
+        ValueInterner.setEnabled(true);
+
+        assertSame(MaterialVO.of(MaterialName.GOLD), MaterialVO.of(MaterialName.GOLD));
+        assertSame(MaterialVO.of(MaterialName.GOLD, " 18k "), MaterialVO.of(MaterialName.GOLD, "18k"));
+        assertSame(MaterialCompositionVO.of(MaterialVO.of(MaterialName.GOLD), "band"),
+                MaterialCompositionVO.of(MaterialVO.of(MaterialName.GOLD), "band"));
+        assertSame(CareInstructionVO.of("Avoid harsh chemicals."), CareInstructionVO.of("Avoid harsh chemicals."));
+        assertSame(RingStyleVO.of(Set.of("halo", "vintage")), RingStyleVO.of(Set.of("VINTAGE", "HALO")));
+    }
+
+    @Test
+    void factoriesBuildFreshInstancesWhenDisabled() {
+        ValueInterner.setEnabled(false);
+
+        assertNotSame(MaterialVO.of(MaterialName.GOLD), MaterialVO.of(MaterialName.GOLD));
+        assertEquals(MaterialVO.of(MaterialName.GOLD), MaterialVO.of(MaterialName.GOLD));
+    }
+
+    @Test
+    void gemstoneTypesOnlyShareWhenAllComponentsMatch() {
+        ValueInterner.setEnabled(true);
+        GemstoneTypeVO upper = GemstoneTypeVO.of("Diamond");
+        GemstoneTypeVO lower = GemstoneTypeVO.of("diamond");
+
+        // Equal by the case-insensitive equals(), but interning must not change the stored name
+        assertEquals(upper, lower);
+        assertNotSame(upper, lower);
+        assertEquals("diamond", lower.name());
+        assertSame(upper, GemstoneTypeVO.of("Diamond"));
+        assertNotSame(upper, GemstoneTypeVO.of("Diamond", "Brilliant cut"));
+    }
+
+    @Test
+    void concurrentInterningYieldsOneCanonicalInstance() throws Exception {
+        ValueInterner.setEnabled(true);
+        ValueInterner<MaterialCompositionVO> interner = ValueInterner.create();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<MaterialCompositionVO>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<MaterialCompositionVO> results = new ArrayList<>();
+                    for (int i = 0; i < 1_000; i++) {
+                        results.add(interner.intern(new MaterialCompositionVO(MaterialVO.of(MaterialName.SILVER), "role-" + (i % 50))));
+                    }
+                    return results;
+                }));
+            }
+            start.countDown();
+
+            List<List<MaterialCompositionVO>> all = new ArrayList<>();
+            for (Future<List<MaterialCompositionVO>> future : futures) {
+                all.add(future.get(30, TimeUnit.SECONDS));
+            }
+            for (List<MaterialCompositionVO> results : all) {
+                for (int i = 0; i < results.size(); i++) {
+                    assertSame(all.get(0).get(i % 50), results.get(i));
+                }
+            }
+            assertEquals(50, interner.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.github.calhanwynters.model.shared.valueobjects;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class VariantIdTest {
@@ -45,4 +49,103 @@ class VariantIdTest {
         VariantId variantId = new VariantId("123e4567-e89b-12d3-a456-426614174000");
         assertEquals("123e4567-e89b-12d3-a456-426614174000", variantId.toString());
     }
+
+    @Test
+    void canonicalUuidRoundTripsThroughItsUuidView() {
+        for (int i = 0; i < 1_000; i++) {
+            UUID uuid = UUID.randomUUID();
+            VariantId variantId = new VariantId(uuid.toString());
+
+            assertTrue(variantId.isUuid());
+            assertEquals(uuid, variantId.toUuid());
+            assertEquals(uuid.toString(), variantId.value());
+            assertEquals(VariantId.of(uuid), variantId);
+            assertEquals(VariantId.of(uuid).hashCode(), variantId.hashCode());
+        }
+    }
+
+    @Test
+    void uuidIdsAreStoredAsTwoLongs() {
+        UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        VariantId fromString = new VariantId(uuid.toString());
+
+        assertEquals(uuid.getMostSignificantBits(), fromString.msb());
+        assertEquals(uuid.getLeastSignificantBits(), fromString.lsb());
+        assertNull(fromString.legacyValue());
+        assertEquals(fromString, new VariantId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null));
+        assertEquals(Long.hashCode(uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits()), fromString.hashCode());
+        // A canonical string in the legacy component is normalized to its bits
+        assertEquals(fromString, new VariantId(0L, 0L, uuid.toString()));
+    }
+
+    @Test
+    void legacyIdsMustNotCarryBits() {
+        assertThrows(IllegalArgumentException.class, () -> new VariantId(1L, 0L, "legacy-42"));
+        assertThrows(IllegalArgumentException.class, () -> new VariantId(0L, 0L, " "));
+        assertEquals(new VariantId("legacy-42"), new VariantId(0L, 0L, "legacy-42"));
+    }
+
+    @Test
+    void nonCanonicalValuesAreKeptAsIs() {
+        VariantId upperCase = new VariantId("123E4567-E89B-12D3-A456-426614174000");
+        VariantId legacy = new VariantId("legacy-42");
+
+        assertFalse(upperCase.isUuid());
+        assertEquals("123E4567-E89B-12D3-A456-426614174000", upperCase.value());
+        assertNotEquals(new VariantId("123e4567-e89b-12d3-a456-426614174000"), upperCase);
+        assertEquals("legacy-42", legacy.value());
+        assertEquals(new VariantId("legacy-42"), legacy);
+        assertEquals(new VariantId("legacy-42").hashCode(), legacy.hashCode());
+        assertThrows(IllegalStateException.class, legacy::toUuid);
+    }
+
+    @Test
+    void nearMissesOfTheCanonicalFormAreNotUuids() {
+        String canonical = "123e4567-e89b-12d3-a456-426614174000";
+        for (int i = 0; i < canonical.length(); i++) {
+            for (char c : new char[]{'/', ':', '`', 'g', 'A', '-', '0'}) {
+                String candidate = canonical.substring(0, i) + c + canonical.substring(i + 1);
+                boolean hyphen = i == 8 || i == 13 || i == 18 || i == 23;
+                boolean expected = hyphen ? c == '-' : c == '0';
+                assertEquals(expected, new VariantId(candidate).isUuid(), candidate);
+            }
+        }
+        assertFalse(new VariantId(canonical + "0").isUuid());
+        assertFalse(new VariantId(canonical.substring(1)).isUuid());
+    }
+
+    @Test
+    void generatedIdsAreVersion7AndTimeOrdered() throws InterruptedException {
+        List<VariantId> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(VariantId.generate());
+            Thread.sleep(2);
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            UUID uuid = ids.get(i).toUuid();
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            if (i > 0) {
+                assertTrue(ids.get(i - 1).value().compareTo(ids.get(i).value()) < 0, "ids should sort by creation time");
+            }
+        }
+        long millis = ids.get(0).toUuid().getMostSignificantBits() >>> 16;
+        assertTrue(Math.abs(System.currentTimeMillis() - millis) < 60_000);
+    }
+
+    @Test
+    void shortCodeUsesRandomLowBitsForUuids() {
+        VariantId variantId = VariantId.of(new UUID(0x0190_0000_0000_7000L, 0x8000_0000_DEAD_BEEFL));
+
+        assertEquals("DEADBEEF", variantId.shortCode());
+        assertEquals("LEGACY-4", new VariantId("legacy-42").shortCode());
+    }
+
+    @Test
+    void shortCodeUsesWholeValueWhenShorterThanEightCharacters() {
+        assertEquals("V-1", new VariantId("v-1").shortCode());
+        assertEquals("A", new VariantId("a").shortCode());
+        assertEquals("ABCDEFGH", new VariantId("abcdefgh").shortCode());
+    }
 }
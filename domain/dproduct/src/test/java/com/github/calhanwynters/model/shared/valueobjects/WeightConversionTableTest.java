@@ -0,0 +1,72 @@
+package com.github.calhanwynters.model.shared.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightConversionTableTest {
+
+    private static final int[] UNITS = {
+            WeightConversionTable.GRAM, WeightConversionTable.OUNCE,
+            WeightConversionTable.TROY_OUNCE, WeightConversionTable.CARAT
+    };
+
+    @Test
+    void ratiosAreExactReducedFractionsOfTheGramFactors() {
+        for (int from : UNITS) {
+            for (int to : UNITS) {
+                long numerator = WeightConversionTable.numerator(from, to);
+                long denominator = WeightConversionTable.denominator(from, to);
+                BigDecimal expected = WeightConversionTable.gramsPerUnit(from)
+                        .divide(WeightConversionTable.gramsPerUnit(to), MathContext.DECIMAL128);
+
+                assertEquals(1, BigDecimal.valueOf(numerator).toBigInteger().gcd(BigDecimal.valueOf(denominator).toBigInteger()).intValue());
+                assertEquals(0, expected.compareTo(BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), MathContext.DECIMAL128)));
+                assertEquals(numerator, WeightConversionTable.denominator(to, from));
+            }
+        }
+        assertEquals(45359237L, WeightConversionTable.numerator(WeightConversionTable.OUNCE, WeightConversionTable.GRAM));
+        assertEquals(1600000L, WeightConversionTable.denominator(WeightConversionTable.OUNCE, WeightConversionTable.GRAM));
+    }
+
+    // Converting directly rounds once; going through a rounded gram value can land on a different last digit
+    @Test
+    void convertRoundsOnlyOnce() {
+        Random random = new Random(20240615L);
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal value = BigDecimal.valueOf(random.nextLong(1_000_000_000L), random.nextInt(9));
+            int from = UNITS[random.nextInt(UNITS.length)];
+            int to = UNITS[random.nextInt(UNITS.length)];
+
+            BigDecimal expected = value.multiply(WeightConversionTable.gramsPerUnit(from))
+                    .divide(WeightConversionTable.gramsPerUnit(to), 4, RoundingMode.HALF_UP).stripTrailingZeros();
+
+            assertEquals(expected, WeightConversionTable.convert(value, from, to, 4, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Test
+    void bothUnitTypesAgreeOnTheSameConversion() {
+        BigDecimal value = new BigDecimal("12.3456789");
+
+        BigDecimal viaUnitVO = WeightUnitVO.TROY_OUNCE.convertValueTo(value, WeightUnitVO.CARAT);
+        BigDecimal viaWeightUnit = WeightVO.WeightUnit.TROY_OUNCE.convertTo(value, WeightVO.WeightUnit.CARAT);
+
+        assertEquals(viaUnitVO.setScale(WeightVO.WeightUnit.SCALE, RoundingMode.HALF_UP).stripTrailingZeros(),
+                viaWeightUnit);
+    }
+
+    @Test
+    void requireNonNegativeUsesTheGivenName() {
+        assertEquals("Grams must not be null",
+                assertThrows(NullPointerException.class, () -> WeightConversionTable.requireNonNegative(null, "Grams")).getMessage());
+        assertEquals("Value must not be negative",
+                assertThrows(IllegalArgumentException.class,
+                        () -> WeightConversionTable.requireNonNegative(BigDecimal.ONE.negate(), "Value")).getMessage());
+    }
+}
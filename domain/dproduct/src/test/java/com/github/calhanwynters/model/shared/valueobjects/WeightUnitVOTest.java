@@ -1,7 +1,10 @@
 package com.github.calhanwynters.model.shared.valueobjects;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,5 +128,148 @@ public class WeightUnitVOTest {
             }
         }
     }
-}
 
+    // Property: bulk fixed-point conversion is the exact ratio rounded HALF_UP to SCALE decimals, which is
+    // also what convertValueTo returns for non-gram targets
+    @Test
+    public void testBulkFixedPointConversionMatchesBigDecimal() {
+        Random random = new Random(20240613L);
+        long[] values = new long[5_000];
+        for (int i = 0; i < values.length; i++) {
+            long bound = i % 2 == 0 ? 1_000L * 100_000_000L : 1_000_000L * 100_000_000L;
+            values[i] = i < 10 ? i : random.nextLong(bound);
+        }
+
+        for (WeightUnitVO source : WeightUnitVO.values()) {
+            for (WeightUnitVO target : WeightUnitVO.values()) {
+                long[] converted = source.convertAll(values, target);
+                for (int i = 0; i < values.length; i++) {
+                    BigDecimal value = BigDecimal.valueOf(values[i], WeightUnitVO.SCALE);
+                    BigDecimal exact = exactGrams(source, value)
+                            .divide(exactGrams(target, BigDecimal.ONE), WeightUnitVO.SCALE, RoundingMode.HALF_UP);
+                    BigDecimal actual = BigDecimal.valueOf(converted[i], WeightUnitVO.SCALE);
+
+                    assertEquals(0, exact.compareTo(actual), source + " to " + target + " of " + value);
+                    if (target != WeightUnitVO.GRAM) {
+                        assertEquals(0, source.convertValueTo(value, target).compareTo(actual),
+                                source + " to " + target + " of " + value);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBulkFixedPointConversionInPlace() {
+        long[] values = {100_000_000L, 250_000_000L};
+
+        WeightUnitVO.GRAM.convertAll(values, WeightUnitVO.CARAT, values);
+
+        assertArrayEquals(new long[]{500_000_000L, 1_250_000_000L}, values);
+    }
+
+    @Test
+    public void testBulkDoubleConversionWithinScalePrecision() {
+        Random random = new Random(20240614L);
+        double[] values = new double[5_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = BigDecimal.valueOf(random.nextLong(100_000L * 100_000_000L), WeightUnitVO.SCALE).doubleValue();
+        }
+
+        for (WeightUnitVO source : WeightUnitVO.values()) {
+            for (WeightUnitVO target : WeightUnitVO.values()) {
+                double[] converted = new double[values.length];
+                source.convertAll(values, target, converted);
+                for (int i = 0; i < values.length; i++) {
+                    BigDecimal expected = source.convertValueTo(new BigDecimal(values[i]), target);
+                    assertEquals(expected.doubleValue(), converted[i], 1e-8, source + " to " + target + " of " + values[i]);
+                }
+            }
+        }
+    }
+
+    // Every length up to a few vectors, so the scalar tail after the last full vector is covered too.
+    // Only runs with -Pvector-api, which builds the kernel and adds jdk.incubator.vector to the test JVM.
+    @Test
+    @Tag("vector-api")
+    public void testVectorKernelMatchesScalarArithmeticIncludingTails() {
+        WeightKernel kernel = WeightUnitVO.vectorKernel();
+        assertNotNull(kernel, "convertAll should use the Vector API kernel");
+        Random random = new Random(20240615L);
+        for (int length = 0; length <= 40; length++) {
+            long[] values = new long[length];
+            double[] doubles = new double[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = random.nextLong(1_000_000L * 100_000_000L);
+                doubles[i] = values[i] / 1e8;
+            }
+            long[] multiplied = new long[length];
+            double[] multipliedDoubles = new double[length];
+            kernel.multiply(values, 5, multiplied);
+            kernel.multiply(doubles, 0.2, multipliedDoubles);
+
+            long max = 0;
+            for (int i = 0; i < length; i++) {
+                assertEquals(values[i] * 5, multiplied[i], "multiply at " + i + " of " + length);
+                assertEquals(doubles[i] * 0.2, multipliedDoubles[i], "double multiply at " + i + " of " + length);
+                max = Math.max(max, values[i]);
+            }
+            assertEquals(max, kernel.checkedMax(values), "max of " + length);
+            assertTrue(kernel.allFiniteAndNonNegative(doubles), "valid doubles of " + length);
+
+            // An invalid value at each position, including the tail
+            for (int i = 0; i < length; i++) {
+                long[] withNegative = values.clone();
+                withNegative[i] = -1;
+                assertTrue(kernel.checkedMax(withNegative) < 0, "negative at " + i + " of " + length);
+                for (double invalid : new double[]{-0.5, Double.NaN, Double.POSITIVE_INFINITY}) {
+                    double[] withInvalid = doubles.clone();
+                    withInvalid[i] = invalid;
+                    assertFalse(kernel.allFiniteAndNonNegative(withInvalid), invalid + " at " + i + " of " + length);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBulkMultiplyNearOverflowStillThrows() {
+        // GRAM to CARAT is an integral ratio of 5; the kernel is bypassed once a value could overflow
+        long[] values = {1, Long.MAX_VALUE / 5 + 1};
+        assertThrows(ArithmeticException.class, () -> WeightUnitVO.GRAM.convertAll(values, WeightUnitVO.CARAT));
+    }
+
+    @Test
+    public void testBulkConversionNearOverflowStaysExact() {
+        // TROY_OUNCE to CARAT is 19439673/125000; this value's quotient times n is within n of Long.MAX_VALUE
+        long value = ((Long.MAX_VALUE - 19_439_673L) / 19_439_673L + 1) * 125_000L;
+        long[] converted = WeightUnitVO.TROY_OUNCE.convertAll(new long[]{value, 1}, WeightUnitVO.CARAT);
+
+        BigDecimal exact = exactGrams(WeightUnitVO.TROY_OUNCE, BigDecimal.valueOf(value, WeightUnitVO.SCALE))
+                .divide(exactGrams(WeightUnitVO.CARAT, BigDecimal.ONE), WeightUnitVO.SCALE, RoundingMode.HALF_UP);
+        assertEquals(0, exact.compareTo(BigDecimal.valueOf(converted[0], WeightUnitVO.SCALE)));
+    }
+
+    @Test
+    public void testBulkConversionRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightUnitVO.GRAM.convertAll(new long[]{1, -1}, WeightUnitVO.OUNCE));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightUnitVO.GRAM.convertAll(new long[2], WeightUnitVO.OUNCE, new long[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightUnitVO.GRAM.convertAll(new double[]{Double.NaN}, WeightUnitVO.OUNCE, new double[1]));
+        assertThrows(NullPointerException.class,
+                () -> WeightUnitVO.GRAM.convertAll(new long[1], null));
+        assertThrows(ArithmeticException.class,
+                () -> WeightUnitVO.TROY_OUNCE.convertAll(new long[]{Long.MAX_VALUE / 2}, WeightUnitVO.CARAT));
+    }
+
+    // Grams for a value, using the published conversion factors exactly
+    private static BigDecimal exactGrams(WeightUnitVO unit, BigDecimal value) {
+        return switch (unit) {
+            case GRAM -> value;
+            case OUNCE -> value.multiply(new BigDecimal("28.349523125"));
+            case CARAT -> value.multiply(new BigDecimal("0.2"));
+            case TROY_OUNCE -> value.multiply(new BigDecimal("31.1034768"));
+        };
+    }
+}
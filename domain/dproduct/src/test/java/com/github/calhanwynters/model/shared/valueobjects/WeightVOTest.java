@@ -3,6 +3,8 @@ package com.github.calhanwynters.model.shared.valueobjects;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -114,6 +116,85 @@ public class WeightVOTest {
         assertEquals(0, weightA.compareTo(WeightVO.ofGrams(new BigDecimal("500.0"))),
                 "Equal weights should return 0");
     }
-}
 
+    // Property: the long gram value gives exactly the BigDecimal results of the original formula,
+    // scale included, for inGrams, compareTo, add and subtract
+    @Test
+    public void testCachedGramsMatchBigDecimalArithmetic() {
+        Random random = new Random(20240612L);
+        WeightVO.WeightUnit[] units = WeightVO.WeightUnit.values();
+        for (int i = 0; i < 10_000; i++) {
+            WeightVO a = randomWeight(random, units);
+            WeightVO b = randomWeight(random, units);
+            BigDecimal gramsA = referenceGrams(a);
+            BigDecimal gramsB = referenceGrams(b);
+
+            assertEquals(gramsA, a.inGrams());
+            assertEquals(gramsA.movePointRight(4).longValueExact(), a.gramUnits());
+            assertEquals(Integer.signum(gramsA.compareTo(gramsB)), Integer.signum(a.compareTo(b)));
+
+            BigDecimal sum = gramsA.add(gramsB);
+            if (sum.compareTo(new BigDecimal("100000.0")) <= 0) {
+                assertEquals(WeightVO.ofGrams(sum), a.add(b));
+                assertEquals(sum.setScale(4, RoundingMode.HALF_UP).stripTrailingZeros(), a.add(b).amount());
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> a.add(b));
+            }
+
+            BigDecimal difference = gramsA.subtract(gramsB);
+            if (difference.signum() >= 0) {
+                assertEquals(WeightVO.ofGrams(difference), a.subtract(b));
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> a.subtract(b));
+            }
+        }
+    }
+
+    @Test
+    public void testValueSemanticsAreUnchanged() {
+        WeightVO weight = WeightVO.ofCarats(new BigDecimal("1.50"));
+
+        assertEquals(new BigDecimal("1.5"), weight.amount());
+        assertEquals(WeightVO.WeightUnit.CARAT, weight.unit());
+        assertEquals(WeightVO.ofCarats(new BigDecimal("1.5")), weight);
+        assertEquals(WeightVO.ofCarats(new BigDecimal("1.5")).hashCode(), weight.hashCode());
+        // Same grams in a different unit is a different value
+        assertNotEquals(WeightVO.ofGrams(new BigDecimal("0.3")), weight);
+        assertEquals(0, WeightVO.ofGrams(new BigDecimal("0.3")).compareTo(weight));
+        assertEquals("WeightVO[amount=1.5, unit=CARAT]", weight.toString());
+    }
+
+    @Test
+    public void testRecordComponentsAndPatterns() {
+        Object weight = WeightVO.ofOunces(new BigDecimal("2.25"));
+
+        assertTrue(WeightVO.class.isRecord());
+        assertTrue(weight instanceof WeightVO(BigDecimal amount, WeightVO.WeightUnit unit, long gramUnits)
+                && amount.compareTo(new BigDecimal("2.25")) == 0 && unit == WeightVO.WeightUnit.OUNCE
+                && gramUnits == 637_864L);
+        assertEquals(weight, new WeightVO(new BigDecimal("2.2500"), WeightVO.WeightUnit.OUNCE));
+    }
 
+    @Test
+    public void testGramUnitsAreDerivedOnceFromAmountAndUnit() {
+        WeightVO weight = WeightVO.ofCarats(new BigDecimal("1.5"));
+
+        assertEquals(3_000L, weight.gramUnits());
+        // The component argument of the canonical constructor is replaced by the derived value
+        assertEquals(weight, new WeightVO(new BigDecimal("1.5"), WeightVO.WeightUnit.CARAT, -1L));
+        assertEquals(3_000L, new WeightVO(new BigDecimal("1.5"), WeightVO.WeightUnit.CARAT, 42L).gramUnits());
+    }
+
+    // inGrams() as it was computed with BigDecimal arithmetic
+    private static BigDecimal referenceGrams(WeightVO weight) {
+        return weight.unit().toGrams(weight.amount()).setScale(4, RoundingMode.HALF_UP).stripTrailingZeros();
+    }
+
+    private static WeightVO randomWeight(Random random, WeightVO.WeightUnit[] units) {
+        WeightVO.WeightUnit unit = units[random.nextInt(units.length)];
+        // Up to 3000 of any unit (about 93 kg in troy ounces), so some sums exceed the maximum
+        int scale = random.nextInt(7);
+        long bound = 3_000L * BigDecimal.TEN.pow(scale).longValueExact();
+        return new WeightVO(BigDecimal.valueOf(random.nextLong(bound), scale), unit);
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.calhanwynters.search;
+
+import com.github.calhanwynters.model.shared.events.ProductChangedEvent;
+import com.github.calhanwynters.model.shared.events.ProductRemovedEvent;
+import com.github.calhanwynters.search.index.SegmentedCatalogIndex;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Keeps the search index in step with the product module.
+ * Events arrive asynchronously after the publishing transaction commits (see {@link ApplicationModuleListener}),
+ * possibly out of order or more than once; the index only applies changes with a newer product version than the
+ * one it already holds.
+ */
+@Component
+public class ProductIndexListener {
+
+    private final SegmentedCatalogIndex index;
+
+    public ProductIndexListener(SegmentedCatalogIndex index) {
+        this.index = Objects.requireNonNull(index, "index must not be null");
+    }
+
+    @ApplicationModuleListener
+    public void on(ProductChangedEvent event) {
+        index.upsert(event.product());
+    }
+
+    @ApplicationModuleListener
+    public void on(ProductRemovedEvent event) {
+        index.remove(event.productId(), event.version());
+    }
+}
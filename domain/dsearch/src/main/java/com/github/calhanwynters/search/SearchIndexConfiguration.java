@@ -0,0 +1,15 @@
+package com.github.calhanwynters.search;
+
+import com.github.calhanwynters.search.index.SegmentedCatalogIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*** Wires the incrementally updated catalog index shared by the search module.*/
+@Configuration
+public class SearchIndexConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public SegmentedCatalogIndex segmentedCatalogIndex() {
+        return SegmentedCatalogIndex.create(null);
+    }
+}
@@ -0,0 +1,406 @@
+package com.github.calhanwynters.search.index;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.valueobjects.GemstoneVO;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialCompositionVO;
+
+import java.util.*;
+
+/**
+ * Typo-tolerant prefix autocomplete over the terms of a catalog.
+ * - Terms are the words of product descriptions plus the display names of materials, gemstones and styles
+ *   (e.g. "White Gold"); each is weighted by the number of products it occurs in.
+ * - The terms are stored once as a compact trie in parallel primitive arrays, with nodes in breadth-first
+ *   order so the children of a node are contiguous and no per-node objects exist.
+ * - A lookup walks the branch of the first typed character with one Levenshtein row per depth, visiting only
+ *   nodes within the edit budget of the typed prefix, then takes the heaviest terms below the matching nodes
+ *   best-first using the largest weight kept on every node. Its cost depends on the prefix, k and the
+ *   vocabulary, not on the number of products; so does the footprint ({@link #memoryBytes()}).
+ * - Immutable and safe for concurrent readers; rebuild it when the catalog changes.
+ */
+public final class AutocompleteIndex {
+
+    /*** The largest supported edit budget; larger budgets match most of the vocabulary for short prefixes.*/
+    public static final int MAX_EDITS = 2;
+
+    // Node i's children are nodes childStart[i]..childStart[i + 1] - 1, sorted by label
+    private final char[] labels;
+    private final int[] childStart;
+    private final int[] nodeTerms;
+    private final int[] firstTerms;
+    private final int[] maxWeights;
+    // Terms in key order, so the terms below a node are a contiguous range starting at firstTerms[node]
+    private final String[] displays;
+    private final int[] weights;
+
+    private AutocompleteIndex(char[] labels, int[] childStart, int[] nodeTerms, int[] firstTerms, int[] maxWeights,
+                              String[] displays, int[] weights) {
+        this.labels = labels;
+        this.childStart = childStart;
+        this.nodeTerms = nodeTerms;
+        this.firstTerms = firstTerms;
+        this.maxWeights = maxWeights;
+        this.displays = displays;
+        this.weights = weights;
+    }
+
+    public static AutocompleteIndex of(Iterable<Product> products) {
+        return builder().addAll(products).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int termCount() {
+        return displays.length;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    // --- Suggestions ---
+
+    /**
+     * Suggests the heaviest terms starting with the prefix, tolerating typos in longer prefixes:
+     * none up to 2 characters, one edit up to 5 and two beyond.
+     * @see #suggest(String, int, int)
+     */
+    public List<Suggestion> suggest(String prefix, int k) {
+        return suggest(prefix, k, editsFor(normalize(Objects.requireNonNull(prefix, "prefix must not be null")).length()));
+    }
+
+    /**
+     * Suggests terms with a prefix within the edit distance of the typed prefix.
+     * @param prefix The typed text; matched case-insensitively with punctuation and repeated spaces collapsed.
+     * @param k The maximum number of suggestions.
+     * @param maxEdits The Levenshtein distance allowed between the prefix and a prefix of a term, 0 to {@link #MAX_EDITS}.
+     * @return Closer matches first, then heavier terms, then alphabetically.
+     */
+    public List<Suggestion> suggest(String prefix, int k, int maxEdits) {
+        Objects.requireNonNull(prefix, "prefix must not be null");
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        if (maxEdits < 0 || maxEdits > MAX_EDITS) {
+            throw new IllegalArgumentException("maxEdits must be between 0 and " + MAX_EDITS);
+        }
+        if (k == 0) {
+            return List.of();
+        }
+        char[] query = normalize(prefix).toCharArray();
+        List<Suggestion> result = new ArrayList<>(Math.min(k, 16));
+        Set<Integer> seen = new HashSet<>();
+        // Widen the budget one edit at a time: most prefixes fill k exactly or with one edit, and a walk
+        // with a smaller budget visits far fewer nodes. A pass that does not fill k has taken every term
+        // within its budget, so the next pass only adds terms at the new distance.
+        for (int budget = 0; budget <= maxEdits && result.size() < k; budget++) {
+            Search search = new Search(query, budget);
+            int[] root = search.rows[0];
+            for (int j = 0; j < root.length; j++) {
+                root[j] = j;
+            }
+            if (query.length == 0) {
+                search.addCandidate(0, 0);
+            } else {
+                // The first character must match, as typos there are rare and it keeps the walk to one branch
+                int first = child(0, query[0]);
+                if (first >= 0) {
+                    walk(search, first, 0, Integer.MAX_VALUE);
+                }
+            }
+            collect(search, budget, k, seen, result);
+        }
+        return result;
+    }
+
+    /*** Approximate heap footprint of the trie and the term table in bytes.*/
+    public long memoryBytes() {
+        long bytes = 64L + 16L + 2L * labels.length + 4 * 16L + 4L * (childStart.length + 3L * nodeTerms.length);
+        bytes += 16L + 8L * displays.length + 16L + 4L * weights.length;
+        for (String display : displays) {
+            bytes += 40L + 2L * display.length();
+        }
+        return bytes;
+    }
+
+    // --- Internals ---
+
+    // The child of the node with the label, or -1; children are sorted by label
+    private int child(int node, char label) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < label) {
+                low = mid + 1;
+            } else if (labels[mid] > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Computes the Levenshtein row of a node whose parent's row is rows[depth], records it as a candidate if the
+    // whole prefix is within budget, and walks on while a closer match may still follow below it. covered
+    // is the smallest distance of a candidate above the node, whose subtree already holds every term below.
+    private void walk(Search search, int node, int depth, int covered) {
+        int[] row = search.rows[depth];
+        int[] next = search.rows[depth + 1];
+        char[] query = search.query;
+        int n = query.length;
+        char label = labels[node];
+        next[0] = depth + 1;
+        int min = next[0];
+        for (int j = 1; j <= n; j++) {
+            int substitution = row[j - 1] + (query[j - 1] == label ? 0 : 1);
+            next[j] = Math.min(substitution, Math.min(row[j], next[j - 1]) + 1);
+            min = Math.min(min, next[j]);
+        }
+        if (next[n] < covered && next[n] <= search.maxEdits) {
+            search.addCandidate(node, next[n]);
+            covered = next[n];
+        }
+        // Row values never drop below the row minimum deeper down, so nothing closer can follow
+        if (min <= search.maxEdits && min < covered) {
+            for (int child = childStart[node]; child < childStart[node + 1]; child++) {
+                walk(search, child, depth + 1, covered);
+            }
+        }
+    }
+
+    // Best-first over the candidates at one distance: a node entry is ranked by the largest weight below it
+    private void collect(Search search, int distance, int k, Set<Integer> seen, List<Suggestion> result) {
+        PriorityQueue<Entry> queue = new PriorityQueue<>();
+        for (int i = 0; i < search.candidateCount; i++) {
+            if (search.candidateDistances[i] == distance) {
+                int node = search.candidateNodes[i];
+                queue.add(new Entry(maxWeights[node], firstTerms[node], node, -1));
+            }
+        }
+        while (!queue.isEmpty() && result.size() < k) {
+            Entry entry = queue.poll();
+            if (entry.term >= 0) {
+                if (seen.add(entry.term)) {
+                    result.add(new Suggestion(displays[entry.term], weights[entry.term], distance));
+                }
+                continue;
+            }
+            int term = nodeTerms[entry.node];
+            if (term >= 0) {
+                queue.add(new Entry(weights[term], term, -1, term));
+            }
+            for (int child = childStart[entry.node]; child < childStart[entry.node + 1]; child++) {
+                queue.add(new Entry(maxWeights[child], firstTerms[child], child, -1));
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        return String.join(" ", TextTokenizer.tokenize(text));
+    }
+
+    static int editsFor(int prefixLength) {
+        return prefixLength <= 2 ? 0 : prefixLength <= 5 ? 1 : 2;
+    }
+
+    // "CHANNEL_SET" -> "Channel set", as the style value objects display it
+    static String styleDisplayName(String style) {
+        String displayName = style.replace('_', ' ');
+        return displayName.isEmpty() ? displayName : displayName.charAt(0) + displayName.substring(1).toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Search {
+        final char[] query;
+        final int maxEdits;
+        final int[][] rows;
+        int[] candidateNodes = new int[8];
+        int[] candidateDistances = new int[8];
+        int candidateCount;
+
+        Search(char[] query, int maxEdits) {
+            this.query = query;
+            this.maxEdits = maxEdits;
+            // The walk stops once the depth exceeds the prefix length by more than maxEdits
+            this.rows = new int[query.length + maxEdits + 2][query.length + 1];
+        }
+
+        void addCandidate(int node, int distance) {
+            if (candidateCount == candidateNodes.length) {
+                candidateNodes = Arrays.copyOf(candidateNodes, candidateCount * 2);
+                candidateDistances = Arrays.copyOf(candidateDistances, candidateCount * 2);
+            }
+            candidateNodes[candidateCount] = node;
+            candidateDistances[candidateCount++] = distance;
+        }
+    }
+
+    private record Entry(int weight, int firstTerm, int node, int term) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            if (weight != other.weight) {
+                return Integer.compare(other.weight, weight);
+            }
+            if (firstTerm != other.firstTerm) {
+                return Integer.compare(firstTerm, other.firstTerm);
+            }
+            // A node's own term ties with the node; either order yields the term before its descendants
+            return Integer.compare(node, other.node);
+        }
+    }
+
+    // --- Builder ---
+
+    /*** Collects terms and their weights; not thread-safe.*/
+    public static final class Builder {
+        private final Map<String, TermStats> terms = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /*** Adds the product's description words and its variants' material, gemstone and style names, once each.*/
+        public Builder add(Product product) {
+            Objects.requireNonNull(product, "product must not be null");
+            Map<String, String> productTerms = new HashMap<>();
+            TextTokenizer.forEachToken(product.description().value(), token -> productTerms.putIfAbsent(token, token));
+            for (Variant variant : product.variants()) {
+                for (MaterialCompositionVO composition : variant.materials()) {
+                    putName(productTerms, composition.material().displayName());
+                }
+                for (GemstoneVO gemstone : variant.gemstones()) {
+                    putName(productTerms, gemstone.type().name());
+                }
+                for (String style : variant.styleNames()) {
+                    putName(productTerms, styleDisplayName(style));
+                }
+            }
+            productTerms.forEach((key, display) -> stats(key, display).weight++);
+            return this;
+        }
+
+        public Builder addAll(Iterable<Product> products) {
+            Objects.requireNonNull(products, "products must not be null");
+            for (Product product : products) {
+                add(product);
+            }
+            return this;
+        }
+
+        /**
+         * Adds weight to a term outside the catalog, e.g. a curated or frequently searched phrase.
+         * @throws IllegalArgumentException if the text has no letters or digits or the weight is not positive.
+         */
+        public Builder addTerm(String text, int weight) {
+            Objects.requireNonNull(text, "text must not be null");
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight must be positive");
+            }
+            String key = normalize(text);
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("text must contain a letter or digit");
+            }
+            TermStats stats = stats(key, text.strip());
+            stats.weight = (int) Math.min(Integer.MAX_VALUE, (long) stats.weight + weight);
+            return this;
+        }
+
+        public AutocompleteIndex build() {
+            String[] keys = terms.keySet().toArray(new String[0]);
+            Arrays.sort(keys);
+            String[] displays = new String[keys.length];
+            int[] weights = new int[keys.length];
+            int capacity = 1;
+            for (int i = 0; i < keys.length; i++) {
+                TermStats stats = terms.get(keys[i]);
+                displays[i] = stats.display;
+                weights[i] = stats.weight;
+                capacity += keys[i].length();
+            }
+
+            // Breadth-first: node ids are assigned in visiting order, so each node's children get consecutive ids.
+            // Every node covers the keys from[node]..to[node] - 1, which share its path as a prefix.
+            char[] labels = new char[capacity];
+            int[] childStart = new int[capacity + 1];
+            int[] nodeTerms = new int[capacity];
+            int[] firstTerms = new int[capacity];
+            int[] from = new int[capacity];
+            int[] to = new int[capacity];
+            int[] depths = new int[capacity];
+            int nodeCount = 1;
+            to[0] = keys.length;
+            for (int node = 0; node < nodeCount; node++) {
+                int start = from[node];
+                int end = to[node];
+                int depth = depths[node];
+                firstTerms[node] = start;
+                nodeTerms[node] = -1;
+                if (start < end && keys[start].length() == depth) {
+                    nodeTerms[node] = start++;
+                }
+                childStart[node] = nodeCount;
+                while (start < end) {
+                    char label = keys[start].charAt(depth);
+                    int groupEnd = start + 1;
+                    while (groupEnd < end && keys[groupEnd].charAt(depth) == label) {
+                        groupEnd++;
+                    }
+                    labels[nodeCount] = label;
+                    from[nodeCount] = start;
+                    to[nodeCount] = groupEnd;
+                    depths[nodeCount] = depth + 1;
+                    nodeCount++;
+                    start = groupEnd;
+                }
+            }
+            childStart[nodeCount] = nodeCount;
+
+            // Children have larger ids than their parent, so one backward pass fills in the subtree maxima
+            int[] maxWeights = new int[nodeCount];
+            for (int node = nodeCount - 1; node >= 0; node--) {
+                int max = nodeTerms[node] >= 0 ? weights[nodeTerms[node]] : 0;
+                for (int child = childStart[node]; child < childStart[node + 1]; child++) {
+                    max = Math.max(max, maxWeights[child]);
+                }
+                maxWeights[node] = max;
+            }
+            return new AutocompleteIndex(
+                    Arrays.copyOf(labels, nodeCount),
+                    Arrays.copyOf(childStart, nodeCount + 1),
+                    Arrays.copyOf(nodeTerms, nodeCount),
+                    Arrays.copyOf(firstTerms, nodeCount),
+                    maxWeights,
+                    displays,
+                    weights);
+        }
+
+        // Names keep their capitalization; a description word with the same key takes it over
+        private static void putName(Map<String, String> productTerms, String name) {
+            String key = normalize(name);
+            if (!key.isEmpty()) {
+                productTerms.put(key, name.strip());
+            }
+        }
+
+        private TermStats stats(String key, String display) {
+            TermStats stats = terms.computeIfAbsent(key, k -> new TermStats(display));
+            if (stats.display.equals(key) && !display.equals(key)) {
+                stats.display = display;
+            }
+            return stats;
+        }
+    }
+
+    private static final class TermStats {
+        String display;
+        int weight;
+
+        TermStats(String display) {
+            this.display = display;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.calhanwynters.search.index;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.valueobjects.GemstoneVO;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialCompositionVO;
+import com.github.calhanwynters.model.shared.valueobjects.ProductId;
+import com.github.calhanwynters.model.shared.valueobjects.VariantId;
+
+import java.util.*;
+
+/**
+ * Immutable in-memory inverted index over the variants of a catalog.
+ * - Each variant gets a dense ordinal (0..variantCount-1) in the order it was added; postings lists,
+ *   bitmaps and other per-variant columns are addressed by that ordinal.
+ * - Indexed terms per variant (see {@link SearchField}): the words of its product's description, its style
+ *   names, its materials' canonical names, its gemstone type names and its status.
+ * - Queries ({@link Query}) evaluate to {@link VariantBitmap}s; the index itself is safe for concurrent readers.
+ */
+public final class CatalogIndex {
+
+    private final Variant[] variants;
+    private final ProductId[] productIds;
+    private final Map<VariantId, Integer> ordinalsById;
+    private final Map<Term, PostingsList> postings;
+    private final PostingsList empty;
+
+    private CatalogIndex(Variant[] variants, ProductId[] productIds, Map<VariantId, Integer> ordinalsById,
+                         Map<Term, PostingsList> postings) {
+        this.variants = variants;
+        this.productIds = productIds;
+        this.ordinalsById = ordinalsById;
+        this.postings = postings;
+        this.empty = PostingsList.of(variants.length);
+    }
+
+    public static CatalogIndex of(Iterable<Product> products) {
+        return builder().addAll(products).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // --- Ordinals ---
+
+    public int variantCount() {
+        return variants.length;
+    }
+
+    public Variant variant(int ordinal) {
+        return variants[Objects.checkIndex(ordinal, variants.length)];
+    }
+
+    public ProductId productId(int ordinal) {
+        return productIds[Objects.checkIndex(ordinal, productIds.length)];
+    }
+
+    /*** The ordinal of the variant, or -1 if the index does not contain it.*/
+    public int ordinalOf(VariantId variantId) {
+        Integer ordinal = ordinalsById.get(Objects.requireNonNull(variantId, "variantId must not be null"));
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    // --- Terms ---
+
+    /*** The postings of the term; an empty list if no variant contains it.*/
+    public PostingsList postings(Term term) {
+        return postings.getOrDefault(Objects.requireNonNull(term, "term must not be null"), empty);
+    }
+
+    public Set<Term> terms() {
+        return postings.keySet();
+    }
+
+    // --- Queries ---
+
+    /*** A new bitmap containing every ordinal.*/
+    public VariantBitmap all() {
+        return VariantBitmap.full(variants.length);
+    }
+
+    public VariantBitmap evaluate(Query query) {
+        return Objects.requireNonNull(query, "query must not be null").evaluate(this);
+    }
+
+    /*** The matching variants in ordinal order.*/
+    public List<Variant> search(Query query) {
+        VariantBitmap matches = evaluate(query);
+        List<Variant> result = new ArrayList<>(matches.cardinality());
+        matches.forEach(ordinal -> result.add(variants[ordinal]));
+        return result;
+    }
+
+    /*** Approximate heap footprint of the postings lists and ordinal tables, excluding the variants themselves.*/
+    public long memoryBytes() {
+        long bytes = 16L + 8L * variants.length * 2 + 48L * ordinalsById.size();
+        for (Map.Entry<Term, PostingsList> entry : postings.entrySet()) {
+            bytes += 48L + 40L + 2L * entry.getKey().value().length() + entry.getValue().memoryBytes();
+        }
+        return bytes;
+    }
+
+    // --- Builder ---
+
+    /*** Collects products and assigns variant ordinals; not thread-safe.*/
+    public static final class Builder {
+        private final List<Variant> variants = new ArrayList<>();
+        private final List<ProductId> productIds = new ArrayList<>();
+        private final Map<VariantId, Integer> ordinalsById = new HashMap<>();
+        private final Map<Term, OrdinalBuffer> postings = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds every variant of the product.
+         * @throws IllegalArgumentException if a variant id is already in the index.
+         */
+        public Builder add(Product product) {
+            Objects.requireNonNull(product, "product must not be null");
+            List<Term> descriptionTerms = new ArrayList<>();
+            TextTokenizer.forEachToken(product.description().value(),
+                    token -> descriptionTerms.add(Term.of(SearchField.DESCRIPTION, token)));
+
+            for (Variant variant : product.variants()) {
+                int ordinal = variants.size();
+                if (ordinalsById.putIfAbsent(variant.id(), ordinal) != null) {
+                    throw new IllegalArgumentException("Duplicate variant id: " + variant.id().value());
+                }
+                variants.add(variant);
+                productIds.add(product.id());
+
+                for (Term term : descriptionTerms) {
+                    post(term, ordinal);
+                }
+                for (String style : variant.styleNames()) {
+                    post(Term.of(SearchField.STYLE, style), ordinal);
+                }
+                for (MaterialCompositionVO composition : variant.materials()) {
+                    post(Term.of(SearchField.MATERIAL, composition.material().canonicalName()), ordinal);
+                }
+                for (GemstoneVO gemstone : variant.gemstones()) {
+                    post(Term.of(SearchField.GEMSTONE, gemstone.type().name()), ordinal);
+                }
+                post(Term.of(SearchField.STATUS, variant.status().name()), ordinal);
+            }
+            return this;
+        }
+
+        public Builder addAll(Iterable<Product> products) {
+            Objects.requireNonNull(products, "products must not be null");
+            for (Product product : products) {
+                add(product);
+            }
+            return this;
+        }
+
+        public CatalogIndex build() {
+            int universe = variants.size();
+            Map<Term, PostingsList> compressed = new HashMap<>(postings.size() * 4 / 3 + 1);
+            postings.forEach((term, buffer) -> compressed.put(term, PostingsList.of(buffer.ordinals, buffer.size, universe)));
+            return new CatalogIndex(
+                    variants.toArray(new Variant[0]),
+                    productIds.toArray(new ProductId[0]),
+                    Map.copyOf(ordinalsById),
+                    Map.copyOf(compressed));
+        }
+
+        // Ordinals only grow while building, so a repeated term for the same variant is always the last entry
+        private void post(Term term, int ordinal) {
+            OrdinalBuffer buffer = postings.computeIfAbsent(term, t -> new OrdinalBuffer());
+            if (buffer.size == 0 || buffer.ordinals[buffer.size - 1] != ordinal) {
+                buffer.add(ordinal);
+            }
+        }
+    }
+
+    private static final class OrdinalBuffer {
+        int[] ordinals = new int[4];
+        int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.calhanwynters.search.index;
+
+/**
+ * The storefront filter dimensions counted by {@link FacetIndex}. Facet values are the names of the
+ * corresponding domain enum constants (or style names and price band labels).
+ */
+public enum Facet {
+    /*** {@code MaterialVO.MaterialName} of each material composition.*/
+    MATERIAL,
+    /*** {@code GemstoneTypeEnums} of each gemstone; unknown gemstone names count as OTHER.*/
+    GEMSTONE,
+    /*** Canonical style names of the variant's style value object.*/
+    STYLE,
+    /*** {@code RingSize} of ring variants.*/
+    RING_SIZE,
+    /*** {@code RingSize.Region} of ring variants.*/
+    RING_SIZE_REGION,
+    /*** {@link PriceBands} label of the current price.*/
+    PRICE_BAND
+}
@@ -0,0 +1,58 @@
+package com.github.calhanwynters.search.index;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Result of {@link FacetIndex#count}: the number of matching variants per facet value.
+ * Values with no matching variants are included with a count of zero, in the facet index's value order.
+ */
+public final class FacetCounts {
+
+    private final int matches;
+    private final Map<Facet, Map<String, Integer>> counts;
+
+    FacetCounts(int matches, EnumMap<Facet, LinkedHashMap<String, Integer>> counts) {
+        this.matches = matches;
+        EnumMap<Facet, Map<String, Integer>> view = new EnumMap<>(Facet.class);
+        counts.forEach((facet, values) -> view.put(facet, Collections.unmodifiableMap(values)));
+        this.counts = Collections.unmodifiableMap(view);
+    }
+
+    /*** Adds up counts computed over disjoint sets of variants, e.g. the segments of one index.*/
+    static FacetCounts sum(List<FacetCounts> parts) {
+        int matches = 0;
+        EnumMap<Facet, LinkedHashMap<String, Integer>> totals = new EnumMap<>(Facet.class);
+        for (FacetCounts part : parts) {
+            matches += part.matches;
+            part.counts.forEach((facet, values) -> {
+                LinkedHashMap<String, Integer> total = totals.computeIfAbsent(facet, f -> new LinkedHashMap<>());
+                values.forEach((value, count) -> total.merge(value, count, Integer::sum));
+            });
+        }
+        return new FacetCounts(matches, totals);
+    }
+
+    /*** The number of variants matching the query.*/
+    public int matches() {
+        return matches;
+    }
+
+    /*** The counts of one facet, keyed by facet value; empty if the facet has no values.*/
+    public Map<String, Integer> counts(Facet facet) {
+        return counts.getOrDefault(Objects.requireNonNull(facet, "facet must not be null"), Map.of());
+    }
+
+    public int count(Facet facet, String value) {
+        return counts(facet).getOrDefault(value, 0);
+    }
+
+    @Override
+    public String toString() {
+        return "FacetCounts[matches=" + matches + ", counts=" + counts + "]";
+    }
+}
@@ -0,0 +1,240 @@
+package com.github.calhanwynters.search.index;
+
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.GemstoneTypeEnums;
+import com.github.calhanwynters.model.shared.valueobjects.GemstoneVO;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialCompositionVO;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+
+import java.util.*;
+
+/**
+ * Per-value bitmaps over the ordinals of a {@link CatalogIndex}, for storefront facet counts.
+ * - One bitmap ("column") per facet value present in the catalog; absent values cost nothing.
+ * - {@link #count(VariantBitmap)} computes every facet count in a single pass over the match bitmap:
+ *   for each non-empty 64-variant word it adds the popcount of its intersection with every column,
+ *   so selective queries skip most of the catalog.
+ * - Immutable and safe for concurrent readers; rebuild it together with the catalog index.
+ */
+public final class FacetIndex {
+
+    private static final Map<String, GemstoneTypeEnums> GEMSTONE_TYPES = new HashMap<>();
+
+    static {
+        for (GemstoneTypeEnums type : GemstoneTypeEnums.values()) {
+            GEMSTONE_TYPES.put(type.name(), type);
+        }
+    }
+
+    private final CatalogIndex catalog;
+    private final Facet[] columnFacets;
+    private final String[] columnValues;
+    private final long[][] columns;
+    private final int[] columnSizes;
+    private final Map<Facet, Map<String, Integer>> columnsByValue;
+
+    private FacetIndex(CatalogIndex catalog, List<Column> sorted) {
+        this.catalog = catalog;
+        this.columnFacets = new Facet[sorted.size()];
+        this.columnValues = new String[sorted.size()];
+        this.columns = new long[sorted.size()][];
+        this.columnSizes = new int[sorted.size()];
+        EnumMap<Facet, Map<String, Integer>> byValue = new EnumMap<>(Facet.class);
+        for (int i = 0; i < sorted.size(); i++) {
+            Column column = sorted.get(i);
+            columnFacets[i] = column.facet;
+            columnValues[i] = column.value;
+            columns[i] = column.bitmap.words;
+            columnSizes[i] = column.bitmap.cardinality();
+            byValue.computeIfAbsent(column.facet, f -> new LinkedHashMap<>()).put(column.value, i);
+        }
+        this.columnsByValue = byValue;
+    }
+
+    /*** Builds the facet columns without price bands.*/
+    public static FacetIndex build(CatalogIndex catalog) {
+        return build(catalog, null);
+    }
+
+    /**
+     * Builds the facet columns for every variant of the catalog index.
+     * @param catalog The index whose ordinals the columns address.
+     * @param priceBands The bands for {@link Facet#PRICE_BAND}; null for no price facet.
+     */
+    public static FacetIndex build(CatalogIndex catalog, PriceBands priceBands) {
+        Objects.requireNonNull(catalog, "catalog must not be null");
+        int size = catalog.variantCount();
+        List<String> bandLabels = priceBands == null ? List.of() : priceBands.labels();
+        Map<Facet, Map<String, Column>> columns = new EnumMap<>(Facet.class);
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            Variant variant = catalog.variant(ordinal);
+            for (MaterialCompositionVO composition : variant.materials()) {
+                MaterialName material = composition.material().material();
+                column(columns, Facet.MATERIAL, material.name(), material.ordinal(), size).set(ordinal);
+            }
+            for (GemstoneVO gemstone : variant.gemstones()) {
+                GemstoneTypeEnums type = gemstoneType(gemstone.type().name());
+                column(columns, Facet.GEMSTONE, type.name(), type.ordinal(), size).set(ordinal);
+            }
+            for (String style : variant.styleNames()) {
+                column(columns, Facet.STYLE, style, 0, size).set(ordinal);
+            }
+            if (variant instanceof RingVariant ring) {
+                RingSize ringSize = ring.ringSize();
+                column(columns, Facet.RING_SIZE, ringSize.name(), ringSize.ordinal(), size).set(ordinal);
+                RingSize.Region region = ringSize.getRegionType();
+                column(columns, Facet.RING_SIZE_REGION, region.name(), region.ordinal(), size).set(ordinal);
+            }
+            if (priceBands != null) {
+                int band = priceBands.bandOf(variant.currentPrice());
+                if (band >= 0) {
+                    column(columns, Facet.PRICE_BAND, bandLabels.get(band), band, size).set(ordinal);
+                }
+            }
+        }
+
+        List<Column> sorted = new ArrayList<>();
+        columns.values().forEach(values -> sorted.addAll(values.values()));
+        sorted.sort(Comparator.comparing((Column column) -> column.facet)
+                .thenComparingInt(column -> column.rank)
+                .thenComparing(column -> column.value));
+        return new FacetIndex(catalog, sorted);
+    }
+
+    public CatalogIndex catalog() {
+        return catalog;
+    }
+
+    /*** The values of a facet present in the catalog, in enum declaration (or band, or name) order.*/
+    public Set<String> values(Facet facet) {
+        return Collections.unmodifiableSet(columnsByValue.getOrDefault(facet, Map.of()).keySet());
+    }
+
+    /*** A new bitmap of the variants with the facet value; empty if no variant has it.*/
+    public VariantBitmap bitmap(Facet facet, String value) {
+        VariantBitmap bitmap = new VariantBitmap(catalog.variantCount());
+        int column = columnOf(facet, value);
+        if (column >= 0) {
+            System.arraycopy(columns[column], 0, bitmap.words, 0, bitmap.words.length);
+        }
+        return bitmap;
+    }
+
+    /*** A query matching variants with any of the facet values, for combining facet selections with other queries.*/
+    public Query filter(Facet facet, String... values) {
+        Objects.requireNonNull(facet, "facet must not be null");
+        return new FacetQuery(this, facet, List.of(values));
+    }
+
+    // --- Counting ---
+
+    /**
+     * Counts every facet value over the matching variants.
+     * @param matches A bitmap over this index's ordinals, e.g. from {@link CatalogIndex#evaluate(Query)}.
+     */
+    public FacetCounts count(VariantBitmap matches) {
+        Objects.requireNonNull(matches, "matches must not be null");
+        if (matches.size() != catalog.variantCount()) {
+            throw new IllegalArgumentException("Bitmap size " + matches.size()
+                    + " does not match the catalog's " + catalog.variantCount() + " variants");
+        }
+        long[] words = matches.words;
+        int[] totals = new int[columns.length];
+        int matched = 0;
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            if (word == 0) {
+                continue;
+            }
+            matched += Long.bitCount(word);
+            for (int c = 0; c < columns.length; c++) {
+                totals[c] += Long.bitCount(word & columns[c][w]);
+            }
+        }
+
+        EnumMap<Facet, LinkedHashMap<String, Integer>> counts = new EnumMap<>(Facet.class);
+        for (int c = 0; c < columns.length; c++) {
+            counts.computeIfAbsent(columnFacets[c], f -> new LinkedHashMap<>()).put(columnValues[c], totals[c]);
+        }
+        return new FacetCounts(matched, counts);
+    }
+
+    public FacetCounts count(Query query) {
+        return count(catalog.evaluate(query));
+    }
+
+    /*** Approximate heap footprint of the facet columns in bytes.*/
+    public long memoryBytes() {
+        long bytes = 64L;
+        for (long[] column : columns) {
+            bytes += 16L + 8L * column.length + 64L;
+        }
+        return bytes;
+    }
+
+    private int columnOf(Facet facet, String value) {
+        Objects.requireNonNull(facet, "facet must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        Integer column = columnsByValue.getOrDefault(facet, Map.of()).get(value);
+        return column == null ? -1 : column;
+    }
+
+    private static VariantBitmap column(Map<Facet, Map<String, Column>> columns, Facet facet, String value, int rank, int size) {
+        return columns.computeIfAbsent(facet, f -> new HashMap<>())
+                .computeIfAbsent(value, v -> new Column(facet, v, rank, new VariantBitmap(size)))
+                .bitmap;
+    }
+
+    // Gemstone types are free-form names; map them onto the canonical enum like "Blue Topaz" -> OTHER
+    static GemstoneTypeEnums gemstoneType(String name) {
+        String key = name.strip().toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_');
+        return GEMSTONE_TYPES.getOrDefault(key, GemstoneTypeEnums.OTHER);
+    }
+
+    private record Column(Facet facet, String value, int rank, VariantBitmap bitmap) {
+    }
+
+    private record FacetQuery(FacetIndex facets, Facet facet, List<String> values) implements Query {
+
+        @Override
+        public VariantBitmap evaluate(CatalogIndex index) {
+            requireCatalog(index);
+            VariantBitmap result = new VariantBitmap(index.variantCount());
+            unionInto(index, result);
+            return result;
+        }
+
+        @Override
+        public void unionInto(CatalogIndex index, VariantBitmap target) {
+            requireCatalog(index);
+            for (String value : values) {
+                int column = facets.columnOf(facet, value);
+                if (column >= 0) {
+                    long[] words = facets.columns[column];
+                    for (int i = 0; i < words.length; i++) {
+                        target.words[i] |= words[i];
+                    }
+                }
+            }
+        }
+
+        @Override
+        public int cost(CatalogIndex index) {
+            long cost = 0;
+            for (String value : values) {
+                int column = facets.columnOf(facet, value);
+                cost += column >= 0 ? facets.columnSizes[column] : 0;
+            }
+            return (int) Math.min(cost, index.variantCount());
+        }
+
+        private void requireCatalog(CatalogIndex index) {
+            if (index != facets.catalog) {
+                throw new IllegalArgumentException("Facet filter belongs to another catalog index");
+            }
+        }
+    }
+}
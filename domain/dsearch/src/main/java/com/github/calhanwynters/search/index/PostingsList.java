@@ -0,0 +1,213 @@
+package com.github.calhanwynters.search.index;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable, compressed list of the variant ordinals containing one term.
+ * - Sparse lists store the gaps between ascending ordinals as varints (7 bits per byte), usually one or
+ *   two bytes per posting.
+ * - Lists dense enough that a plain bitmap is smaller (e.g. a status shared by most variants) are stored
+ *   as bitmap words instead, so no term costs more than one bit per variant.
+ * - Combines directly into a {@link VariantBitmap} without decoding to an intermediate array.
+ */
+public final class PostingsList {
+
+    private final int universe;
+    private final int count;
+    private final byte[] gaps;  // varint gaps; null when dense
+    private final long[] words; // bitmap words; null when sparse
+
+    private PostingsList(int universe, int count, byte[] gaps, long[] words) {
+        this.universe = universe;
+        this.count = count;
+        this.gaps = gaps;
+        this.words = words;
+    }
+
+    /**
+     * Compresses ascending ordinals, choosing the smaller of the gap and bitmap encodings.
+     * @param ordinals The ordinals; the first {@code count} entries must be strictly ascending.
+     * @param count The number of ordinals to use.
+     * @param universe The ordinal space, i.e. the variant count of the index.
+     * @throws IllegalArgumentException if the ordinals are not strictly ascending or outside the universe.
+     */
+    public static PostingsList of(int[] ordinals, int count, int universe) {
+        Objects.requireNonNull(ordinals, "ordinals must not be null");
+        Objects.checkFromIndexSize(0, count, ordinals.length);
+        if (universe < 0) {
+            throw new IllegalArgumentException("universe must not be negative");
+        }
+        int previous = -1;
+        int encodedLength = 0;
+        for (int i = 0; i < count; i++) {
+            int ordinal = ordinals[i];
+            if (ordinal <= previous || ordinal >= universe) {
+                throw new IllegalArgumentException("ordinals must be strictly ascending and below " + universe);
+            }
+            encodedLength += varIntLength(ordinal - previous);
+            previous = ordinal;
+        }
+
+        if ((long) VariantBitmap.wordCount(universe) * Long.BYTES < encodedLength) {
+            long[] words = new long[VariantBitmap.wordCount(universe)];
+            for (int i = 0; i < count; i++) {
+                words[ordinals[i] >>> 6] |= 1L << ordinals[i];
+            }
+            return new PostingsList(universe, count, null, words);
+        }
+        byte[] gaps = new byte[encodedLength];
+        int position = 0;
+        previous = -1;
+        for (int i = 0; i < count; i++) {
+            int gap = ordinals[i] - previous;
+            while ((gap & ~0x7F) != 0) {
+                gaps[position++] = (byte) ((gap & 0x7F) | 0x80);
+                gap >>>= 7;
+            }
+            gaps[position++] = (byte) gap;
+            previous = ordinals[i];
+        }
+        return new PostingsList(universe, count, gaps, null);
+    }
+
+    public static PostingsList of(int universe, int... ordinals) {
+        return of(ordinals, ordinals.length, universe);
+    }
+
+    // --- Reading ---
+
+    /*** The number of ordinals, i.e. the term's variant frequency.*/
+    public int size() {
+        return count;
+    }
+
+    public int universe() {
+        return universe;
+    }
+
+    /*** Whether the list is stored as a bitmap rather than as gaps.*/
+    public boolean isDense() {
+        return words != null;
+    }
+
+    /*** Calls the action for each ordinal in ascending order.*/
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action, "action must not be null");
+        if (words != null) {
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return;
+        }
+        int ordinal = -1;
+        int position = 0;
+        while (position < gaps.length) {
+            int gap = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = gaps[position++];
+                gap |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            ordinal += gap;
+            action.accept(ordinal);
+        }
+    }
+
+    public int[] toArray() {
+        int[] ordinals = new int[count];
+        int[] next = {0};
+        forEach(ordinal -> ordinals[next[0]++] = ordinal);
+        return ordinals;
+    }
+
+    public VariantBitmap toBitmap() {
+        VariantBitmap bitmap = new VariantBitmap(universe);
+        orInto(bitmap);
+        return bitmap;
+    }
+
+    // --- Combining into bitmaps ---
+
+    /*** Sets the list's ordinals in the target.*/
+    public void orInto(VariantBitmap target) {
+        requireUniverse(target);
+        long[] targetWords = target.words;
+        if (words != null) {
+            for (int i = 0; i < words.length; i++) {
+                targetWords[i] |= words[i];
+            }
+            return;
+        }
+        forEach(ordinal -> targetWords[ordinal >>> 6] |= 1L << ordinal);
+    }
+
+    /*** Clears every ordinal of the target that is not in the list.*/
+    public void andInto(VariantBitmap target) {
+        requireUniverse(target);
+        long[] targetWords = target.words;
+        if (words != null) {
+            for (int i = 0; i < words.length; i++) {
+                targetWords[i] &= words[i];
+            }
+            return;
+        }
+        // Walk the postings once, masking each touched word and zeroing the words in between
+        long[] keep = {0L};
+        int[] currentWord = {0};
+        forEach(ordinal -> {
+            int wordIndex = ordinal >>> 6;
+            if (wordIndex != currentWord[0]) {
+                targetWords[currentWord[0]] &= keep[0];
+                Arrays.fill(targetWords, currentWord[0] + 1, wordIndex, 0L);
+                currentWord[0] = wordIndex;
+                keep[0] = 0L;
+            }
+            keep[0] |= 1L << ordinal;
+        });
+        if (targetWords.length > 0) {
+            targetWords[currentWord[0]] &= keep[0];
+            Arrays.fill(targetWords, currentWord[0] + 1, targetWords.length, 0L);
+        }
+    }
+
+    /*** Clears the list's ordinals in the target.*/
+    public void andNotInto(VariantBitmap target) {
+        requireUniverse(target);
+        long[] targetWords = target.words;
+        if (words != null) {
+            for (int i = 0; i < words.length; i++) {
+                targetWords[i] &= ~words[i];
+            }
+            return;
+        }
+        forEach(ordinal -> targetWords[ordinal >>> 6] &= ~(1L << ordinal));
+    }
+
+    /*** Approximate heap footprint in bytes.*/
+    public long memoryBytes() {
+        long payload = words != null ? 16L + 8L * words.length : 16L + gaps.length;
+        return 24L + payload;
+    }
+
+    @Override
+    public String toString() {
+        return "PostingsList[size=" + count + ", universe=" + universe + ", " + (isDense() ? "dense" : "sparse") + "]";
+    }
+
+    private void requireUniverse(VariantBitmap target) {
+        Objects.requireNonNull(target, "target must not be null");
+        if (target.size() != universe) {
+            throw new IllegalArgumentException("Bitmap size " + target.size() + " does not match universe " + universe);
+        }
+    }
+
+    private static int varIntLength(int value) {
+        return value < (1 << 7) ? 1 : value < (1 << 14) ? 2 : value < (1 << 21) ? 3 : value < (1 << 28) ? 4 : 5;
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.calhanwynters.search.index;
+
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Price bands for one currency, split at ascending boundaries.
+ * - Boundaries 50 and 100 give the bands "0-50", "50-100" and "100+"; each band includes its lower bound.
+ * - Prices in another currency are in no band.
+ */
+public record PriceBands(String currencyCode, List<BigDecimal> boundaries) {
+
+    public PriceBands {
+        Objects.requireNonNull(currencyCode, "currencyCode must not be null");
+        Objects.requireNonNull(boundaries, "boundaries must not be null");
+        boundaries = List.copyOf(boundaries);
+        BigDecimal previous = BigDecimal.ZERO;
+        for (BigDecimal boundary : boundaries) {
+            if (boundary.compareTo(previous) <= 0) {
+                throw new IllegalArgumentException("boundaries must be positive and strictly ascending");
+            }
+            previous = boundary;
+        }
+    }
+
+    public static PriceBands of(String currencyCode, String... boundaries) {
+        List<BigDecimal> values = new ArrayList<>(boundaries.length);
+        for (String boundary : boundaries) {
+            values.add(new BigDecimal(boundary));
+        }
+        return new PriceBands(currencyCode, values);
+    }
+
+    /*** The band labels in ascending price order.*/
+    public List<String> labels() {
+        List<String> labels = new ArrayList<>(boundaries.size() + 1);
+        String lower = "0";
+        for (BigDecimal boundary : boundaries) {
+            String upper = boundary.toPlainString();
+            labels.add(lower + "-" + upper);
+            lower = upper;
+        }
+        labels.add(lower + "+");
+        return labels;
+    }
+
+    /*** The index of the price's band in {@link #labels()}, or -1 for another currency or a negative price.*/
+    public int bandOf(MonetaryAmount price) {
+        Objects.requireNonNull(price, "price must not be null");
+        if (!price.getCurrency().getCurrencyCode().equals(currencyCode)) {
+            return -1;
+        }
+        BigDecimal amount = price.getNumber().numberValue(BigDecimal.class);
+        if (amount.signum() < 0) {
+            return -1;
+        }
+        int band = 0;
+        while (band < boundaries.size() && amount.compareTo(boundaries.get(band)) >= 0) {
+            band++;
+        }
+        return band;
+    }
+}
@@ -0,0 +1,305 @@
+package com.github.calhanwynters.search.index;
+
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+/**
+ * Sorted primitive price columns over the ordinals of a {@link CatalogIndex}, one per currency.
+ * - Each column holds every variant's {@code currentPrice()} as a sorted {@code long[]} of unscaled values, with
+ *   the variant ordinals in a parallel {@code int[]}. The column's scale is the currency's default fraction digits
+ *   (minor units, e.g. cents), widened to the most fraction digits of any stored price, so prices are stored
+ *   exactly and a price of 9.995 never matches a range starting at 10.00. The widening stops at
+ *   {@value #MAX_SCALE} fraction digits; a price that needs more, or does not fit a long at its column's scale,
+ *   is rejected when the column is built.
+ * - Range bounds beyond what a column can hold are clamped: they match every price or none.
+ * - Range filters binary-search the column and are {@link Query}s, so they combine with term and facet clauses.
+ * - Sorting a result by price walks the same column; no variant or MonetaryAmount is touched at query time.
+ * - Immutable and safe for concurrent readers; rebuild it together with the catalog index.
+ */
+public final class PriceColumn {
+
+    /*** The most fraction digits a column is widened to, e.g. nano-units of the currency.*/
+    public static final int MAX_SCALE = 9;
+
+    private final CatalogIndex catalog;
+    private final Map<String, Column> columns;
+
+    private PriceColumn(CatalogIndex catalog, Map<String, Column> columns) {
+        this.catalog = catalog;
+        this.columns = columns;
+    }
+
+    public static PriceColumn build(CatalogIndex catalog) {
+        Objects.requireNonNull(catalog, "catalog must not be null");
+        // First pass: the scale of each currency's column, so the second can store every price exactly
+        BigDecimal[] amounts = new BigDecimal[catalog.variantCount()];
+        String[] currencies = new String[catalog.variantCount()];
+        Map<String, Integer> scales = new HashMap<>();
+        for (int ordinal = 0; ordinal < catalog.variantCount(); ordinal++) {
+            MonetaryAmount price = catalog.variant(ordinal).currentPrice();
+            amounts[ordinal] = price.getNumber().numberValue(BigDecimal.class);
+            currencies[ordinal] = price.getCurrency().getCurrencyCode();
+            int scale = Math.max(price.getCurrency().getDefaultFractionDigits(), amounts[ordinal].stripTrailingZeros().scale());
+            scales.merge(currencies[ordinal], Math.min(MAX_SCALE, Math.max(0, scale)), Math::max);
+        }
+        Map<String, ColumnBuilder> builders = new HashMap<>();
+        for (int ordinal = 0; ordinal < amounts.length; ordinal++) {
+            int scale = scales.get(currencies[ordinal]);
+            builders.computeIfAbsent(currencies[ordinal], c -> new ColumnBuilder(scale))
+                    .add(unscaledPrice(amounts[ordinal], currencies[ordinal], scale), ordinal);
+        }
+        Map<String, Column> columns = new HashMap<>();
+        builders.forEach((currency, builder) -> columns.put(currency, builder.build()));
+        return new PriceColumn(catalog, Map.copyOf(columns));
+    }
+
+    public CatalogIndex catalog() {
+        return catalog;
+    }
+
+    public Set<String> currencies() {
+        return columns.keySet();
+    }
+
+    /*** The number of variants priced in the currency.*/
+    public int size(String currencyCode) {
+        Column column = columns.get(Objects.requireNonNull(currencyCode, "currencyCode must not be null"));
+        return column == null ? 0 : column.prices.length;
+    }
+
+    // --- Range queries ---
+
+    /**
+     * The variants priced in the currency within the inclusive range.
+     * @param currencyCode The ISO currency code; other currencies never match.
+     * @param min The lowest price, or null for no lower bound.
+     * @param max The highest price, or null for no upper bound.
+     */
+    public VariantBitmap range(String currencyCode, BigDecimal min, BigDecimal max) {
+        VariantBitmap result = new VariantBitmap(catalog.variantCount());
+        Column column = columns.get(Objects.requireNonNull(currencyCode, "currencyCode must not be null"));
+        if (column != null) {
+            int from = column.lowerBound(min);
+            int to = column.upperBound(max);
+            for (int i = from; i < to; i++) {
+                result.words[column.ordinals[i] >>> 6] |= 1L << column.ordinals[i];
+            }
+        }
+        return result;
+    }
+
+    /*** A query for {@link #range}, for combining a price filter with other clauses of the same catalog.*/
+    public Query between(String currencyCode, BigDecimal min, BigDecimal max) {
+        Objects.requireNonNull(currencyCode, "currencyCode must not be null");
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min must not exceed max");
+        }
+        return new PriceRangeQuery(this, currencyCode, min, max);
+    }
+
+    // --- Sorting ---
+
+    /**
+     * Orders matching variants by price, ties by ordinal.
+     * @param matches A bitmap over the catalog's ordinals, e.g. a query result.
+     * @param currencyCode The currency to sort in; matches priced in other currencies are left out.
+     * @param descending Whether the most expensive variants come first.
+     * @param limit The maximum number of ordinals to return, e.g. one page.
+     * @return The ordinals in price order.
+     */
+    public int[] sortByPrice(VariantBitmap matches, String currencyCode, boolean descending, int limit) {
+        Objects.requireNonNull(matches, "matches must not be null");
+        if (matches.size() != catalog.variantCount()) {
+            throw new IllegalArgumentException("Bitmap size " + matches.size()
+                    + " does not match the catalog's " + catalog.variantCount() + " variants");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        Column column = columns.get(Objects.requireNonNull(currencyCode, "currencyCode must not be null"));
+        if (column == null) {
+            return new int[0];
+        }
+        int[] result = new int[Math.min(limit, Math.min(matches.cardinality(), column.ordinals.length))];
+        int found = 0;
+        int length = column.ordinals.length;
+        for (int i = 0; i < length && found < result.length; i++) {
+            int ordinal = column.ordinals[descending ? length - 1 - i : i];
+            if ((matches.words[ordinal >>> 6] & (1L << ordinal)) != 0) {
+                result[found++] = ordinal;
+            }
+        }
+        return found == result.length ? result : Arrays.copyOf(result, found);
+    }
+
+    /*** Approximate heap footprint of the columns in bytes.*/
+    public long memoryBytes() {
+        long bytes = 64L;
+        for (Column column : columns.values()) {
+            bytes += 64L + 16L + 8L * column.prices.length + 16L + 4L * column.ordinals.length;
+        }
+        return bytes;
+    }
+
+    private static long unscaledPrice(BigDecimal amount, String currencyCode, int scale) {
+        BigDecimal scaled;
+        try {
+            scaled = amount.setScale(scale, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Price " + amount.toPlainString() + " " + currencyCode
+                    + " has more than " + MAX_SCALE + " fraction digits and cannot be indexed exactly", e);
+        }
+        if (scaled.unscaledValue().bitLength() >= Long.SIZE) {
+            throw new IllegalArgumentException("Price " + amount.toPlainString() + " " + currencyCode
+                    + " is too large to index at " + scale + " fraction digits");
+        }
+        return scaled.unscaledValue().longValue();
+    }
+
+    private static final class Column {
+        final int scale;
+        final long[] prices;
+        final int[] ordinals;
+        // The range of a long at the column's scale; bounds outside it are clamped instead of converted
+        private final BigDecimal lowest;
+        private final BigDecimal highest;
+
+        Column(int scale, long[] prices, int[] ordinals) {
+            this.scale = scale;
+            this.prices = prices;
+            this.ordinals = ordinals;
+            this.lowest = BigDecimal.valueOf(Long.MIN_VALUE, scale);
+            this.highest = BigDecimal.valueOf(Long.MAX_VALUE, scale);
+        }
+
+        // First position with a price >= min; a bound finer than the column's scale rounds up, which is exact
+        // because every stored price is representable at that scale
+        int lowerBound(BigDecimal min) {
+            if (min == null || min.compareTo(lowest) <= 0) {
+                return 0;
+            }
+            if (min.compareTo(highest) > 0) {
+                return prices.length;
+            }
+            long key = min.setScale(scale, RoundingMode.CEILING).unscaledValue().longValue();
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // First position with a price > max; a fractional bound rounds down
+        int upperBound(BigDecimal max) {
+            if (max == null || max.compareTo(highest) >= 0) {
+                return prices.length;
+            }
+            if (max.compareTo(lowest) < 0) {
+                return 0;
+            }
+            long key = max.setScale(scale, RoundingMode.FLOOR).unscaledValue().longValue();
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class ColumnBuilder {
+        private final int scale;
+        private long[] prices = new long[16];
+        private int[] ordinals = new int[16];
+        private int size;
+
+        ColumnBuilder(int scale) {
+            this.scale = scale;
+        }
+
+        void add(long price, int ordinal) {
+            if (size == prices.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            prices[size] = price;
+            ordinals[size] = ordinal;
+            size++;
+        }
+
+        // Ordinals arrive ascending, so a stable sort by price leaves ties in ordinal order
+        Column build() {
+            long[] sortedPrices = Arrays.copyOf(prices, size);
+            int[] sortedOrdinals = Arrays.copyOf(ordinals, size);
+            long[] priceBuffer = new long[size];
+            int[] ordinalBuffer = new int[size];
+            for (int width = 1; width < size; width *= 2) {
+                for (int left = 0; left < size - width; left += 2 * width) {
+                    int mid = left + width;
+                    int right = Math.min(left + 2 * width, size);
+                    if (sortedPrices[mid - 1] <= sortedPrices[mid]) {
+                        continue;
+                    }
+                    int i = left;
+                    int j = mid;
+                    int k = left;
+                    while (i < mid && j < right) {
+                        if (sortedPrices[j] < sortedPrices[i]) {
+                            priceBuffer[k] = sortedPrices[j];
+                            ordinalBuffer[k++] = sortedOrdinals[j++];
+                        } else {
+                            priceBuffer[k] = sortedPrices[i];
+                            ordinalBuffer[k++] = sortedOrdinals[i++];
+                        }
+                    }
+                    while (i < mid) {
+                        priceBuffer[k] = sortedPrices[i];
+                        ordinalBuffer[k++] = sortedOrdinals[i++];
+                    }
+                    while (j < right) {
+                        priceBuffer[k] = sortedPrices[j];
+                        ordinalBuffer[k++] = sortedOrdinals[j++];
+                    }
+                    System.arraycopy(priceBuffer, left, sortedPrices, left, right - left);
+                    System.arraycopy(ordinalBuffer, left, sortedOrdinals, left, right - left);
+                }
+            }
+            return new Column(scale, sortedPrices, sortedOrdinals);
+        }
+    }
+
+    private record PriceRangeQuery(PriceColumn column, String currencyCode, BigDecimal min, BigDecimal max) implements Query {
+
+        @Override
+        public VariantBitmap evaluate(CatalogIndex index) {
+            requireCatalog(index);
+            return column.range(currencyCode, min, max);
+        }
+
+        @Override
+        public int cost(CatalogIndex index) {
+            requireCatalog(index);
+            Column prices = column.columns.get(currencyCode);
+            return prices == null ? 0 : Math.max(0, prices.upperBound(max) - prices.lowerBound(min));
+        }
+
+        private void requireCatalog(CatalogIndex index) {
+            if (index != column.catalog) {
+                throw new IllegalArgumentException("Price filter belongs to another catalog index");
+            }
+        }
+    }
+}
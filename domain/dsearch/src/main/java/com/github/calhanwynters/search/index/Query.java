@@ -0,0 +1,207 @@
+package com.github.calhanwynters.search.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Boolean query over a {@link CatalogIndex}, evaluated to a {@link VariantBitmap} of matching ordinals.
+ * - Term clauses combine straight from their postings lists; only the first clause of a conjunction
+ *   is materialized, and conjunctions start from their most selective clause.
+ * - Queries are immutable and independent of any one index, so they can be built once and reused.
+ */
+public interface Query {
+
+    /*** Returns a new bitmap of the matching ordinals.*/
+    VariantBitmap evaluate(CatalogIndex index);
+
+    /*** Clears the ordinals of the target that do not match this query.*/
+    default void intersectInto(CatalogIndex index, VariantBitmap target) {
+        target.and(evaluate(index));
+    }
+
+    /*** Sets the ordinals of the target that match this query.*/
+    default void unionInto(CatalogIndex index, VariantBitmap target) {
+        target.or(evaluate(index));
+    }
+
+    /*** An upper bound on the number of matches, used to order conjunctions.*/
+    default int cost(CatalogIndex index) {
+        return index.variantCount();
+    }
+
+    // --- Factories ---
+
+    /*** Matches every variant in the index.*/
+    static Query all() {
+        return AllQuery.INSTANCE;
+    }
+
+    static Query term(SearchField field, String value) {
+        return new TermQuery(Term.of(field, value));
+    }
+
+    /*** Matches variants whose product description contains every word of the text; blank text matches all.*/
+    static Query text(String text) {
+        List<Query> clauses = new ArrayList<>();
+        TextTokenizer.forEachToken(text, token -> clauses.add(new TermQuery(Term.of(SearchField.DESCRIPTION, token))));
+        return new AndQuery(clauses);
+    }
+
+    /*** Matches variants matching every clause; no clauses match all.*/
+    static Query and(Query... clauses) {
+        return new AndQuery(List.of(clauses));
+    }
+
+    /*** Matches variants matching any clause; no clauses match none.*/
+    static Query or(Query... clauses) {
+        return new OrQuery(List.of(clauses));
+    }
+
+    static Query not(Query clause) {
+        return new NotQuery(clause);
+    }
+
+    // --- Implementations ---
+
+    record TermQuery(Term term) implements Query {
+
+        public TermQuery {
+            Objects.requireNonNull(term, "term must not be null");
+        }
+
+        @Override
+        public VariantBitmap evaluate(CatalogIndex index) {
+            return index.postings(term).toBitmap();
+        }
+
+        @Override
+        public void intersectInto(CatalogIndex index, VariantBitmap target) {
+            index.postings(term).andInto(target);
+        }
+
+        @Override
+        public void unionInto(CatalogIndex index, VariantBitmap target) {
+            index.postings(term).orInto(target);
+        }
+
+        @Override
+        public int cost(CatalogIndex index) {
+            return index.postings(term).size();
+        }
+    }
+
+    record AndQuery(List<Query> clauses) implements Query {
+
+        public AndQuery {
+            clauses = List.copyOf(Objects.requireNonNull(clauses, "clauses must not be null"));
+        }
+
+        @Override
+        public VariantBitmap evaluate(CatalogIndex index) {
+            if (clauses.isEmpty()) {
+                return index.all();
+            }
+            List<Query> ordered = new ArrayList<>(clauses);
+            ordered.sort(Comparator.comparingInt(clause -> clause.cost(index)));
+            VariantBitmap result = ordered.get(0).evaluate(index);
+            for (int i = 1; i < ordered.size() && !result.isEmpty(); i++) {
+                ordered.get(i).intersectInto(index, result);
+            }
+            return result;
+        }
+
+        @Override
+        public void intersectInto(CatalogIndex index, VariantBitmap target) {
+            for (Query clause : clauses) {
+                clause.intersectInto(index, target);
+            }
+        }
+
+        @Override
+        public int cost(CatalogIndex index) {
+            int cost = index.variantCount();
+            for (Query clause : clauses) {
+                cost = Math.min(cost, clause.cost(index));
+            }
+            return cost;
+        }
+    }
+
+    record OrQuery(List<Query> clauses) implements Query {
+
+        public OrQuery {
+            clauses = List.copyOf(Objects.requireNonNull(clauses, "clauses must not be null"));
+        }
+
+        @Override
+        public VariantBitmap evaluate(CatalogIndex index) {
+            VariantBitmap result = new VariantBitmap(index.variantCount());
+            unionInto(index, result);
+            return result;
+        }
+
+        @Override
+        public void unionInto(CatalogIndex index, VariantBitmap target) {
+            for (Query clause : clauses) {
+                clause.unionInto(index, target);
+            }
+        }
+
+        @Override
+        public int cost(CatalogIndex index) {
+            long cost = 0;
+            for (Query clause : clauses) {
+                cost += clause.cost(index);
+            }
+            return (int) Math.min(cost, index.variantCount());
+        }
+    }
+
+    record NotQuery(Query clause) implements Query {
+
+        public NotQuery {
+            Objects.requireNonNull(clause, "clause must not be null");
+        }
+
+        @Override
+        public VariantBitmap evaluate(CatalogIndex index) {
+            VariantBitmap result = index.all();
+            intersectInto(index, result);
+            return result;
+        }
+
+        @Override
+        public void intersectInto(CatalogIndex index, VariantBitmap target) {
+            if (clause instanceof TermQuery termQuery) {
+                index.postings(termQuery.term()).andNotInto(target);
+            } else {
+                target.andNot(clause.evaluate(index));
+            }
+        }
+    }
+
+    final class AllQuery implements Query {
+
+        static final AllQuery INSTANCE = new AllQuery();
+
+        private AllQuery() {
+        }
+
+        @Override
+        public VariantBitmap evaluate(CatalogIndex index) {
+            return index.all();
+        }
+
+        @Override
+        public void intersectInto(CatalogIndex index, VariantBitmap target) {
+            target.and(index.all());
+        }
+
+        @Override
+        public String toString() {
+            return "AllQuery[]";
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.calhanwynters.search.index;
+
+/**
+ * The variant attributes indexed by {@link CatalogIndex}, each with its own term namespace.
+ */
+public enum SearchField {
+    /*** Words of the owning product's description.*/
+    DESCRIPTION,
+    /*** Canonical style names of the variant's style value object (e.g. "channel_set").*/
+    STYLE,
+    /*** Canonical material names (e.g. "white gold").*/
+    MATERIAL,
+    /*** Gemstone type names (e.g. "diamond").*/
+    GEMSTONE,
+    /*** Variant status (e.g. "active").*/
+    STATUS
+}
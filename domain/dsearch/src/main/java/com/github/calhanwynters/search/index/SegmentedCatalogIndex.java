@@ -0,0 +1,556 @@
+package com.github.calhanwynters.search.index;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.valueobjects.ProductId;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Searchable catalog that applies product changes incrementally instead of rebuilding.
+ * - The index is a list of immutable segments, each a {@link CatalogIndex}, {@link FacetIndex} and {@link PriceColumn}
+ *   over some products plus a bitmap of its live variants. Readers take the current list with one volatile read and are
+ *   never blocked by writers.
+ * - An upsert indexes the product into a new, small segment and clears the old version's variants from the
+ *   live bitmap of the segment holding it; a removal only clears. Writes cost the size of the product, not
+ *   the catalog.
+ * - Segments are grouped into size tiers, each {@code mergeFactor} times larger than the one below. Once a tier
+ *   holds {@code mergeFactor} segments they are merged in the background into one segment of the next tier,
+ *   without deleted variants. A product is rewritten once per tier it climbs, so merge work stays
+ *   O(log n) per change, and the segment count (and so query latency) stays logarithmic in the catalog size.
+ * - Each product carries the {@link Product#version()} it was indexed at; a change is applied only if its version is
+ *   newer, so changes arriving late or twice are ignored. A removal leaves a tombstone with its version for as long
+ *   as the reorder window: once it was applied longer ago than the window, the tombstone is dropped and a change
+ *   arriving even later is applied. A product re-created under a removed id is therefore indexed once its
+ *   tombstone is gone, or earlier if its version is past the removal's.
+ * - Facet and price filters are bound to one segment's columns, so queries use {@link #facetFilter} and
+ *   {@link #priceBetween}, which resolve against every segment at search time.
+ */
+public final class SegmentedCatalogIndex implements AutoCloseable {
+
+    public static final int DEFAULT_MERGE_FACTOR = 8;
+    public static final Duration DEFAULT_REORDER_WINDOW = Duration.ofMinutes(5);
+
+    private final PriceBands priceBands;
+    private final int mergeFactor;
+    private final Duration reorderWindow;
+    private final Clock clock;
+    private final Executor mergeExecutor;
+    private final ExecutorService ownedExecutor;
+
+    // Writers hold the monitor of this index; merges also hold mergeLock for their whole run
+    private final ReentrantLock mergeLock = new ReentrantLock();
+    private final Map<ProductId, Location> locations = new HashMap<>();
+    // Removals in the order they were applied, so tombstones are pruned from the head
+    private final ArrayDeque<Tombstone> tombstones = new ArrayDeque<>();
+    private volatile List<Segment> segments = List.of();
+    private long nextSegmentId;
+    private boolean mergeScheduled;
+    private long mergedProductCount;
+
+    /*** Creates an empty index with the {@link #DEFAULT_REORDER_WINDOW}.*/
+    public SegmentedCatalogIndex(PriceBands priceBands, int mergeFactor, Executor mergeExecutor) {
+        this(priceBands, mergeFactor, DEFAULT_REORDER_WINDOW, mergeExecutor);
+    }
+
+    /*** Creates an empty index that times tombstones with the system clock.*/
+    public SegmentedCatalogIndex(PriceBands priceBands, int mergeFactor, Duration reorderWindow, Executor mergeExecutor) {
+        this(priceBands, mergeFactor, reorderWindow, Clock.systemUTC(), mergeExecutor);
+    }
+
+    /**
+     * Creates an empty index.
+     * @param priceBands The bands for {@link Facet#PRICE_BAND}; null for no price facet.
+     * @param mergeFactor How many segments of one size tier are merged together, and the size ratio between tiers; at least 2.
+     * @param reorderWindow How long after a removal a late change of the product is still rejected; not negative.
+     * @param clock Times tombstones for the reorder window.
+     * @param mergeExecutor Runs background merges.
+     */
+    public SegmentedCatalogIndex(PriceBands priceBands, int mergeFactor, Duration reorderWindow, Clock clock,
+                                 Executor mergeExecutor) {
+        this(priceBands, mergeFactor, reorderWindow, clock,
+                Objects.requireNonNull(mergeExecutor, "mergeExecutor must not be null"), null);
+    }
+
+    private SegmentedCatalogIndex(PriceBands priceBands, int mergeFactor, Duration reorderWindow, Clock clock,
+                                  Executor mergeExecutor, ExecutorService ownedExecutor) {
+        if (mergeFactor < 2) {
+            throw new IllegalArgumentException("mergeFactor must be at least 2");
+        }
+        Objects.requireNonNull(reorderWindow, "reorderWindow must not be null");
+        if (reorderWindow.isNegative()) {
+            throw new IllegalArgumentException("reorderWindow must not be negative");
+        }
+        this.priceBands = priceBands;
+        this.mergeFactor = mergeFactor;
+        this.reorderWindow = reorderWindow;
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.mergeExecutor = mergeExecutor;
+        this.ownedExecutor = ownedExecutor;
+    }
+
+    /*** Creates an empty index that merges on its own daemon thread; close it to stop the thread.*/
+    public static SegmentedCatalogIndex create(PriceBands priceBands) {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-index-merge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new SegmentedCatalogIndex(priceBands, DEFAULT_MERGE_FACTOR, DEFAULT_REORDER_WINDOW, Clock.systemUTC(),
+                executor, executor);
+    }
+
+    // --- Writes ---
+
+    /**
+     * Indexes a product state, replacing any earlier version.
+     * @param product The product state; its {@link Product#version()} orders it among the product's changes.
+     * @return false if the same or a newer version of the product (or its removal) has already been applied.
+     */
+    public synchronized boolean upsert(Product product) {
+        Objects.requireNonNull(product, "product must not be null");
+        if (isStale(product.id(), product.version())) {
+            return false;
+        }
+        List<Segment> updated = withoutProducts(segments, List.of(product.id()));
+        Segment segment = Segment.build(nextSegmentId++, List.of(product), priceBands);
+        updated.add(segment);
+        locations.put(product.id(), new Location(segment.id, product.version()));
+        publish(updated);
+        return true;
+    }
+
+    /**
+     * Indexes many products as one segment, e.g. an import. A product listed twice is indexed in its newest version,
+     * and products whose version is not newer than the indexed one are skipped as in {@link #upsert}.
+     */
+    public synchronized void upsertAll(Collection<Product> products) {
+        Objects.requireNonNull(products, "products must not be null");
+        Map<ProductId, Product> newest = new LinkedHashMap<>();
+        for (Product product : products) {
+            Objects.requireNonNull(product, "product must not be null");
+            if (!isStale(product.id(), product.version())) {
+                newest.merge(product.id(), product, (a, b) -> b.version() > a.version() ? b : a);
+            }
+        }
+        if (newest.isEmpty()) {
+            return;
+        }
+        List<Segment> updated = withoutProducts(segments, newest.keySet());
+        Segment segment = Segment.build(nextSegmentId++, List.copyOf(newest.values()), priceBands);
+        updated.add(segment);
+        for (Product product : newest.values()) {
+            locations.put(product.id(), new Location(segment.id, product.version()));
+        }
+        publish(updated);
+    }
+
+    /*** Removes the indexed version of a product, as a removal one version past it; unknown products are ignored.*/
+    public synchronized void remove(ProductId productId) {
+        Objects.requireNonNull(productId, "productId must not be null");
+        Location location = locations.get(productId);
+        if (location != null && location.segmentId != Location.REMOVED) {
+            remove(productId, location.version + 1);
+        }
+    }
+
+    /**
+     * Removes a product's variants from search results.
+     * @param version The version of the removal, e.g. one past the last version of the removed product.
+     * @return false if the same or a newer version of the product has already been applied.
+     */
+    public synchronized boolean remove(ProductId productId, long version) {
+        Objects.requireNonNull(productId, "productId must not be null");
+        if (isStale(productId, version)) {
+            return false;
+        }
+        List<Segment> updated = withoutProducts(segments, List.of(productId));
+        locations.put(productId, new Location(Location.REMOVED, version));
+        tombstones.add(new Tombstone(productId, version, clock.instant()));
+        publish(updated);
+        return true;
+    }
+
+    // --- Reads ---
+
+    /*** The live matching variants, in no particular order.*/
+    public List<Variant> search(Query query) {
+        Objects.requireNonNull(query, "query must not be null");
+        List<Variant> result = new ArrayList<>();
+        for (Segment segment : segments) {
+            CatalogIndex index = segment.index;
+            segment.matches(query).forEach(ordinal -> result.add(index.variant(ordinal)));
+        }
+        return result;
+    }
+
+    public int count(Query query) {
+        Objects.requireNonNull(query, "query must not be null");
+        int count = 0;
+        for (Segment segment : segments) {
+            count += segment.matches(query).cardinality();
+        }
+        return count;
+    }
+
+    /*** Facet counts over the live matching variants of every segment.*/
+    public FacetCounts facetCounts(Query query) {
+        Objects.requireNonNull(query, "query must not be null");
+        List<FacetCounts> perSegment = new ArrayList<>();
+        for (Segment segment : segments) {
+            perSegment.add(segment.facets.count(segment.matches(query)));
+        }
+        return FacetCounts.sum(perSegment);
+    }
+
+    /*** The number of live variants.*/
+    public int variantCount() {
+        int count = 0;
+        for (Segment segment : segments) {
+            count += segment.liveCount;
+        }
+        return count;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    // Products rewritten by merges so far, the measure of merge work
+    synchronized long mergedProductCount() {
+        return mergedProductCount;
+    }
+
+    // Removed products still remembered for rejecting late changes
+    synchronized int tombstoneCount() {
+        int count = 0;
+        for (Location location : locations.values()) {
+            if (location.segmentId == Location.REMOVED) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // --- Segment-aware filters ---
+
+    /**
+     * A query matching variants with any of the facet values, resolved against each segment's {@link FacetIndex}.
+     * Combine it with other queries through {@link Query#and} and friends; only this index can evaluate it.
+     */
+    public static Query facetFilter(Facet facet, String... values) {
+        Objects.requireNonNull(facet, "facet must not be null");
+        return new FacetFilter(facet, List.of(values));
+    }
+
+    /**
+     * A query matching variants priced in the currency within the inclusive range, resolved against each
+     * segment's {@link PriceColumn}; only this index can evaluate it.
+     * @param min The lowest price, or null for no lower bound.
+     * @param max The highest price, or null for no upper bound.
+     */
+    public static Query priceBetween(String currencyCode, BigDecimal min, BigDecimal max) {
+        Objects.requireNonNull(currencyCode, "currencyCode must not be null");
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min must not exceed max");
+        }
+        return new PriceFilter(currencyCode, min, max);
+    }
+
+    // --- Merging ---
+
+    /*** Merges every segment into one, waiting for any background merge first.*/
+    public void forceMerge() {
+        mergeLock.lock();
+        try {
+            merge(segments);
+        } finally {
+            mergeLock.unlock();
+        }
+    }
+
+    /*** Stops the merge thread of an index from {@link #create}; the index stays readable.*/
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    // Called with the monitor held
+    private void scheduleMergeIfNeeded() {
+        if (mergeScheduled || fullTier(segments).isEmpty()) {
+            return;
+        }
+        mergeScheduled = true;
+        try {
+            mergeExecutor.execute(this::backgroundMerge);
+        } catch (RuntimeException e) {
+            // e.g. the executor was shut down; merging resumes with the next write
+            mergeScheduled = false;
+        }
+    }
+
+    private void backgroundMerge() {
+        mergeLock.lock();
+        try {
+            List<Segment> tier = fullTier(segments);
+            if (!tier.isEmpty()) {
+                merge(tier);
+            }
+        } finally {
+            mergeLock.unlock();
+            synchronized (this) {
+                mergeScheduled = false;
+                scheduleMergeIfNeeded();
+            }
+        }
+    }
+
+    // The smallest mergeFactor segments of the lowest tier holding at least that many, or none. Merging only
+    // segments of similar size keeps a large merged segment from being rebuilt for every few small ones.
+    private List<Segment> fullTier(List<Segment> current) {
+        if (current.size() < mergeFactor) {
+            return List.of();
+        }
+        TreeMap<Integer, List<Segment>> tiers = new TreeMap<>();
+        for (Segment segment : current) {
+            tiers.computeIfAbsent(tier(segment.liveCount), t -> new ArrayList<>()).add(segment);
+        }
+        for (List<Segment> tier : tiers.values()) {
+            if (tier.size() >= mergeFactor) {
+                tier.sort(Comparator.comparingInt(segment -> segment.liveCount));
+                return tier.subList(0, mergeFactor);
+            }
+        }
+        return List.of();
+    }
+
+    // floor(log_mergeFactor(liveCount)): tier 0 holds segments below mergeFactor live variants
+    private int tier(int liveCount) {
+        int tier = 0;
+        for (long size = liveCount; size >= mergeFactor; size /= mergeFactor) {
+            tier++;
+        }
+        return tier;
+    }
+
+    // Called with mergeLock held, so the sources are not merged concurrently; writes continue meanwhile
+    private void merge(List<Segment> sources) {
+        if (sources.size() < 2 && sources.stream().allMatch(segment -> segment.liveCount == segment.index.variantCount())) {
+            return;
+        }
+        Set<Long> sourceIds = new HashSet<>();
+        List<Product> products = new ArrayList<>();
+        long mergedId;
+        synchronized (this) {
+            mergedId = nextSegmentId++;
+            for (Segment source : sources) {
+                sourceIds.add(source.id);
+            }
+            for (Segment source : sources) {
+                for (Product product : source.products.values()) {
+                    Location location = locations.get(product.id());
+                    if (location != null && location.segmentId == source.id) {
+                        products.add(product);
+                    }
+                }
+            }
+        }
+
+        // The expensive part runs without blocking writers
+        Segment merged = products.isEmpty() ? null : Segment.build(mergedId, products, priceBands);
+
+        synchronized (this) {
+            mergedProductCount += products.size();
+            List<Segment> updated = new ArrayList<>();
+            for (Segment segment : segments) {
+                if (!sourceIds.contains(segment.id)) {
+                    updated.add(segment);
+                }
+            }
+            if (merged != null) {
+                // Products changed or removed during the merge are already indexed elsewhere
+                List<ProductId> superseded = new ArrayList<>();
+                for (Product product : merged.products.values()) {
+                    Location location = locations.get(product.id());
+                    if (location != null && sourceIds.contains(location.segmentId)) {
+                        locations.put(product.id(), new Location(mergedId, location.version));
+                    } else {
+                        superseded.add(product.id());
+                    }
+                }
+                updated.add(superseded.isEmpty() ? merged : merged.withoutProducts(superseded));
+            }
+            segments = List.copyOf(updated);
+            pruneTombstones();
+        }
+    }
+
+    // --- Internals (called with the monitor held) ---
+
+    // Equal versions are the same change delivered again, so only strictly newer versions apply
+    private boolean isStale(ProductId productId, long version) {
+        Location location = locations.get(productId);
+        return location != null && version <= location.version;
+    }
+
+    private List<Segment> withoutProducts(List<Segment> current, Collection<ProductId> productIds) {
+        Map<Long, List<ProductId>> bySegment = new HashMap<>();
+        for (ProductId id : productIds) {
+            Location location = locations.get(id);
+            if (location != null && location.segmentId != Location.REMOVED) {
+                bySegment.computeIfAbsent(location.segmentId, s -> new ArrayList<>()).add(id);
+            }
+        }
+        List<Segment> updated = new ArrayList<>(current.size() + 1);
+        for (Segment segment : current) {
+            List<ProductId> deleted = bySegment.get(segment.id);
+            if (deleted == null) {
+                updated.add(segment);
+            } else {
+                Segment remaining = segment.withoutProducts(deleted);
+                if (remaining.liveCount > 0) {
+                    updated.add(remaining);
+                }
+            }
+        }
+        return updated;
+    }
+
+    private void publish(List<Segment> updated) {
+        segments = List.copyOf(updated);
+        pruneTombstones();
+        scheduleMergeIfNeeded();
+    }
+
+    // Tombstones are queued in the order they were applied, so pruning is amortized O(1) per removal
+    private void pruneTombstones() {
+        if (tombstones.isEmpty()) {
+            return;
+        }
+        Instant cutoff = clock.instant().minus(reorderWindow);
+        while (!tombstones.isEmpty() && tombstones.peekFirst().appliedAt.isBefore(cutoff)) {
+            Tombstone tombstone = tombstones.pollFirst();
+            Location location = locations.get(tombstone.productId);
+            // Only the latest tombstone of a product that was not re-added since
+            if (location != null && location.segmentId == Location.REMOVED && location.version == tombstone.version) {
+                locations.remove(tombstone.productId);
+            }
+        }
+    }
+
+    private record Location(long segmentId, long version) {
+        static final long REMOVED = -1L;
+    }
+
+    private record Tombstone(ProductId productId, long version, Instant appliedAt) {
+    }
+
+    private record FacetFilter(Facet facet, List<String> values) implements Query {
+
+        @Override
+        public VariantBitmap evaluate(CatalogIndex index) {
+            throw new IllegalArgumentException("Segment-aware facet filters are evaluated by SegmentedCatalogIndex");
+        }
+    }
+
+    private record PriceFilter(String currencyCode, BigDecimal min, BigDecimal max) implements Query {
+
+        @Override
+        public VariantBitmap evaluate(CatalogIndex index) {
+            throw new IllegalArgumentException("Segment-aware price filters are evaluated by SegmentedCatalogIndex");
+        }
+    }
+
+    private static final class Segment {
+        final long id;
+        final CatalogIndex index;
+        final FacetIndex facets;
+        final PriceColumn prices;
+        final Map<ProductId, Product> products;
+        final VariantBitmap live;
+        final int liveCount;
+
+        private Segment(long id, CatalogIndex index, FacetIndex facets, PriceColumn prices,
+                        Map<ProductId, Product> products, VariantBitmap live) {
+            this.id = id;
+            this.index = index;
+            this.facets = facets;
+            this.prices = prices;
+            this.products = products;
+            this.live = live;
+            this.liveCount = live.cardinality();
+        }
+
+        static Segment build(long id, List<Product> products, PriceBands priceBands) {
+            CatalogIndex index = CatalogIndex.of(products);
+            Map<ProductId, Product> byId = new HashMap<>();
+            for (Product product : products) {
+                byId.put(product.id(), product);
+            }
+            return new Segment(id, index, FacetIndex.build(index, priceBands), PriceColumn.build(index), byId, index.all());
+        }
+
+        // Copy-on-write, so readers holding this segment keep a consistent view
+        Segment withoutProducts(Collection<ProductId> productIds) {
+            VariantBitmap remaining = live.copy();
+            for (ProductId productId : productIds) {
+                Product product = products.get(productId);
+                if (product != null) {
+                    for (Variant variant : product.variants()) {
+                        remaining.clear(index.ordinalOf(variant.id()));
+                    }
+                }
+            }
+            return new Segment(id, index, facets, prices, products, remaining);
+        }
+
+        VariantBitmap matches(Query query) {
+            return index.evaluate(bind(query)).and(live);
+        }
+
+        // Replaces segment-aware filters with ones over this segment's columns; untouched subtrees are reused
+        private Query bind(Query query) {
+            return switch (query) {
+                case FacetFilter filter -> facets.filter(filter.facet(), filter.values().toArray(String[]::new));
+                case PriceFilter filter -> prices.between(filter.currencyCode(), filter.min(), filter.max());
+                case Query.AndQuery and -> {
+                    List<Query> clauses = bindAll(and.clauses());
+                    yield clauses == and.clauses() ? and : new Query.AndQuery(clauses);
+                }
+                case Query.OrQuery or -> {
+                    List<Query> clauses = bindAll(or.clauses());
+                    yield clauses == or.clauses() ? or : new Query.OrQuery(clauses);
+                }
+                case Query.NotQuery not -> {
+                    Query clause = bind(not.clause());
+                    yield clause == not.clause() ? not : new Query.NotQuery(clause);
+                }
+                default -> query;
+            };
+        }
+
+        private List<Query> bindAll(List<Query> clauses) {
+            List<Query> bound = null;
+            for (int i = 0; i < clauses.size(); i++) {
+                Query clause = bind(clauses.get(i));
+                if (clause != clauses.get(i) && bound == null) {
+                    bound = new ArrayList<>(clauses.subList(0, i));
+                }
+                if (bound != null) {
+                    bound.add(clause);
+                }
+            }
+            return bound == null ? clauses : bound;
+        }
+    }
+}
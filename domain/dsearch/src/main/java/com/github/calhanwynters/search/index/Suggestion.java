@@ -0,0 +1,22 @@
+package com.github.calhanwynters.search.index;
+
+import java.util.Objects;
+
+/**
+ * One autocomplete suggestion.
+ * @param text The term as displayed, e.g. "White Gold".
+ * @param weight The number of products the term occurs in.
+ * @param distance The edits between the typed prefix and the closest prefix of the term; 0 for an exact prefix.
+ */
+public record Suggestion(String text, int weight, int distance) {
+
+    public Suggestion {
+        Objects.requireNonNull(text, "text must not be null");
+        if (weight < 0) {
+            throw new IllegalArgumentException("weight must not be negative");
+        }
+        if (distance < 0) {
+            throw new IllegalArgumentException("distance must not be negative");
+        }
+    }
+}
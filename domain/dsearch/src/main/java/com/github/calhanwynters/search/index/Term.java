@@ -0,0 +1,31 @@
+package com.github.calhanwynters.search.index;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * An indexed value within a {@link SearchField}.
+ * - Values are normalized on construction: stripped and lower-cased; style values also map spaces
+ *   to underscores, so "Channel Set" and "CHANNEL_SET" are the same term.
+ * - Equal terms address the same postings list.
+ */
+public record Term(SearchField field, String value) {
+
+    public Term {
+        Objects.requireNonNull(field, "field must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        value = normalize(field, value);
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("value must not be blank");
+        }
+    }
+
+    public static Term of(SearchField field, String value) {
+        return new Term(field, value);
+    }
+
+    private static String normalize(SearchField field, String value) {
+        String normalized = value.strip().toLowerCase(Locale.ROOT);
+        return field == SearchField.STYLE ? normalized.replace(' ', '_') : normalized;
+    }
+}
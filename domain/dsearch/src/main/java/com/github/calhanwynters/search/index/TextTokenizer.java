@@ -0,0 +1,39 @@
+package com.github.calhanwynters.search.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Splits free text (product descriptions, search input) into lower-case words.
+ * A word is a maximal run of letters and digits; everything else separates words.
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    /*** Calls the action for each word in order of appearance, repeats included.*/
+    public static void forEachToken(String text, Consumer<String> action) {
+        Objects.requireNonNull(text, "text must not be null");
+        Objects.requireNonNull(action, "action must not be null");
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                action.accept(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachToken(text, tokens::add);
+        return tokens;
+    }
+}
@@ -0,0 +1,213 @@
+package com.github.calhanwynters.search.index;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Fixed-size bitset over variant ordinals, the working set of query evaluation.
+ * - Bit {@code i} stands for the variant with ordinal {@code i} in one {@link CatalogIndex}.
+ * - Set operations work in place a 64-bit word at a time; combining bitmaps of different sizes is an error.
+ * - Mutable and not thread-safe; query evaluation creates a fresh bitmap per query.
+ */
+public final class VariantBitmap {
+
+    final long[] words;
+    private final int size;
+
+    public VariantBitmap(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative");
+        }
+        this.size = size;
+        this.words = new long[wordCount(size)];
+    }
+
+    private VariantBitmap(int size, long[] words) {
+        this.size = size;
+        this.words = words;
+    }
+
+    /*** A bitmap with every ordinal below the size set.*/
+    public static VariantBitmap full(int size) {
+        VariantBitmap bitmap = new VariantBitmap(size);
+        Arrays.fill(bitmap.words, -1L);
+        bitmap.clearTail();
+        return bitmap;
+    }
+
+    public static VariantBitmap of(int size, int... ordinals) {
+        VariantBitmap bitmap = new VariantBitmap(size);
+        for (int ordinal : ordinals) {
+            bitmap.set(ordinal);
+        }
+        return bitmap;
+    }
+
+    // --- Single bits ---
+
+    /*** The number of ordinals this bitmap covers (not the number of set bits).*/
+    public int size() {
+        return size;
+    }
+
+    public boolean get(int ordinal) {
+        Objects.checkIndex(ordinal, size);
+        return (words[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    public void set(int ordinal) {
+        Objects.checkIndex(ordinal, size);
+        words[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    public void clear(int ordinal) {
+        Objects.checkIndex(ordinal, size);
+        words[ordinal >>> 6] &= ~(1L << ordinal);
+    }
+
+    // --- Set operations (in place) ---
+
+    public VariantBitmap and(VariantBitmap other) {
+        requireSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+        return this;
+    }
+
+    public VariantBitmap or(VariantBitmap other) {
+        requireSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    public VariantBitmap andNot(VariantBitmap other) {
+        requireSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+        return this;
+    }
+
+    /*** Flips every bit below the size.*/
+    public VariantBitmap not() {
+        for (int i = 0; i < words.length; i++) {
+            words[i] = ~words[i];
+        }
+        clearTail();
+        return this;
+    }
+
+    // --- Reading ---
+
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /*** The cardinality of the intersection with another bitmap, without materializing it.*/
+    public int andCardinality(VariantBitmap other) {
+        requireSameSize(other);
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*** The first set ordinal at or after the given one, or -1 if there is none.*/
+    public int nextSetBit(int from) {
+        if (from < 0) {
+            throw new IndexOutOfBoundsException("from must not be negative: " + from);
+        }
+        int wordIndex = from >>> 6;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    /*** Calls the action for each set ordinal in ascending order.*/
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action, "action must not be null");
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    /*** The set ordinals in ascending order.*/
+    public int[] toArray() {
+        int[] ordinals = new int[cardinality()];
+        int[] next = {0};
+        forEach(ordinal -> ordinals[next[0]++] = ordinal);
+        return ordinals;
+    }
+
+    public VariantBitmap copy() {
+        return new VariantBitmap(size, words.clone());
+    }
+
+    /*** Approximate heap footprint in bytes.*/
+    public long memoryBytes() {
+        return 16L + 16L + 8L * words.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof VariantBitmap other && size == other.size && Arrays.equals(words, other.words));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return "VariantBitmap[size=" + size + ", cardinality=" + cardinality() + "]";
+    }
+
+    static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    void requireSameSize(VariantBitmap other) {
+        Objects.requireNonNull(other, "other must not be null");
+        if (other.size != size) {
+            throw new IllegalArgumentException("Bitmap sizes differ: " + size + " and " + other.size);
+        }
+    }
+
+    private void clearTail() {
+        int tail = size & 63;
+        if (tail != 0) {
+            words[words.length - 1] &= (1L << tail) - 1;
+        }
+    }
+}
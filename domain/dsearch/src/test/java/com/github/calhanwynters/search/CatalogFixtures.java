@@ -0,0 +1,52 @@
+package com.github.calhanwynters.search;
+
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingSizeVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*** Shared catalog fixtures for the search tests.*/
+public final class CatalogFixtures {
+
+    public static final CareInstructionVO CARE = CareInstructionVO.of("Avoid harsh chemicals.");
+
+    private CatalogFixtures() {
+    }
+
+    /*** A ring builder with valid defaults: size 7, solitaire, gold band, 100 USD, draft.*/
+    public static RingVariant.Builder ring() {
+        return RingVariant.builder()
+                .size(new RingSizeVO(new BigDecimal("17.35")))
+                .ringSize(RingSize.NA_SIZE_7)
+                .style(RingStyleVO.of("SOLITAIRE"))
+                .basePrice(Money.of(100, "USD"))
+                .weight(WeightVO.ofGrams(new BigDecimal("3")))
+                .materials(Set.of(material(MaterialName.GOLD)))
+                .careInstructions(CARE);
+    }
+
+    public static MaterialCompositionVO material(MaterialName name) {
+        return MaterialCompositionVO.of(MaterialVO.of(name), "band");
+    }
+
+    public static GemstoneVO gemstone(String name) {
+        return GemstoneVO.of(GemstoneTypeVO.of(name));
+    }
+
+    /*** A product of the variants; unlike the builder this allows variants that differ only in price or status.*/
+    public static Product product(String description, Variant... variants) {
+        return Product.create(new DescriptionVO(description),
+                new GalleryVO(Set.of(new ImageUrlVO("https://example.com/product.jpg"))),
+                new LinkedHashSet<>(List.of(variants)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.calhanwynters.search;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.events.ProductChangeType;
+import com.github.calhanwynters.model.shared.services.ProductCatalogService;
+import com.github.calhanwynters.model.shared.services.ProductRepository;
+import com.github.calhanwynters.model.shared.valueobjects.DescriptionVO;
+import com.github.calhanwynters.model.shared.valueobjects.ProductId;
+import com.github.calhanwynters.search.index.Query;
+import com.github.calhanwynters.search.index.SegmentedCatalogIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.calhanwynters.search.CatalogFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Publishes through {@link ProductCatalogService} in a Spring context and checks that the index follows
+ * after commit. Without {@code @EnableAsync} the module listener runs on the committing thread.
+ */
+class ProductIndexEventFlowTest {
+
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Wiring.class);
+    private final ProductCatalogService service = context.getBean(ProductCatalogService.class);
+    private final SegmentedCatalogIndex index = context.getBean(SegmentedCatalogIndex.class);
+
+    @AfterEach
+    void closeContext() {
+        context.close();
+    }
+
+    @Test
+    void committedChangesReachTheIndex() {
+        Product product = service.create(product("Classic solitaire ring", ring().build()));
+        assertEquals(1, index.count(Query.text("classic")));
+
+        service.update(product.id(), ProductChangeType.DESCRIPTION_CHANGED,
+                p -> p.changeDescription(new DescriptionVO("Timeless solitaire band")));
+        assertEquals(0, index.count(Query.text("classic")));
+        assertEquals(1, index.count(Query.text("timeless")));
+
+        service.remove(product.id());
+        assertEquals(0, index.count(Query.all()));
+    }
+
+    @Test
+    void rolledBackChangesAreNotIndexed() {
+        Product product = service.create(product("Classic solitaire ring", ring().build()));
+
+        assertThrows(IllegalStateException.class, () -> service.update(product.id(), ProductChangeType.DESCRIPTION_CHANGED, p -> {
+            throw new IllegalStateException("storage failed");
+        }));
+        assertThrows(IllegalArgumentException.class, () -> service.create(product));
+
+        assertEquals(1, index.count(Query.text("classic")));
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({SearchIndexConfiguration.class, ProductIndexListener.class, ProductCatalogService.class})
+    static class Wiring {
+
+        @Bean
+        ProductRepository productRepository() {
+            Map<ProductId, Product> stored = new ConcurrentHashMap<>();
+            return new ProductRepository() {
+                @Override
+                public Optional<Product> findById(ProductId id) {
+                    return Optional.ofNullable(stored.get(id));
+                }
+
+                @Override
+                public void save(Product product) {
+                    stored.put(product.id(), product);
+                }
+
+                @Override
+                public boolean deleteById(ProductId id) {
+                    return stored.remove(id) != null;
+                }
+            };
+        }
+
+        // Transaction boundaries without a resource, enough to drive after-commit event delivery
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.calhanwynters.search;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.events.ProductChangeType;
+import com.github.calhanwynters.model.shared.events.ProductChangedEvent;
+import com.github.calhanwynters.model.shared.events.ProductRemovedEvent;
+import com.github.calhanwynters.model.shared.valueobjects.DescriptionVO;
+import com.github.calhanwynters.search.index.Query;
+import com.github.calhanwynters.search.index.SegmentedCatalogIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.github.calhanwynters.search.CatalogFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductIndexListenerTest {
+
+    private final SegmentedCatalogIndex index = new SegmentedCatalogIndex(null, 4, Runnable::run);
+    private final ProductIndexListener listener = new ProductIndexListener(index);
+
+    @Test
+    void appliesChangesAndRemovals() {
+        Product product = product("Classic solitaire ring", ring().build());
+        listener.on(ProductChangedEvent.of(product, ProductChangeType.CREATED));
+        assertEquals(1, index.count(Query.text("classic")));
+
+        listener.on(ProductRemovedEvent.of(product));
+        assertEquals(0, index.count(Query.all()));
+    }
+
+    @Test
+    void lateEventsDoNotOverwriteNewerState() {
+        Instant now = Instant.now();
+        Product product = product("Classic solitaire ring", ring().build());
+        Product renamed = product.changeDescription(new DescriptionVO("Timeless solitaire band"));
+
+        listener.on(new ProductChangedEvent(renamed, ProductChangeType.DESCRIPTION_CHANGED, now));
+        // Ordered by product version, not by timestamp: a skewed clock on the publisher does not matter
+        listener.on(new ProductChangedEvent(product, ProductChangeType.CREATED, now.plusMillis(5)));
+
+        assertEquals(1, index.count(Query.text("timeless")));
+        assertEquals(0, index.count(Query.text("classic")));
+    }
+
+    @Test
+    void redeliveredEventsAfterARemovalAreIgnored() {
+        Product product = product("Classic solitaire ring", ring().build());
+        ProductChangedEvent created = ProductChangedEvent.of(product, ProductChangeType.CREATED);
+        listener.on(created);
+        listener.on(ProductRemovedEvent.of(product));
+
+        listener.on(created);
+        assertEquals(0, index.count(Query.all()));
+    }
+}
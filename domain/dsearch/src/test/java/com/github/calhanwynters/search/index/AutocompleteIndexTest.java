@@ -0,0 +1,177 @@
+package com.github.calhanwynters.search.index;
+
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.github.calhanwynters.search.CatalogFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteIndexTest {
+
+    private final List<Product> products = List.of(
+            product("Classic diamond ring in white gold",
+                    ring().materials(Set.of(material(MaterialName.WHITE_GOLD))).gemstones(Set.of(gemstone("Diamond"))).build()),
+            product("Diamond halo ring",
+                    ring().style(RingStyleVO.of("halo")).gemstones(Set.of(gemstone("Diamond"))).build()),
+            product("Platinum ring with a blue topaz",
+                    ring().materials(Set.of(material(MaterialName.PLATINUM))).gemstones(Set.of(gemstone("Blue Topaz"))).build()),
+            product("Rose gold rings for stacking",
+                    ring().materials(Set.of(material(MaterialName.ROSE_GOLD))).build()));
+
+    private final AutocompleteIndex index = AutocompleteIndex.of(products);
+
+    @Test
+    void suggestsHeaviestTermsWithThePrefix() {
+        List<Suggestion> suggestions = index.suggest("ri", 2);
+
+        assertEquals(List.of(new Suggestion("ring", 3, 0), new Suggestion("rings", 1, 0)), suggestions);
+    }
+
+    @Test
+    void weighsTermsByProductsContainingThem() {
+        // "Diamond" is in two descriptions and two gemstone lists, but only two products
+        assertEquals(new Suggestion("Diamond", 2, 0), index.suggest("diam", 1).get(0));
+    }
+
+    @Test
+    void indexesDisplayNamesOfMaterialsGemstonesAndStyles() {
+        assertEquals(List.of("White Gold"), texts(index.suggest("white g", 5, 0)));
+        assertEquals(List.of("blue", "Blue Topaz"), texts(index.suggest("Blu", 5, 0)));
+        assertEquals(List.of("Solitaire"), texts(index.suggest("soli", 5)));
+        assertEquals("Halo", index.suggest("ha", 1).get(0).text());
+    }
+
+    @Test
+    void toleratesTyposInLongerPrefixes() {
+        assertEquals(new Suggestion("Diamond", 2, 1), index.suggest("diamn", 1).get(0));
+        assertEquals(new Suggestion("Platinum", 1, 2), index.suggest("platnim", 1).get(0));
+        assertEquals(new Suggestion("ring", 3, 1), index.suggest("rng", 1).get(0));
+        // Short prefixes get no edits by default, and the first character never takes one
+        assertEquals(List.of(), index.suggest("xi", 5));
+        assertEquals(List.of(), index.suggest("xiamond", 5));
+    }
+
+    @Test
+    void ranksExactPrefixesBeforeCloseOnes() {
+        List<Suggestion> suggestions = index.suggest("rose", 10, 1);
+
+        // Equal weights rank alphabetically
+        assertEquals(new Suggestion("rose", 1, 0), suggestions.get(0));
+        assertEquals(new Suggestion("Rose Gold", 1, 0), suggestions.get(1));
+        for (Suggestion suggestion : suggestions.subList(2, suggestions.size())) {
+            assertEquals(1, suggestion.distance());
+        }
+        assertEquals(suggestions.size(), new HashSet<>(texts(suggestions)).size());
+    }
+
+    @Test
+    void emptyPrefixSuggestsTheHeaviestTerms() {
+        // "Gold" is the default ring material and in two descriptions
+        assertEquals(List.of(new Suggestion("Gold", 3, 0), new Suggestion("ring", 3, 0)), index.suggest("", 2));
+        assertEquals(List.of(), index.suggest("ring", 0));
+    }
+
+    @Test
+    void curatedTermsAddWeight() {
+        AutocompleteIndex curated = AutocompleteIndex.builder().addAll(products).addTerm("Rings", 5).build();
+
+        assertEquals(new Suggestion("Rings", 6, 0), curated.suggest("ri", 1).get(0));
+    }
+
+    @Test
+    void matchesBruteForceOnRandomVocabularies() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            Map<String, Integer> vocabulary = new HashMap<>();
+            AutocompleteIndex.Builder builder = AutocompleteIndex.builder();
+            for (int i = 0; i < 60; i++) {
+                String term = randomWord(random, 1 + random.nextInt(6));
+                int weight = 1 + random.nextInt(4);
+                vocabulary.merge(term, weight, Integer::sum);
+                builder.addTerm(term, weight);
+            }
+            AutocompleteIndex autocomplete = builder.build();
+            for (int q = 0; q < 20; q++) {
+                String prefix = randomWord(random, random.nextInt(5));
+                int maxEdits = random.nextInt(AutocompleteIndex.MAX_EDITS + 1);
+                int k = 1 + random.nextInt(8);
+                assertEquals(bruteForce(vocabulary, prefix, k, maxEdits), autocomplete.suggest(prefix, k, maxEdits),
+                        "prefix '" + prefix + "' with " + maxEdits + " edits");
+            }
+        }
+    }
+
+    @Test
+    void footprintDependsOnTheVocabularyNotTheCatalogSize() {
+        List<Product> repeated = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            repeated.add(product("Classic diamond ring in white gold", ring().build()));
+        }
+        AutocompleteIndex small = AutocompleteIndex.of(repeated.subList(0, 1));
+        AutocompleteIndex large = AutocompleteIndex.of(repeated);
+
+        assertEquals(small.termCount(), large.termCount());
+        assertEquals(small.nodeCount(), large.nodeCount());
+        assertEquals(small.memoryBytes(), large.memoryBytes());
+        assertEquals(50, large.suggest("classic", 1).get(0).weight());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> index.suggest("ring", -1));
+        assertThrows(IllegalArgumentException.class, () -> index.suggest("ring", 5, AutocompleteIndex.MAX_EDITS + 1));
+        assertThrows(IllegalArgumentException.class, () -> AutocompleteIndex.builder().addTerm("--", 1));
+        assertThrows(IllegalArgumentException.class, () -> AutocompleteIndex.builder().addTerm("ring", 0));
+        assertThrows(NullPointerException.class, () -> index.suggest(null, 5));
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+
+    private static List<Suggestion> bruteForce(Map<String, Integer> vocabulary, String prefix, int k, int maxEdits) {
+        List<Suggestion> matches = new ArrayList<>();
+        vocabulary.forEach((term, weight) -> {
+            int distance = prefixDistance(term, prefix);
+            if (distance <= maxEdits && (prefix.isEmpty() || term.charAt(0) == prefix.charAt(0))) {
+                matches.add(new Suggestion(term, weight, distance));
+            }
+        });
+        matches.sort(Comparator.comparingInt(Suggestion::distance)
+                .thenComparing(Comparator.comparingInt(Suggestion::weight).reversed())
+                .thenComparing(Suggestion::text));
+        return matches.subList(0, Math.min(k, matches.size()));
+    }
+
+    // The smallest edit distance between the prefix and any prefix of the term
+    private static int prefixDistance(String term, String prefix) {
+        int[] row = new int[prefix.length() + 1];
+        for (int j = 0; j < row.length; j++) {
+            row[j] = j;
+        }
+        int best = row[prefix.length()];
+        for (int i = 1; i <= term.length(); i++) {
+            int[] next = new int[row.length];
+            next[0] = i;
+            for (int j = 1; j < row.length; j++) {
+                int substitution = row[j - 1] + (term.charAt(i - 1) == prefix.charAt(j - 1) ? 0 : 1);
+                next[j] = Math.min(substitution, Math.min(row[j], next[j - 1]) + 1);
+            }
+            row = next;
+            best = Math.min(best, row[prefix.length()]);
+        }
+        return best;
+    }
+}
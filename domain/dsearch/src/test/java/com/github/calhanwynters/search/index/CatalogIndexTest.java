@@ -0,0 +1,111 @@
+package com.github.calhanwynters.search.index;
+
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import com.github.calhanwynters.model.shared.valueobjects.VariantId;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.github.calhanwynters.search.CatalogFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogIndexTest {
+
+    private final RingVariant goldHalo = ring().style(RingStyleVO.of(Set.of("Halo", "Vintage")))
+            .gemstones(Set.of(gemstone("Diamond"))).status(VariantStatusEnums.ACTIVE).build();
+    private final RingVariant platinumSolitaire = ring().materials(Set.of(material(MaterialName.PLATINUM)))
+            .gemstones(Set.of(gemstone("Sapphire"))).status(VariantStatusEnums.ACTIVE).build();
+    private final RingVariant whiteGoldChannel = ring().style(RingStyleVO.of("channel set"))
+            .materials(Set.of(material(MaterialName.WHITE_GOLD))).build();
+
+    private final Product vintage = product("Vintage engagement ring, hand finished", goldHalo, platinumSolitaire);
+    private final Product modern = product("Modern band in brushed white gold", whiteGoldChannel);
+
+    private final CatalogIndex index = CatalogIndex.of(List.of(vintage, modern));
+
+    @Test
+    void assignsOrdinalsInInsertionOrder() {
+        assertEquals(3, index.variantCount());
+        for (int ordinal = 0; ordinal < index.variantCount(); ordinal++) {
+            Variant variant = index.variant(ordinal);
+            assertEquals(ordinal, index.ordinalOf(variant.id()));
+        }
+        assertEquals(modern.id(), index.productId(index.ordinalOf(whiteGoldChannel.id())));
+        assertEquals(-1, index.ordinalOf(VariantId.generate()));
+    }
+
+    @Test
+    void indexesEveryField() {
+        assertEquals(Set.of(goldHalo), matches(Query.term(SearchField.STYLE, "halo")));
+        assertEquals(Set.of(whiteGoldChannel), matches(Query.term(SearchField.STYLE, "Channel Set")));
+        assertEquals(Set.of(platinumSolitaire), matches(Query.term(SearchField.MATERIAL, "Platinum")));
+        assertEquals(Set.of(whiteGoldChannel), matches(Query.term(SearchField.MATERIAL, "white gold")));
+        assertEquals(Set.of(goldHalo), matches(Query.term(SearchField.GEMSTONE, "DIAMOND")));
+        assertEquals(Set.of(whiteGoldChannel), matches(Query.term(SearchField.STATUS, "draft")));
+        assertEquals(Set.of(goldHalo, platinumSolitaire), matches(Query.text("ENGAGEMENT ring")));
+        assertTrue(matches(Query.term(SearchField.MATERIAL, "silver")).isEmpty());
+    }
+
+    @Test
+    void evaluatesBooleanQueries() {
+        Query activeRings = Query.and(Query.text("ring"), Query.term(SearchField.STATUS, "active"));
+        assertEquals(Set.of(goldHalo, platinumSolitaire), matches(activeRings));
+
+        Query notDiamond = Query.and(activeRings, Query.not(Query.term(SearchField.GEMSTONE, "diamond")));
+        assertEquals(Set.of(platinumSolitaire), matches(notDiamond));
+
+        Query goldOrPlatinum = Query.or(Query.term(SearchField.MATERIAL, "gold"), Query.term(SearchField.MATERIAL, "platinum"));
+        assertEquals(Set.of(goldHalo, platinumSolitaire), matches(goldOrPlatinum));
+
+        assertEquals(Set.of(whiteGoldChannel), matches(Query.not(goldOrPlatinum)));
+        assertEquals(3, index.evaluate(Query.all()).cardinality());
+        assertEquals(3, index.evaluate(Query.and()).cardinality());
+        assertEquals(0, index.evaluate(Query.or()).cardinality());
+        assertEquals(3, index.evaluate(Query.text("  ")).cardinality());
+    }
+
+    @Test
+    void nestedNotAndOrCombine() {
+        Query query = Query.not(Query.and(Query.term(SearchField.STATUS, "active"), Query.not(Query.term(SearchField.STYLE, "halo"))));
+        assertEquals(Set.of(goldHalo, whiteGoldChannel), matches(query));
+    }
+
+    @Test
+    void descriptionWordsAreCountedOncePerVariant() {
+        Product repeated = product("Ring ring ring, a ring for every finger", ring().build());
+        CatalogIndex single = CatalogIndex.of(List.of(repeated));
+        assertEquals(1, single.postings(Term.of(SearchField.DESCRIPTION, "ring")).size());
+    }
+
+    @Test
+    void rejectsDuplicateVariantIds() {
+        Product copy = product("Vintage engagement ring, again", goldHalo);
+        assertThrows(IllegalArgumentException.class, () -> CatalogIndex.of(List.of(vintage, copy)));
+    }
+
+    @Test
+    void unknownTermsHaveEmptyPostings() {
+        PostingsList postings = index.postings(Term.of(SearchField.DESCRIPTION, "tiara"));
+        assertEquals(0, postings.size());
+        assertEquals(index.variantCount(), postings.universe());
+        assertTrue(index.memoryBytes() > 0);
+    }
+
+    @Test
+    void termsAreNormalized() {
+        assertEquals(Term.of(SearchField.STYLE, "channel_set"), Term.of(SearchField.STYLE, " Channel Set "));
+        assertEquals("white gold", Term.of(SearchField.MATERIAL, "White Gold").value());
+        assertThrows(IllegalArgumentException.class, () -> Term.of(SearchField.STATUS, " "));
+    }
+
+    // Product.variants() does not keep insertion order, so compare matches as sets
+    private Set<Variant> matches(Query query) {
+        return Set.copyOf(index.search(query));
+    }
+}
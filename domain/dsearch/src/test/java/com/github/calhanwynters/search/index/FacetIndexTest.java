@@ -0,0 +1,144 @@
+package com.github.calhanwynters.search.index;
+
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.GemstoneTypeEnums;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.github.calhanwynters.search.CatalogFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTest {
+
+    private final RingVariant cheapGold = ring().basePrice(Money.of(40, "USD"))
+            .gemstones(Set.of(gemstone("Diamond"))).status(VariantStatusEnums.ACTIVE).build();
+    private final RingVariant midPlatinum = ring().ringSize(RingSize.UK_AUS_SIZE_M).basePrice(Money.of(75, "USD"))
+            .materials(Set.of(material(MaterialName.PLATINUM), material(MaterialName.GOLD)))
+            .gemstones(Set.of(gemstone("Sapphire"), gemstone("Blue Topaz"))).style(RingStyleVO.of("halo")).build();
+    private final RingVariant euroSilver = ring().basePrice(Money.of(500, "EUR"))
+            .materials(Set.of(material(MaterialName.SILVER))).status(VariantStatusEnums.ACTIVE).build();
+
+    private final CatalogIndex catalog = CatalogIndex.of(List.of(
+            product("Classic rings in gold and platinum", cheapGold, midPlatinum),
+            product("Sterling silver ring for everyday", euroSilver)));
+    private final FacetIndex facets = FacetIndex.build(catalog, PriceBands.of("USD", "50", "100"));
+
+    @Test
+    void countsEveryFacetOverAllVariants() {
+        FacetCounts counts = facets.count(Query.all());
+
+        assertEquals(3, counts.matches());
+        assertEquals(Map.of("GOLD", 2, "PLATINUM", 1, "SILVER", 1), counts.counts(Facet.MATERIAL));
+        assertEquals(Map.of("DIAMOND", 1, "SAPPHIRE", 1, "OTHER", 1), counts.counts(Facet.GEMSTONE));
+        assertEquals(Map.of("SOLITAIRE", 2, "HALO", 1), counts.counts(Facet.STYLE));
+        assertEquals(Map.of("NA_SIZE_7", 2, "UK_AUS_SIZE_M", 1), counts.counts(Facet.RING_SIZE));
+        assertEquals(Map.of("NA", 2, "UK_AUS", 1), counts.counts(Facet.RING_SIZE_REGION));
+        // The EUR variant is in no USD band
+        assertEquals(Map.of("0-50", 1, "50-100", 1), counts.counts(Facet.PRICE_BAND));
+    }
+
+    @Test
+    void countsOnlyMatchingVariantsAndKeepsZeroCounts() {
+        FacetCounts counts = facets.count(Query.term(SearchField.STATUS, "active"));
+
+        assertEquals(2, counts.matches());
+        assertEquals(1, counts.count(Facet.MATERIAL, "GOLD"));
+        assertEquals(1, counts.count(Facet.MATERIAL, "SILVER"));
+        assertEquals(0, counts.count(Facet.MATERIAL, "PLATINUM"));
+        assertTrue(counts.counts(Facet.MATERIAL).containsKey("PLATINUM"));
+        assertEquals(0, counts.count(Facet.MATERIAL, "TITANIUM"));
+    }
+
+    @Test
+    void valuesFollowEnumDeclarationOrder() {
+        assertEquals(List.of("GOLD", "PLATINUM", "SILVER"), new ArrayList<>(facets.values(Facet.MATERIAL)));
+        assertEquals(List.of("DIAMOND", "SAPPHIRE", "OTHER"), new ArrayList<>(facets.values(Facet.GEMSTONE)));
+        assertEquals(List.of("0-50", "50-100"), new ArrayList<>(facets.values(Facet.PRICE_BAND)));
+    }
+
+    @Test
+    void filtersCombineWithOtherQueries() {
+        Query goldRings = Query.and(Query.text("rings"), facets.filter(Facet.MATERIAL, "GOLD"));
+        assertEquals(Set.of(cheapGold, midPlatinum), matches(goldRings));
+
+        Query notCheap = Query.and(goldRings, Query.not(facets.filter(Facet.PRICE_BAND, "0-50")));
+        assertEquals(Set.of(midPlatinum), matches(notCheap));
+
+        assertEquals(Set.of(cheapGold, euroSilver), matches(Query.or(facets.filter(Facet.GEMSTONE, "DIAMOND", "NONE"), facets.filter(Facet.MATERIAL, "SILVER"))));
+        assertTrue(facets.bitmap(Facet.STYLE, "PAVE").isEmpty());
+    }
+
+    @Test
+    void filterRejectsAnotherCatalog() {
+        CatalogIndex other = CatalogIndex.of(List.of(product("Another catalog entirely", ring().build())));
+        Query filter = facets.filter(Facet.MATERIAL, "GOLD");
+        assertThrows(IllegalArgumentException.class, () -> other.evaluate(filter));
+    }
+
+    @Test
+    void countsMatchPerVariantIterationOnLargerCatalog() {
+        Random random = new Random(22);
+        MaterialName[] materials = {MaterialName.GOLD, MaterialName.SILVER, MaterialName.PLATINUM, MaterialName.TITANIUM};
+        List<Product> products = new ArrayList<>();
+        for (int p = 0; p < 150; p++) {
+            List<Variant> variants = new ArrayList<>();
+            for (int v = 0; v < 3; v++) {
+                variants.add(ring().materials(Set.of(material(materials[random.nextInt(materials.length)])))
+                        .basePrice(Money.of(random.nextInt(200), "USD"))
+                        .status(random.nextBoolean() ? VariantStatusEnums.ACTIVE : VariantStatusEnums.DRAFT).build());
+            }
+            products.add(product("Generated product number " + p, variants.toArray(new Variant[0])));
+        }
+        CatalogIndex large = CatalogIndex.of(products);
+        FacetIndex largeFacets = FacetIndex.build(large, PriceBands.of("USD", "50", "100"));
+        PriceBands bands = PriceBands.of("USD", "50", "100");
+
+        VariantBitmap active = large.evaluate(Query.term(SearchField.STATUS, "active"));
+        FacetCounts counts = largeFacets.count(active);
+
+        for (MaterialName material : materials) {
+            int expected = 0;
+            for (int ordinal : active.toArray()) {
+                expected += large.variant(ordinal).materials().iterator().next().material().material() == material ? 1 : 0;
+            }
+            assertEquals(expected, counts.count(Facet.MATERIAL, material.name()), material.name());
+        }
+        for (int band = 0; band < 3; band++) {
+            int expected = 0;
+            for (int ordinal : active.toArray()) {
+                expected += bands.bandOf(large.variant(ordinal).currentPrice()) == band ? 1 : 0;
+            }
+            assertEquals(expected, counts.count(Facet.PRICE_BAND, bands.labels().get(band)));
+        }
+        assertEquals(active.cardinality(), counts.matches());
+    }
+
+    @Test
+    void rejectsBitmapOfAnotherSize() {
+        assertThrows(IllegalArgumentException.class, () -> facets.count(new VariantBitmap(4)));
+    }
+
+    @Test
+    void mapsGemstoneNamesOntoCanonicalTypes() {
+        assertEquals(GemstoneTypeEnums.DIAMOND, FacetIndex.gemstoneType(" diamond "));
+        assertEquals(GemstoneTypeEnums.AQUAMARINE, FacetIndex.gemstoneType("Aquamarine"));
+        assertEquals(GemstoneTypeEnums.OTHER, FacetIndex.gemstoneType("Blue Topaz"));
+    }
+
+    // Product.variants() does not keep insertion order, so compare matches as sets
+    private Set<Variant> matches(Query query) {
+        return Set.copyOf(catalog.search(query));
+    }
+}
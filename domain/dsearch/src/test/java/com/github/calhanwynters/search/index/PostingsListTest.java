@@ -0,0 +1,84 @@
+package com.github.calhanwynters.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostingsListTest {
+
+    @Test
+    void sparseListsRoundTripThroughGapEncoding() {
+        int[] ordinals = {0, 5, 127, 128, 16_384, 999_999};
+        PostingsList postings = PostingsList.of(1_000_000, ordinals);
+        assertFalse(postings.isDense());
+        assertEquals(6, postings.size());
+        assertArrayEquals(ordinals, postings.toArray());
+        assertTrue(postings.memoryBytes() < 64, "memory: " + postings.memoryBytes());
+    }
+
+    @Test
+    void denseListsAreStoredAsBitmaps() {
+        int[] ordinals = IntStream.range(0, 1_000).filter(i -> i % 3 != 0).toArray();
+        PostingsList postings = PostingsList.of(1_000, ordinals);
+        assertTrue(postings.isDense());
+        assertArrayEquals(ordinals, postings.toArray());
+    }
+
+    @Test
+    void rejectsUnsortedOrOutOfRangeOrdinals() {
+        assertThrows(IllegalArgumentException.class, () -> PostingsList.of(10, 3, 3));
+        assertThrows(IllegalArgumentException.class, () -> PostingsList.of(10, 4, 2));
+        assertThrows(IllegalArgumentException.class, () -> PostingsList.of(10, 10));
+    }
+
+    @Test
+    void combinesIntoBitmapsLikeMaterializedBitmaps() {
+        Random random = new Random(42);
+        int universe = 5_000;
+        for (int density : new int[]{2, 50, 1_000}) {
+            int[] ordinals = IntStream.range(0, universe).filter(i -> random.nextInt(density) == 0).toArray();
+            PostingsList postings = PostingsList.of(universe, ordinals);
+            VariantBitmap expected = VariantBitmap.of(universe, ordinals);
+
+            VariantBitmap target = randomBitmap(random, universe);
+
+            VariantBitmap and = target.copy();
+            postings.andInto(and);
+            assertEquals(target.copy().and(expected), and, "and, density 1/" + density);
+
+            VariantBitmap or = target.copy();
+            postings.orInto(or);
+            assertEquals(target.copy().or(expected), or, "or, density 1/" + density);
+
+            VariantBitmap andNot = target.copy();
+            postings.andNotInto(andNot);
+            assertEquals(target.copy().andNot(expected), andNot, "andNot, density 1/" + density);
+        }
+    }
+
+    @Test
+    void emptyListClearsOnIntersection() {
+        VariantBitmap target = VariantBitmap.full(100);
+        PostingsList.of(100).andInto(target);
+        assertTrue(target.isEmpty());
+    }
+
+    @Test
+    void rejectsBitmapOfAnotherUniverse() {
+        PostingsList postings = PostingsList.of(10, 1);
+        assertThrows(IllegalArgumentException.class, () -> postings.andInto(new VariantBitmap(11)));
+    }
+
+    private static VariantBitmap randomBitmap(Random random, int size) {
+        VariantBitmap bitmap = new VariantBitmap(size);
+        for (int i = 0; i < size; i++) {
+            if (random.nextBoolean()) {
+                bitmap.set(i);
+            }
+        }
+        return bitmap;
+    }
+}
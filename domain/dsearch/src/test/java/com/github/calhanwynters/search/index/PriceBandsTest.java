@@ -0,0 +1,40 @@
+package com.github.calhanwynters.search.index;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceBandsTest {
+
+    private final PriceBands bands = PriceBands.of("USD", "50", "100.50");
+
+    @Test
+    void labelsCoverEveryBand() {
+        assertEquals(List.of("0-50", "50-100.50", "100.50+"), bands.labels());
+    }
+
+    @Test
+    void lowerBoundIsInclusive() {
+        assertEquals(0, bands.bandOf(Money.of(0, "USD")));
+        assertEquals(0, bands.bandOf(Money.of(49.99, "USD")));
+        assertEquals(1, bands.bandOf(Money.of(50, "USD")));
+        assertEquals(2, bands.bandOf(Money.of(100.50, "USD")));
+        assertEquals(2, bands.bandOf(Money.of(10_000, "USD")));
+    }
+
+    @Test
+    void otherCurrenciesAndNegativePricesAreInNoBand() {
+        assertEquals(-1, bands.bandOf(Money.of(10, "EUR")));
+        assertEquals(-1, bands.bandOf(Money.of(-1, "USD")));
+    }
+
+    @Test
+    void boundariesMustBePositiveAndAscending() {
+        assertThrows(IllegalArgumentException.class, () -> PriceBands.of("USD", "100", "50"));
+        assertThrows(IllegalArgumentException.class, () -> PriceBands.of("USD", "0"));
+        assertThrows(NullPointerException.class, () -> PriceBands.of(null, "10"));
+    }
+}
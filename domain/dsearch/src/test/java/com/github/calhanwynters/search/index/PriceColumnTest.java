@@ -0,0 +1,180 @@
+package com.github.calhanwynters.search.index;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.github.calhanwynters.search.CatalogFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceColumnTest {
+
+    private final RingVariant cheap = ring().basePrice(Money.of(new BigDecimal("19.99"), "USD")).build();
+    private final RingVariant mid = ring().basePrice(Money.of(new BigDecimal("49.995"), "USD"))
+            .materials(Set.of(material(MaterialName.SILVER))).status(VariantStatusEnums.ACTIVE).build();
+    private final RingVariant pricey = ring().basePrice(Money.of(250, "USD")).status(VariantStatusEnums.ACTIVE).build();
+    private final RingVariant yen = ring().basePrice(Money.of(3000, "JPY")).build();
+
+    private final CatalogIndex catalog = CatalogIndex.of(List.of(
+            product("Rings in every price range", cheap, mid, pricey),
+            product("Imported ring priced in yen", yen)));
+    private final PriceColumn prices = PriceColumn.build(catalog);
+
+    @Test
+    void buildsOneColumnPerCurrency() {
+        assertEquals(Set.of("USD", "JPY"), prices.currencies());
+        assertEquals(3, prices.size("USD"));
+        assertEquals(1, prices.size("JPY"));
+        assertEquals(0, prices.size("EUR"));
+    }
+
+    @Test
+    void rangeBoundsAreInclusive() {
+        assertEquals(Set.of(cheap, mid), variants(prices.range("USD", new BigDecimal("19.99"), new BigDecimal("50.00"))));
+        // 49.995 is stored exactly, so it lies between 49.99 and 50.00
+        assertEquals(Set.of(cheap), variants(prices.range("USD", null, new BigDecimal("49.99"))));
+        assertEquals(Set.of(mid), variants(prices.range("USD", new BigDecimal("49.995"), new BigDecimal("49.995"))));
+        assertEquals(Set.of(mid, pricey), variants(prices.range("USD", new BigDecimal("20"), null)));
+        assertEquals(Set.of(pricey), variants(prices.range("USD", new BigDecimal("50.001"), null)));
+        assertEquals(Set.of(yen), variants(prices.range("JPY", null, null)));
+        assertTrue(prices.range("EUR", null, null).isEmpty());
+    }
+
+    @Test
+    void subMinorUnitPricesAreNotRoundedIntoRange() {
+        RingVariant justBelow = ring().basePrice(Money.of(new BigDecimal("9.995"), "USD")).build();
+        RingVariant exact = ring().basePrice(Money.of(new BigDecimal("10.00"), "USD")).build();
+        CatalogIndex tens = CatalogIndex.of(List.of(product("Rings around ten dollars", justBelow, exact)));
+        PriceColumn column = PriceColumn.build(tens);
+
+        assertEquals(List.of(exact), tens.search(column.between("USD", new BigDecimal("10.00"), null)));
+        assertEquals(List.of(justBelow), tens.search(column.between("USD", null, new BigDecimal("9.999"))));
+        assertEquals(List.of(justBelow, exact), Arrays.stream(column.sortByPrice(tens.all(), "USD", false, 2)).mapToObj(tens::variant).toList());
+    }
+
+    @Test
+    void boundsBeyondTheColumnRangeAreClamped() {
+        BigDecimal huge = new BigDecimal("1E20");
+
+        assertTrue(prices.range("USD", huge, null).isEmpty());
+        assertEquals(Set.of(cheap, mid, pricey), variants(prices.range("USD", null, huge)));
+        assertEquals(Set.of(cheap, mid, pricey), variants(prices.range("USD", huge.negate(), huge)));
+        assertTrue(prices.range("USD", null, huge.negate()).isEmpty());
+        assertEquals(0, catalog.search(prices.between("USD", huge, null)).size());
+        assertEquals(Set.of(yen), Set.copyOf(catalog.search(prices.between("JPY", new BigDecimal("-1E30"), new BigDecimal("1E30")))));
+    }
+
+    @Test
+    void pricesThatCannotBeStoredExactlyAreRejectedAtBuild() {
+        RingVariant tooFine = ring().basePrice(Money.of(new BigDecimal("0.000000000001"), "USD")).build();
+        IllegalArgumentException fine = assertThrows(IllegalArgumentException.class,
+                () -> PriceColumn.build(CatalogIndex.of(List.of(product("Ring priced in picodollars", cheap, tooFine)))));
+        assertTrue(fine.getMessage().contains("0.000000000001 USD"), fine.getMessage());
+
+        RingVariant tooLarge = ring().basePrice(Money.of(new BigDecimal("1E20"), "USD")).build();
+        IllegalArgumentException large = assertThrows(IllegalArgumentException.class,
+                () -> PriceColumn.build(CatalogIndex.of(List.of(product("Ring priced beyond a long", cheap, tooLarge)))));
+        assertTrue(large.getMessage().contains("100000000000000000000 USD"), large.getMessage());
+    }
+
+    @Test
+    void widenedScaleIsCappedAtNineFractionDigits() {
+        RingVariant nanos = ring().basePrice(Money.of(new BigDecimal("0.000000001"), "USD")).build();
+        RingVariant large = ring().basePrice(Money.of(new BigDecimal("1000000000"), "USD")).build();
+        CatalogIndex fine = CatalogIndex.of(List.of(product("Rings at both ends of the nano range", nanos, large)));
+        PriceColumn column = PriceColumn.build(fine);
+
+        assertEquals(List.of(nanos), fine.search(column.between("USD", null, new BigDecimal("0.0000000015"))));
+        assertEquals(List.of(large), fine.search(column.between("USD", new BigDecimal("0.0000000011"), null)));
+    }
+
+    @Test
+    void rangeQueriesCombineWithTermsAndFacets() {
+        FacetIndex facets = FacetIndex.build(catalog);
+        Query activeUnder100 = Query.and(prices.between("USD", null, new BigDecimal("100")),
+                Query.term(SearchField.STATUS, "active"));
+        assertEquals(Set.of(mid), Set.copyOf(catalog.search(activeUnder100)));
+
+        Query goldInUsd = Query.and(prices.between("USD", BigDecimal.ZERO, null), facets.filter(Facet.MATERIAL, "GOLD"));
+        assertEquals(Set.of(cheap, pricey), Set.copyOf(catalog.search(goldInUsd)));
+
+        assertThrows(IllegalArgumentException.class, () -> prices.between("USD", BigDecimal.TEN, BigDecimal.ONE));
+    }
+
+    @Test
+    void sortsMatchesByPrice() {
+        VariantBitmap all = catalog.all();
+        assertEquals(List.of(cheap, mid, pricey), variants(prices.sortByPrice(all, "USD", false, 10)));
+        assertEquals(List.of(pricey, mid), variants(prices.sortByPrice(all, "USD", true, 2)));
+        assertEquals(List.of(mid, pricey), variants(prices.sortByPrice(catalog.evaluate(Query.term(SearchField.STATUS, "active")), "USD", false, 10)));
+        assertEquals(0, prices.sortByPrice(all, "EUR", false, 10).length);
+        assertEquals(0, prices.sortByPrice(all, "USD", false, 0).length);
+    }
+
+    @Test
+    void matchesLinearScanOnRandomCatalog() {
+        Random random = new Random(24);
+        List<Product> products = new ArrayList<>();
+        for (int p = 0; p < 200; p++) {
+            List<Variant> variants = new ArrayList<>();
+            for (int v = 0; v < 2; v++) {
+                variants.add(ring().basePrice(Money.of(BigDecimal.valueOf(random.nextInt(20_000), 2), "USD"))
+                        .status(v == 0 ? VariantStatusEnums.ACTIVE : VariantStatusEnums.DRAFT).build());
+            }
+            products.add(product("Random product number " + p, variants.toArray(new Variant[0])));
+        }
+        CatalogIndex large = CatalogIndex.of(products);
+        PriceColumn column = PriceColumn.build(large);
+        BigDecimal min = new BigDecimal("25.50");
+        BigDecimal max = new BigDecimal("120");
+
+        VariantBitmap expected = new VariantBitmap(large.variantCount());
+        for (int ordinal = 0; ordinal < large.variantCount(); ordinal++) {
+            BigDecimal price = large.variant(ordinal).currentPrice().getNumber().numberValue(BigDecimal.class);
+            if (price.compareTo(min) >= 0 && price.compareTo(max) <= 0) {
+                expected.set(ordinal);
+            }
+        }
+        assertEquals(expected, column.range("USD", min, max));
+
+        int[] sorted = column.sortByPrice(large.all(), "USD", false, large.variantCount());
+        assertEquals(large.variantCount(), sorted.length);
+        for (int i = 1; i < sorted.length; i++) {
+            Comparator<Integer> byPrice = Comparator.comparing(ordinal -> large.variant(ordinal).currentPrice().getNumber().numberValue(BigDecimal.class));
+            int comparison = byPrice.compare(sorted[i - 1], sorted[i]);
+            assertTrue(comparison < 0 || (comparison == 0 && sorted[i - 1] < sorted[i]), "order at " + i);
+        }
+        assertTrue(column.memoryBytes() >= 12L * large.variantCount());
+    }
+
+    @Test
+    void rejectsBitmapOfAnotherSize() {
+        assertThrows(IllegalArgumentException.class, () -> prices.sortByPrice(new VariantBitmap(1), "USD", false, 1));
+    }
+
+    private Set<Variant> variants(VariantBitmap bitmap) {
+        List<Variant> result = new ArrayList<>();
+        bitmap.forEach(ordinal -> result.add(catalog.variant(ordinal)));
+        return Set.copyOf(result);
+    }
+
+    private List<Variant> variants(int[] ordinals) {
+        List<Variant> result = new ArrayList<>();
+        for (int ordinal : ordinals) {
+            result.add(catalog.variant(ordinal));
+        }
+        return result;
+    }
+}
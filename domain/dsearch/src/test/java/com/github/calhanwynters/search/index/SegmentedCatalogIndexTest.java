@@ -0,0 +1,373 @@
+package com.github.calhanwynters.search.index;
+
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.entities.Variant;
+import com.github.calhanwynters.model.shared.enums.VariantStatusEnums;
+import com.github.calhanwynters.model.shared.valueobjects.DescriptionVO;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import com.github.calhanwynters.model.shared.valueobjects.PercentageVO;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.calhanwynters.search.CatalogFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedCatalogIndexTest {
+
+    // Merges run on the writing thread, so every assertion sees their result
+    private final SegmentedCatalogIndex index = new SegmentedCatalogIndex(PriceBands.of("USD", "50"), 4, Runnable::run);
+
+    @Test
+    void upsertMakesProductSearchable() {
+        RingVariant halo = ring().style(RingStyleVO.of("halo")).build();
+        index.upsert(product("Halo engagement ring in gold", halo));
+
+        assertEquals(List.of(halo), index.search(Query.term(SearchField.STYLE, "halo")));
+        assertEquals(1, index.count(Query.text("engagement")));
+        assertEquals(1, index.variantCount());
+    }
+
+    @Test
+    void upsertReplacesEarlierVersion() {
+        RingVariant ring = ring().build();
+        Product original = product("Classic solitaire ring", ring);
+        index.upsert(original);
+
+        Product renamed = original.changeDescription(new DescriptionVO("Timeless solitaire band"));
+        index.upsert(renamed);
+
+        assertEquals(0, index.count(Query.text("classic")));
+        assertEquals(1, index.count(Query.text("timeless")));
+        assertEquals(1, index.variantCount());
+    }
+
+    @Test
+    void variantChangesReplaceOldVariantState() {
+        RingVariant draft = ring().build();
+        Product product = product("Classic solitaire ring", draft);
+        index.upsert(product);
+
+        Product activated = product.mutateVariants(variant -> ((RingVariant) variant).activate());
+        index.upsert(activated);
+
+        assertEquals(0, index.count(Query.term(SearchField.STATUS, "draft")));
+        assertEquals(1, index.count(Query.term(SearchField.STATUS, "active")));
+
+        Product discounted = activated.mutateVariants(variant -> variant.applyDiscount(new PercentageVO(new BigDecimal("0.60"))));
+        index.upsert(discounted);
+        assertEquals(1, index.facetCounts(Query.all()).count(Facet.PRICE_BAND, "0-50"));
+        assertEquals(0, index.facetCounts(Query.all()).count(Facet.PRICE_BAND, "50+"));
+    }
+
+    @Test
+    void removeHidesProduct() {
+        Product product = product("Classic solitaire ring", ring().build());
+        index.upsert(product);
+        index.remove(product.id());
+
+        assertEquals(0, index.count(Query.all()));
+        assertEquals(0, index.variantCount());
+    }
+
+    @Test
+    void staleChangesAreIgnored() {
+        Product product = product("Classic solitaire ring", ring().build());
+        Product newer = product.changeDescription(new DescriptionVO("Timeless solitaire band"));
+
+        assertTrue(index.upsert(newer));
+        assertFalse(index.upsert(product));
+        assertEquals(1, index.count(Query.text("timeless")));
+
+        assertTrue(index.remove(product.id(), newer.version() + 1));
+        assertFalse(index.upsert(newer));
+        assertEquals(0, index.count(Query.all()));
+    }
+
+    @Test
+    void equalVersionsAreRejectedNotApplied() {
+        Product product = product("Classic solitaire ring", ring().build());
+        // A different state under an already applied version, e.g. from a writer that bypassed the behavior methods
+        Product sameVersion = new Product(product.id(), new DescriptionVO("Timeless solitaire band"), product.gallery(),
+                product.variants(), product.version());
+
+        assertTrue(index.upsert(product));
+        assertFalse(index.upsert(product));
+        assertFalse(index.upsert(sameVersion));
+        assertEquals(1, index.count(Query.text("classic")));
+        assertEquals(0, index.count(Query.text("timeless")));
+
+        assertFalse(index.remove(product.id(), product.version()));
+        assertEquals(1, index.variantCount());
+    }
+
+    @Test
+    void versionsOrderChangesRegardlessOfArrivalOrder() {
+        Product created = product("Classic solitaire ring", ring().build());
+        Product renamed = created.changeDescription(new DescriptionVO("Timeless solitaire band"));
+        Product activated = renamed.mutateVariants(variant -> ((RingVariant) variant).activate());
+
+        assertTrue(index.upsert(activated));
+        assertFalse(index.upsert(created));
+        assertFalse(index.upsert(renamed));
+        assertEquals(1, index.count(Query.term(SearchField.STATUS, "active")));
+        assertEquals(1, index.count(Query.text("timeless")));
+    }
+
+    @Test
+    void removeWithoutVersionRemovesTheIndexedVersion() {
+        Product product = product("Classic solitaire ring", ring().build());
+        index.upsert(product);
+        index.remove(product.id());
+
+        assertFalse(index.upsert(product));
+        assertTrue(index.upsert(product.changeDescription(new DescriptionVO("Timeless solitaire band"))
+                .changeDescription(new DescriptionVO("Timeless solitaire band, restocked"))));
+        assertEquals(1, index.count(Query.text("restocked")));
+    }
+
+    @Test
+    void tombstonesArePrunedOnceOutsideTheReorderWindow() {
+        MutableClock clock = new MutableClock();
+        SegmentedCatalogIndex windowed = new SegmentedCatalogIndex(null, 4, Duration.ofSeconds(10), clock, Runnable::run);
+        Product removed = product("Classic solitaire ring", ring().build());
+        windowed.upsert(removed);
+        windowed.remove(removed.id(), removed.version() + 1);
+
+        // Within the window the removal still rejects the late upsert
+        clock.advance(Duration.ofSeconds(10));
+        windowed.upsert(product("Halo engagement ring", ring().build()));
+        assertEquals(1, windowed.tombstoneCount());
+        assertFalse(windowed.upsert(removed));
+
+        clock.advance(Duration.ofSeconds(1));
+        windowed.upsert(product("Plain wedding band", ring().build()));
+        assertEquals(0, windowed.tombstoneCount());
+        assertTrue(windowed.upsert(removed));
+        assertEquals(1, windowed.count(Query.text("classic")));
+    }
+
+    @Test
+    void readdedProductsKeepTheirLocationWhenOldTombstonesArePruned() {
+        MutableClock clock = new MutableClock();
+        SegmentedCatalogIndex windowed = new SegmentedCatalogIndex(null, 4, Duration.ZERO, clock, Runnable::run);
+        Product product = product("Classic solitaire ring", ring().build());
+        Product readded = product.changeDescription(new DescriptionVO("Classic solitaire ring, back in stock"));
+        windowed.remove(product.id(), product.version());
+        windowed.upsert(readded);
+        clock.advance(Duration.ofSeconds(1));
+        windowed.upsert(product("Halo engagement ring", ring().build()));
+        windowed.forceMerge();
+
+        assertEquals(0, windowed.tombstoneCount());
+        assertFalse(windowed.upsert(product));
+        assertEquals(1, windowed.count(Query.text("classic")));
+        assertEquals(1, windowed.count(Query.text("stock")));
+    }
+
+    @Test
+    void rejectsNegativeReorderWindow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SegmentedCatalogIndex(null, 4, Duration.ofSeconds(-1), Runnable::run));
+    }
+
+    @Test
+    void mergesKeepSegmentCountBounded() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Product product = product("Generated product number " + i, ring().build());
+            products.add(product);
+            index.upsert(product);
+            // At most mergeFactor - 1 segments in each of the tiers below 64 variants
+            assertTrue(index.segmentCount() <= 9, "segments: " + index.segmentCount());
+        }
+        // Rewrite every other product; old versions must not resurface through merges
+        for (int i = 0; i < 40; i += 2) {
+            index.upsert(products.get(i).changeDescription(new DescriptionVO("Rewritten product number " + i)));
+        }
+        assertEquals(40, index.variantCount());
+        assertEquals(20, index.count(Query.text("rewritten")));
+        assertEquals(20, index.count(Query.text("generated")));
+
+        index.forceMerge();
+        assertEquals(1, index.segmentCount());
+        assertEquals(40, index.count(Query.all()));
+        assertEquals(20, index.count(Query.text("rewritten")));
+    }
+
+    @Test
+    void mergeWorkGrowsLogarithmicallyWithUpserts() {
+        int upserts = 1_024;
+        for (int i = 0; i < upserts; i++) {
+            index.upsert(product("Generated product number " + i, ring().build()));
+        }
+        assertEquals(upserts, index.variantCount());
+        // Each product is rewritten once per tier it climbs: log4(1024) = 5 tiers
+        assertTrue(index.mergedProductCount() <= 5L * upserts, "merged: " + index.mergedProductCount());
+        assertTrue(index.segmentCount() <= 3 * 6, "segments: " + index.segmentCount());
+    }
+
+    @Test
+    void mergesOnlySegmentsOfSimilarSize() {
+        List<Product> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(product("Imported product number " + i, ring().build()));
+        }
+        index.upsertAll(batch);
+        for (int i = 0; i < 3; i++) {
+            index.upsert(product("Edited product number " + i, ring().build()));
+        }
+        assertEquals(4, index.segmentCount());
+        assertEquals(0, index.mergedProductCount());
+
+        // A fourth small segment fills its tier; the large import segment is left alone
+        index.upsert(product("Edited product number 3", ring().build()));
+        assertEquals(2, index.segmentCount());
+        assertEquals(4, index.mergedProductCount());
+    }
+
+    @Test
+    void facetCountsAddUpAcrossSegments() {
+        index.upsertAll(List.of(
+                product("Gold rings collection", ring().build(), ring().materials(Set.of(material(MaterialName.SILVER))).build())));
+        index.upsert(product("Platinum ring", ring().materials(Set.of(material(MaterialName.GOLD), material(MaterialName.PLATINUM))).build()));
+
+        FacetCounts counts = index.facetCounts(Query.all());
+        assertEquals(3, counts.matches());
+        assertEquals(2, counts.count(Facet.MATERIAL, "GOLD"));
+        assertEquals(1, counts.count(Facet.MATERIAL, "SILVER"));
+        assertEquals(1, counts.count(Facet.MATERIAL, "PLATINUM"));
+    }
+
+    @Test
+    void facetAndPriceFiltersResolveInEverySegment() {
+        index.upsert(product("Gold solitaire ring", ring().build()));
+        index.upsert(product("Platinum band ring", ring().materials(Set.of(material(MaterialName.PLATINUM))).basePrice(Money.of(40, "USD")).build()));
+        index.upsert(product("Rose gold halo ring", ring().materials(Set.of(material(MaterialName.ROSE_GOLD))).basePrice(Money.of(120, "USD")).build()));
+        assertEquals(3, index.segmentCount());
+
+        Query notPlatinum = Query.not(SegmentedCatalogIndex.facetFilter(Facet.MATERIAL, "PLATINUM"));
+        Query from90 = SegmentedCatalogIndex.priceBetween("USD", new BigDecimal("90"), null);
+
+        assertEquals(2, index.count(SegmentedCatalogIndex.facetFilter(Facet.MATERIAL, "GOLD", "ROSE_GOLD")));
+        assertEquals(2, index.count(SegmentedCatalogIndex.priceBetween("USD", new BigDecimal("40"), new BigDecimal("100"))));
+        assertEquals(0, index.count(SegmentedCatalogIndex.priceBetween("EUR", null, null)));
+        assertEquals(1, index.count(Query.and(Query.text("halo"), from90, notPlatinum)));
+        assertEquals(3, index.count(Query.or(from90, SegmentedCatalogIndex.facetFilter(Facet.MATERIAL, "PLATINUM"))));
+        assertEquals(1, index.facetCounts(Query.and(from90, Query.text("gold"))).count(Facet.MATERIAL, "ROSE_GOLD"));
+
+        index.forceMerge();
+        assertEquals(1, index.segmentCount());
+        assertEquals(2, index.count(Query.and(from90, notPlatinum)));
+    }
+
+    @Test
+    void segmentAwareFiltersOnlyEvaluateThroughTheIndex() {
+        CatalogIndex catalog = CatalogIndex.of(List.of(product("Gold solitaire ring", ring().build())));
+
+        assertThrows(IllegalArgumentException.class, () -> catalog.evaluate(SegmentedCatalogIndex.facetFilter(Facet.MATERIAL, "GOLD")));
+        assertThrows(IllegalArgumentException.class, () -> catalog.evaluate(SegmentedCatalogIndex.priceBetween("USD", null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> SegmentedCatalogIndex.priceBetween("USD", BigDecimal.TEN, BigDecimal.ONE));
+    }
+
+    @Test
+    void upsertAllKeepsLastStateOfRepeatedProduct() {
+        Product product = product("Classic solitaire ring", ring().build());
+        Product renamed = product.changeDescription(new DescriptionVO("Timeless solitaire band"));
+        index.upsertAll(List.of(product, renamed));
+
+        assertEquals(1, index.variantCount());
+        assertEquals(1, index.count(Query.text("timeless")));
+    }
+
+    @Test
+    void readersSeeConsistentSnapshotsDuringWrites() throws InterruptedException {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            products.add(product("Steady product number " + i, ring().status(VariantStatusEnums.ACTIVE).build()));
+        }
+        index.upsertAll(products);
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                int count = index.count(Query.text("steady"));
+                if (count != 50) {
+                    failure.set("saw " + count + " variants");
+                }
+            }
+        });
+        reader.start();
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < products.size(); i++) {
+                Product changed = products.get(i).changeDescription(new DescriptionVO("Steady product number " + i + " in round " + round));
+                products.set(i, changed);
+                assertTrue(index.upsert(changed));
+            }
+        }
+        done.set(true);
+        reader.join();
+        assertNull(failure.get());
+    }
+
+    @Test
+    void backgroundMergeRunsOnExecutor() throws Exception {
+        try (SegmentedCatalogIndex background = SegmentedCatalogIndex.create(null)) {
+            Set<Variant> expected = new HashSet<>();
+            for (int i = 0; i < 30; i++) {
+                RingVariant variant = ring().basePrice(Money.of(10 + i, "USD")).build();
+                expected.add(variant);
+                background.upsert(product("Background product number " + i, variant));
+            }
+            assertEquals(expected, Set.copyOf(background.search(Query.text("background"))));
+            background.forceMerge();
+            assertEquals(1, background.segmentCount());
+            assertEquals(expected, Set.copyOf(background.search(Query.all())));
+        }
+    }
+
+    @Test
+    void rejectsInvalidMergeFactor() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedCatalogIndex(null, 1, Runnable::run));
+    }
+
+    // A clock the test moves by hand, for the reorder window
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.calhanwynters.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariantBitmapTest {
+
+    @Test
+    void setGetAndClear() {
+        VariantBitmap bitmap = new VariantBitmap(130);
+        bitmap.set(0);
+        bitmap.set(64);
+        bitmap.set(129);
+        assertTrue(bitmap.get(0));
+        assertTrue(bitmap.get(64));
+        assertTrue(bitmap.get(129));
+        assertFalse(bitmap.get(1));
+        bitmap.clear(64);
+        assertFalse(bitmap.get(64));
+        assertEquals(2, bitmap.cardinality());
+        assertThrows(IndexOutOfBoundsException.class, () -> bitmap.set(130));
+        assertThrows(IndexOutOfBoundsException.class, () -> bitmap.get(-1));
+    }
+
+    @Test
+    void fullAndNotStayWithinSize() {
+        VariantBitmap full = VariantBitmap.full(70);
+        assertEquals(70, full.cardinality());
+        assertEquals(0, full.copy().not().cardinality());
+        assertEquals(70, new VariantBitmap(70).not().cardinality());
+        assertEquals(0, VariantBitmap.full(0).cardinality());
+    }
+
+    @Test
+    void setOperationsMatchBitSet() {
+        Random random = new Random(21);
+        int size = 1_000;
+        VariantBitmap a = new VariantBitmap(size);
+        VariantBitmap b = new VariantBitmap(size);
+        BitSet expectedA = new BitSet();
+        BitSet expectedB = new BitSet();
+        for (int i = 0; i < 300; i++) {
+            int x = random.nextInt(size);
+            int y = random.nextInt(size);
+            a.set(x);
+            expectedA.set(x);
+            b.set(y);
+            expectedB.set(y);
+        }
+
+        BitSet and = (BitSet) expectedA.clone();
+        and.and(expectedB);
+        BitSet or = (BitSet) expectedA.clone();
+        or.or(expectedB);
+        BitSet andNot = (BitSet) expectedA.clone();
+        andNot.andNot(expectedB);
+
+        assertArrayEquals(and.stream().toArray(), a.copy().and(b).toArray());
+        assertArrayEquals(or.stream().toArray(), a.copy().or(b).toArray());
+        assertArrayEquals(andNot.stream().toArray(), a.copy().andNot(b).toArray());
+        assertEquals(and.cardinality(), a.andCardinality(b));
+    }
+
+    @Test
+    void nextSetBitAndForEachVisitAscendingOrdinals() {
+        VariantBitmap bitmap = VariantBitmap.of(200, 199, 3, 64, 65);
+        assertEquals(3, bitmap.nextSetBit(0));
+        assertEquals(64, bitmap.nextSetBit(4));
+        assertEquals(199, bitmap.nextSetBit(66));
+        assertEquals(-1, bitmap.nextSetBit(200));
+
+        List<Integer> visited = new ArrayList<>();
+        bitmap.forEach(visited::add);
+        assertEquals(List.of(3, 64, 65, 199), visited);
+    }
+
+    @Test
+    void rejectsMismatchedSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new VariantBitmap(10).and(new VariantBitmap(11)));
+        assertThrows(IllegalArgumentException.class, () -> new VariantBitmap(-1));
+    }
+
+    @Test
+    void equalityIsByContent() {
+        assertEquals(VariantBitmap.of(10, 1, 2), VariantBitmap.of(10, 2, 1));
+        assertNotEquals(VariantBitmap.of(10, 1), VariantBitmap.of(11, 1));
+        assertTrue(new VariantBitmap(10).isEmpty());
+    }
+}
@@ -0,0 +1,287 @@
+package com.github.calhanwynters.infrastructure.snapshot;
+
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.codec.BinaryWriter;
+import com.github.calhanwynters.model.shared.codec.ProductCodec;
+import com.github.calhanwynters.model.shared.valueobjects.ProductId;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, memory-mapped catalog snapshot: every product in {@link ProductCodec} format plus an index
+ * sorted by {@link ProductId}.
+ * - Opening maps the file and validates its header; nothing is decoded up front, so startup cost does not
+ *   grow with the catalog and the encoded catalog stays off-heap in the page cache.
+ * - {@link #find(ProductId)} binary-searches the index against the id bytes in the mapped file and decodes
+ *   only the product asked for, on every call; callers that re-read hot products keep their own cache.
+ * - Safe for concurrent readers: lookups use absolute reads and private slices of the mapping.
+ *
+ * File layout (big-endian):
+ * <pre>
+ * header  int magic, int formatVersion, int productCount, int reserved, long indexOffset, long fileLength
+ * data    productCount codec records, each starting with its version byte and the encoded product id
+ * index   productCount entries of (long recordOffset, int recordLength), sorted by the id bytes
+ *         ({@link ProductCodec#encodeId(ProductId)}), compared unsigned
+ * </pre>
+ * Version 1 files keyed the index by the id's UTF-8 string and are still readable.
+ */
+public final class CatalogSnapshot implements AutoCloseable {
+
+    public static final int MAGIC = 0x524A4353; // "RJCS"
+    public static final int FORMAT_VERSION = 2;
+    // Version 1 keyed the index by the UTF-8 id string, written with a varint length
+    private static final int STRING_KEYS_VERSION = 1;
+
+    private static final int HEADER_BYTES = 32;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final ProductCodec codec;
+    private final int version;
+    private final int productCount;
+    private final int indexOffset;
+    private volatile boolean closed;
+
+    private CatalogSnapshot(FileChannel channel, MappedByteBuffer mapped, ProductCodec codec, int version,
+                            int productCount, int indexOffset) {
+        this.channel = channel;
+        this.mapped = mapped;
+        this.codec = codec;
+        this.version = version;
+        this.productCount = productCount;
+        this.indexOffset = indexOffset;
+    }
+
+    // --- Writing ---
+
+    /**
+     * Writes the products to a new snapshot file, replacing any existing file atomically.
+     * @param file The snapshot path.
+     * @param products The catalog; product ids must be unique.
+     * @param codec Encodes the product records.
+     * @throws IllegalArgumentException if two products share an id.
+     */
+    public static void write(Path file, Iterable<Product> products, ProductCodec codec) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        Objects.requireNonNull(products, "products must not be null");
+        Objects.requireNonNull(codec, "codec must not be null");
+
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                List<IndexEntry> entries = new ArrayList<>();
+                BinaryWriter writer = new BinaryWriter();
+                long offset = HEADER_BYTES;
+                out.position(offset);
+                for (Product product : products) {
+                    writer.reset();
+                    codec.encode(product, writer);
+                    byte[] record = writer.toByteArray();
+                    writeFully(out, ByteBuffer.wrap(record));
+                    entries.add(new IndexEntry(product.id(), codec.encodeId(product.id()), offset, record.length));
+                    offset += record.length;
+                }
+
+                entries.sort((a, b) -> Arrays.compareUnsigned(a.key, b.key));
+                for (int i = 1; i < entries.size(); i++) {
+                    if (Arrays.equals(entries.get(i - 1).key, entries.get(i).key)) {
+                        throw new IllegalArgumentException("Duplicate product id: " + entries.get(i).id.value());
+                    }
+                }
+
+                long indexOffset = offset;
+                ByteBuffer index = ByteBuffer.allocate(entries.size() * INDEX_ENTRY_BYTES).order(ByteOrder.BIG_ENDIAN);
+                for (IndexEntry entry : entries) {
+                    index.putLong(entry.offset).putInt(entry.length);
+                }
+                writeFully(out, index.flip());
+                long fileLength = indexOffset + (long) entries.size() * INDEX_ENTRY_BYTES;
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN)
+                        .putInt(MAGIC).putInt(FORMAT_VERSION).putInt(entries.size()).putInt(0)
+                        .putLong(indexOffset).putLong(fileLength);
+                out.position(0);
+                writeFully(out, header.flip());
+                out.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // --- Reading ---
+
+    /**
+     * Maps a snapshot file for reading.
+     * @param file The snapshot path.
+     * @param codec Decodes the product records; must be compatible with the codec that wrote them.
+     * @throws IOException if the file cannot be read, is not a snapshot, or is larger than one mapping (2 GB).
+     */
+    public static CatalogSnapshot open(Path file, ProductCodec codec) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        Objects.requireNonNull(codec, "codec must not be null");
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot exceeds the 2 GB single-mapping limit: " + size + " bytes");
+            }
+            if (size < HEADER_BYTES) {
+                throw new IOException("Not a catalog snapshot: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.order(ByteOrder.BIG_ENDIAN);
+            if (mapped.getInt(0) != MAGIC) {
+                throw new IOException("Not a catalog snapshot: " + file);
+            }
+            int version = mapped.getInt(4);
+            if (version != FORMAT_VERSION && version != STRING_KEYS_VERSION) {
+                throw new IOException("Unsupported snapshot format version: " + version);
+            }
+            int productCount = mapped.getInt(8);
+            long indexOffset = mapped.getLong(16);
+            long fileLength = mapped.getLong(24);
+            if (productCount < 0 || fileLength != size || indexOffset < HEADER_BYTES
+                    || indexOffset + (long) productCount * INDEX_ENTRY_BYTES != size) {
+                throw new IOException("Corrupt catalog snapshot header: " + file);
+            }
+            return new CatalogSnapshot(channel, mapped, codec, version, productCount, (int) indexOffset);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return productCount;
+    }
+
+    public boolean contains(ProductId id) {
+        return indexOf(id) >= 0;
+    }
+
+    /**
+     * Finds and decodes a product.
+     * @param id The product id.
+     * @return The decoded product, if the snapshot contains it.
+     */
+    public Optional<Product> find(ProductId id) {
+        int entry = indexOf(id);
+        return entry < 0 ? Optional.empty() : Optional.of(decodeEntry(entry));
+    }
+
+    /*** Streams all products in index order, decoding each one only when the stream reaches it.*/
+    public Stream<Product> products() {
+        checkOpen();
+        return IntStream.range(0, productCount).mapToObj(this::decodeEntry);
+    }
+
+    /**
+     * Closes the file channel. The mapping itself is released by the garbage collector once unreachable;
+     * further lookups on this instance fail.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+
+    private int indexOf(ProductId id) {
+        Objects.requireNonNull(id, "id must not be null");
+        checkOpen();
+        byte[] key = version == STRING_KEYS_VERSION ? id.value().getBytes(StandardCharsets.UTF_8) : codec.encodeId(id);
+        int low = 0;
+        int high = productCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = version == STRING_KEYS_VERSION
+                    ? compareStringKeyAt(recordOffset(mid), key)
+                    : compareKeyAt(recordOffset(mid), key);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private Product decodeEntry(int entry) {
+        checkOpen();
+        int offset = recordOffset(entry);
+        int length = mapped.getInt(indexOffset + entry * INDEX_ENTRY_BYTES + Long.BYTES);
+        return codec.decode(mapped.slice(offset, length));
+    }
+
+    private int recordOffset(int entry) {
+        return (int) mapped.getLong(indexOffset + entry * INDEX_ENTRY_BYTES);
+    }
+
+    // Compares the encoded id at the start of a record (after its version byte) with the key, as unsigned bytes.
+    // Id encodings are prefix-free, so the first key.length bytes decide the order even if the record's id is shorter.
+    private int compareKeyAt(int recordOffset, byte[] key) {
+        int position = recordOffset + 1;
+        int available = Math.min(key.length, mapped.limit() - position);
+        for (int i = 0; i < available; i++) {
+            int comparison = Byte.compareUnsigned(mapped.get(position + i), key[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(available, key.length);
+    }
+
+    // Version 1: compares the UTF-8 id string at the start of a record (after its version byte) with the key
+    private int compareStringKeyAt(int recordOffset, byte[] key) {
+        // The id's UTF-8 length is a varint (see BinaryWriter#writeString)
+        int position = recordOffset + 1;
+        int length = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = mapped.get(position++);
+            length |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int comparison = Byte.compareUnsigned(mapped.get(position + i), key[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Snapshot is closed");
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private record IndexEntry(ProductId id, byte[] key, long offset, int length) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.calhanwynters.infrastructure.snapshot;
+
+import com.github.calhanwynters.model.ringattributes.RingSize;
+import com.github.calhanwynters.model.ringattributes.RingSizeVO;
+import com.github.calhanwynters.model.ringattributes.RingStyleVO;
+import com.github.calhanwynters.model.shared.aggregates.Product;
+import com.github.calhanwynters.model.shared.codec.ProductCodec;
+import com.github.calhanwynters.model.shared.entities.RingVariant;
+import com.github.calhanwynters.model.shared.valueobjects.*;
+import com.github.calhanwynters.model.shared.valueobjects.MaterialVO.MaterialName;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    private final ProductCodec codec = new ProductCodec(currency -> Money.of(0, currency));
+
+    @TempDir
+    Path directory;
+
+    private static Product product(int index) {
+        return product(index, ProductId.generate());
+    }
+
+    private static Product product(int index, ProductId id) {
+        RingVariant variant = RingVariant.create(
+                new RingSizeVO(BigDecimal.valueOf(1600 + index % 200, 2)),
+                RingSize.NA_SIZE_7,
+                RingStyleVO.of("HALO"),
+                Money.of(100 + index, "USD"),
+                WeightVO.ofGrams(new BigDecimal("3.5")),
+                Set.of(MaterialCompositionVO.of(MaterialVO.of(MaterialName.GOLD), "band")),
+                CareInstructionVO.of("Avoid harsh chemicals.")
+        );
+        return Product.builder()
+                .id(id)
+                .description(new DescriptionVO("Snapshot catalog product " + index))
+                .addImage(new ImageUrlVO("https://example.com/product-" + index + ".jpg"))
+                .addVariant(variant)
+                .build();
+    }
+
+    private static List<Product> catalog(int size) {
+        List<Product> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(product(i));
+        }
+        return products;
+    }
+
+    @Test
+    void findsEveryProductById() throws IOException {
+        List<Product> products = catalog(500);
+        Path file = directory.resolve("catalog.snapshot");
+
+        CatalogSnapshot.write(file, products, codec);
+
+        try (CatalogSnapshot snapshot = CatalogSnapshot.open(file, codec)) {
+            assertEquals(products.size(), snapshot.size());
+            for (Product product : products) {
+                assertEquals(product, snapshot.find(product.id()).orElseThrow());
+                assertTrue(snapshot.contains(product.id()));
+            }
+            assertTrue(snapshot.find(new ProductId("not-in-the-catalog")).isEmpty());
+            assertFalse(snapshot.contains(new ProductId("00000000-0000-0000-0000-000000000000")));
+            assertFalse(snapshot.contains(new ProductId("ffffffff-ffff-ffff-ffff-ffffffffffff")));
+        }
+    }
+
+    @Test
+    void streamsProductsInIdOrder() throws IOException {
+        List<Product> products = catalog(50);
+        Path file = directory.resolve("catalog.snapshot");
+        CatalogSnapshot.write(file, products, codec);
+
+        try (CatalogSnapshot snapshot = CatalogSnapshot.open(file, codec)) {
+            List<Product> expected = new ArrayList<>(products);
+            expected.sort(Comparator.comparing(p -> p.id().value()));
+            assertEquals(expected, snapshot.products().toList());
+        }
+    }
+
+    @Test
+    void ordersUuidIdsBeforeOtherIds() throws IOException {
+        Product custom = product(0, new ProductId("custom-product"));
+        Product legacy = product(1, new ProductId("LEGACY-1"));
+        Product generated = product(2);
+        Path file = directory.resolve("catalog.snapshot");
+        CatalogSnapshot.write(file, List.of(custom, generated, legacy), codec);
+
+        try (CatalogSnapshot snapshot = CatalogSnapshot.open(file, codec)) {
+            assertEquals(List.of(generated, legacy, custom), snapshot.products().toList());
+            assertEquals(custom, snapshot.find(custom.id()).orElseThrow());
+            assertEquals(legacy, snapshot.find(legacy.id()).orElseThrow());
+            assertTrue(snapshot.find(new ProductId("custom")).isEmpty());
+            assertTrue(snapshot.find(new ProductId("custom-product-2")).isEmpty());
+        }
+    }
+
+    // A version 1 snapshot holding one version 1 codec record with the product id "legacy-product-1"
+    private static final String VERSION_1_RECORD = "ARBsZWdhY3ktcHJvZHVjdC0xFUhhbG8gcmluZyBpbiBwbGF0aW51bQEcaHR0cHM6Ly9l"
+            + "eGFtcGxlLmNvbS9oYWxvLmpwZwEAJDAxOTBhNWI0LTdjM2UtN2QyMS05ZjNhLTYxYzJkZWFkYmVlZg1SSU5HLURFQURCRUVGCI4bMwID"
+            + "VVNEAKYUBLCiAQRGAAEDAARiYW5kAQAHRGlhbW9uZAAAAAAWQXZvaWQgaGFyc2ggY2hlbWljYWxzLgA=";
+
+    @Test
+    void readsVersion1Snapshots() throws IOException {
+        byte[] record = Base64.getDecoder().decode(VERSION_1_RECORD);
+        long indexOffset = 32 + record.length;
+        ByteBuffer file = ByteBuffer.allocate((int) indexOffset + 12)
+                .putInt(CatalogSnapshot.MAGIC).putInt(1).putInt(1).putInt(0)
+                .putLong(indexOffset).putLong(indexOffset + 12)
+                .put(record)
+                .putLong(32).putInt(record.length);
+        Path path = Files.write(directory.resolve("version1.snapshot"), file.array());
+
+        try (CatalogSnapshot snapshot = CatalogSnapshot.open(path, codec)) {
+            Product product = snapshot.find(new ProductId("legacy-product-1")).orElseThrow();
+            assertEquals(codec.decode(record), product);
+            assertFalse(snapshot.contains(new ProductId("legacy-product-2")));
+            assertFalse(snapshot.contains(ProductId.generate()));
+        }
+    }
+
+    @Test
+    void emptyCatalogRoundTrips() throws IOException {
+        Path file = directory.resolve("empty.snapshot");
+        CatalogSnapshot.write(file, List.of(), codec);
+
+        try (CatalogSnapshot snapshot = CatalogSnapshot.open(file, codec)) {
+            assertEquals(0, snapshot.size());
+            assertTrue(snapshot.find(ProductId.generate()).isEmpty());
+        }
+    }
+
+    @Test
+    void rewritingReplacesTheSnapshot() throws IOException {
+        Path file = directory.resolve("catalog.snapshot");
+        CatalogSnapshot.write(file, catalog(3), codec);
+        List<Product> replacement = catalog(2);
+
+        CatalogSnapshot.write(file, replacement, codec);
+
+        try (CatalogSnapshot snapshot = CatalogSnapshot.open(file, codec)) {
+            assertEquals(2, snapshot.size());
+            assertTrue(snapshot.contains(replacement.get(0).id()));
+        }
+    }
+
+    @Test
+    void rejectsDuplicateIds() {
+        Product product = product(1);
+        Path file = directory.resolve("duplicate.snapshot");
+
+        assertThrows(IllegalArgumentException.class, () -> CatalogSnapshot.write(file, List.of(product, product), codec));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSnapshots() throws IOException {
+        Path file = Files.write(directory.resolve("garbage.snapshot"), new byte[64]);
+
+        assertThrows(IOException.class, () -> CatalogSnapshot.open(file, codec));
+    }
+
+    @Test
+    void lookupsFailAfterClose() throws IOException {
+        Path file = directory.resolve("catalog.snapshot");
+        List<Product> products = catalog(1);
+        CatalogSnapshot.write(file, products, codec);
+        CatalogSnapshot snapshot = CatalogSnapshot.open(file, codec);
+
+        snapshot.close();
+
+        assertThrows(IllegalStateException.class, () -> snapshot.find(products.get(0).id()));
+    }
+}